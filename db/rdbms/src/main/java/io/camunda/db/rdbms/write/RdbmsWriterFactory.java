@@ -14,18 +14,37 @@ import org.apache.ibatis.session.SqlSessionFactory;
 
 public class RdbmsWriterFactory {
 
+  public static final int DEFAULT_QUEUE_FLUSH_LIMIT = 100;
+
   private final SqlSessionFactory sqlSessionFactory;
   private final ExporterPositionMapper exporterPositionMapper;
+  private final int queueFlushLimit;
+  private final int maxRowsPerInsert;
 
   public RdbmsWriterFactory(
       final SqlSessionFactory sqlSessionFactory,
       final ExporterPositionMapper exporterPositionMapper) {
+    this(
+        sqlSessionFactory,
+        exporterPositionMapper,
+        DEFAULT_QUEUE_FLUSH_LIMIT,
+        ExecutionQueue.DEFAULT_MAX_ROWS_PER_INSERT);
+  }
+
+  public RdbmsWriterFactory(
+      final SqlSessionFactory sqlSessionFactory,
+      final ExporterPositionMapper exporterPositionMapper,
+      final int queueFlushLimit,
+      final int maxRowsPerInsert) {
     this.sqlSessionFactory = sqlSessionFactory;
     this.exporterPositionMapper = exporterPositionMapper;
+    this.queueFlushLimit = queueFlushLimit;
+    this.maxRowsPerInsert = maxRowsPerInsert;
   }
 
   public RdbmsWriter createWriter(final long partitionId) {
-    final var executionQueue = new ExecutionQueue(sqlSessionFactory, partitionId, 100);
+    final var executionQueue =
+        new ExecutionQueue(sqlSessionFactory, partitionId, queueFlushLimit, maxRowsPerInsert);
     return new RdbmsWriter(
         executionQueue, new ExporterPositionService(executionQueue, exporterPositionMapper));
   }
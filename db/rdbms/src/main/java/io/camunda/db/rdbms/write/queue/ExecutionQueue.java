@@ -8,10 +8,13 @@
 package io.camunda.db.rdbms.write.queue;
 
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.slf4j.Logger;
@@ -19,34 +22,66 @@ import org.slf4j.LoggerFactory;
 
 public class ExecutionQueue {
 
+  public static final int DEFAULT_MAX_ROWS_PER_INSERT = 50;
+
   private static final Logger LOG = LoggerFactory.getLogger(ExecutionQueue.class);
 
   private final SqlSessionFactory sessionFactory;
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // (context type, id) => positions of the queued items with that key, in insertion order
+  private final Map<QueueItemKey, List<Integer>> positionsByKey = new HashMap<>();
+  // statement id => id of the statement which inserts multiple rows at once, in registration order
+  private final Map<String, String> batchInsertStatements = new LinkedHashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final Integer queueFlushLimit;
+  private final int maxRowsPerInsert;
 
   public ExecutionQueue(
       final SqlSessionFactory sessionFactory,
       final long partitionId,
       final Integer queueFlushLimit) {
+    this(sessionFactory, partitionId, queueFlushLimit, DEFAULT_MAX_ROWS_PER_INSERT);
+  }
+
+  public ExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final Integer queueFlushLimit,
+      final int maxRowsPerInsert) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
+    this.maxRowsPerInsert = maxRowsPerInsert;
   }
 
   public void executeInQueue(final QueueItem entry) {
     LOG.debug("[RDBMS ExecutionQueue, Partition {}] Added entry to queue: {}", partitionId, entry);
     synchronized (queue) {
-      queue.add(entry);
+      addToQueue(entry);
       checkQueueForFlush();
     }
   }
 
+  /**
+   * Registers a statement which inserts multiple rows at once, for a statement which inserts a
+   * single row. On flush, the queued items of the single row statement are then combined into
+   * statements of up to {@code maxRowsPerInsert} rows. The multi row statement takes the list of
+   * the item parameters as its parameter.
+   *
+   * <p>Inserts are only combined up to the next queued item of a statement without a registered
+   * multi row statement, so they are never reordered with updates or deletes. Combined inserts of
+   * different statements are executed in the order in which the statements were registered, so
+   * statements which insert rows referenced by other rows must be registered first.
+   */
+  public void registerBatchInsertStatement(
+      final String statementId, final String batchInsertStatementId) {
+    batchInsertStatements.put(statementId, batchInsertStatementId);
+  }
+
   public void registerPreFlushListener(final PreFlushListener listener) {
     preFlushListeners.add(listener);
   }
@@ -78,15 +113,8 @@ public class ExecutionQueue {
           sessionFactory.openSession(
               ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
-      var flushedElements = 0;
       try {
-        while (!queue.isEmpty()) {
-          final var entry = queue.peek();
-          LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-          session.update(entry.statementId(), entry.parameter());
-          queue.remove();
-          flushedElements++;
-        }
+        final var flushedElements = executeQueuedItems(session);
 
         if (!preFlushListeners.isEmpty()) {
           LOG.debug("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
@@ -121,32 +149,149 @@ public class ExecutionQueue {
   /**
    * Iterate from end over the queue and try to find a last added compatible queueItem. The
    * queueItem will be replaced with a new, combined queueItem.
+   *
+   * <p>If all combiners know the key of the items they can be merged with, only the items with
+   * these keys are considered, instead of scanning the whole queue.
    */
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
+      final List<Integer> candidates =
+          combiners.length == 1 && combiners[0].key() != null
+              ? positionsByKey.getOrDefault(combiners[0].key(), List.of()).reversed()
+              : findMergeCandidates(combiners);
+      for (final int position : candidates) {
+        final QueueItem item = queue.get(position);
 
         for (final QueueItemMerger merger : combiners) {
           if (merger.canBeMerged(item)) {
             LOG.debug("Merging new item with item {}, {}", item.contextType(), item.id());
-            queue.set(index, merger.merge(item));
+            // merging keeps the key of the item, so the index stays valid
+            queue.set(position, merger.merge(item));
             return true;
           }
         }
-
-        index--;
       }
 
       return false;
     }
   }
 
-  LinkedList<QueueItem> getQueue() {
+  List<QueueItem> getQueue() {
     return queue;
   }
 
+  /**
+   * @return the positions of the queued items which may be merged, from the last added to the
+   *     first added one
+   */
+  private List<Integer> findMergeCandidates(final QueueItemMerger... combiners) {
+    final List<Integer> candidates = new ArrayList<>();
+    for (final QueueItemMerger merger : combiners) {
+      final QueueItemKey key = merger.key();
+      if (key == null) {
+        // no key known, so every queued item is a candidate
+        candidates.clear();
+        for (int position = queue.size() - 1; position >= 0; position--) {
+          candidates.add(position);
+        }
+        return candidates;
+      }
+
+      candidates.addAll(positionsByKey.getOrDefault(key, List.of()));
+    }
+
+    // different combiners may share the same key
+    return candidates.stream().distinct().sorted(Comparator.reverseOrder()).toList();
+  }
+
+  private int executeQueuedItems(final SqlSession session) {
+    // statement id => parameters of the queued inserts which were not yet executed
+    final Map<String, List<Object>> pendingInserts = new HashMap<>();
+    var executedItems = 0;
+    try {
+      for (int position = 0; position < queue.size(); position++) {
+        final QueueItem entry = queue.get(position);
+        final String statementId = entry.statementId();
+        if (maxRowsPerInsert > 1 && batchInsertStatements.containsKey(statementId)) {
+          final var rows = pendingInserts.computeIfAbsent(statementId, id -> new ArrayList<>());
+          rows.add(entry.parameter());
+          if (rows.size() >= maxRowsPerInsert) {
+            executePendingInserts(session, pendingInserts);
+          }
+        } else {
+          executePendingInserts(session, pendingInserts);
+          LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
+          session.update(statementId, entry.parameter());
+        }
+
+        if (pendingInserts.isEmpty()) {
+          executedItems = position + 1;
+        }
+      }
+
+      executePendingInserts(session, pendingInserts);
+      executedItems = queue.size();
+      return executedItems;
+    } finally {
+      // the items which were not executed because of an error stay in the queue
+      removeFromQueue(executedItems);
+    }
+  }
+
+  private void executePendingInserts(
+      final SqlSession session, final Map<String, List<Object>> pendingInserts) {
+    if (pendingInserts.isEmpty()) {
+      return;
+    }
+
+    for (final String statementId : batchInsertStatements.keySet()) {
+      final List<Object> rows = pendingInserts.get(statementId);
+      if (rows != null) {
+        executeInserts(session, statementId, rows);
+      }
+    }
+    pendingInserts.clear();
+  }
+
+  private void executeInserts(
+      final SqlSession session, final String statementId, final List<Object> rows) {
+    if (rows.size() == 1) {
+      LOG.trace(
+          "[RDBMS ExecutionQueue, Partition {}] Executing insert: {}", partitionId, statementId);
+      session.update(statementId, rows.getFirst());
+    } else {
+      LOG.trace(
+          "[RDBMS ExecutionQueue, Partition {}] Executing insert of {} rows: {}",
+          partitionId,
+          rows.size(),
+          statementId);
+      session.update(batchInsertStatements.get(statementId), rows);
+    }
+  }
+
+  private void addToQueue(final QueueItem entry) {
+    positionsByKey.computeIfAbsent(entry.key(), key -> new ArrayList<>(1)).add(queue.size());
+    queue.add(entry);
+  }
+
+  private void removeFromQueue(final int count) {
+    if (count == 0) {
+      return;
+    }
+
+    if (count == queue.size()) {
+      queue.clear();
+      positionsByKey.clear();
+      return;
+    }
+
+    // only happens if a flush fails, so it is fine to rebuild the whole index
+    final List<QueueItem> remaining = new ArrayList<>(queue.subList(count, queue.size()));
+    queue.clear();
+    positionsByKey.clear();
+    remaining.forEach(this::addToQueue);
+  }
+
   private void checkQueueForFlush() {
     LOG.trace(
         "[RDBMS ExecutionQueue, Partition {}] Checking if queue is flushed. Queue size: {}",
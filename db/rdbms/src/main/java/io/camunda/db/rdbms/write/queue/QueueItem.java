@@ -11,6 +11,10 @@ import java.util.function.Function;
 
 public record QueueItem(ContextType contextType, Object id, String statementId, Object parameter) {
 
+  public QueueItemKey key() {
+    return new QueueItemKey(contextType, id);
+  }
+
   public QueueItem copy(final Function<QueueItemBuilder, QueueItemBuilder> builderFunction) {
     return builderFunction
         .apply(
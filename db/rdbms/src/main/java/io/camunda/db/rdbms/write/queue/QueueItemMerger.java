@@ -11,5 +11,13 @@ public interface QueueItemMerger {
 
   boolean canBeMerged(QueueItem queueItem);
 
+  /**
+   * @return the key of the queue items this merger can be merged with, which allows the queue to
+   *     look up candidates directly; or null if any queued item may be a candidate
+   */
+  default QueueItemKey key() {
+    return null;
+  }
+
   QueueItem merge(QueueItem originalItem);
 }
@@ -36,6 +36,11 @@ public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
         && clazz.isInstance(queueItem.parameter());
   }
 
+  @Override
+  public QueueItemKey key() {
+    return new QueueItemKey(contextType, key);
+  }
+
   @Override
   public QueueItem merge(final QueueItem originalItem) {
     return originalItem.copy(
@@ -24,6 +24,9 @@ public class FlowNodeInstanceWriter {
 
   public FlowNodeInstanceWriter(final ExecutionQueue executionQueue) {
     this.executionQueue = executionQueue;
+    executionQueue.registerBatchInsertStatement(
+        "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insert",
+        "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.insertBatch");
   }
 
   public void create(final FlowNodeInstanceDbModel flowNode) {
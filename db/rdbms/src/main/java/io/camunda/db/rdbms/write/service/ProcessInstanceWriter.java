@@ -24,6 +24,9 @@ public class ProcessInstanceWriter {
 
   public ProcessInstanceWriter(final ExecutionQueue executionQueue) {
     this.executionQueue = executionQueue;
+    executionQueue.registerBatchInsertStatement(
+        "io.camunda.db.rdbms.sql.ProcessInstanceMapper.insert",
+        "io.camunda.db.rdbms.sql.ProcessInstanceMapper.insertBatch");
   }
 
   public void create(final ProcessInstanceDbModel processInstance) {
@@ -18,6 +18,15 @@ public class UserTaskWriter {
 
   public UserTaskWriter(final ExecutionQueue executionQueue) {
     this.executionQueue = executionQueue;
+    executionQueue.registerBatchInsertStatement(
+        "io.camunda.db.rdbms.sql.UserTaskMapper.insert",
+        "io.camunda.db.rdbms.sql.UserTaskMapper.insertBatch");
+    executionQueue.registerBatchInsertStatement(
+        "io.camunda.db.rdbms.sql.UserTaskMapper.insertCandidateUsers",
+        "io.camunda.db.rdbms.sql.UserTaskMapper.insertCandidateUsersBatch");
+    executionQueue.registerBatchInsertStatement(
+        "io.camunda.db.rdbms.sql.UserTaskMapper.insertCandidateGroups",
+        "io.camunda.db.rdbms.sql.UserTaskMapper.insertCandidateGroupsBatch");
   }
 
   public void create(final UserTaskDbModel userTaskDbModel) {
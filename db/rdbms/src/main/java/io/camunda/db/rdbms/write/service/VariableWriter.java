@@ -18,6 +18,9 @@ public class VariableWriter {
 
   public VariableWriter(final ExecutionQueue executionQueue) {
     this.executionQueue = executionQueue;
+    executionQueue.registerBatchInsertStatement(
+        "io.camunda.db.rdbms.sql.VariableMapper.insert",
+        "io.camunda.db.rdbms.sql.VariableMapper.insertBatch");
   }
 
   public void create(final VariableDbModel variable) {
@@ -9,12 +9,16 @@ package io.camunda.db.rdbms.write.queue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -188,4 +192,176 @@ class ExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(0)).isSameAs(item1);
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
+
+  @Test
+  public void whenMergerHasKeyShouldMergeWithLastMatchingItemOfThatKey() {
+    final var item1 = new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1");
+    final var item2 = new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "statement2", "parameter2");
+    final var item3 = new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement3", 3);
+    final var item4 = new QueueItem(ContextType.FLOW_NODE, 1L, "statement4", "parameter4");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+    executionQueue.executeInQueue(item4);
+
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(new QueueItemKey(ContextType.PROCESS_INSTANCE, 1L)));
+
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter1+", "parameter2", 3, "parameter4");
+  }
+
+  @Test
+  public void whenMergerHasKeyWithoutQueuedItemsShouldNotMergeItems() {
+    final var item1 = new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1");
+    executionQueue.executeInQueue(item1);
+
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(new QueueItemKey(ContextType.FLOW_NODE, 1L)));
+
+    assertThat(result).isFalse();
+    assertThat(executionQueue.getQueue()).containsExactly(item1);
+  }
+
+  @Test
+  public void whenQueueWasFlushedShouldNotMergeWithFlushedItems() {
+    final var item1 = new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1");
+    executionQueue.executeInQueue(item1);
+    executionQueue.flush();
+
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(new QueueItemKey(ContextType.PROCESS_INSTANCE, 1L)));
+
+    assertThat(result).isFalse();
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void whenFlushFailsShouldKeepNotExecutedItemsMergeable() {
+    final var item1 = new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "statement1", "parameter1");
+    final var item2 = new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "statement2", "parameter2");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    when(session.update("statement2", "parameter2")).thenThrow(new RuntimeException("failure"));
+    assertThatThrownBy(() -> executionQueue.flush()).hasMessage("failure");
+
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new KeyedMerger(new QueueItemKey(ContextType.PROCESS_INSTANCE, 2L)));
+
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .extracting(QueueItem::parameter)
+        .containsExactly("parameter2+");
+  }
+
+  @Test
+  public void whenBatchInsertStatementIsRegisteredInsertsShouldBeCombined() {
+    executionQueue.registerBatchInsertStatement("insert", "insertBatch");
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "insert", "parameter1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "insert", "parameter2"));
+
+    // when
+    executionQueue.flush();
+
+    verify(session).update("insertBatch", List.of("parameter1", "parameter2"));
+    verify(session, never()).update(eq("insert"), any());
+    verify(session).commit();
+  }
+
+  @Test
+  public void whenOnlySingleInsertIsQueuedShouldUseSingleRowStatement() {
+    executionQueue.registerBatchInsertStatement("insert", "insertBatch");
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "insert", "parameter1"));
+
+    // when
+    executionQueue.flush();
+
+    verify(session).update("insert", "parameter1");
+    verify(session, never()).update(eq("insertBatch"), any());
+  }
+
+  @Test
+  public void whenOtherStatementIsQueuedBetweenInsertsShouldNotReorderStatements() {
+    executionQueue.registerBatchInsertStatement("insert", "insertBatch");
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "insert", "parameter1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 2L, "insert", "parameter2"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 1L, "update", "parameter3"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, 3L, "insert", "parameter4"));
+
+    // when
+    executionQueue.flush();
+
+    final var inOrder = inOrder(session);
+    inOrder.verify(session).update("insertBatch", List.of("parameter1", "parameter2"));
+    inOrder.verify(session).update("update", "parameter3");
+    inOrder.verify(session).update("insert", "parameter4");
+    inOrder.verify(session).commit();
+  }
+
+  @Test
+  public void whenMaxRowsPerInsertIsReachedShouldSplitInserts() {
+    executionQueue = new ExecutionQueue(sqlSessionFactory, 1, 10, 2);
+    executionQueue.registerBatchInsertStatement("insert", "insertBatch");
+    for (int i = 1; i <= 5; i++) {
+      executionQueue.executeInQueue(
+          new QueueItem(ContextType.PROCESS_INSTANCE, (long) i, "insert", "parameter" + i));
+    }
+
+    // when
+    executionQueue.flush();
+
+    final var inOrder = inOrder(session);
+    inOrder.verify(session).update("insertBatch", List.of("parameter1", "parameter2"));
+    inOrder.verify(session).update("insertBatch", List.of("parameter3", "parameter4"));
+    inOrder.verify(session).update("insert", "parameter5");
+    inOrder.verify(session).commit();
+  }
+
+  @Test
+  public void whenInsertsOfDifferentStatementsAreCombinedShouldExecuteInRegistrationOrder() {
+    executionQueue.registerBatchInsertStatement("insertParent", "insertParentBatch");
+    executionQueue.registerBatchInsertStatement("insertChild", "insertChildBatch");
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.USER_TASK, 1L, "insertParent", "parent1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.USER_TASK, 1L, "insertChild", "child1"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.USER_TASK, 2L, "insertParent", "parent2"));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.USER_TASK, 2L, "insertChild", "child2"));
+
+    // when
+    executionQueue.flush();
+
+    final var inOrder = inOrder(session);
+    inOrder.verify(session).update("insertParentBatch", List.of("parent1", "parent2"));
+    inOrder.verify(session).update("insertChildBatch", List.of("child1", "child2"));
+    inOrder.verify(session).commit();
+  }
+
+  private record KeyedMerger(QueueItemKey key) implements QueueItemMerger {
+
+    @Override
+    public boolean canBeMerged(final QueueItem queueItem) {
+      return queueItem.key().equals(key) && queueItem.parameter() instanceof String;
+    }
+
+    @Override
+    public QueueItem merge(final QueueItem originalItem) {
+      return originalItem.copy(b -> b.parameter(originalItem.parameter() + "+"));
+    }
+  }
 }
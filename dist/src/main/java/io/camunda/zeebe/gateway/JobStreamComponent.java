@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway;
 
 import io.atomix.cluster.AtomixCluster;
+import io.camunda.application.commons.configuration.GatewayBasedConfiguration;
 import io.camunda.zeebe.gateway.impl.stream.JobStreamClient;
 import io.camunda.zeebe.gateway.impl.stream.JobStreamClientImpl;
 import io.camunda.zeebe.scheduler.ActorScheduler;
@@ -24,7 +25,10 @@ public final class JobStreamComponent {
   @Bean(destroyMethod = "close")
   @Autowired
   public JobStreamClient jobStreamClient(
-      final ActorScheduler scheduler, final AtomixCluster cluster) {
-    return new JobStreamClientImpl(scheduler, cluster.getCommunicationService());
+      final ActorScheduler scheduler,
+      final AtomixCluster cluster,
+      final GatewayBasedConfiguration configuration) {
+    return new JobStreamClientImpl(
+        scheduler, cluster.getCommunicationService(), configuration.config().getJobStream());
   }
 }
@@ -207,7 +207,8 @@ final class StandaloneGatewaySecurityTest {
         new BrokerClientConfiguration(
             brokerClientConfig, atomixCluster, actorScheduler, topologyManager);
     brokerClient = brokerClientConfiguration.brokerClient();
-    jobStreamClient = new JobStreamComponent().jobStreamClient(actorScheduler, atomixCluster);
+    jobStreamClient =
+        new JobStreamComponent().jobStreamClient(actorScheduler, atomixCluster, gatewayConfig);
 
     return new GatewayModuleConfiguration(
         gatewayConfig,
@@ -44,6 +44,9 @@ public class IncidentEntity extends OperateZeebeEntity<IncidentEntity> {
 
   @Deprecated @JsonIgnore private boolean pending = true;
 
+  // whether the entity was last updated from a migrated record; only used when exporting
+  @JsonIgnore private boolean migrated;
+
   public ErrorType getErrorType() {
     return errorType;
   }
@@ -162,6 +165,15 @@ public class IncidentEntity extends OperateZeebeEntity<IncidentEntity> {
     return this;
   }
 
+  public boolean isMigrated() {
+    return migrated;
+  }
+
+  public IncidentEntity setMigrated(final boolean migrated) {
+    this.migrated = migrated;
+    return this;
+  }
+
   public String getTenantId() {
     return tenantId;
   }
@@ -20,11 +20,16 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +40,9 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
+  // install requests sent since the last acknowledged one, in the order in which they were sent
+  private final Deque<InstallRequest> pendingInstalls = new ArrayDeque<>();
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,7 +56,7 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +66,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -74,7 +84,8 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    pendingInstalls.clear();
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -89,6 +100,7 @@ public final class RaftMemberContext {
     open = false;
     member.close();
     closeReader();
+    setSnapshotChunkReader(null);
   }
 
   public boolean isOpen() {
@@ -226,22 +238,69 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Further
+   * chunks are only sent while others are in flight once the member acknowledged the first chunk
+   * of the snapshot.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && (inFlightInstallCount == 0
+            || (nextSnapshotChunk != null && inFlightInstallCount < maxInstallsPerMember));
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Starts an install request to the member.
+   *
+   * @param request The install request which is sent to the member.
+   */
+  public void startInstall(final InstallRequest request) {
+    inFlightInstallCount++;
+    pendingInstalls.addLast(request);
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+  }
+
+  /**
+   * Returns whether install requests were sent to the member which are not acknowledged yet. If
+   * there are none, the next request is sent from the member's next snapshot chunk.
+   *
+   * @return Indicates whether there are pending install requests.
+   */
+  public boolean hasPendingInstalls() {
+    return !pendingInstalls.isEmpty();
+  }
+
+  /**
+   * Removes the given request, and all requests which were sent before it, from the pending install
+   * requests. The member handles the requests in the order in which they were sent, so a response
+   * to a request is implicitly a response to all the requests before it.
+   *
+   * @param request The request for which a response was received.
+   * @return false if the request isn't pending anymore and its response should be ignored
+   */
+  public boolean removePendingInstall(final InstallRequest request) {
+    if (pendingInstalls.stream().noneMatch(pending -> pending == request)) {
+      return false;
+    }
+
+    InstallRequest removed;
+    do {
+      removed = pendingInstalls.pollFirst();
+    } while (removed != request);
+    return true;
+  }
+
+  /**
+   * Discards all pending install requests, e.g. after one of them failed; their responses are
+   * ignored, and the next request is sent from the member's next snapshot chunk again.
+   */
+  public void discardPendingInstalls() {
+    pendingInstalls.clear();
   }
 
   /**
@@ -277,7 +336,7 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
@@ -459,6 +518,9 @@ public final class RaftMemberContext {
   }
 
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
+    if (this.snapshotChunkReader != null) {
+      this.snapshotChunkReader.close();
+    }
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
@@ -471,6 +533,23 @@ public final class RaftMemberContext {
     return currentEntry;
   }
 
+  /**
+   * Reads the next entries as a batch and adds them to the given list; see {@link
+   * RaftLogReader#nextReplicatableBatch(long, int, List)}.
+   *
+   * @return true if any entry was read, false otherwise
+   */
+  public boolean nextEntries(
+      final long lastIndex, final int maxBytes, final List<ReplicatableJournalRecord> entries) {
+    final var lastEntry = reader.nextReplicatableBatch(lastIndex, maxBytes, entries);
+    if (lastEntry == null) {
+      return false;
+    }
+
+    currentEntry = lastEntry;
+    return true;
+  }
+
   public IndexedRaftLogEntry getCurrentEntry() {
     return currentEntry;
   }
@@ -30,12 +30,20 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final int DEFAULT_PREPARED_SEGMENTS = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private int preparedSegments = DEFAULT_PREPARED_SEGMENTS;
+  private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +133,74 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true if the journal index is backed by primitive arrays, false otherwise
+   */
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of concurrent skip
+   * lists, which avoids boxing every indexed entry.
+   *
+   * @param primitiveJournalIndex true to use the primitive index, false otherwise
+   */
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
+  /**
+   * @return true if the index of full segments is persisted, false otherwise
+   */
+  public boolean isPersistSegmentIndex() {
+    return persistSegmentIndex;
+  }
+
+  /**
+   * Sets whether the index of a segment is persisted to a sidecar file once the segment is full, so
+   * it does not have to be rebuilt by scanning the segment after a restart.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   */
+  public void setPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+  }
+
+  /**
+   * @return how many segments are prepared ahead of time
+   */
+  public int getPreparedSegments() {
+    return preparedSegments;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time, i.e. allocated and mapped in the background
+   * such that rolling over to the next segment does not have to wait for it.
+   *
+   * @param preparedSegments the number of segments to prepare ahead of time
+   */
+  public void setPreparedSegments(final int preparedSegments) {
+    this.preparedSegments = preparedSegments;
+  }
+
+  /**
+   * @return true if compacted segments are recycled, false otherwise
+   */
+  public boolean isRecycleSegments() {
+    return recycleSegments;
+  }
+
+  /**
+   * Sets whether compacted segments are recycled as prepared segments instead of being deleted, so
+   * their files are reused instead of allocating new ones.
+   *
+   * @param recycleSegments true to recycle compacted segments, false otherwise
+   */
+  public void setRecycleSegments(final boolean recycleSegments) {
+    this.recycleSegments = recycleSegments;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +214,14 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", primitiveJournalIndex="
+        + primitiveJournalIndex
+        + ", persistSegmentIndex="
+        + persistSegmentIndex
+        + ", preparedSegments="
+        + preparedSegments
+        + ", recycleSegments="
+        + recycleSegments
         + '}';
   }
 }
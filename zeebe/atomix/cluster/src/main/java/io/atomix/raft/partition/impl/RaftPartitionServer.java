@@ -310,6 +310,10 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withPrimitiveJournalIndex(storageConfig.isPrimitiveJournalIndex())
+        .withPersistedSegmentIndex(storageConfig.isPersistSegmentIndex())
+        .withPreparedSegments(storageConfig.getPreparedSegments())
+        .withSegmentRecycling(storageConfig.isRecycleSegments())
         .build();
   }
 
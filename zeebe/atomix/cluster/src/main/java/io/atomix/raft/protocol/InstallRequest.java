@@ -24,6 +24,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -35,6 +37,9 @@ import java.util.Objects;
  * received by the follower, the snapshot is reconstructed based on the provided {@link #chunkId()}
  * and other metadata. The last install request will be sent with {@link #complete()} being {@code
  * true} to indicate that all chunks of the snapshot have been sent.
+ *
+ * <p>The first request also carries the {@link #fileChecksums()} of all files of the snapshot. The
+ * follower can use these to take over files it has already, which the leader then skips.
  */
 public class InstallRequest extends AbstractRaftRequest {
 
@@ -58,6 +63,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the checksums of all files of the snapshot by file name, only set on the first chunk
+  private final Map<String, Long> fileChecksums;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +76,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final Map<String, Long> fileChecksums) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +88,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.fileChecksums = fileChecksums;
   }
 
   /**
@@ -170,10 +179,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the checksums of all files of the snapshot by file name; only set on the first chunk,
+   * and may be null if the leader doesn't support skipping files.
+   *
+   * @return the checksums of the snapshot files, or null
+   */
+  public Map<String, Long> fileChecksums() {
+    return fileChecksums;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        fileChecksums);
   }
 
   @Override
@@ -194,7 +223,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(fileChecksums, that.fileChecksums);
   }
 
   @Override
@@ -212,6 +242,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("fileChecksums", fileChecksums == null ? "null" : fileChecksums.size() + " files")
         .toString();
   }
 
@@ -233,6 +264,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private Map<String, Long> fileChecksums;
 
     /**
      * Sets the request current term.
@@ -346,6 +378,18 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the checksums of all files of the snapshot, by file name.
+     *
+     * @param fileChecksums the checksums of the snapshot files
+     * @return the request builder
+     */
+    public Builder withFileChecksums(final Map<String, Long> fileChecksums) {
+      // copied into a map type which is known to the serializer
+      this.fileChecksums = fileChecksums == null ? null : new HashMap<>(fileChecksums);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +397,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          fileChecksums);
     }
 
     @Override
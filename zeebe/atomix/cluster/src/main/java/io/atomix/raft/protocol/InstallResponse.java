@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Snapshot installation response.
@@ -27,26 +29,46 @@ import io.atomix.raft.RaftError;
  * <p>Install responses are sent once a snapshot installation request has been received and
  * processed. Install responses provide no additional metadata aside from indicating whether or not
  * the request was successful.
+ *
+ * <p>The response to the first chunk of a snapshot may contain the files which the follower took
+ * over from its own latest snapshot, and which the leader thus doesn't need to send anymore.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  protected Set<String> reusedFiles;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Set<String> reusedFiles) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusedFiles = reusedFiles;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the names of the snapshot files which don't need to be sent anymore, as the follower
+   * has them already. May be null if the follower doesn't support skipping files.
+   *
+   * @return the names of the files to skip, or null
+   */
+  public Set<String> reusedFiles() {
+    return reusedFiles;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedFiles", reusedFiles == null ? "null" : reusedFiles.size() + " files")
         .toString();
   }
 
@@ -62,17 +84,24 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Set<String> reusedFiles;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusedFiles);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusedFiles(final Set<String> reusedFiles) {
+      // copied into a set type which is known to the serializer
+      this.reusedFiles = reusedFiles == null ? null : new HashSet<>(reusedFiles);
+      return this;
+    }
   }
 }
@@ -50,6 +50,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -180,15 +181,22 @@ final class LeaderAppender {
     // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
     // entry will be sent in a batch of size one
     int size = 0;
+    // the last index only bounds the batch if it's still ahead of the member
+    final long lastEntryIndex = lastIndex > member.getCurrentIndex() ? lastIndex : Long.MAX_VALUE;
+
+    // Iterate through the log until the last index or the end of the log is reached. Entries are
+    // read in batches, as a batch cannot span multiple segments
+    while (hasMoreEntries(member) && size < maxBatchSizePerAppend) {
+      final int readEntries = entries.size();
+      if (!member.nextEntries(lastEntryIndex, maxBatchSizePerAppend - size, entries)) {
+        break;
+      }
+
+      for (int i = readEntries; i < entries.size(); i++) {
+        size += entries.get(i).approximateSize();
+      }
 
-    // Iterate through the log until the last index or the end of the log is reached.
-    while (hasMoreEntries(member)) {
-      // Otherwise, read the next entry and add it to the batch.
-      final IndexedRaftLogEntry entry = member.nextEntry();
-      final var replicatableRecord = entry.getReplicatableJournalRecord();
-      entries.add(replicatableRecord);
-      size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (member.getCurrentIndex() == lastIndex) {
         break;
       }
     }
@@ -396,19 +404,23 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.discardPendingInstalls();
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
 
     try {
-      // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
-      // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
+      // While chunks are in flight, the reader is positioned after the last chunk sent and we
+      // continue from there. Otherwise, the reader might have advanced to the next chunk already.
+      // But if we want to retry a chunk the reader should seek to the chunk. To handle retries and
+      // not-retries the same, we seek always in that case.
+      final boolean pending = member.hasPendingInstalls();
+      final boolean initial = !pending && member.getNextSnapshotChunk() == null;
+      if (initial) {
         // member.getNextSnapshotChunk is null when it is the first chunk.
         reader.reset();
+      } else if (!pending) {
+        reader.seek(member.getNextSnapshotChunk());
       }
 
       if (!reader.hasNext()) {
@@ -430,9 +442,10 @@ final class LeaderAppender {
               .withVersion(persistedSnapshot.version())
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(initial)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withFileChecksums(initial ? fileChecksums(persistedSnapshot) : null)
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -444,14 +457,20 @@ final class LeaderAppender {
       // If snapshot was deleted, a new reader should be created with the new snapshot
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+      member.discardPendingInstalls();
       return Optional.empty();
     }
   }
 
+  private Map<String, Long> fileChecksums(final PersistedSnapshot persistedSnapshot) {
+    final var checksums = persistedSnapshot.getChecksums();
+    return checksums == null ? null : checksums.getChecksums();
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
-    member.startInstall();
+    member.startInstall(request);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -479,6 +498,17 @@ final class LeaderAppender {
   /** Handles an install response failure. */
   private void handleInstallResponseFailure(
       final RaftMemberContext member, final InstallRequest request, final Throwable error) {
+    if (!member.removePendingInstall(request)) {
+      // the request was already discarded, and the chunks after it will be resent anyway
+      log.trace("Ignoring failure of discarded {} to {}", request, member.getMember().memberId());
+      return;
+    }
+
+    // We can't tell which of the chunks in flight the member received, so we resend all of them
+    // from the last acknowledged chunk on; the member acknowledges the duplicates without applying
+    // them again.
+    member.discardPendingInstalls();
+
     // Reset the member's snapshot index and offset to resend the snapshot from the start
     // once a connection to the member is re-established.
     final boolean isTimeout =
@@ -506,11 +536,22 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // The member may have taken over files from its own latest snapshot, which we can skip then.
+    final var reusedFiles = response.reusedFiles();
+    if (request.isInitial() && reusedFiles != null && !reusedFiles.isEmpty()) {
+      log.debug(
+          "Skipping {} files of snapshot {} which {} has already",
+          reusedFiles.size(),
+          request.index(),
+          member.getMember().memberId());
+      member.getSnapshotChunkReader().skipFiles(reusedFiles);
+    }
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+      member.discardPendingInstalls();
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
@@ -537,6 +578,7 @@ final class LeaderAppender {
 
     member.setNextSnapshotIndex(0);
     member.setNextSnapshotChunkId(null);
+    member.discardPendingInstalls();
   }
 
   /**
@@ -854,7 +896,10 @@ final class LeaderAppender {
       final InstallRequest request,
       final InstallResponse response,
       final long timestamp) {
-    if (response.status() == RaftResponse.Status.OK) {
+    if (!member.removePendingInstall(request)) {
+      // the request was discarded after an earlier one failed, so it will be resent anyway
+      log.trace("Ignoring {} to discarded {}", response, request);
+    } else if (response.status() == RaftResponse.Status.OK) {
       handleInstallResponseOk(member, request, response);
     } else {
       handleInstallResponseError(member, request, response);
@@ -913,8 +958,14 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // send chunks until the window of chunks in flight is full
+    do {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    } while (member.canInstall());
   }
 
   private void replicateEvents(final RaftMemberContext member) {
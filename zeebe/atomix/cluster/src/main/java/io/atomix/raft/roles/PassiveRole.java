@@ -60,8 +60,11 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -74,7 +77,10 @@ public class PassiveRole extends InactiveRole {
   private long pendingSnapshotStartTimestamp;
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
-  private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // the leader may send chunks again which we received already, e.g. after a request timed out
+  private final Set<ByteBuffer> receivedSnapshotChunkIds = new HashSet<>();
+  // files of the pending snapshot which were taken over from the latest snapshot
+  private Set<String> reusedSnapshotFiles = Set.of();
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -255,14 +261,21 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
+      reusedSnapshotFiles = Set.of();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
+    } else if (request.isInitial() && request.fileChecksums() != null) {
+      // the leader skips the files which we take over from our latest snapshot
+      final var fileChecksums = new TreeMap<>(request.fileChecksums());
+      reusedSnapshotFiles = reuseSnapshotFiles(fileChecksums);
+      setNextExpected(skipReusedSnapshotFiles(request.nextChunkId(), fileChecksums));
+      receivedSnapshotChunkIds.add(request.chunkId());
     } else {
       setNextExpected(request.nextChunkId());
-      previouslyReceivedSnapshotChunkId = request.chunkId();
+      receivedSnapshotChunkIds.add(request.chunkId());
     }
 
     return CompletableFuture.completedFuture(
@@ -270,9 +283,44 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusedFiles(request.isInitial() ? reusedSnapshotFiles : null)
                 .build()));
   }
 
+  private Set<String> reuseSnapshotFiles(final SortedMap<String, Long> fileChecksums) {
+    try {
+      return pendingSnapshot.reuseFiles(fileChecksums).join();
+    } catch (final Exception e) {
+      log.warn(
+          "Failed to reuse files of the latest snapshot for {}, will receive all files",
+          pendingSnapshot,
+          e);
+      return Set.of();
+    }
+  }
+
+  /**
+   * Returns the ID of the next chunk which the leader sends, after it skipped the reused files:
+   * either the given ID, or the first chunk of the next file which wasn't reused.
+   */
+  private ByteBuffer skipReusedSnapshotFiles(
+      final ByteBuffer nextChunkId, final SortedMap<String, Long> fileChecksums) {
+    if (nextChunkId == null || reusedSnapshotFiles.isEmpty()) {
+      return nextChunkId;
+    }
+
+    final var fileName = new SnapshotChunkId(nextChunkId).fileName();
+    if (!reusedSnapshotFiles.contains(fileName)) {
+      return nextChunkId;
+    }
+
+    return fileChecksums.tailMap(fileName).keySet().stream()
+        .filter(file -> !reusedSnapshotFiles.contains(file))
+        .findFirst()
+        .map(file -> new SnapshotChunkId(file, 0).id())
+        .orElse(null);
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -427,13 +475,14 @@ public class PassiveRole extends InactiveRole {
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
-    if (Objects.equals(request.chunkId(), previouslyReceivedSnapshotChunkId)) {
-      // Duplicate request for the same chunk that was previously processed
+    if (receivedSnapshotChunkIds.contains(request.chunkId())) {
+      // Duplicate request for a chunk that was previously processed
       return Either.left(
           logResponse(
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withReusedFiles(request.isInitial() ? reusedSnapshotFiles : null)
                   .build()));
     }
 
@@ -547,7 +596,8 @@ public class PassiveRole extends InactiveRole {
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
-      previouslyReceivedSnapshotChunkId = null;
+      receivedSnapshotChunkIds.clear();
+      reusedSnapshotFiles = Set.of();
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
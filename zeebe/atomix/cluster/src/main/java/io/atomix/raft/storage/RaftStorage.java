@@ -64,6 +64,10 @@ public final class RaftStorage {
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
   private final RaftLogFlusher.Factory flusherFactory;
+  private final boolean primitiveJournalIndex;
+  private final boolean persistSegmentIndex;
+  private final int preparedSegments;
+  private final boolean recycleSegments;
 
   private RaftStorage(
       final String prefix,
@@ -74,7 +78,11 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final boolean primitiveJournalIndex,
+      final boolean persistSegmentIndex,
+      final int preparedSegments,
+      final boolean recycleSegments) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +92,10 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    this.persistSegmentIndex = persistSegmentIndex;
+    this.preparedSegments = preparedSegments;
+    this.recycleSegments = recycleSegments;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +204,10 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withPrimitiveJournalIndex(primitiveJournalIndex)
+        .withPersistedSegmentIndex(persistSegmentIndex)
+        .withPreparedSegments(preparedSegments)
+        .withSegmentRecycling(recycleSegments)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +264,10 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+    private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+    private static final int DEFAULT_PREPARED_SEGMENTS = 1;
+    private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +280,10 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+    private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+    private int preparedSegments = DEFAULT_PREPARED_SEGMENTS;
+    private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +388,56 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the journal index is backed by sorted primitive arrays instead of concurrent
+     * skip lists, which avoids boxing every indexed entry.
+     *
+     * @param primitiveJournalIndex true to use the primitive index, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+      this.primitiveJournalIndex = primitiveJournalIndex;
+      return this;
+    }
+
+    /**
+     * Sets whether the index of a segment is persisted to a sidecar file once the segment is full,
+     * so it does not have to be rebuilt by scanning the segment after a restart.
+     *
+     * @param persistSegmentIndex true to persist segment indexes, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+      this.persistSegmentIndex = persistSegmentIndex;
+      return this;
+    }
+
+    /**
+     * Sets how many segments are prepared ahead of time, i.e. allocated and mapped in the
+     * background such that rolling over to the next segment does not have to wait for it.
+     *
+     * @param preparedSegments the number of segments to prepare ahead of time
+     * @return this builder for chaining
+     */
+    public Builder withPreparedSegments(final int preparedSegments) {
+      checkArgument(preparedSegments > 0, "preparedSegments must be positive");
+      this.preparedSegments = preparedSegments;
+      return this;
+    }
+
+    /**
+     * Sets whether compacted segments are recycled as prepared segments (see {@link
+     * #withPreparedSegments(int)}) instead of being deleted, so their files are reused instead of
+     * allocating new ones.
+     *
+     * @param recycleSegments true to recycle compacted segments, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withSegmentRecycling(final boolean recycleSegments) {
+      this.recycleSegments = recycleSegments;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +465,11 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          primitiveJournalIndex,
+          persistSegmentIndex,
+          preparedSegments,
+          recycleSegments);
     }
   }
 }
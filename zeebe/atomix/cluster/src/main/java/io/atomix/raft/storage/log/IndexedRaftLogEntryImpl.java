@@ -50,8 +50,13 @@ record IndexedRaftLogEntryImpl(long index, long term, RaftEntry entry, JournalRe
 
   @Override
   public ReplicatableJournalRecord getReplicatableJournalRecord() {
+    return toReplicatableJournalRecord(term, record);
+  }
+
+  static ReplicatableJournalRecord toReplicatableJournalRecord(
+      final long term, final JournalRecord record) {
     final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
     record.serializedRecord().getBytes(0, serializedRecord);
-    return new ReplicatableJournalRecord(term, index, record.checksum(), serializedRecord);
+    return new ReplicatableJournalRecord(term, record.index(), record.checksum(), serializedRecord);
   }
 }
@@ -126,6 +126,55 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of concurrent skip
+   * lists, which avoids boxing every indexed entry.
+   *
+   * @param primitiveJournalIndex true to use the primitive index, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    journalBuilder.withPrimitiveJournalIndex(primitiveJournalIndex);
+    return this;
+  }
+
+  /**
+   * Sets whether the index of a segment is persisted to a sidecar file once the segment is full, so
+   * it does not have to be rebuilt by scanning the segment after a restart.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+    journalBuilder.withPersistedSegmentIndex(persistSegmentIndex);
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time, i.e. allocated and mapped in the background
+   * such that rolling over to the next segment does not have to wait for it.
+   *
+   * @param preparedSegments the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreparedSegments(final int preparedSegments) {
+    journalBuilder.withPreparedSegments(preparedSegments);
+    return this;
+  }
+
+  /**
+   * Sets whether compacted segments are recycled as prepared segments (see {@link
+   * #withPreparedSegments(int)}) instead of being deleted, so their files are reused instead of
+   * allocating new ones.
+   *
+   * @param recycleSegments true to recycle compacted segments, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withSegmentRecycling(final boolean recycleSegments) {
+    journalBuilder.withSegmentRecycling(recycleSegments);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
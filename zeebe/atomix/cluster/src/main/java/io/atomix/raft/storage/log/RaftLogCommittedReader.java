@@ -16,8 +16,10 @@
  */
 package io.atomix.raft.storage.log;
 
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.serializer.RaftEntrySBESerializer;
 import io.atomix.raft.storage.serializer.RaftEntrySerializer;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /** Raft log reader that reads only committed entries. */
@@ -53,6 +55,23 @@ public class RaftLogCommittedReader implements RaftLogReader {
     return entry;
   }
 
+  @Override
+  public IndexedRaftLogEntry nextReplicatableBatch(
+      final long lastIndex, final int maxBytes, final List<ReplicatableJournalRecord> records) {
+    if (!hasNext()) {
+      return null;
+    }
+
+    final var lastEntry =
+        reader.nextReplicatableBatch(
+            Math.min(lastIndex, log.getCommitIndex()), maxBytes, records);
+    if (lastEntry != null) {
+      nextIndex = lastEntry.index() + 1;
+    }
+
+    return lastEntry;
+  }
+
   public long reset() {
     nextIndex = reader.reset();
     return nextIndex;
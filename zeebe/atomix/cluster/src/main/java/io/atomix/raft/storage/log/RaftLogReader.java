@@ -15,6 +15,9 @@
  */
 package io.atomix.raft.storage.log;
 
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import java.util.List;
+
 public interface RaftLogReader extends java.util.Iterator<IndexedRaftLogEntry>, AutoCloseable {
 
   /**
@@ -47,6 +50,25 @@ public interface RaftLogReader extends java.util.Iterator<IndexedRaftLogEntry>,
    */
   long seekToAsqn(final long asqn);
 
+  /**
+   * Reads the next entries, up to and including {@code lastIndex}, as a single batch from the
+   * journal, and adds them as records to replicate to the given list. The batch stops once it
+   * reaches {@code maxBytes}, but always contains at least one entry if {@link #hasNext()} is true
+   * and the next index is not greater than {@code lastIndex}. It may stop earlier at the end of a
+   * journal segment.
+   *
+   * <p>Unlike {@link #next()}, this only reads the term of each entry instead of deserializing it
+   * completely, and does not verify each entry separately against concurrent modifications of the
+   * log.
+   *
+   * @param lastIndex the index of the last entry to read, inclusive
+   * @param maxBytes the size in bytes after which no more entries are read
+   * @param records the list to which the read entries are added
+   * @return the last entry read, or null if no entry was read
+   */
+  IndexedRaftLogEntry nextReplicatableBatch(
+      long lastIndex, int maxBytes, List<ReplicatableJournalRecord> records);
+
   @Override
   void close();
 }
@@ -16,11 +16,13 @@
  */
 package io.atomix.raft.storage.log;
 
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.raft.storage.serializer.RaftEntrySBESerializer;
 import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
@@ -52,6 +54,29 @@ public class RaftLogUncommittedReader implements RaftLogReader {
     return new IndexedRaftLogEntryImpl(entry.term(), entry.entry(), journalRecord);
   }
 
+  @Override
+  public IndexedRaftLogEntry nextReplicatableBatch(
+      final long lastIndex, final int maxBytes, final List<ReplicatableJournalRecord> records) {
+    final var batch = journalReader.nextBatch(lastIndex, maxBytes).records();
+    if (batch.isEmpty()) {
+      return null;
+    }
+
+    final int lastRecord = batch.size() - 1;
+    for (int i = 0; i < lastRecord; i++) {
+      final var journalRecord = batch.get(i);
+      final var term = serializer.readTerm(journalRecord.data());
+      records.add(IndexedRaftLogEntryImpl.toReplicatableJournalRecord(term, journalRecord));
+    }
+
+    // the last entry becomes the reader's current entry, which callers typically need completely
+    final JournalRecord journalRecord = batch.get(lastRecord);
+    final RaftLogEntry entry = serializer.readRaftLogEntry(journalRecord.data());
+    final var lastEntry = new IndexedRaftLogEntryImpl(entry.term(), entry.entry(), journalRecord);
+    records.add(lastEntry.getReplicatableJournalRecord());
+    return lastEntry;
+  }
+
   @Override
   public long reset() {
     return journalReader.seekToFirst();
@@ -163,6 +163,17 @@ public class RaftEntrySBESerializer implements RaftEntrySerializer {
     return entryOffset + headerEncoder.encodedLength() + configurationEntryEncoder.encodedLength();
   }
 
+  @Override
+  public long readTerm(final DirectBuffer buffer) {
+    headerDecoder.wrap(buffer, 0);
+    raftLogEntryDecoder.wrap(
+        buffer,
+        headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    return raftLogEntryDecoder.term();
+  }
+
   @Override
   public RaftLogEntry readRaftLogEntry(final DirectBuffer buffer) {
     headerDecoder.wrap(buffer, 0);
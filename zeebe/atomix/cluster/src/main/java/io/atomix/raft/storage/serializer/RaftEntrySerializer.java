@@ -93,6 +93,14 @@ public interface RaftEntrySerializer {
    */
   RaftLogEntry readRaftLogEntry(DirectBuffer buffer);
 
+  /**
+   * Reads only the term of the raft log entry from the buffer, without reading the entry itself.
+   *
+   * @param buffer to read the raft log entry's term from
+   * @return the term of the raft log entry
+   */
+  long readTerm(DirectBuffer buffer);
+
   /** A buffer writer based on serializer logic provided as functions. */
   record SerializedBufferWriterAdapter(
       Supplier<Integer> getRecordLengthFunction,
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftPipelinedSnapshotReplicationTest {
+
+  private static final int MAX_CHUNKS_IN_FLIGHT = 4;
+  private static final int NUMBER_OF_CHUNKS = 10;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var partitionConfig =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              partitionConfig.setMaxSnapshotChunksInFlight(MAX_CHUNKS_IN_FLIGHT);
+              builder.withPartitionConfig(partitionConfig);
+            }
+          });
+
+  private final AtomicInteger sentInstallRequests = new AtomicInteger();
+  private final AtomicInteger inFlightInstallRequests = new AtomicInteger();
+  private final AtomicInteger maxInFlightInstallRequests = new AtomicInteger();
+  private RaftServer leader;
+  private RaftServer follower;
+  private TestRaftServerProtocol leaderProtocol;
+  private long snapshotIndex;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>)
+            request -> {
+              sentInstallRequests.incrementAndGet();
+              maxInFlightInstallRequests.accumulateAndGet(
+                  inFlightInstallRequests.incrementAndGet(), Math::max);
+            });
+  }
+
+  @Test
+  public void shouldSendMultipleChunksBeforeAwaitingResponses() throws Exception {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // delay the responses, so that the leader keeps sending chunks in the meantime
+    leaderProtocol.interceptResponse(InstallResponse.class, this::delayed);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(maxInFlightInstallRequests.get())
+        .isGreaterThan(1)
+        .isLessThanOrEqualTo(MAX_CHUNKS_IN_FLIGHT);
+    assertThat(raftRule.getSnapshotOnNode(follower.name()).getIndex()).isEqualTo(snapshotIndex);
+  }
+
+  @Test
+  public void shouldResendChunksInFlightWhenInstallRequestTimesOut() throws Exception {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // time out a response after the follower processed the request, while other chunks are in
+    // flight; the follower then receives chunks again which it has already
+    final var responses = new AtomicInteger();
+    leaderProtocol.interceptResponse(
+        InstallResponse.class,
+        response -> {
+          if (responses.incrementAndGet() == NUMBER_OF_CHUNKS / 2) {
+            inFlightInstallRequests.decrementAndGet();
+            return CompletableFuture.failedFuture(new TimeoutException());
+          }
+          return delayed(response);
+        });
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(sentInstallRequests.get())
+        .describedAs("Should only resend the chunks which were in flight")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(NUMBER_OF_CHUNKS + MAX_CHUNKS_IN_FLIGHT + 3);
+    assertThat(raftRule.getSnapshotOnNode(follower.name()).getIndex()).isEqualTo(snapshotIndex);
+  }
+
+  private CompletableFuture<InstallResponse> delayed(final InstallResponse response) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          inFlightInstallRequests.decrementAndGet();
+          return response;
+        },
+        CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot() throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    snapshotIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, snapshotIndex, NUMBER_OF_CHUNKS);
+    raftRule.appendEntry();
+  }
+}
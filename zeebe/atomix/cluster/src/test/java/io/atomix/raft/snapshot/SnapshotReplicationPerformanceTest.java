@@ -0,0 +1,211 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.snapshot;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.impl.NettyMessagingService;
+import io.atomix.raft.partition.impl.RaftNamespaces;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import io.atomix.utils.net.Address;
+import io.atomix.utils.serializer.Serializer;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotChunkReader;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how many snapshots per minute a leader installs on a follower over a loopback
+ * connection, with a varying number of snapshot chunks in flight. Every chunk goes the way it goes
+ * in the cluster: it's read from the snapshot files, serialized as an {@link InstallRequest} and
+ * sent through the messaging service, after which the receiver writes it to its own files.
+ *
+ * <p>The size of the snapshot can be set with the environment variable {@code
+ * SNAPSHOT_REPLICATION_PERFORMANCE_TEST_SIZE_MB}, e.g. to measure multi-gigabyte snapshots.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@State(Scope.Benchmark)
+public class SnapshotReplicationPerformanceTest {
+  private static final Logger LOG =
+      LoggerFactory.getLogger(SnapshotReplicationPerformanceTest.class);
+  private static final int SIZE_MB =
+      Integer.parseInt(
+          System.getenv().getOrDefault("SNAPSHOT_REPLICATION_PERFORMANCE_TEST_SIZE_MB", "256"));
+  private static final int ONE_MB = 1024 * 1024;
+  private static final int FILE_SIZE_MB = 64;
+  private static final int CHUNK_SIZE = ONE_MB;
+  private static final String SUBJECT = "snapshot-replication-benchmark";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final Serializer SERIALIZER = Serializer.using(RaftNamespaces.RAFT_PROTOCOL);
+
+  @Param({"1", "4"})
+  public int chunksInFlight;
+
+  private final Map<String, FileChannel> receivedFiles = new HashMap<>();
+  private Path temporaryFolder;
+  private Path snapshotDirectory;
+  private Path receivedDirectory;
+  private NettyMessagingService leader;
+  private NettyMessagingService follower;
+  private ExecutorService followerExecutor;
+
+  @Setup
+  public void setup() throws Exception {
+    temporaryFolder = Files.createTempDirectory("snapshot-replication");
+    snapshotDirectory = Files.createDirectory(temporaryFolder.resolve("1-1-1-1"));
+    receivedDirectory = Files.createDirectory(temporaryFolder.resolve("received"));
+
+    LOG.info("Creating a snapshot of {}MB; please hold the line...", SIZE_MB);
+    final var content = new byte[ONE_MB];
+    for (int file = 0; file * FILE_SIZE_MB < SIZE_MB; file++) {
+      final var fileSizeMb = Math.min(FILE_SIZE_MB, SIZE_MB - file * FILE_SIZE_MB);
+      final var path = snapshotDirectory.resolve("%06d.sst".formatted(file));
+      try (final var channel =
+          FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        for (int i = 0; i < fileSizeMb; i++) {
+          ThreadLocalRandom.current().nextBytes(content);
+          channel.write(ByteBuffer.wrap(content));
+        }
+      }
+    }
+
+    final var config = new MessagingConfig().setShutdownQuietPeriod(Duration.ofMillis(50));
+    leader = new NettyMessagingService("cluster", newAddress(), config, "leader");
+    follower = new NettyMessagingService("cluster", newAddress(), config, "follower");
+    leader.start().join();
+    follower.start().join();
+
+    // like the raft thread, a single thread handles all install requests in order
+    followerExecutor = Executors.newSingleThreadExecutor();
+    follower.registerHandler(SUBJECT, (sender, payload) -> onInstall(payload), followerExecutor);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    leader.stop().join();
+    follower.stop().join();
+    followerExecutor.shutdownNow();
+    receivedFiles.values().forEach(CloseHelper::quietClose);
+    FileUtil.deleteFolder(temporaryFolder);
+  }
+
+  @Benchmark
+  public long measureSnapshotReplication() throws Exception {
+    final var window = new Semaphore(chunksInFlight);
+    final var responses = new ArrayList<CompletableFuture<byte[]>>();
+    long sentBytes = 0;
+
+    try (final var reader = new FileBasedSnapshotChunkReader(snapshotDirectory)) {
+      reader.setMaximumChunkSize(CHUNK_SIZE);
+
+      boolean initial = true;
+      while (reader.hasNext()) {
+        window.acquire();
+        final var chunkId = reader.nextId();
+        final var chunk = reader.next();
+        final var request =
+            InstallRequest.builder()
+                .withCurrentTerm(1)
+                .withLeader(MemberId.from("leader"))
+                .withIndex(1)
+                .withTerm(1)
+                .withVersion(1)
+                .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+                .withChunkId(chunkId)
+                .withInitial(initial)
+                .withComplete(!reader.hasNext())
+                .withNextChunkId(reader.nextId())
+                .build();
+        initial = false;
+        sentBytes += chunk.getContent().length;
+
+        final var response =
+            leader.sendAndReceive(
+                follower.address(), SUBJECT, SERIALIZER.encode(request), REQUEST_TIMEOUT);
+        response.whenComplete((ignored, error) -> window.release());
+        responses.add(response);
+      }
+    }
+
+    CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+    return sentBytes;
+  }
+
+  private byte[] onInstall(final byte[] payload) {
+    final InstallRequest request = SERIALIZER.decode(payload);
+    final var chunk = new SnapshotChunkImpl();
+    if (!chunk.tryWrap(new UnsafeBuffer(request.data()))) {
+      throw new IllegalStateException("Failed to parse snapshot chunk " + request.chunkId());
+    }
+
+    try {
+      final var file = receivedFiles.computeIfAbsent(chunk.getChunkName(), this::openReceivedFile);
+      file.write(ByteBuffer.wrap(chunk.getContent()), chunk.getFileBlockPosition());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return SERIALIZER.encode(InstallResponse.builder().withStatus(Status.OK).build());
+  }
+
+  private FileChannel openReceivedFile(final String fileName) {
+    try {
+      return FileChannel.open(
+          receivedDirectory.resolve(fileName),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.WRITE);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Address newAddress() {
+    return Address.from(SocketUtil.getNextAddress().getPort());
+  }
+}
@@ -27,6 +27,7 @@ import static org.mockito.Mockito.when;
 import io.atomix.cluster.MemberId;
 import io.atomix.raft.cluster.RaftMember.Type;
 import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher.NoopFlusher;
 import io.atomix.raft.storage.log.entry.ApplicationEntry;
@@ -42,6 +43,7 @@ import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Set;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
@@ -172,6 +174,49 @@ class RaftLogTest {
     raftlogFollower.close();
   }
 
+  @Test
+  void shouldReadReplicatableBatch() {
+    // given
+    final var firstEntry = raftlog.append(new RaftLogEntry(1, initialEntry));
+    final var secondEntry = raftlog.append(new RaftLogEntry(2, firstApplicationEntry));
+    final var thirdEntry = raftlog.append(new RaftLogEntry(3, configurationEntry));
+    final var records = new ArrayList<ReplicatableJournalRecord>();
+
+    // when
+    final var lastEntry = reader.nextReplicatableBatch(Long.MAX_VALUE, Integer.MAX_VALUE, records);
+
+    // then
+    assertThat(records)
+        .containsExactly(
+            firstEntry.getReplicatableJournalRecord(),
+            secondEntry.getReplicatableJournalRecord(),
+            thirdEntry.getReplicatableJournalRecord());
+    assertThat(lastEntry.index()).isEqualTo(thirdEntry.index());
+    assertThat(lastEntry.term()).isEqualTo(3);
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldOnlyReadCommittedEntriesInReplicatableBatch() {
+    // given
+    final var committedEntry = raftlog.append(new RaftLogEntry(1, initialEntry));
+    raftlog.append(new RaftLogEntry(1, firstApplicationEntry));
+    raftlog.setCommitIndex(committedEntry.index());
+    final var committedReader = raftlog.openCommittedReader();
+    final var records = new ArrayList<ReplicatableJournalRecord>();
+
+    // when
+    final var lastEntry =
+        committedReader.nextReplicatableBatch(Long.MAX_VALUE, Integer.MAX_VALUE, records);
+
+    // then
+    assertThat(records).containsExactly(committedEntry.getReplicatableJournalRecord());
+    assertThat(lastEntry.index()).isEqualTo(committedEntry.index());
+    assertThat(committedReader.hasNext()).isFalse();
+    assertThat(committedReader.nextReplicatableBatch(Long.MAX_VALUE, Integer.MAX_VALUE, records))
+        .isNull();
+  }
+
   @Test
   void shouldDeleteAfter() throws CheckedJournalException {
     // given
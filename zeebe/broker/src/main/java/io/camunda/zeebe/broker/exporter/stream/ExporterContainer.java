@@ -17,6 +17,8 @@ import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -24,6 +26,8 @@ import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -204,9 +208,12 @@ final class ExporterContainer implements Controller {
   }
 
   private boolean acceptRecord(final RecordMetadata metadata) {
+    return acceptRecord(metadata.getRecordType(), metadata.getValueType());
+  }
+
+  private boolean acceptRecord(final RecordType recordType, final ValueType valueType) {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+    return filter.acceptType(recordType) && filter.acceptValue(valueType);
   }
 
   void configureExporter() throws Exception {
@@ -231,6 +238,40 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Exports the records of the batch which the exporter accepts and didn't export yet, all at once.
+   * If it accepts none of them, its position is updated as if all records were skipped.
+   */
+  boolean exportBatch(final List<Record<?>> records) {
+    try {
+      final List<Record<?>> acceptedRecords = new ArrayList<>(records.size());
+      for (final var record : records) {
+        if (position < record.getPosition()
+            && acceptRecord(record.getRecordType(), record.getValueType())) {
+          acceptedRecords.add(record);
+        }
+      }
+
+      if (acceptedRecords.isEmpty()) {
+        updatePositionOnSkipIfUpToDate(records.getLast().getPosition());
+      } else {
+        ThreadContextUtil.runWithClassLoader(
+            () -> exporter.exportBatch(acceptedRecords), exporter.getClass().getClassLoader());
+        lastUnacknowledgedPosition = acceptedRecords.getLast().getPosition();
+      }
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of records from position {} to {}",
+              records.getFirst().getPosition(),
+              records.getLast().getPosition(),
+              ex);
+      return false;
+    }
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
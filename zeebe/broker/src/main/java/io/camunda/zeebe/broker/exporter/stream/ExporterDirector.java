@@ -54,6 +54,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
       "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_EXPORTING_BATCH_ABORTED =
+      "Expected to export records from position {} to {} successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
@@ -93,6 +95,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  // the maximum number of records which are read and exported at once; with 1, the records are
+  // exported one by one, without being copied
+  private final int exportBatchSize;
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -124,6 +129,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    exportBatchSize = context.getExportBatchSize();
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
@@ -618,6 +624,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void readNextEvent() {
+    if (exportBatchSize > 1) {
+      readNextBatch();
+      return;
+    }
+
     if (shouldExport()) {
       final LoggedEvent currentEvent = logStreamReader.next();
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
@@ -672,6 +683,85 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         });
   }
 
+  /**
+   * Reads up to {@link #exportBatchSize} records which are available right now, and exports them
+   * at once. Filtered records are skipped while reading; if the batch ends with filtered records,
+   * the position of up-to-date exporters is updated after the batch was exported.
+   */
+  private void readNextBatch() {
+    if (!shouldExport()) {
+      return;
+    }
+
+    recordExporter.resetBatch();
+    final RecordMetadata metadata = new RecordMetadata();
+    long lastSkippedPosition = -1;
+    while (recordExporter.getBatch().size() < exportBatchSize && logStreamReader.hasNext()) {
+      final LoggedEvent event = logStreamReader.next();
+      if (eventFilter == null || eventFilter.applies(event)) {
+        recordExporter.addToBatch(event);
+        lastSkippedPosition = -1;
+      } else {
+        event.readMetadata(metadata);
+        metrics.eventSkipped(metadata.getValueType());
+        lastSkippedPosition = event.getPosition();
+      }
+    }
+
+    final var batch = recordExporter.getBatch();
+    if (batch.isEmpty()) {
+      skipToPosition(lastSkippedPosition);
+      actor.submit(this::readNextEvent);
+      return;
+    }
+
+    inExportingPhase = true;
+    metrics.observeBatchSize(batch.size());
+    final long trailingSkippedPosition = lastSkippedPosition;
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordExporter::exportBatch, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(
+                ERROR_MESSAGE_EXPORTING_BATCH_ABORTED,
+                batch.getFirst().getPosition(),
+                batch.getLast().getPosition(),
+                throwable);
+            onFailure();
+          } else {
+            logStream.getFlowControl().onExported(batch.getLast().getPosition());
+            for (final var record : batch) {
+              metrics.eventExported(record.getValueType());
+            }
+            // skip only once the exporters had the chance to acknowledge the batch, as the
+            // position of an exporter is only updated on skip if it's up to date
+            actor.submit(
+                () -> {
+                  skipToPosition(trailingSkippedPosition);
+                  inExportingPhase = false;
+                  readNextEvent();
+                });
+          }
+        });
+  }
+
+  /**
+   * Updates the position of all up to date exporters to the given position of a skipped record, if
+   * any record was skipped.
+   */
+  private void skipToPosition(final long skippedPosition) {
+    if (skippedPosition < 0) {
+      return;
+    }
+
+    for (final ExporterContainer container : containers) {
+      container.updatePositionOnSkipIfUpToDate(skippedPosition);
+    }
+  }
+
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
@@ -21,6 +21,7 @@ import java.util.Map;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_EXPORT_BATCH_SIZE = 1;
 
   private int id;
   private String name;
@@ -30,6 +31,7 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private int exportBatchSize = DEFAULT_EXPORT_BATCH_SIZE;
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
@@ -66,6 +68,10 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public int getExportBatchSize() {
+    return exportBatchSize;
+  }
+
   public EventFilter getPositionsToSkipFilter() {
     return positionsToSkipFilter;
   }
@@ -125,6 +131,11 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext exportBatchSize(final int exportBatchSize) {
+    this.exportBatchSize = exportBatchSize;
+    return this;
+  }
+
   public ExporterDirectorContext positionsToSkipFilter(final EventFilter skipPositionsFilter) {
     positionsToSkipFilter = skipPositionsFilter;
     return this;
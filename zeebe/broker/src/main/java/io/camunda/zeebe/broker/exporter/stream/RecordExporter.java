@@ -10,10 +10,14 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.time.InstantSource;
+import java.util.ArrayList;
 import java.util.List;
 
 final class RecordExporter {
@@ -23,6 +27,9 @@ final class RecordExporter {
   private final List<ExporterContainer> containers;
   private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
+  private final int partitionId;
+  // copies of the records which are exported at once, if records are exported in batches
+  private final List<Record<?>> batch = new ArrayList<>();
 
   private boolean shouldExport;
   private int exporterIndex;
@@ -34,6 +41,7 @@ final class RecordExporter {
       final int partitionId,
       final InstantSource clock) {
     this.containers = containers;
+    this.partitionId = partitionId;
     typedEvent = new TypedRecordImpl(partitionId);
     this.exporterMetrics = exporterMetrics;
     this.clock = clock;
@@ -87,6 +95,60 @@ final class RecordExporter {
     return true;
   }
 
+  /**
+   * Adds a copy of the given event to the current batch, unless its value type is unknown. A copy
+   * is required, as the event is only valid until the next event is read.
+   */
+  void addToBatch(final LoggedEvent rawEvent) {
+    rawEvent.readMetadata(rawMetadata);
+    if (TypedEventRegistry.EVENT_REGISTRY.containsKey(rawMetadata.getValueType())) {
+      batch.add(CopiedRecords.createCopiedRecord(partitionId, rawEvent));
+    }
+  }
+
+  /** Discards the current batch, to start a new one. */
+  void resetBatch() {
+    batch.clear();
+    exporterIndex = 0;
+  }
+
+  /**
+   * Exports the current batch to all exporters which didn't export it yet. Like {@link #export()},
+   * can be called repeatedly until the batch was exported to all exporters.
+   */
+  boolean exportBatch() {
+    if (batch.isEmpty()) {
+      return true;
+    }
+
+    final long currentMillis = clock.millis();
+    for (final var record : batch) {
+      exporterMetrics.exportingLatency(
+          record.getValueType(), record.getTimestamp(), currentMillis);
+    }
+
+    final long lastPosition = batch.getLast().getPosition();
+    final int exportersCount = containers.size();
+    while (exporterIndex < exportersCount) {
+      final ExporterContainer container = containers.get(exporterIndex);
+
+      try (final var timer = exporterMetrics.startExporterBatchExportingTimer(container.getId())) {
+        if (container.exportBatch(batch)) {
+          exporterIndex++;
+          exporterMetrics.setLastExportedPosition(container.getId(), lastPosition);
+        } else {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  List<Record<?>> getBatch() {
+    return batch;
+  }
+
   TypedRecordImpl getTypedEvent() {
     return typedEvent;
   }
@@ -44,6 +44,15 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
           .labelNames("code")
           .register();
 
+  private static final Counter CREDITS_EXHAUSTED_COUNT =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("jobs_push_credits_exhausted_count")
+          .help(
+              "Total number of jobs which were not pushed, since no stream had credits left, and"
+                  + " are left to be polled instead")
+          .register();
+
   @Override
   public void addStream() {
     STREAM_COUNT.inc();
@@ -68,4 +77,9 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   public void pushTryFailed(final ErrorCode code) {
     PUSH_TRY_FAILED_COUNT.labels(code.name()).inc();
   }
+
+  @Override
+  public void creditsExhausted() {
+    CREDITS_EXHAUSTED_COUNT.inc();
+  }
 }
@@ -80,6 +80,12 @@ public final class RaftPartitionFactory {
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
 
+    storageConfig.setPrimitiveJournalIndex(
+        brokerCfg.getExperimental().getRaft().isPrimitiveJournalIndex());
+    storageConfig.setPersistSegmentIndex(
+        brokerCfg.getExperimental().getRaft().isPersistSegmentIndex());
+    storageConfig.setPreparedSegments(brokerCfg.getExperimental().getRaft().getPreparedSegments());
+    storageConfig.setRecycleSegments(brokerCfg.getExperimental().getRaft().isRecycleSegments());
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
     partitionConfig.setMaxAppendBatchSize(
@@ -95,6 +101,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
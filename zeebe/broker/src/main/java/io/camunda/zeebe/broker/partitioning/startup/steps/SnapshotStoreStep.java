@@ -30,7 +30,8 @@ public final class SnapshotStoreStep implements StartupStep<PartitionStartupCont
             context.brokerConfig().getCluster().getNodeId(),
             context.partitionMetadata().id().id(),
             context.partitionDirectory(),
-            new ChecksumProviderRocksDBImpl());
+            new ChecksumProviderRocksDBImpl(),
+            context.brokerConfig().getExperimental().getRaft().getSnapshotChecksumThreads());
 
     final var submit =
         context.schedulingService().submitActor(snapshotStore, SchedulingHints.ioBound());
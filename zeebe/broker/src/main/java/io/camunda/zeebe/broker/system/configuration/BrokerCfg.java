@@ -49,6 +49,7 @@ public class BrokerCfg {
     threads.init(this, brokerBase);
     data.init(this, brokerBase);
     exporters.values().forEach(e -> e.init(this, brokerBase));
+    exporting.init(this, brokerBase);
     gateway.init(this, brokerBase);
     flowControl.init(this, brokerBase);
     backpressure.init(this, brokerBase);
@@ -15,7 +15,19 @@ import java.util.Set;
  * to all exporters.
  */
 public final class ExportingCfg implements ConfigurationEntry {
+  private static final int DEFAULT_BATCH_SIZE = 1;
+
   private Set<Long> skipRecords;
+  // the maximum number of records passed to an exporter at once; with 1 the records are passed one
+  // by one, as they are read
+  private int batchSize = DEFAULT_BATCH_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be >= 1 but was %s".formatted(batchSize));
+    }
+  }
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +37,17 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(final int batchSize) {
+    this.batchSize = batchSize;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, batchSize);
   }
 
   @Override
@@ -39,11 +59,11 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return batchSize == that.batchSize && Objects.equals(skipRecords, that.skipRecords);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{" + "skipRecords='" + skipRecords + ", batchSize=" + batchSize + '}';
   }
 }
@@ -28,6 +28,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableColumnFamilyGrouping =
+      RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_GROUPING_ENABLED;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +123,14 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableColumnFamilyGrouping() {
+    return enableColumnFamilyGrouping;
+  }
+
+  public void setEnableColumnFamilyGrouping(final boolean enableColumnFamilyGrouping) {
+    this.enableColumnFamilyGrouping = enableColumnFamilyGrouping;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +149,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setColumnFamilyGroupingEnabled(enableColumnFamilyGrouping);
   }
 
   @Override
@@ -165,6 +176,8 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableColumnFamilyGrouping="
+        + enableColumnFamilyGrouping
         + '}';
   }
 
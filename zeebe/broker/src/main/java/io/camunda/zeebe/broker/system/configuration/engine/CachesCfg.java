@@ -9,11 +9,17 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import java.util.Optional;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private DataSize processCacheMaxSize =
+      DataSize.ofBytes(EngineConfiguration.DEFAULT_PROCESS_CACHE_MAX_BYTES);
+  private int variableDocumentCacheCapacity =
+      EngineConfiguration.DEFAULT_VARIABLE_DOCUMENT_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +45,28 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public DataSize getProcessCacheMaxSize() {
+    return processCacheMaxSize;
+  }
+
+  public void setProcessCacheMaxSize(final DataSize processCacheMaxSize) {
+    this.processCacheMaxSize = processCacheMaxSize;
+  }
+
+  public long getProcessCacheMaxSizeInBytes() {
+    return Optional.ofNullable(processCacheMaxSize)
+        .map(DataSize::toBytes)
+        .orElse(EngineConfiguration.DEFAULT_PROCESS_CACHE_MAX_BYTES);
+  }
+
+  public int getVariableDocumentCacheCapacity() {
+    return variableDocumentCacheCapacity;
+  }
+
+  public void setVariableDocumentCacheCapacity(final int variableDocumentCacheCapacity) {
+    this.variableDocumentCacheCapacity = variableDocumentCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +76,10 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", processCacheMaxSize="
+        + processCacheMaxSize
+        + ", variableDocumentCacheCapacity="
+        + variableDocumentCacheCapacity
         + '}';
   }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public class DeadlinesCfg implements ConfigurationEntry {
+  private int budgetPerRun = EngineConfiguration.DEFAULT_DEADLINES_BUDGET_PER_RUN;
+
+  public int getBudgetPerRun() {
+    return budgetPerRun;
+  }
+
+  public void setBudgetPerRun(final int budgetPerRun) {
+    this.budgetPerRun = budgetPerRun;
+  }
+
+  @Override
+  public String toString() {
+    return "DeadlinesCfg{" + "budgetPerRun=" + budgetPerRun + '}';
+  }
+}
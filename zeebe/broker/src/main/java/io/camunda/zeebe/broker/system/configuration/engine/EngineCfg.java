@@ -17,6 +17,7 @@ public final class EngineCfg implements ConfigurationEntry {
   private MessagesCfg messages = new MessagesCfg();
   private CachesCfg caches = new CachesCfg();
   private JobsCfg jobs = new JobsCfg();
+  private DeadlinesCfg deadlines = new DeadlinesCfg();
   private ValidatorsCfg validators = new ValidatorsCfg();
   private AuthorizationsCfg authorizations = new AuthorizationsCfg();
 
@@ -25,6 +26,7 @@ public final class EngineCfg implements ConfigurationEntry {
     messages.init(globalConfig, brokerBase);
     caches.init(globalConfig, brokerBase);
     jobs.init(globalConfig, brokerBase);
+    deadlines.init(globalConfig, brokerBase);
     validators.init(globalConfig, brokerBase);
     authorizations.init(globalConfig, brokerBase);
   }
@@ -53,6 +55,14 @@ public final class EngineCfg implements ConfigurationEntry {
     this.jobs = jobs;
   }
 
+  public DeadlinesCfg getDeadlines() {
+    return deadlines;
+  }
+
+  public void setDeadlines(final DeadlinesCfg deadlines) {
+    this.deadlines = deadlines;
+  }
+
   public ValidatorsCfg getValidators() {
     return validators;
   }
@@ -78,6 +88,8 @@ public final class EngineCfg implements ConfigurationEntry {
         + caches
         + ", jobs="
         + jobs
+        + ", deadlines="
+        + deadlines
         + ", validators="
         + validators
         + ", authorizations="
@@ -92,8 +104,11 @@ public final class EngineCfg implements ConfigurationEntry {
         .setDrgCacheCapacity(caches.getDrgCacheCapacity())
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setProcessCacheMaxBytes(caches.getProcessCacheMaxSizeInBytes())
+        .setVariableDocumentCacheCapacity(caches.getVariableDocumentCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setDeadlinesBudgetPerRun(deadlines.getBudgetPerRun())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize())
         .setEnableAuthorization(authorizations.isEnableAuthorization());
   }
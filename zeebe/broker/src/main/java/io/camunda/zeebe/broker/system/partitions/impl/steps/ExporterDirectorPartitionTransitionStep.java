@@ -124,6 +124,10 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .descriptors(exporterDescriptors)
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
+            .exportBatchSize(
+                context.getBrokerCfg() != null
+                    ? context.getBrokerCfg().getExporting().getBatchSize()
+                    : ExporterDirectorContext.DEFAULT_EXPORT_BATCH_SIZE)
             .meterRegistry(context.getPartitionMeterRegistry());
 
     final ExporterDirector director =
@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public final class ExporterDirectorBatchTest {
+
+  private static final String EXPORTER_ID = "exporter";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withExportBatchSize(2);
+
+  private final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+  private final ExporterDescriptor descriptor =
+      spy(new ExporterDescriptor(EXPORTER_ID, ControlledTestExporter.class, Map.of()));
+
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    final var positions =
+        List.of(
+            rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord()),
+            rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord()),
+            rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord()));
+
+    // when
+    rule.startExporterDirector(List.of(descriptor));
+
+    // then
+    Awaitility.await("exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(exporter.getExportedRecords()).hasSize(3));
+    assertThat(exporter.getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactlyElementsOf(positions);
+
+    final ArgumentCaptor<List<Record<?>>> batches = ArgumentCaptor.captor();
+    verify(exporter, atLeastOnce()).exportBatch(batches.capture());
+    assertThat(batches.getAllValues()).allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 2));
+  }
+
+  @Test
+  public void shouldRetryWholeBatchOnFailure() {
+    // given
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    doThrow(new RuntimeException("expected")).doCallRealMethod().when(exporter).exportBatch(any());
+    rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+
+    // when
+    rule.startExporterDirector(List.of(descriptor));
+
+    // then
+    Awaitility.await("exporter has exported all records")
+        .atMost(Duration.ofSeconds(15))
+        .untilAsserted(() -> assertThat(exporter.getExportedRecords()).hasSize(2));
+  }
+
+  @Test
+  public void shouldUpdatePositionIfBatchEndsWithSkippedRecord() {
+    // given
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    exporter.onConfigure(acceptingDeploymentCommands()).shouldAutoUpdatePosition(true);
+    rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    final long skippedRecordPosition =
+        rule.writeCommand(IncidentIntent.CREATED, new IncidentRecord());
+
+    // when
+    rule.startExporterDirector(List.of(descriptor));
+
+    // then
+    final ExportersState state = rule.getExportersState();
+    Awaitility.await("exporter position was updated to the skipped record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID)).isEqualTo(skippedRecordPosition));
+  }
+
+  private static Consumer<Context> acceptingDeploymentCommands() {
+    return context ->
+        context.setFilter(
+            new Context.RecordFilter() {
+              @Override
+              public boolean acceptType(final RecordType recordType) {
+                return recordType == RecordType.COMMAND;
+              }
+
+              @Override
+              public boolean acceptValue(final ValueType valueType) {
+                return valueType == ValueType.DEPLOYMENT;
+              }
+            });
+  }
+}
@@ -61,6 +61,7 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private int exportBatchSize = ExporterDirectorContext.DEFAULT_EXPORT_BATCH_SIZE;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -90,6 +91,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withExportBatchSize(final int exportBatchSize) {
+    this.exportBatchSize = exportBatchSize;
+    return this;
+  }
+
   public ExporterRule withPositionsToSkipFilter(final EventFilter positionsToSkipFilter) {
     this.positionsToSkipFilter = positionsToSkipFilter;
     return this;
@@ -128,7 +134,8 @@ public final class ExporterRule implements TestRule {
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .exportBatchSize(exportBatchSize);
 
     director = new ExporterDirector(context, phase);
     director.startAsync(actorSchedulerRule.get()).join();
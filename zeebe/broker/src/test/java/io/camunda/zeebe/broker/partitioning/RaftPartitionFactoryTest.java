@@ -167,6 +167,20 @@ public final class RaftPartitionFactoryTest {
     assertThat(partition.getPartitionConfig().getMaxAppendsPerFollower()).isEqualTo(expected);
   }
 
+  @Test
+  void shouldSetMaxSnapshotChunksInFlight() {
+    // given
+    final int expected = 4;
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxSnapshotChunksInFlight(expected);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxSnapshotChunksInFlight()).isEqualTo(expected);
+  }
+
   @Test
   void shouldEnablePriorityElection() {
     // given
@@ -222,6 +236,65 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetPrimitiveJournalIndex(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setPrimitiveJournalIndex(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isPrimitiveJournalIndex())
+        .isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetPersistSegmentIndex(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setPersistSegmentIndex(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isPersistSegmentIndex())
+        .isEqualTo(value);
+  }
+
+  @Test
+  void shouldSetPreparedSegments() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setPreparedSegments(3);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().getPreparedSegments())
+        .isEqualTo(3);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetRecycleSegments(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setRecycleSegments(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isRecycleSegments())
+        .isEqualTo(value);
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
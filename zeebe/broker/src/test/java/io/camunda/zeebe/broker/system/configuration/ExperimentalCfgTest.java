@@ -181,4 +181,17 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetSnapshotChecksumThreadsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.snapshotChecksumThreads", "8");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getSnapshotChecksumThreads()).isEqualTo(8);
+  }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+final class ExportingCfgTest {
+
+  @Test
+  void shouldExportRecordsOneByOneByDefault() {
+    // given
+    final var cfg = new ExportingCfg();
+
+    // when
+    final int batchSize = cfg.getBatchSize();
+
+    // then
+    assertThat(batchSize).isOne();
+  }
+
+  @Test
+  void shouldSetBatchSizeFromEnvironment() {
+    // given
+    final var environment = Collections.singletonMap("zeebe.broker.exporting.batchSize", "100");
+    final var cfg = TestConfigReader.readConfig("empty", environment).getExporting();
+
+    // when
+    final int batchSize = cfg.getBatchSize();
+
+    // then
+    assertThat(batchSize).isEqualTo(100);
+  }
+
+  @Test
+  void shouldRejectInvalidBatchSize() {
+    // given
+    final var environment = Collections.singletonMap("zeebe.broker.exporting.batchSize", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("batchSize must be >= 1");
+  }
+}
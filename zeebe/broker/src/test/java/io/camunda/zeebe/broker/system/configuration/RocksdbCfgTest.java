@@ -77,6 +77,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.isColumnFamilyGroupingEnabled()).isFalse();
   }
 
   @Test
@@ -95,6 +96,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.isStatisticsEnabled()).isTrue();
     assertThat(rocksDbConfiguration.getMemoryLimit()).isEqualTo(DataSize.ofMegabytes(32).toBytes());
     assertThat(rocksDbConfiguration.getMaxOpenFiles()).isEqualTo(3);
+    assertThat(rocksDbConfiguration.isColumnFamilyGroupingEnabled()).isTrue();
   }
 
   @Test
@@ -285,4 +287,17 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldEnableColumnFamilyGroupingViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.enableColumnFamilyGrouping", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.isEnableColumnFamilyGrouping()).isTrue();
+  }
 }
@@ -23,8 +23,12 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  // 0 bounds the process cache by the number of processes only
+  public static final long DEFAULT_PROCESS_CACHE_MAX_BYTES = 0;
+  public static final int DEFAULT_VARIABLE_DOCUMENT_CACHE_CAPACITY = 1000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final int DEFAULT_DEADLINES_BUDGET_PER_RUN = Integer.MAX_VALUE;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
 
@@ -33,10 +37,14 @@ public final class EngineConfiguration {
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private long processCacheMaxBytes = DEFAULT_PROCESS_CACHE_MAX_BYTES;
+  private int variableDocumentCacheCapacity = DEFAULT_VARIABLE_DOCUMENT_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
 
+  private int deadlinesBudgetPerRun = DEFAULT_DEADLINES_BUDGET_PER_RUN;
+
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
 
   private boolean enableAuthorization = DEFAULT_ENABLE_AUTHORIZATION_CHECKS;
@@ -88,6 +96,25 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public long getProcessCacheMaxBytes() {
+    return processCacheMaxBytes;
+  }
+
+  public EngineConfiguration setProcessCacheMaxBytes(final long processCacheMaxBytes) {
+    this.processCacheMaxBytes = processCacheMaxBytes;
+    return this;
+  }
+
+  public int getVariableDocumentCacheCapacity() {
+    return variableDocumentCacheCapacity;
+  }
+
+  public EngineConfiguration setVariableDocumentCacheCapacity(
+      final int variableDocumentCacheCapacity) {
+    this.variableDocumentCacheCapacity = variableDocumentCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -108,6 +135,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getDeadlinesBudgetPerRun() {
+    return deadlinesBudgetPerRun;
+  }
+
+  public EngineConfiguration setDeadlinesBudgetPerRun(final int deadlinesBudgetPerRun) {
+    this.deadlinesBudgetPerRun = deadlinesBudgetPerRun;
+    return this;
+  }
+
   public int getValidatorsResultsOutputMaxSize() {
     return validatorsResultsOutputMaxSize;
   }
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class DeadlineSchedulerMetrics {
+
+  private static final Histogram LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("deadline_lag")
+          .help("Time between the due date of deadlines and when they are handled (in seconds)")
+          .buckets(.1, .25, .5, 1, 2.5, 5, 10, 30, 60, 300)
+          .labelNames("partition", "kind")
+          .register();
+
+  private static final Counter BUDGET_EXHAUSTED =
+      Counter.build()
+          .namespace("zeebe")
+          .name("deadline_budget_exhausted_total")
+          .help("Number of deadline scheduler runs which used up their budget")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+  private final Counter.Child budgetExhausted;
+
+  public DeadlineSchedulerMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+    budgetExhausted = BUDGET_EXHAUSTED.labels(partitionIdLabel);
+  }
+
+  public void observeLag(final DeadlineKind kind, final long lagMillis) {
+    LAG.labels(partitionIdLabel, kind.name()).observe(Math.max(0, lagMillis) / 1000d);
+  }
+
+  public void countBudgetExhausted() {
+    budgetExhausted.inc();
+  }
+}
@@ -20,6 +20,16 @@ public final class JobMetrics {
           .labelNames("action", "partition", "type", "job_kind")
           .register();
 
+  private static final Counter JOB_VARIABLES_CACHE =
+      Counter.build()
+          .namespace("zeebe")
+          .name("job_activation_variables_cache_total")
+          .help(
+              "Number of variable scope lookups when activating job batches, by whether they were"
+                  + " served from the per-batch cache or read from the state")
+          .labelNames("result", "partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public JobMetrics(final int partitionId) {
@@ -66,8 +76,18 @@ public final class JobMetrics {
     jobEvent("pushed", type, jobKind);
   }
 
+  public void jobVariablesCacheAccessed(final int hits, final int misses) {
+    if (hits > 0) {
+      JOB_VARIABLES_CACHE.labels("hit", partitionIdLabel).inc(hits);
+    }
+    if (misses > 0) {
+      JOB_VARIABLES_CACHE.labels("miss", partitionIdLabel).inc(misses);
+    }
+  }
+
   /** Clears the metrics counter. You probably only want to use this during testing. */
   static void clear() {
     JOB_EVENTS.clear();
+    JOB_VARIABLES_CACHE.clear();
   }
 }
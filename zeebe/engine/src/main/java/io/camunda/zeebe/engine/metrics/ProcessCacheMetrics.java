@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class ProcessCacheMetrics {
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("process_cache_evictions_total")
+          .help("Number of deployed processes evicted from the process cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("process_cache_size")
+          .help("Number of deployed processes currently cached")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge ESTIMATED_SIZE_BYTES =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("process_cache_estimated_size_bytes")
+          .help("Estimated memory footprint of the deployed processes currently cached")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child evictions;
+  private final Gauge.Child size;
+  private final Gauge.Child estimatedSizeBytes;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    evictions = EVICTIONS.labels(partitionIdLabel);
+    size = SIZE.labels(partitionIdLabel);
+    estimatedSizeBytes = ESTIMATED_SIZE_BYTES.labels(partitionIdLabel);
+  }
+
+  public void processEvicted() {
+    evictions.inc();
+  }
+
+  public void processAdded(final long estimatedBytes) {
+    size.inc();
+    estimatedSizeBytes.inc(estimatedBytes);
+  }
+
+  public void processRemoved(final long estimatedBytes) {
+    size.dec();
+    estimatedSizeBytes.dec(estimatedBytes);
+  }
+}
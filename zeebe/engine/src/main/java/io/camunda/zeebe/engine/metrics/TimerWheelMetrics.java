@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.time.Duration;
+
+public final class TimerWheelMetrics {
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("timer_wheel_size")
+          .help("Number of timers currently tracked by the in-memory timer wheel")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram TRIGGER_LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("timer_trigger_lag")
+          .help("Time between the due date of a timer and when it is triggered (in seconds)")
+          .buckets(.1, .25, .5, 1, 2.5, 5, 10, 30, 60, 300)
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge REBUILD_DURATION =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("timer_wheel_rebuild_duration")
+          .help("Time it took to rebuild the timer wheel from the state on recovery (in seconds)")
+          .labelNames("partition")
+          .register();
+
+  private final Gauge.Child size;
+  private final Histogram.Child triggerLag;
+  private final Gauge.Child rebuildDuration;
+
+  public TimerWheelMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    size = SIZE.labels(partitionIdLabel);
+    triggerLag = TRIGGER_LAG.labels(partitionIdLabel);
+    rebuildDuration = REBUILD_DURATION.labels(partitionIdLabel);
+  }
+
+  public void setSize(final int timerCount) {
+    size.set(timerCount);
+  }
+
+  public void observeTriggerLag(final long lagMillis) {
+    triggerLag.observe(Math.max(0, lagMillis) / 1000d);
+  }
+
+  public void setRebuildDuration(final Duration duration) {
+    rebuildDuration.set(duration.toNanos() / 1_000_000_000d);
+  }
+}
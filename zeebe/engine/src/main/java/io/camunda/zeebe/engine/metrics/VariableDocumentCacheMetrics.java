@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class VariableDocumentCacheMetrics {
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("variable_document_cache_lookups_total")
+          .help("Number of variable document cache lookups, by whether the document was cached")
+          .labelNames("result", "partition")
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("variable_document_cache_size")
+          .help("Number of variable documents currently cached")
+          .labelNames("partition")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Gauge.Child size;
+
+  public VariableDocumentCacheMetrics(final int partitionId) {
+    final var partitionIdLabel = String.valueOf(partitionId);
+    hits = LOOKUPS.labels("hit", partitionIdLabel);
+    misses = LOOKUPS.labels("miss", partitionIdLabel);
+    size = SIZE.labels(partitionIdLabel);
+  }
+
+  public void cacheHit() {
+    hits.inc();
+  }
+
+  public void cacheMiss() {
+    misses.inc();
+  }
+
+  public void setCacheSize(final int cacheSize) {
+    size.set(cacheSize);
+  }
+}
@@ -28,7 +28,6 @@ import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceModific
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
-import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker;
 import io.camunda.zeebe.engine.processing.timer.TimerCancelProcessor;
 import io.camunda.zeebe.engine.processing.timer.TimerTriggerProcessor;
 import io.camunda.zeebe.engine.processing.variable.VariableDocumentUpdateProcessor;
@@ -62,7 +61,6 @@ public final class BpmnProcessors {
       final BpmnBehaviors bpmnBehaviors,
       final TypedRecordProcessors typedRecordProcessors,
       final SubscriptionCommandSender subscriptionCommandSender,
-      final DueDateTimerChecker timerChecker,
       final Writers writers,
       final CommandDistributionBehavior commandDistributionBehavior,
       final int partitionId,
@@ -92,8 +90,7 @@ public final class BpmnProcessors {
         scheduledTaskState,
         writers,
         clock);
-    addTimerStreamProcessors(
-        typedRecordProcessors, timerChecker, processingState, bpmnBehaviors, writers);
+    addTimerStreamProcessors(typedRecordProcessors, processingState, bpmnBehaviors, writers);
     addVariableDocumentStreamProcessors(
         typedRecordProcessors,
         bpmnBehaviors,
@@ -185,7 +182,6 @@ public final class BpmnProcessors {
 
   private static void addTimerStreamProcessors(
       final TypedRecordProcessors typedRecordProcessors,
-      final DueDateTimerChecker timerChecker,
       final MutableProcessingState processingState,
       final BpmnBehaviors bpmnBehaviors,
       final Writers writers) {
@@ -198,8 +194,7 @@ public final class BpmnProcessors {
             ValueType.TIMER,
             TimerIntent.CANCEL,
             new TimerCancelProcessor(
-                processingState.getTimerState(), writers.state(), writers.rejection()))
-        .withListener(timerChecker);
+                processingState.getTimerState(), writers.state(), writers.rejection()));
   }
 
   private static void addVariableDocumentStreamProcessors(
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.protocol.record.intent.DeploymentIntent.CREATE;
 
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.DeadlineSchedulerMetrics;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
@@ -41,6 +42,7 @@ import io.camunda.zeebe.engine.processing.job.JobEventProcessors;
 import io.camunda.zeebe.engine.processing.message.MessageEventProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.resource.ResourceDeletionDeleteProcessor;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
 import io.camunda.zeebe.engine.processing.signal.SignalBroadcastProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
@@ -100,9 +102,21 @@ public final class EngineProcessors {
     final int partitionId = typedRecordProcessorContext.getPartitionId();
     final var config = typedRecordProcessorContext.getConfig();
 
+    final var deadlineScheduler =
+        new DeadlineScheduler(
+            config.getDeadlinesBudgetPerRun(),
+            featureFlags.enableTimerDueDateCheckerAsync()
+                || featureFlags.enableMessageTTLCheckerAsync(),
+            new DeadlineSchedulerMetrics(partitionId),
+            clock);
+    typedRecordProcessors.withListener(deadlineScheduler);
+
     final DueDateTimerChecker timerChecker =
         new DueDateTimerChecker(
-            scheduledTaskStateFactory.get().getTimerState(), featureFlags, clock);
+            deadlineScheduler,
+            scheduledTaskStateFactory.get().getTimerState(),
+            featureFlags,
+            clock);
 
     final var jobMetrics = new JobMetrics(partitionId);
     final var processEngineMetrics = new ProcessEngineMetrics(processingState.getPartitionId());
@@ -161,7 +175,7 @@ public final class EngineProcessors {
         typedRecordProcessors,
         writers,
         config,
-        featureFlags,
+        deadlineScheduler,
         commandDistributionBehavior,
         clock,
         authCheckBehavior);
@@ -174,7 +188,6 @@ public final class EngineProcessors {
             typedRecordProcessors,
             subscriptionCommandSender,
             writers,
-            timerChecker,
             commandDistributionBehavior,
             partitionId,
             routingInfo,
@@ -194,7 +207,8 @@ public final class EngineProcessors {
         jobMetrics,
         config,
         clock,
-        authCheckBehavior);
+        authCheckBehavior,
+        deadlineScheduler);
 
     addIncidentProcessors(
         processingState,
@@ -323,7 +337,6 @@ public final class EngineProcessors {
       final TypedRecordProcessors typedRecordProcessors,
       final SubscriptionCommandSender subscriptionCommandSender,
       final Writers writers,
-      final DueDateTimerChecker timerChecker,
       final CommandDistributionBehavior commandDistributionBehavior,
       final int partitionId,
       final RoutingInfo routingInfo,
@@ -336,7 +349,6 @@ public final class EngineProcessors {
         bpmnBehaviors,
         typedRecordProcessors,
         subscriptionCommandSender,
-        timerChecker,
         writers,
         commandDistributionBehavior,
         partitionId,
@@ -431,7 +443,7 @@ public final class EngineProcessors {
       final TypedRecordProcessors typedRecordProcessors,
       final Writers writers,
       final EngineConfiguration config,
-      final FeatureFlags featureFlags,
+      final DeadlineScheduler deadlineScheduler,
       final CommandDistributionBehavior commandDistributionBehavior,
       final InstantSource clock,
       final AuthorizationCheckBehavior authCheckBehavior) {
@@ -443,7 +455,7 @@ public final class EngineProcessors {
         subscriptionCommandSender,
         writers,
         config,
-        featureFlags,
+        deadlineScheduler,
         commandDistributionBehavior,
         clock,
         authCheckBehavior);
@@ -7,60 +7,37 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
-import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
-import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
-import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import java.time.Duration;
 import java.time.InstantSource;
 
-public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
+public final class JobBackoffChecker {
 
   static final long BACKOFF_RESOLUTION = Duration.ofMillis(100).toMillis();
 
-  private final DueDateChecker backOffDueDateChecker;
-
-  public JobBackoffChecker(final InstantSource clock, final JobState jobState) {
-    backOffDueDateChecker =
-        new DueDateChecker(
-            BACKOFF_RESOLUTION,
-            false,
-            taskResultBuilder ->
-                jobState.findBackedOffJobs(
-                    clock.millis(),
-                    (key, record) ->
-                        taskResultBuilder.appendCommandRecord(
-                            key, JobIntent.RECUR_AFTER_BACKOFF, record)),
-            clock);
+  private final DeadlineScheduler deadlineScheduler;
+
+  public JobBackoffChecker(
+      final DeadlineScheduler deadlineScheduler,
+      final InstantSource clock,
+      final JobState jobState) {
+    this.deadlineScheduler = deadlineScheduler;
+    deadlineScheduler.register(
+        DeadlineKind.JOB_BACKOFF,
+        Duration.ZERO,
+        (taskResultBuilder, budget) ->
+            jobState.findBackedOffJobs(
+                clock.millis(),
+                (key, record) ->
+                    budget.tryAcquire()
+                        && taskResultBuilder.appendCommandRecord(
+                            key, JobIntent.RECUR_AFTER_BACKOFF, record)));
   }
 
   public void scheduleBackOff(final long dueDate) {
-    backOffDueDateChecker.schedule(dueDate);
-  }
-
-  @Override
-  public void onRecovered(final ReadonlyStreamProcessorContext context) {
-    backOffDueDateChecker.onRecovered(context);
-  }
-
-  @Override
-  public void onClose() {
-    backOffDueDateChecker.onClose();
-  }
-
-  @Override
-  public void onFailed() {
-    backOffDueDateChecker.onFailed();
-  }
-
-  @Override
-  public void onPaused() {
-    backOffDueDateChecker.onPaused();
-  }
-
-  @Override
-  public void onResumed() {
-    backOffDueDateChecker.onResumed();
+    deadlineScheduler.schedule(DeadlineKind.JOB_BACKOFF, dueDate);
   }
 }
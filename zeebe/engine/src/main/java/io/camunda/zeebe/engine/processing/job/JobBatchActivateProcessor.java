@@ -61,7 +61,8 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     rejectionWriter = writers.rejection();
     responseWriter = writers.response();
     jobBatchCollector =
-        new JobBatchCollector(state, stateWriter::canWriteEventOfLength, authCheckBehavior);
+        new JobBatchCollector(
+            state, stateWriter::canWriteEventOfLength, authCheckBehavior, jobMetrics);
 
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
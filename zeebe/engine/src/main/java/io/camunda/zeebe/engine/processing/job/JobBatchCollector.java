@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.processing.job;
 import static io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior.WILDCARD_PERMISSION;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior.AuthorizationRequest;
 import io.camunda.zeebe.engine.state.immutable.JobState;
@@ -48,6 +49,8 @@ final class JobBatchCollector {
 
   private final JobState jobState;
   private final JobVariablesCollector jobVariablesCollector;
+  private final ScopeVariablesCache scopeVariablesCache;
+  private final JobMetrics jobMetrics;
   private final AuthorizationCheckBehavior authCheckBehavior;
   private final Predicate<Integer> canWriteEventOfLength;
 
@@ -56,15 +59,19 @@ final class JobBatchCollector {
    *     TypedRecord} containing the {@link JobBatchRecord} will be writable or not. The predicate
    *     takes in the size of the record, and should return true if it can write such a record, and
    *     false otherwise
+   * @param jobMetrics used to report how effective the per-batch variables cache is
    */
   JobBatchCollector(
       final ProcessingState state,
       final Predicate<Integer> canWriteEventOfLength,
-      final AuthorizationCheckBehavior authCheckBehavior) {
+      final AuthorizationCheckBehavior authCheckBehavior,
+      final JobMetrics jobMetrics) {
     jobState = state.getJobState();
     this.canWriteEventOfLength = canWriteEventOfLength;
     jobVariablesCollector = new JobVariablesCollector(state);
+    scopeVariablesCache = new ScopeVariablesCache(state.getVariableState());
     this.authCheckBehavior = authCheckBehavior;
+    this.jobMetrics = jobMetrics;
   }
 
   /**
@@ -100,6 +107,8 @@ final class JobBatchCollector {
                 AuthorizationResourceType.PROCESS_DEFINITION,
                 PermissionType.UPDATE_PROCESS_INSTANCE));
 
+    // jobs activated together often share scopes, so each scope's variables are read only once
+    scopeVariablesCache.reset(requestedVariables);
     jobState.forEachActivatableJobs(
         value.getTypeBuffer(),
         tenantIds,
@@ -113,7 +122,8 @@ final class JobBatchCollector {
           // adding it to the batch
           final var deadline = record.getTimestamp() + value.getTimeout();
           jobRecord.setDeadline(deadline).setWorker(value.getWorkerBuffer());
-          jobVariablesCollector.setJobVariables(requestedVariables, jobRecord);
+          jobVariablesCollector.setJobVariables(
+              requestedVariables, jobRecord, scopeVariablesCache);
 
           // the expected length is based on the current record's length plus the length of the job
           // record we would add to the batch, the number of bytes taken by the additional job key,
@@ -145,6 +155,9 @@ final class JobBatchCollector {
           return activatedCount.value < maxActivatedCount;
         });
 
+    jobMetrics.jobVariablesCacheAccessed(
+        scopeVariablesCache.hits(), scopeVariablesCache.misses());
+
     if (unwritableJob.ref != null) {
       return Either.left(unwritableJob.ref);
     }
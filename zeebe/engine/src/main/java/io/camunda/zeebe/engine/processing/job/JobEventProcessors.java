@@ -12,6 +12,8 @@ import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.common.EventHandle;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
@@ -33,7 +35,8 @@ public final class JobEventProcessors {
       final JobMetrics jobMetrics,
       final EngineConfiguration config,
       final InstantSource clock,
-      final AuthorizationCheckBehavior authCheckBehavior) {
+      final AuthorizationCheckBehavior authCheckBehavior,
+      final DeadlineScheduler deadlineScheduler) {
 
     final var keyGenerator = processingState.getKeyGenerator();
 
@@ -46,8 +49,15 @@ public final class JobEventProcessors {
             bpmnBehaviors.eventTriggerBehavior(),
             bpmnBehaviors.stateBehavior());
 
-    final var jobBackoffChecker =
-        new JobBackoffChecker(clock, scheduledTaskStateFactory.get().getJobState());
+    final var jobState = scheduledTaskStateFactory.get().getJobState();
+    final var jobBackoffChecker = new JobBackoffChecker(deadlineScheduler, clock, jobState);
+    final var pollingInterval = config.getJobsTimeoutCheckerPollingInterval();
+    deadlineScheduler.register(
+        DeadlineKind.JOB_TIMEOUT,
+        pollingInterval,
+        new JobTimeoutChecker(
+            jobState, pollingInterval, config.getJobsTimeoutCheckerBatchLimit(), clock));
+
     typedRecordProcessors
         .onCommand(
             ValueType.JOB,
@@ -109,13 +119,6 @@ public final class JobEventProcessors {
                 processingState,
                 processingState.getKeyGenerator(),
                 jobMetrics,
-                authCheckBehavior))
-        .withListener(
-            new JobTimeoutCheckerScheduler(
-                scheduledTaskStateFactory.get().getJobState(),
-                config.getJobsTimeoutCheckerPollingInterval(),
-                config.getJobsTimeoutCheckerBatchLimit(),
-                clock))
-        .withListener(jobBackoffChecker);
+                authCheckBehavior));
   }
 }
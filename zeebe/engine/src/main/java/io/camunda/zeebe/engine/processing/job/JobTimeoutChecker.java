@@ -7,12 +7,11 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineBudget;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineHandler;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
-import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
-import io.camunda.zeebe.stream.api.scheduling.Task;
-import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
@@ -20,11 +19,14 @@ import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-final class JobTimeoutChecker implements Task {
+/**
+ * Looks for jobs with an expired deadline, and writes a TIME_OUT command for each of them. It is
+ * run by the {@link io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler} every polling
+ * interval, or again as soon as possible if it couldn't handle all expired deadlines in one run.
+ */
+final class JobTimeoutChecker implements DeadlineHandler {
   private static final Logger LOG = LoggerFactory.getLogger(JobTimeoutChecker.class);
 
-  private boolean shouldReschedule = false;
-
   /** Keeps track of the timestamp to compare the message deadlines against. */
   private long executionTimestamp = -1;
 
@@ -32,7 +34,6 @@ final class JobTimeoutChecker implements Task {
   private DeadlineIndex startAtIndex = null;
 
   private final JobState state;
-  private ReadonlyStreamProcessorContext processingContext;
   private final Duration pollingInterval;
   private final int batchLimit;
   private final InstantSource clock;
@@ -48,14 +49,8 @@ final class JobTimeoutChecker implements Task {
     this.clock = clock;
   }
 
-  public void schedule(final Duration idleInterval) {
-    if (shouldReschedule) {
-      processingContext.getScheduleService().runAt(clock.millis() + idleInterval.toMillis(), this);
-    }
-  }
-
   @Override
-  public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
+  public long handle(final TaskResultBuilder taskResultBuilder, final DeadlineBudget budget) {
     LOG.trace("Job timeout checker running...");
     if (executionTimestamp == -1) {
       executionTimestamp = clock.millis();
@@ -68,35 +63,25 @@ final class JobTimeoutChecker implements Task {
             executionTimestamp,
             startAtIndex,
             (key, record) -> {
-              if (counter.getAndIncrement() >= batchLimit) {
+              if (counter.getAndIncrement() >= batchLimit || !budget.tryAcquire()) {
                 return false;
               }
 
               return taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record);
             });
 
+    LOG.trace("{} timeout job commands appended to task result builder", counter.get());
+
     if (lastVisitedIndex != null) {
       LOG.trace(
-          "Job timeout checker yielded early. Will reschedule immediately from {}",
+          "Job timeout checker yielded early. Will continue as soon as possible from {}",
           lastVisitedIndex);
       startAtIndex = lastVisitedIndex;
-      schedule(Duration.ZERO);
+      return clock.millis();
     } else {
       executionTimestamp = -1;
       startAtIndex = null;
-      schedule(pollingInterval);
+      return clock.millis() + pollingInterval.toMillis();
     }
-
-    LOG.trace("{} timeout job commands appended to task result builder", counter.get());
-
-    return taskResultBuilder.build();
-  }
-
-  public void setProcessingContext(final ReadonlyStreamProcessorContext processingContext) {
-    this.processingContext = processingContext;
-  }
-
-  public void setShouldReschedule(final boolean shouldReschedule) {
-    this.shouldReschedule = shouldReschedule;
   }
 }
@@ -45,6 +45,31 @@ public class JobVariablesCollector {
           variableState.getVariablesAsDocument(elementInstanceKey, requestedVariables);
     }
 
+    setJobVariables(requestedVariables, jobRecord, processVariables);
+  }
+
+  /**
+   * Same as {@link #setJobVariables(Collection, JobRecord)}, but resolves the process variables
+   * through the given cache, which must have been reset with the same requested variables.
+   */
+  void setJobVariables(
+      final Collection<DirectBuffer> requestedVariables,
+      final JobRecord jobRecord,
+      final ScopeVariablesCache cache) {
+    final long elementInstanceKey = jobRecord.getElementInstanceKey();
+    final DirectBuffer processVariables =
+        elementInstanceKey < 0
+            ? DocumentValue.EMPTY_DOCUMENT
+            : cache.getVariablesAsDocument(elementInstanceKey);
+
+    setJobVariables(requestedVariables, jobRecord, processVariables);
+  }
+
+  private void setJobVariables(
+      final Collection<DirectBuffer> requestedVariables,
+      final JobRecord jobRecord,
+      final DirectBuffer processVariables) {
+    final long elementInstanceKey = jobRecord.getElementInstanceKey();
     final DirectBuffer jobVariables =
         switch (jobRecord.getJobKind()) {
           case BPMN_ELEMENT, EXECUTION_LISTENER -> processVariables;
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.immutable.VariableState.Variable;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A read-through cache of the variables visible from a scope, valid for a single job batch
+ * activation. Jobs activated together often share their parent scopes (e.g. the process instance),
+ * so instead of walking and serializing the whole scope hierarchy for every job, the variables of
+ * each scope are read at most once per batch and reused for all of its child scopes.
+ *
+ * <p>The cache must be {@link #reset(Collection) reset} before each batch, which also sets the
+ * requested variables; since these are fixed for a batch, cached entries only ever contain the
+ * requested variables. Variables are never modified while a batch is collected, so entries cannot
+ * become stale during the batch.
+ *
+ * <p>The documents returned by {@link #getVariablesAsDocument(long)} are not reused, and remain
+ * valid after the cache was reset.
+ */
+final class ScopeVariablesCache {
+
+  private final Long2ObjectHashMap<ScopeVariables> scopes = new Long2ObjectHashMap<>();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer documentBuffer = new ExpandableArrayBuffer();
+  private final VariableState variableState;
+
+  private Collection<DirectBuffer> requestedVariables;
+  private int hits;
+  private int misses;
+
+  ScopeVariablesCache(final VariableState variableState) {
+    this.variableState = variableState;
+  }
+
+  /**
+   * Clears the cache and the hit/miss counters.
+   *
+   * @param requestedVariables the names of the variables to collect, or an empty collection to
+   *     collect all variables
+   */
+  void reset(final Collection<DirectBuffer> requestedVariables) {
+    this.requestedVariables = requestedVariables;
+    scopes.clear();
+    hits = 0;
+    misses = 0;
+  }
+
+  /**
+   * Returns the requested variables visible from the given scope as a MsgPack document, with the
+   * same semantics as {@link VariableState#getVariablesAsDocument(long, Collection)}.
+   */
+  DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    final ScopeVariables variables = resolve(scopeKey);
+    if (variables.document == null) {
+      variables.document = serialize(variables.values);
+    }
+
+    return variables.document;
+  }
+
+  /**
+   * @return how many scope lookups were served from the cache since the last reset
+   */
+  int hits() {
+    return hits;
+  }
+
+  /**
+   * @return how many scope lookups had to be read from the state since the last reset
+   */
+  int misses() {
+    return misses;
+  }
+
+  private ScopeVariables resolve(final long scopeKey) {
+    final ScopeVariables cached = scopes.get(scopeKey);
+    if (cached != null) {
+      hits++;
+      return cached;
+    }
+
+    misses++;
+    final ScopeVariables variables = new ScopeVariables();
+    for (final Variable variable : variableState.getVariablesLocal(scopeKey)) {
+      if (isRequested(variable.name())) {
+        variables.values.put(variable.name(), variable.value());
+      }
+    }
+
+    // like the variable state, stop walking up the hierarchy once all requested variables are found
+    final boolean foundAll =
+        !requestedVariables.isEmpty() && variables.values.size() == requestedVariables.size();
+    final long parentScopeKey = variableState.getParentScopeKey(scopeKey);
+    if (!foundAll && parentScopeKey != VariableState.NO_PARENT) {
+      // local variables shadow the ones of the parent scopes
+      resolve(parentScopeKey).values.forEach(variables.values::putIfAbsent);
+    }
+
+    scopes.put(scopeKey, variables);
+    return variables;
+  }
+
+  private boolean isRequested(final DirectBuffer name) {
+    return requestedVariables.isEmpty() || requestedVariables.contains(name);
+  }
+
+  private DirectBuffer serialize(final Map<DirectBuffer, DirectBuffer> values) {
+    writer.wrap(documentBuffer, 0);
+    writer.writeMapHeader(values.size());
+    values.forEach(
+        (name, value) -> {
+          writer.writeString(name);
+          writer.writeRaw(value);
+        });
+
+    final byte[] document = new byte[writer.getOffset()];
+    documentBuffer.getBytes(0, document);
+    return new UnsafeBuffer(document);
+  }
+
+  private static final class ScopeVariables {
+    // keeps the same order in which the variable state would visit the variables
+    private final Map<DirectBuffer, DirectBuffer> values = new LinkedHashMap<>();
+    private DirectBuffer document;
+  }
+}
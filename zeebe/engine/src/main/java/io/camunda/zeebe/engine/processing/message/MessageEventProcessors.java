@@ -12,6 +12,8 @@ import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
@@ -27,7 +29,6 @@ import io.camunda.zeebe.protocol.record.intent.MessageCorrelationIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.protocol.record.intent.MessageSubscriptionIntent;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
-import io.camunda.zeebe.util.FeatureFlags;
 import java.time.InstantSource;
 import java.util.function.Supplier;
 
@@ -41,7 +42,7 @@ public final class MessageEventProcessors {
       final SubscriptionCommandSender subscriptionCommandSender,
       final Writers writers,
       final EngineConfiguration config,
-      final FeatureFlags featureFlags,
+      final DeadlineScheduler deadlineScheduler,
       final CommandDistributionBehavior commandDistributionBehavior,
       final InstantSource clock,
       final AuthorizationCheckBehavior authCheckBehavior) {
@@ -58,6 +59,15 @@ public final class MessageEventProcessors {
     final KeyGenerator keyGenerator = processingState.getKeyGenerator();
     final var processState = processingState.getProcessState();
 
+    deadlineScheduler.register(
+        DeadlineKind.MESSAGE_TTL,
+        config.getMessagesTtlCheckerInterval(),
+        new MessageTimeToLiveChecker(
+            config.getMessagesTtlCheckerInterval(),
+            config.getMessagesTtlCheckerBatchLimit(),
+            scheduledTaskStateFactory.get().getMessageState(),
+            clock));
+
     typedRecordProcessors
         .onCommand(
             ValueType.MESSAGE,
@@ -137,12 +147,7 @@ public final class MessageEventProcessors {
                 authCheckBehavior))
         .withListener(
             new MessageObserver(
-                scheduledTaskStateFactory,
                 scheduledTaskStateFactory.get().getPendingMessageSubscriptionState(),
-                subscriptionCommandSender,
-                config.getMessagesTtlCheckerInterval(),
-                config.getMessagesTtlCheckerBatchLimit(),
-                featureFlags.enableMessageTTLCheckerAsync(),
-                clock));
+                subscriptionCommandSender));
   }
 }
@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import io.camunda.zeebe.engine.metrics.DeadlineSchedulerMetrics;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules all deadline related work of a partition, i.e. triggering timers, recurring jobs after
+ * their backoff, timing out jobs and expiring messages, through a single scheduled execution.
+ *
+ * <p>The scheduler keeps track of the next due date of every {@link DeadlineKind kind}. A single
+ * {@link DueDateChecker} runs whenever the earliest of these due dates is reached, and then runs
+ * the handlers of all kinds which are due. All handlers of one run share a {@link DeadlineBudget},
+ * which limits the number of deadlines that are handled per run. A kind which is not finished when
+ * the budget is exhausted is continued in the next run, and the kinds take turns in which one may
+ * use the budget first, so that no kind can starve the others.
+ *
+ * <p>Handlers must be registered before the stream processor is recovered. Scheduling a due date is
+ * thread safe, and can be done from the processing actor while the scheduler runs asynchronously.
+ */
+public final class DeadlineScheduler implements StreamProcessorLifecycleAware {
+
+  static final long RESOLUTION = Duration.ofMillis(100).toMillis();
+
+  private final Map<DeadlineKind, Deadline> deadlines = new EnumMap<>(DeadlineKind.class);
+  private final DueDateChecker dueDateChecker;
+  private final int budgetPerRun;
+  private final DeadlineSchedulerMetrics metrics;
+  private final InstantSource clock;
+
+  // the kinds are run in order starting from this offset, which moves on with every run
+  private int firstKind;
+
+  /**
+   * @param budgetPerRun the maximum number of deadlines which all handlers may handle in one run
+   * @param scheduleAsync whether the handlers are run asynchronously to the processing
+   */
+  public DeadlineScheduler(
+      final int budgetPerRun,
+      final boolean scheduleAsync,
+      final DeadlineSchedulerMetrics metrics,
+      final InstantSource clock) {
+    this.budgetPerRun = budgetPerRun;
+    this.metrics = metrics;
+    this.clock = clock;
+    dueDateChecker = new DueDateChecker(RESOLUTION, scheduleAsync, this::run, clock);
+  }
+
+  /**
+   * Registers the handler of the given kind.
+   *
+   * @param initialDelay the delay after which the handler is run for the first time, once the
+   *     stream processor is recovered or resumed
+   */
+  public void register(
+      final DeadlineKind kind, final Duration initialDelay, final DeadlineHandler handler) {
+    if (deadlines.putIfAbsent(kind, new Deadline(handler, initialDelay.toMillis())) != null) {
+      throw new IllegalStateException(
+          "Expected to register one handler for deadlines of kind '%s', but found another one"
+              .formatted(kind));
+    }
+  }
+
+  /**
+   * Ensures that the handler of the given kind runs at or shortly after the given due date. Does
+   * nothing if it is already scheduled to run earlier.
+   */
+  public void schedule(final DeadlineKind kind, final long dueDate) {
+    deadlines.get(kind).merge(dueDate);
+    dueDateChecker.schedule(dueDate);
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    scheduleInitialDueDates();
+    dueDateChecker.onRecovered(context);
+  }
+
+  @Override
+  public void onClose() {
+    dueDateChecker.onClose();
+  }
+
+  @Override
+  public void onFailed() {
+    dueDateChecker.onFailed();
+  }
+
+  @Override
+  public void onPaused() {
+    dueDateChecker.onPaused();
+  }
+
+  @Override
+  public void onResumed() {
+    scheduleInitialDueDates();
+    dueDateChecker.onResumed();
+  }
+
+  /**
+   * Runs the handlers of all due kinds.
+   *
+   * @return the earliest next due date of all kinds, or {@code -1} if none is known
+   */
+  long run(final TaskResultBuilder taskResultBuilder) {
+    final var now = clock.millis();
+    final var budget = new DeadlineBudget(budgetPerRun);
+    final var kinds = deadlines.keySet().toArray(DeadlineKind[]::new);
+    long nextDueDate = -1;
+
+    for (int i = 0; i < kinds.length; i++) {
+      final var kind = kinds[(firstKind + i) % kinds.length];
+      final var deadline = deadlines.get(kind);
+      final var dueDate = deadline.nextDueDate.getAndSet(-1);
+
+      if (dueDate >= 0 && dueDate <= now && !budget.isExhausted()) {
+        metrics.observeLag(kind, now - dueDate);
+        deadline.merge(deadline.handler.handle(taskResultBuilder, budget));
+      } else {
+        deadline.merge(dueDate);
+      }
+
+      nextDueDate = earliest(nextDueDate, deadline.nextDueDate.get());
+    }
+
+    if (budget.isExhausted()) {
+      metrics.countBudgetExhausted();
+    }
+    firstKind = kinds.length == 0 ? 0 : (firstKind + 1) % kinds.length;
+    return nextDueDate;
+  }
+
+  private void scheduleInitialDueDates() {
+    final var now = clock.millis();
+    deadlines.values().forEach(deadline -> deadline.merge(now + deadline.initialDelay));
+  }
+
+  private static long earliest(final long dueDate, final long otherDueDate) {
+    if (dueDate < 0) {
+      return otherDueDate;
+    } else if (otherDueDate < 0) {
+      return dueDate;
+    } else {
+      return Math.min(dueDate, otherDueDate);
+    }
+  }
+
+  /** The kinds of deadlines which are handled by the scheduler. */
+  public enum DeadlineKind {
+    TIMER,
+    JOB_BACKOFF,
+    JOB_TIMEOUT,
+    MESSAGE_TTL
+  }
+
+  @FunctionalInterface
+  public interface DeadlineHandler {
+
+    /**
+     * Writes the commands for the deadlines which are due. For every deadline, a unit of the budget
+     * must be acquired first; once that is not possible anymore, the handler must stop.
+     *
+     * @return the next due date of this kind, which is in the past if the handler stopped before
+     *     all due deadlines were handled, or {@code -1} if there is none
+     */
+    long handle(TaskResultBuilder taskResultBuilder, DeadlineBudget budget);
+  }
+
+  /** The number of deadlines which can still be handled in the current run of the scheduler. */
+  public static final class DeadlineBudget {
+
+    private int remaining;
+
+    public DeadlineBudget(final int remaining) {
+      this.remaining = remaining;
+    }
+
+    /**
+     * @return {@code true} if a unit of the budget was acquired, or {@code false} if the budget is
+     *     exhausted
+     */
+    public boolean tryAcquire() {
+      if (remaining <= 0) {
+        return false;
+      }
+      remaining--;
+      return true;
+    }
+
+    public boolean isExhausted() {
+      return remaining <= 0;
+    }
+  }
+
+  private static final class Deadline {
+    private final DeadlineHandler handler;
+    private final long initialDelay;
+    private final AtomicLong nextDueDate = new AtomicLong(-1);
+
+    private Deadline(final DeadlineHandler handler, final long initialDelay) {
+      this.handler = handler;
+      this.initialDelay = initialDelay;
+    }
+
+    private void merge(final long dueDate) {
+      nextDueDate.accumulateAndGet(dueDate, DeadlineScheduler::earliest);
+    }
+  }
+}
@@ -7,70 +7,44 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
-import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineBudget;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineHandler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
 import io.camunda.zeebe.protocol.impl.record.value.timer.TimerRecord;
 import io.camunda.zeebe.protocol.record.intent.TimerIntent;
-import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
-import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import io.camunda.zeebe.util.FeatureFlags;
 import java.time.Duration;
 import java.time.InstantSource;
-import java.util.function.Function;
 
-public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
+public class DueDateTimerChecker {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
-  private final DueDateChecker dueDateChecker;
+  private final DeadlineScheduler deadlineScheduler;
 
   public DueDateTimerChecker(
+      final DeadlineScheduler deadlineScheduler,
       final TimerInstanceState timerInstanceState,
       final FeatureFlags featureFlags,
       final InstantSource clock) {
-    dueDateChecker =
-        new DueDateChecker(
-            TIMER_RESOLUTION,
-            featureFlags.enableTimerDueDateCheckerAsync(),
-            new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
-            clock);
+    this.deadlineScheduler = deadlineScheduler;
+    deadlineScheduler.register(
+        DeadlineKind.TIMER,
+        Duration.ZERO,
+        new TriggerTimersSideEffect(
+            timerInstanceState, clock, featureFlags.yieldingDueDateChecker()));
   }
 
   public void scheduleTimer(final long dueDate) {
-    dueDateChecker.schedule(dueDate);
+    deadlineScheduler.schedule(DeadlineKind.TIMER, dueDate);
   }
 
-  @Override
-  public void onRecovered(final ReadonlyStreamProcessorContext context) {
-    dueDateChecker.onRecovered(context);
-  }
-
-  @Override
-  public void onClose() {
-    dueDateChecker.onClose();
-  }
-
-  @Override
-  public void onFailed() {
-    dueDateChecker.onFailed();
-  }
-
-  @Override
-  public void onPaused() {
-    dueDateChecker.onPaused();
-  }
-
-  @Override
-  public void onResumed() {
-    dueDateChecker.onResumed();
-  }
-
-  protected static final class TriggerTimersSideEffect
-      implements Function<TaskResultBuilder, Long> {
+  protected static final class TriggerTimersSideEffect implements DeadlineHandler {
 
     private final InstantSource clock;
 
@@ -87,7 +61,7 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     }
 
     @Override
-    public Long apply(final TaskResultBuilder taskResultBuilder) {
+    public long handle(final TaskResultBuilder taskResultBuilder, final DeadlineBudget budget) {
       final var now = clock.millis();
 
       final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
@@ -96,9 +70,11 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
       if (yieldControl) {
         timerVisitor =
             new YieldingDecorator(
-                clock, yieldAfter, new WriteTriggerTimerCommandVisitor(taskResultBuilder));
+                clock,
+                yieldAfter,
+                new WriteTriggerTimerCommandVisitor(taskResultBuilder, budget));
       } else {
-        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
+        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder, budget);
       }
 
       return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
@@ -110,13 +86,20 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     private final TimerRecord timerRecord = new TimerRecord();
 
     private final TaskResultBuilder taskResultBuilder;
+    private final DeadlineBudget budget;
 
-    public WriteTriggerTimerCommandVisitor(final TaskResultBuilder taskResultBuilder) {
+    public WriteTriggerTimerCommandVisitor(
+        final TaskResultBuilder taskResultBuilder, final DeadlineBudget budget) {
       this.taskResultBuilder = taskResultBuilder;
+      this.budget = budget;
     }
 
     @Override
     public boolean visit(final TimerInstance timer) {
+      if (!budget.tryAcquire()) {
+        return false;
+      }
+
       timerRecord.reset();
       timerRecord
           .setElementInstanceKey(timer.getElementInstanceKey())
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state;
+
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyGrouping;
+import io.camunda.zeebe.db.impl.rocksdb.PhysicalColumnFamily;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+/**
+ * Groups the engine's column families by their access pattern, when column family grouping is
+ * enabled for the state database. Column families which are not listed here are stored in the
+ * default column family.
+ */
+public final class ZbColumnFamilyGroups {
+
+  public static final ColumnFamilyGrouping GROUPING =
+      ColumnFamilyGrouping.of(ZbColumnFamilies.class, ZbColumnFamilyGroups::physicalColumnFamily);
+
+  private ZbColumnFamilyGroups() {}
+
+  static PhysicalColumnFamily physicalColumnFamily(final ZbColumnFamilies columnFamily) {
+    return switch (columnFamily) {
+      // created and deleted again within the lifetime of a process instance
+      case ELEMENT_INSTANCE_PARENT_CHILD,
+          ELEMENT_INSTANCE_KEY,
+          ELEMENT_INSTANCE_CHILD_PARENT,
+          NUMBER_OF_TAKEN_SEQUENCE_FLOWS,
+          VARIABLES,
+          TEMPORARY_VARIABLE_STORE,
+          EVENT_SCOPE,
+          EVENT_TRIGGER,
+          AWAIT_WORKLOW_RESULT,
+          JOBS,
+          JOB_STATES,
+          JOB_DEADLINES,
+          JOB_ACTIVATABLE,
+          JOB_BACKOFF,
+          TIMERS,
+          TIMER_DUE_DATES,
+          MESSAGE_SUBSCRIPTION_BY_SENT_TIME,
+          PROCESS_SUBSCRIPTION_BY_SENT_TIME,
+          USER_TASKS,
+          USER_TASK_STATES,
+          USER_TASK_INTERMEDIATE_STATES ->
+          PhysicalColumnFamily.HOT;
+      // written once per deployment and only read afterwards
+      case DEPLOYMENT_RAW,
+          PROCESS_VERSION,
+          PROCESS_CACHE,
+          PROCESS_CACHE_BY_ID_AND_VERSION,
+          PROCESS_CACHE_DIGEST_BY_ID,
+          PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_DEPLOYMENT_KEY,
+          PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION_TAG,
+          DMN_DECISIONS,
+          DMN_DECISION_REQUIREMENTS,
+          DMN_LATEST_DECISION_BY_ID,
+          DMN_LATEST_DECISION_REQUIREMENTS_BY_ID,
+          DMN_DECISION_KEY_BY_DECISION_REQUIREMENTS_KEY,
+          DMN_DECISION_KEY_BY_DECISION_ID_AND_VERSION,
+          DMN_DECISION_REQUIREMENTS_KEY_BY_DECISION_REQUIREMENT_ID_AND_VERSION,
+          DMN_DECISION_KEY_BY_DECISION_ID_AND_DEPLOYMENT_KEY,
+          DMN_DECISION_KEY_BY_DECISION_ID_AND_VERSION_TAG,
+          FORMS,
+          FORM_VERSION,
+          FORM_BY_ID_AND_VERSION,
+          FORM_KEY_BY_FORM_ID_AND_DEPLOYMENT_KEY,
+          FORM_KEY_BY_FORM_ID_AND_VERSION_TAG,
+          MIGRATIONS_STATE ->
+          PhysicalColumnFamily.COLD;
+      default -> PhysicalColumnFamily.DEFAULT;
+    };
+  }
+}
@@ -9,8 +9,6 @@ package io.camunda.zeebe.engine.state.deployment;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -22,6 +20,7 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -51,11 +50,7 @@ public final class DbProcessState implements MutableProcessState {
 
   private final BpmnTransformer transformer;
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
-  private final Cache<TenantIdAndProcessIdAndVersion, DeployedProcess>
-      processesByTenantAndProcessIdAndVersionCache;
-  private final Cache<TenantIdAndProcessDefinitionKey, DeployedProcess> processByTenantAndKeyCache;
-  private final Cache<TenantIdAndProcessIdAndDeploymentKey, Long>
-      processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache;
+  private final DeployedProcessCache processCache;
 
   /** [tenant id | process definition key] => process */
   private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
@@ -113,7 +108,8 @@ public final class DbProcessState implements MutableProcessState {
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final EngineConfiguration config,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final int partitionId) {
     transformer = BpmnFactory.createTransformer(clock);
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
@@ -180,12 +176,7 @@ public final class DbProcessState implements MutableProcessState {
         new VersionManager(
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.PROCESS_VERSION, transactionContext);
 
-    processByTenantAndKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
-    processesByTenantAndProcessIdAndVersionCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
-    processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+    processCache = new DeployedProcessCache(config, new ProcessCacheMetrics(partitionId));
   }
 
   @Override
@@ -273,25 +264,8 @@ public final class DbProcessState implements MutableProcessState {
     processDefinitionKeyByProcessIdAndVersionTagColumnFamily.deleteIfExists(
         tenantAwareProcessIdAndVersionTagKey);
 
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(
-            processRecord.getTenantId(),
-            processRecord.getBpmnProcessIdBuffer(),
-            processRecord.getVersion());
-    processesByTenantAndProcessIdAndVersionCache.invalidate(tenantIdAndProcessIdAndVersion);
-
-    final var key =
-        new TenantIdAndProcessDefinitionKey(
-            processRecord.getTenantId(), processRecord.getProcessDefinitionKey());
-    processByTenantAndKeyCache.invalidate(key);
-
-    final var tenantIdAndProcessIdAndDeploymentKey =
-        new TenantIdAndProcessIdAndDeploymentKey(
-            processRecord.getTenantId(),
-            processRecord.getBpmnProcessIdBuffer(),
-            processRecord.getDeploymentKey());
-    processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.invalidate(
-        tenantIdAndProcessIdAndDeploymentKey);
+    // removes the process from all cached lookups
+    processCache.invalidate(processRecord.getTenantId(), processRecord.getProcessDefinitionKey());
 
     final long latestVersion =
         versionManager.getLatestResourceVersion(
@@ -356,9 +330,9 @@ public final class DbProcessState implements MutableProcessState {
                             persistedProcess.getKey())));
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
+    processCache.put(deployedProcess);
 
-    addProcessToInMemoryState(deployedProcess);
-
+    // return the process directly, it may have already been evicted again if it is large
     return deployedProcess;
   }
 
@@ -368,30 +342,12 @@ public final class DbProcessState implements MutableProcessState {
     }
   }
 
-  private void addProcessToInMemoryState(final DeployedProcess deployedProcess) {
-    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
-
-    final var key =
-        new TenantIdAndProcessDefinitionKey(
-            deployedProcess.getTenantId(), deployedProcess.getKey());
-    processByTenantAndKeyCache.put(key, deployedProcess);
-
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(
-            deployedProcess.getTenantId(), bpmnProcessId, deployedProcess.getVersion());
-
-    processesByTenantAndProcessIdAndVersionCache.put(
-        tenantIdAndProcessIdAndVersion, deployedProcess);
-  }
-
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(
       final DirectBuffer processIdBuffer, final String tenantId) {
     final long latestVersion = versionManager.getLatestResourceVersion(processIdBuffer, tenantId);
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, latestVersion);
     final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+        processCache.getByProcessIdAndVersion(tenantId, processIdBuffer, latestVersion);
 
     if (cachedProcess == null) {
       processId.wrapBuffer(processIdBuffer);
@@ -403,10 +359,7 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version, final String tenantId) {
-    final var tenantIdAndProcessIdAndVersion =
-        new TenantIdAndProcessIdAndVersion(tenantId, processId, version);
-    final var cachedProcess =
-        processesByTenantAndProcessIdAndVersionCache.getIfPresent(tenantIdAndProcessIdAndVersion);
+    final var cachedProcess = processCache.getByProcessIdAndVersion(tenantId, processId, version);
 
     if (cachedProcess == null) {
       return lookupPersistenceState(processId, version, tenantId);
@@ -433,27 +386,22 @@ public final class DbProcessState implements MutableProcessState {
   @Override
   public DeployedProcess getProcessByProcessIdAndDeploymentKey(
       final DirectBuffer processIdBuffer, final long deploymentKey, final String tenantId) {
-    final var tenantIdAndProcessIdAndDeploymentKey =
-        new TenantIdAndProcessIdAndDeploymentKey(tenantId, processIdBuffer, deploymentKey);
-    var cachedProcessDefinitionKey =
-        processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.getIfPresent(
-            tenantIdAndProcessIdAndDeploymentKey);
-
-    if (cachedProcessDefinitionKey == null) {
-      cachedProcessDefinitionKey =
-          lookupPersistenceStateForProcessDefinitionKey(processIdBuffer, deploymentKey, tenantId);
+    final var cachedProcess =
+        processCache.getByProcessIdAndDeploymentKey(tenantId, processIdBuffer, deploymentKey);
+    if (cachedProcess != null) {
+      return cachedProcess;
     }
 
-    return (cachedProcessDefinitionKey != null)
-        ? getProcessByKeyAndTenant(cachedProcessDefinitionKey, tenantId)
+    final var processDefinitionKey =
+        lookupPersistenceStateForProcessDefinitionKey(processIdBuffer, deploymentKey, tenantId);
+    return (processDefinitionKey != null)
+        ? getProcessByKeyAndTenant(processDefinitionKey, tenantId)
         : null;
   }
 
   @Override
   public DeployedProcess getProcessByKeyAndTenant(final long key, final String tenantId) {
-    final var tenantIdAndProcessDefinitionKey = new TenantIdAndProcessDefinitionKey(tenantId, key);
-    final DeployedProcess cachedProcess =
-        processByTenantAndKeyCache.getIfPresent(tenantIdAndProcessDefinitionKey);
+    final DeployedProcess cachedProcess = processCache.getByKey(tenantId, key);
 
     if (cachedProcess == null) {
       return lookupPersistenceStateForProcessByKey(key, tenantId);
@@ -515,9 +463,7 @@ public final class DbProcessState implements MutableProcessState {
 
   @Override
   public void clearCache() {
-    processByTenantAndKeyCache.invalidateAll();
-    processesByTenantAndProcessIdAndVersionCache.invalidateAll();
-    processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.invalidateAll();
+    processCache.clear();
     versionManager.clear();
   }
 
@@ -545,14 +491,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final var tenantIdAndProcessIdAndVersion =
-          new TenantIdAndProcessIdAndVersion(tenantId, processIdBuffer, version);
-
-      // return the cached copy
-      return processesByTenantAndProcessIdAndVersionCache.getIfPresent(
-          tenantIdAndProcessIdAndVersion);
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -566,10 +505,7 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess processWithKey =
         processColumnFamily.get(tenantAwareProcessDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      final var key = new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
-      return processByTenantAndKeyCache.getIfPresent(key);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -585,11 +521,7 @@ public final class DbProcessState implements MutableProcessState {
         processDefinitionKeyByProcessIdAndDeploymentKeyColumnFamily.get(
             tenantAwareProcessIdAndDeploymentKey);
     if (foreignKey != null) {
-      final var processDefinitionKey = foreignKey.inner().wrappedKey().getValue();
-      processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache.put(
-          new TenantIdAndProcessIdAndDeploymentKey(tenantId, processIdBuffer, deploymentKey),
-          processDefinitionKey);
-      return processDefinitionKey;
+      return foreignKey.inner().wrappedKey().getValue();
     }
     // does not exist in persistence and in memory state
     return null;
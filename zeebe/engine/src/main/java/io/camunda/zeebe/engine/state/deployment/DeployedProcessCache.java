@@ -0,0 +1,174 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState.TenantIdAndProcessDefinitionKey;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState.TenantIdAndProcessIdAndDeploymentKey;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState.TenantIdAndProcessIdAndVersion;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+
+/**
+ * Caches the deployed processes by their key. The lookups by process id and version, or by process
+ * id and deployment key, are secondary indexes which point to the primary entry, so every process
+ * is held at most once and is evicted from all lookups at the same time.
+ *
+ * <p>By default, the cache is bounded by the number of processes. If a byte budget is configured,
+ * the cache is instead bounded by the estimated memory footprint of the processes, as a large
+ * process takes up a lot more memory than a small one once it is parsed and transformed.
+ *
+ * <p>The cache is not thread-safe, and must only be accessed by the stream processor.
+ */
+final class DeployedProcessCache {
+
+  /** A rough estimate of the memory taken up by a single transformed flow element. */
+  static final int ESTIMATED_FLOW_ELEMENT_SIZE = 2 * 1024;
+
+  private final Cache<TenantIdAndProcessDefinitionKey, DeployedProcess> processesByKey;
+  private final Map<TenantIdAndProcessIdAndVersion, TenantIdAndProcessDefinitionKey>
+      keysByProcessIdAndVersion = new HashMap<>();
+  private final Map<TenantIdAndProcessIdAndDeploymentKey, TenantIdAndProcessDefinitionKey>
+      keysByProcessIdAndDeploymentKey = new HashMap<>();
+  private final ProcessCacheMetrics metrics;
+
+  DeployedProcessCache(final EngineConfiguration config, final ProcessCacheMetrics metrics) {
+    this.metrics = metrics;
+
+    final var builder =
+        CacheBuilder.newBuilder()
+            .<TenantIdAndProcessDefinitionKey, DeployedProcess>removalListener(this::onRemoval);
+    final long maxBytes = config.getProcessCacheMaxBytes();
+    if (maxBytes > 0) {
+      // a single segment, as otherwise the budget is split between segments and a large process
+      // could evict all others of its segment
+      builder
+          .concurrencyLevel(1)
+          .maximumWeight(maxBytes)
+          .weigher(
+              (final TenantIdAndProcessDefinitionKey key, final DeployedProcess process) ->
+                  estimateSize(process));
+    } else {
+      builder.maximumSize(config.getProcessCacheCapacity());
+    }
+    processesByKey = builder.build();
+  }
+
+  DeployedProcess getByKey(final String tenantId, final long processDefinitionKey) {
+    return processesByKey.getIfPresent(
+        new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey));
+  }
+
+  DeployedProcess getByProcessIdAndVersion(
+      final String tenantId, final DirectBuffer processId, final long version) {
+    return getBySecondaryKey(
+        keysByProcessIdAndVersion,
+        new TenantIdAndProcessIdAndVersion(tenantId, processId, version));
+  }
+
+  DeployedProcess getByProcessIdAndDeploymentKey(
+      final String tenantId, final DirectBuffer processId, final long deploymentKey) {
+    return getBySecondaryKey(
+        keysByProcessIdAndDeploymentKey,
+        new TenantIdAndProcessIdAndDeploymentKey(tenantId, processId, deploymentKey));
+  }
+
+  void put(final DeployedProcess process) {
+    final var key = new TenantIdAndProcessDefinitionKey(process.getTenantId(), process.getKey());
+
+    // register the secondary keys first, the put may immediately evict the process again
+    keysByProcessIdAndVersion.put(toProcessIdAndVersion(process), key);
+    if (hasDeploymentKey(process)) {
+      keysByProcessIdAndDeploymentKey.put(toProcessIdAndDeploymentKey(process), key);
+    }
+
+    processesByKey.put(key, process);
+    metrics.processAdded(estimateSize(process));
+  }
+
+  void invalidate(final String tenantId, final long processDefinitionKey) {
+    processesByKey.invalidate(new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey));
+  }
+
+  void clear() {
+    processesByKey.invalidateAll();
+    keysByProcessIdAndVersion.clear();
+    keysByProcessIdAndDeploymentKey.clear();
+  }
+
+  long size() {
+    return processesByKey.size();
+  }
+
+  private <K> DeployedProcess getBySecondaryKey(
+      final Map<K, TenantIdAndProcessDefinitionKey> index, final K secondaryKey) {
+    final var key = index.get(secondaryKey);
+    if (key == null) {
+      return null;
+    }
+
+    final var process = processesByKey.getIfPresent(key);
+    if (process == null) {
+      // the process was evicted, but the removal was not yet observed
+      index.remove(secondaryKey, key);
+    }
+    return process;
+  }
+
+  private void onRemoval(
+      final RemovalNotification<TenantIdAndProcessDefinitionKey, DeployedProcess> notification) {
+    final var key = notification.getKey();
+    final var process = notification.getValue();
+    if (process == null) {
+      return;
+    }
+
+    metrics.processRemoved(estimateSize(process));
+    if (notification.wasEvicted()) {
+      metrics.processEvicted();
+    }
+
+    // a replaced process is registered under the same secondary keys again
+    if (notification.getCause() != RemovalCause.REPLACED) {
+      keysByProcessIdAndVersion.remove(toProcessIdAndVersion(process), key);
+      if (hasDeploymentKey(process)) {
+        keysByProcessIdAndDeploymentKey.remove(toProcessIdAndDeploymentKey(process), key);
+      }
+    }
+  }
+
+  private static TenantIdAndProcessIdAndVersion toProcessIdAndVersion(
+      final DeployedProcess process) {
+    return new TenantIdAndProcessIdAndVersion(
+        process.getTenantId(), process.getBpmnProcessId(), process.getVersion());
+  }
+
+  private static TenantIdAndProcessIdAndDeploymentKey toProcessIdAndDeploymentKey(
+      final DeployedProcess process) {
+    return new TenantIdAndProcessIdAndDeploymentKey(
+        process.getTenantId(), process.getBpmnProcessId(), process.getDeploymentKey());
+  }
+
+  private static boolean hasDeploymentKey(final DeployedProcess process) {
+    // processes deployed before 8.6 have no deployment key
+    return process.getDeploymentKey() > 0;
+  }
+
+  static int estimateSize(final DeployedProcess process) {
+    final long size =
+        process.getResource().capacity()
+            + (long) process.getProcess().getFlowElements().size() * ESTIMATED_FLOW_ELEMENT_SIZE;
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+}
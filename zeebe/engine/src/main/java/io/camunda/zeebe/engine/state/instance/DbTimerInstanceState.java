@@ -9,6 +9,7 @@ package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbForeignKey;
@@ -17,9 +18,14 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
-public final class DbTimerInstanceState implements MutableTimerInstanceState {
+public final class DbTimerInstanceState
+    implements MutableTimerInstanceState, StreamProcessorLifecycleAware {
 
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
@@ -35,10 +41,17 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  private final TimerWheel timerWheel;
+  private final PendingTimerWheelChanges pendingChanges = new PendingTimerWheelChanges();
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerWheel timerWheel) {
+    this.timerWheel = timerWheel;
+    transactionContext.addTransactionListener(pendingChanges);
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -62,8 +75,22 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    timerWheel.rebuild(
+        wheel ->
+            dueDateColumnFamily.forEach(
+                (key, nil) ->
+                    wheel.add(
+                        key.first().getValue(),
+                        key.second().first().inner().getValue(),
+                        key.second().second().getValue())));
+  }
+
   @Override
   public void store(final TimerInstance timer) {
+    pendingChanges.add(true, timer);
+
     timerKey.wrapLong(timer.getKey());
     elementInstanceKey.inner().wrapLong(timer.getElementInstanceKey());
 
@@ -75,6 +102,8 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public void remove(final TimerInstance timer) {
+    pendingChanges.add(false, timer);
+
     elementInstanceKey.inner().wrapLong(timer.getElementInstanceKey());
     timerKey.wrapLong(timer.getKey());
     timerInstanceColumnFamily.deleteExisting(elementAndTimerKey);
@@ -92,6 +121,16 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (timerWheel.isLoaded()) {
+      return timerWheel.processDueTimers(
+          timestamp,
+          entry -> {
+            final var timerInstance = get(entry.elementInstanceKey(), entry.timerKey());
+            // the timer may have been removed since it was collected from the wheel, see below
+            return timerInstance == null || consumer.visit(timerInstance);
+          });
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -141,4 +180,42 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  /**
+   * Collects the changes to the timers of the current transaction, and applies them to the timer
+   * wheel once it is committed. Before the wheel is loaded, nothing is collected, as it's rebuilt
+   * from the state on recovery anyway.
+   */
+  private final class PendingTimerWheelChanges implements TransactionListener {
+
+    private final List<TimerWheelChange> changes = new ArrayList<>();
+
+    private void add(final boolean added, final TimerInstance timer) {
+      if (timerWheel.isLoaded()) {
+        changes.add(
+            new TimerWheelChange(
+                added, timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey()));
+      }
+    }
+
+    @Override
+    public void onCommit() {
+      for (final var change : changes) {
+        if (change.added()) {
+          timerWheel.add(change.dueDate(), change.elementInstanceKey(), change.timerKey());
+        } else {
+          timerWheel.remove(change.dueDate(), change.elementInstanceKey(), change.timerKey());
+        }
+      }
+      changes.clear();
+    }
+
+    @Override
+    public void onRollback() {
+      changes.clear();
+    }
+  }
+
+  private record TimerWheelChange(
+      boolean added, long dueDate, long elementInstanceKey, long timerKey) {}
 }
@@ -0,0 +1,292 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.engine.metrics.TimerWheelMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * An in-memory index of the due dates of all timers, which allows {@link DbTimerInstanceState} to
+ * find the due timers without iterating over the due date column family on every check.
+ *
+ * <p>The index is a hierarchical timer wheel, with time divided into ticks of {@link #TICK_MILLIS}:
+ *
+ * <ul>
+ *   <li>the wheel has one slot per tick, and contains the timers which are due in the window of
+ *       the current tick or in the window after it, where a window is {@link #WINDOW_TICKS} ticks
+ *   <li>the overflow level contains the timers which are due later, grouped by window; whenever
+ *       the wheel moves into a new window, the next overflow window is cascaded into the wheel
+ *   <li>timers of ticks which the wheel has passed are expired, and are kept until they are removed
+ * </ul>
+ *
+ * Every timer is moved at most twice, so finding the due timers on a check is proportional to the
+ * number of due timers and the elapsed ticks, but not to the total number of timers. Timers are
+ * visited in the same order as in the due date column family.
+ *
+ * <p>The wheel only reflects committed state: {@link DbTimerInstanceState} applies its changes when
+ * the transaction is committed. It is rebuilt from the state on recovery, and only used once it is
+ * loaded. This class is thread safe, as it's shared by the processing and the scheduled task state.
+ */
+public final class TimerWheel {
+
+  static final long TICK_MILLIS = 100;
+  static final int WINDOW_TICKS = 512;
+
+  private static final int WINDOW_SHIFT = Integer.numberOfTrailingZeros(WINDOW_TICKS);
+  private static final int WHEEL_SLOTS = 2 * WINDOW_TICKS;
+  private static final int SLOT_MASK = WHEEL_SLOTS - 1;
+
+  private final TimerWheelMetrics metrics;
+  private final NavigableSet<TimerEntry> expired = newBucket();
+  private final NavigableSet<TimerEntry>[] wheel = newWheel();
+  private final NavigableMap<Long, NavigableSet<TimerEntry>> overflow = new TreeMap<>();
+
+  // the first tick which has not been passed yet; timers of earlier ticks are expired
+  private long cursor;
+  private int size;
+  private boolean loaded;
+
+  public TimerWheel(final TimerWheelMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * Replaces all timers of the wheel with the timers added by the given loader, and marks the
+   * wheel as loaded.
+   */
+  public synchronized void rebuild(final Consumer<TimerWheel> loader) {
+    final long startTime = System.nanoTime();
+    expired.clear();
+    for (final var slot : wheel) {
+      slot.clear();
+    }
+    overflow.clear();
+    size = 0;
+
+    loader.accept(this);
+    loaded = true;
+
+    metrics.setSize(size);
+    metrics.setRebuildDuration(Duration.ofNanos(System.nanoTime() - startTime));
+  }
+
+  public synchronized boolean isLoaded() {
+    return loaded;
+  }
+
+  public synchronized void add(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    if (bucketOf(dueDate, true).add(new TimerEntry(dueDate, elementInstanceKey, timerKey))) {
+      metrics.setSize(++size);
+    }
+  }
+
+  public synchronized void remove(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    final var bucket = bucketOf(dueDate, false);
+    if (bucket != null && bucket.remove(new TimerEntry(dueDate, elementInstanceKey, timerKey))) {
+      if (bucket.isEmpty() && bucket != expired && !isInWheel(tickOf(dueDate))) {
+        overflow.remove(windowOf(tickOf(dueDate)));
+      }
+      metrics.setSize(--size);
+    }
+  }
+
+  /**
+   * Presents the timers with a due date before or equal to the given timestamp to the visitor, in
+   * order of their due date.
+   *
+   * <p>The due timers are collected under the lock, but visited outside of it, such that the
+   * processing can add and remove timers while the visitor is busy. A visited timer may thus have
+   * been removed already, which the visitor has to check against the state.
+   *
+   * @return the due date of the first timer which was not visited or not consumed, or {@code -1}
+   *     if there is none
+   */
+  long processDueTimers(final long timestamp, final TimerEntryVisitor visitor) {
+    for (final var entry : collectDueTimers(timestamp)) {
+      if (!visitor.visit(entry)) {
+        return entry.dueDate;
+      }
+
+      if (!entry.triggered) {
+        entry.triggered = true;
+        metrics.observeTriggerLag(timestamp - entry.dueDate);
+      }
+    }
+
+    return nextDueDateAfter(timestamp);
+  }
+
+  synchronized int size() {
+    return size;
+  }
+
+  /** Returns the timers with a due date before or equal to the given timestamp, in order. */
+  private synchronized List<TimerEntry> collectDueTimers(final long timestamp) {
+    advanceTo(tickOf(timestamp) + 1);
+
+    final List<TimerEntry> dueTimers = new ArrayList<>();
+    for (final var entry : expired) {
+      if (entry.dueDate > timestamp) {
+        break;
+      }
+      dueTimers.add(entry);
+    }
+    return dueTimers;
+  }
+
+  /** Returns the due date of the first timer after the given timestamp, or {@code -1}. */
+  private synchronized long nextDueDateAfter(final long timestamp) {
+    // the expired bucket only has timers after the timestamp if the clock went backwards
+    final var firstExpired = expired.higher(new TimerEntry(timestamp, -1L, -1L));
+    return firstExpired != null ? firstExpired.dueDate : nextDueDate();
+  }
+
+  /** Passes all ticks before the given one, i.e. moves their timers into the expired bucket. */
+  private void advanceTo(final long tick) {
+    if (tick <= cursor) {
+      // the clock may go backwards, but the wheel never does
+      return;
+    }
+
+    final long passedTicks = Math.min(tick - cursor, WHEEL_SLOTS);
+    for (long passed = 0; passed < passedTicks; passed++) {
+      final var slot = wheel[slotOf(cursor + passed)];
+      if (!slot.isEmpty()) {
+        expired.addAll(slot);
+        slot.clear();
+      }
+    }
+    cursor = tick;
+
+    // cascade the overflow windows which are now covered by the wheel
+    final long lastWheelWindow = windowOf(cursor) + 1;
+    while (!overflow.isEmpty() && overflow.firstKey() <= lastWheelWindow) {
+      for (final var entry : overflow.pollFirstEntry().getValue()) {
+        bucketOf(entry.dueDate, true).add(entry);
+      }
+    }
+  }
+
+  private long nextDueDate() {
+    final long wheelEnd = (windowOf(cursor) + 2) << WINDOW_SHIFT;
+    for (long tick = cursor; tick < wheelEnd; tick++) {
+      final var slot = wheel[slotOf(tick)];
+      if (!slot.isEmpty()) {
+        return slot.first().dueDate;
+      }
+    }
+
+    if (!overflow.isEmpty()) {
+      return overflow.firstEntry().getValue().first().dueDate;
+    }
+
+    return -1L;
+  }
+
+  private NavigableSet<TimerEntry> bucketOf(final long dueDate, final boolean create) {
+    final long tick = tickOf(dueDate);
+    if (tick < cursor) {
+      return expired;
+    } else if (isInWheel(tick)) {
+      return wheel[slotOf(tick)];
+    } else if (create) {
+      return overflow.computeIfAbsent(windowOf(tick), window -> newBucket());
+    } else {
+      return overflow.get(windowOf(tick));
+    }
+  }
+
+  private boolean isInWheel(final long tick) {
+    return tick >= cursor && windowOf(tick) <= windowOf(cursor) + 1;
+  }
+
+  private static long tickOf(final long dueDate) {
+    return Math.floorDiv(dueDate, TICK_MILLIS);
+  }
+
+  private static long windowOf(final long tick) {
+    return tick >> WINDOW_SHIFT;
+  }
+
+  private static int slotOf(final long tick) {
+    return (int) (tick & SLOT_MASK);
+  }
+
+  private static NavigableSet<TimerEntry> newBucket() {
+    return new TreeSet<>(TimerWheel::compare);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static NavigableSet<TimerEntry>[] newWheel() {
+    final NavigableSet<TimerEntry>[] slots = new NavigableSet[WHEEL_SLOTS];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = newBucket();
+    }
+    return slots;
+  }
+
+  /**
+   * Orders the timers like the keys of the due date column family, which are compared by their
+   * unsigned big endian bytes.
+   */
+  private static int compare(final TimerEntry first, final TimerEntry second) {
+    int result = Long.compareUnsigned(first.dueDate, second.dueDate);
+    if (result == 0) {
+      result = Long.compareUnsigned(first.elementInstanceKey, second.elementInstanceKey);
+    }
+    if (result == 0) {
+      result = Long.compareUnsigned(first.timerKey, second.timerKey);
+    }
+    return result;
+  }
+
+  static final class TimerEntry {
+    private final long dueDate;
+    private final long elementInstanceKey;
+    private final long timerKey;
+    // whether the timer was consumed by a check before, to observe the trigger lag only once
+    private volatile boolean triggered;
+
+    private TimerEntry(final long dueDate, final long elementInstanceKey, final long timerKey) {
+      this.dueDate = dueDate;
+      this.elementInstanceKey = elementInstanceKey;
+      this.timerKey = timerKey;
+    }
+
+    long dueDate() {
+      return dueDate;
+    }
+
+    long elementInstanceKey() {
+      return elementInstanceKey;
+    }
+
+    long timerKey() {
+      return timerKey;
+    }
+  }
+
+  @FunctionalInterface
+  interface TimerEntryVisitor {
+
+    /**
+     * @return {@code true} if the timer was processed, or {@code false} if the timer could not be
+     *     processed and needs to be revisited later on
+     */
+    boolean visit(TimerEntry timer);
+  }
+}
@@ -86,7 +86,8 @@ public final class StateQueryService implements QueryService {
               },
               new TransientPendingSubscriptionState(),
               new TransientPendingSubscriptionState(),
-              new EngineConfiguration(),
+              // variables are changed through another context, which would not invalidate the cache
+              new EngineConfiguration().setVariableDocumentCacheCapacity(0),
               clock);
     }
   }
@@ -13,6 +13,8 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.VariableDocumentCacheMetrics;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -27,6 +29,7 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -55,9 +58,15 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private final LongArrayList visitedScopes = new LongArrayList();
+
+  private final VariableDocumentCache documentCache;
 
   public DbVariableState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final EngineConfiguration config,
+      final int partitionId) {
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -75,6 +84,12 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKeyVariableNameKey,
             new VariableInstance());
+
+    documentCache =
+        new VariableDocumentCache(
+            config.getVariableDocumentCacheCapacity(),
+            new VariableDocumentCacheMetrics(partitionId));
+    transactionContext.addTransactionListener(documentCache);
   }
 
   @Override
@@ -100,6 +115,8 @@ public class DbVariableState implements MutableVariableState {
       final int valueOffset,
       final int valueLength) {
 
+    documentCache.invalidate(scopeKey);
+
     newVariable.reset();
     newVariable.setValue(value, valueOffset, valueLength);
     newVariable.setKey(key);
@@ -113,6 +130,8 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void createScope(final long childKey, final long parentKey) {
+    documentCache.invalidate(childKey);
+
     this.childKey.wrapLong(childKey);
     this.parentKey.set(parentKey);
 
@@ -121,6 +140,7 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeScope(final long scopeKey) {
+    documentCache.invalidate(scopeKey);
     this.scopeKey.wrapLong(scopeKey);
 
     removeAllVariables(scopeKey);
@@ -132,6 +152,7 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public void removeAllVariables(final long scopeKey) {
+    documentCache.invalidate(scopeKey);
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
@@ -194,6 +215,10 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    final DirectBuffer cachedDocument = documentCache.get(scopeKey);
+    if (cachedDocument != null) {
+      return cachedDocument;
+    }
 
     collectedVariables.clear();
     writer.wrap(documentResultBuffer, 0);
@@ -218,6 +243,7 @@ public class DbVariableState implements MutableVariableState {
     writer.writeReservedMapHeader(0, collectedVariables.size());
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    documentCache.put(scopeKey, resultView, visitedScopes);
     return resultView;
   }
 
@@ -318,7 +344,7 @@ public class DbVariableState implements MutableVariableState {
 
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
-   * the scope hierarchy.
+   * the scope hierarchy. The visited scopes are collected in {@link #visitedScopes}.
    */
   private void visitVariables(
       final long scopeKey,
@@ -326,9 +352,11 @@ public class DbVariableState implements MutableVariableState {
       final BiConsumer<DbString, VariableInstance> variableConsumer,
       final BooleanSupplier completionCondition) {
     long currentScope = scopeKey;
+    visitedScopes.clear();
 
     boolean completed;
     do {
+      visitedScopes.addLong(currentScope);
       completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
 
       currentScope = getParentScopeKey(currentScope);
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.engine.metrics.VariableDocumentCacheMetrics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * A bounded LRU cache of the documents returned by {@link
+ * DbVariableState#getVariablesAsDocument(long)}, i.e. of all variables visible from a scope.
+ *
+ * <p>Every document is tracked together with the scopes it was collected from, such that changing
+ * the variables of a scope (or its parent) invalidates exactly the documents which may contain
+ * them. As documents may be collected from uncommitted changes, the whole cache is cleared when a
+ * transaction which changed variables is rolled back.
+ *
+ * <p>Large documents are not cached, as they would quickly take up a lot of memory, and reading
+ * them is dominated by copying anyway.
+ */
+final class VariableDocumentCache implements TransactionListener {
+
+  static final int MAX_DOCUMENT_SIZE = 32 * 1024;
+
+  private final int capacity;
+  private final VariableDocumentCacheMetrics metrics;
+  private final Map<Long, CachedDocument> documents;
+  // (scope key) => (keys of the cached documents which contain variables of that scope)
+  private final Long2ObjectHashMap<LongHashSet> dependentDocuments = new Long2ObjectHashMap<>();
+
+  private boolean hasUncommittedChanges;
+
+  VariableDocumentCache(final int capacity, final VariableDocumentCacheMetrics metrics) {
+    this.capacity = capacity;
+    this.metrics = metrics;
+    documents =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Long, CachedDocument> eldest) {
+            final boolean evict = size() > VariableDocumentCache.this.capacity;
+            if (evict) {
+              unlink(eldest.getKey(), eldest.getValue());
+            }
+            return evict;
+          }
+        };
+  }
+
+  /**
+   * @return the cached document of all variables visible from the given scope, or null if it is
+   *     not cached
+   */
+  DirectBuffer get(final long scopeKey) {
+    if (capacity <= 0) {
+      return null;
+    }
+
+    final CachedDocument cached = documents.get(scopeKey);
+    if (cached == null) {
+      metrics.cacheMiss();
+      return null;
+    }
+
+    metrics.cacheHit();
+    return cached.document();
+  }
+
+  /**
+   * Caches a copy of the given document.
+   *
+   * @param scopeKey the scope from which the document was collected
+   * @param document the document of all variables visible from the scope
+   * @param scopes all scopes the document was collected from, i.e. the scope and its ancestors
+   */
+  void put(final long scopeKey, final DirectBuffer document, final LongArrayList scopes) {
+    if (capacity <= 0 || document.capacity() > MAX_DOCUMENT_SIZE) {
+      return;
+    }
+
+    final var cached = new CachedDocument(BufferUtil.cloneBuffer(document), scopes.toLongArray());
+    final CachedDocument replaced = documents.put(scopeKey, cached);
+    if (replaced != null) {
+      unlink(scopeKey, replaced);
+    }
+
+    for (final long scope : cached.scopes()) {
+      dependentDocuments.computeIfAbsent(scope, ignored -> new LongHashSet()).add(scopeKey);
+    }
+    metrics.setCacheSize(documents.size());
+  }
+
+  /**
+   * Invalidates all documents which contain variables of the given scope. Must be called before the
+   * variables of the scope are changed, or the scope is linked to another parent.
+   */
+  void invalidate(final long scopeKey) {
+    hasUncommittedChanges = true;
+
+    final LongHashSet dependents = dependentDocuments.remove(scopeKey);
+    if (dependents == null) {
+      return;
+    }
+
+    for (final var iterator = dependents.iterator(); iterator.hasNext(); ) {
+      final long dependent = iterator.nextValue();
+      final CachedDocument removed = documents.remove(dependent);
+      if (removed != null) {
+        unlink(dependent, removed);
+      }
+    }
+    metrics.setCacheSize(documents.size());
+  }
+
+  @Override
+  public void onCommit() {
+    hasUncommittedChanges = false;
+  }
+
+  @Override
+  public void onRollback() {
+    if (hasUncommittedChanges) {
+      documents.clear();
+      dependentDocuments.clear();
+      metrics.setCacheSize(0);
+    }
+
+    hasUncommittedChanges = false;
+  }
+
+  int size() {
+    return documents.size();
+  }
+
+  private void unlink(final long scopeKey, final CachedDocument document) {
+    for (final long scope : document.scopes()) {
+      final LongHashSet dependents = dependentDocuments.get(scope);
+      if (dependents != null) {
+        dependents.remove(scopeKey);
+        if (dependents.isEmpty()) {
+          dependentDocuments.remove(scope);
+        }
+      }
+    }
+  }
+
+  private record CachedDocument(DirectBuffer document, long[] scopes) {}
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.perf;
 
 import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.Record;
@@ -28,6 +29,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -47,6 +49,13 @@ public class EngineLargeStatePerformanceTest {
   public static final Logger LOG =
       LoggerFactory.getLogger(EngineLargeStatePerformanceTest.class.getName());
 
+  /**
+   * The state storage; the in-memory storage serves as baseline for the CPU costs of the engine,
+   * without any RocksDB overhead
+   */
+  @Param({"rocksdb", "in-memory"})
+  public String storage;
+
   private long count;
   private ProcessInstanceClient processInstanceClient;
   private TestEngine.TestContext testContext;
@@ -56,7 +65,11 @@ public class EngineLargeStatePerformanceTest {
   public void setup() throws Throwable {
     testContext = createTestContext();
 
-    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+    final var zeebeDbFactory =
+        "in-memory".equals(storage)
+            ? DefaultZeebeDbFactory.inMemoryFactory()
+            : DefaultZeebeDbFactory.defaultFactory();
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext, zeebeDbFactory);
 
     setupState(singlePartitionEngine);
   }
@@ -138,7 +151,8 @@ public class EngineLargeStatePerformanceTest {
     final var referenceScore = 1000;
 
     // when
-    final var assertResult = testCase.run();
+    final var assertResult =
+        testCase.withOptions(options -> options.param("storage", "rocksdb")).run();
 
     // then
     assertResult.isAtLeast(referenceScore, 0.25);
@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.MockTypedRecord;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Activates large batches of jobs which all share the same parent scope, e.g. the jobs of a
+ * multi-instance service task, where the bulk of the variables is defined on the process instance.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JobBatchCollectorPerformanceTest {
+  private static final String JOB_TYPE = "job";
+  private static final int JOB_COUNT = 500;
+  private static final int PARENT_VARIABLES_COUNT = 50;
+
+  private Path tempFolder;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessingState state;
+  private JobBatchCollector collector;
+
+  @Setup
+  public void setup() throws Exception {
+    tempFolder = Files.createTempDirectory(null);
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempFolder.toFile());
+    final var transactionContext = zeebeDb.createContext();
+    state =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+    collector =
+        new JobBatchCollector(
+            state,
+            length -> true,
+            new AuthorizationCheckBehavior(
+                state.getAuthorizationState(), state.getUserState(), new EngineConfiguration()),
+            new JobMetrics(Protocol.DEPLOYMENT_PARTITION));
+
+    final var variableState = state.getVariableState();
+    final long processInstanceKey = state.getKeyGenerator().nextKey();
+    final DirectBuffer value = MsgPackUtil.encodeMsgPack(b -> b.packString("x".repeat(256)));
+    for (int i = 0; i < PARENT_VARIABLES_COUNT; i++) {
+      variableState.setVariableLocal(
+          processInstanceKey,
+          processInstanceKey,
+          processInstanceKey,
+          BufferUtil.wrapString("var" + i),
+          value);
+    }
+
+    for (int i = 0; i < JOB_COUNT; i++) {
+      final long elementInstanceKey = state.getKeyGenerator().nextKey();
+      variableState.createScope(elementInstanceKey, processInstanceKey);
+      variableState.setVariableLocal(
+          elementInstanceKey,
+          elementInstanceKey,
+          processInstanceKey,
+          BufferUtil.wrapString("item"),
+          MsgPackUtil.encodeMsgPack(b -> b.packInt(0)));
+
+      final var job =
+          new JobRecord()
+              .setBpmnProcessId("process")
+              .setElementId("task")
+              .setElementInstanceKey(elementInstanceKey)
+              .setProcessInstanceKey(processInstanceKey)
+              .setType(JOB_TYPE)
+              .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+      state.getJobState().create(state.getKeyGenerator().nextKey(), job);
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(tempFolder);
+  }
+
+  @Benchmark
+  public JobBatchRecord measureBatchActivation() {
+    final var batch =
+        new JobBatchRecord()
+            .setTimeout(Duration.ofSeconds(10).toMillis())
+            .setMaxJobsToActivate(JOB_COUNT)
+            .setType(JOB_TYPE)
+            .setWorker("test")
+            .setTenantIds(List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER));
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.COMMAND)
+            .intent(JobBatchIntent.ACTIVATE)
+            .valueType(ValueType.JOB_BATCH);
+
+    collector.collectJobs(new MockTypedRecord<>(1, metadata, batch));
+    return batch;
+  }
+}
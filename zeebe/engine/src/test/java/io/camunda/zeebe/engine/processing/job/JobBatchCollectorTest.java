@@ -10,8 +10,10 @@ package io.camunda.zeebe.engine.processing.job;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
 import io.camunda.zeebe.engine.processing.job.JobBatchCollector.TooLargeJob;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.MockTypedRecord;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
@@ -61,7 +63,9 @@ final class JobBatchCollectorTest {
     final var authorizationCheckBehavior =
         new AuthorizationCheckBehavior(
             state.getAuthorizationState(), state.getUserState(), new EngineConfiguration());
-    collector = new JobBatchCollector(state, lengthEvaluator, authorizationCheckBehavior);
+    collector =
+        new JobBatchCollector(
+            state, lengthEvaluator, authorizationCheckBehavior, new JobMetrics(1));
   }
 
   @Test
@@ -254,6 +258,91 @@ final class JobBatchCollectorTest {
             });
   }
 
+  @Test
+  void shouldCollectVariablesOfSharedParentScopes() {
+    // given - two jobs whose scopes share a parent, one of them shadowing a parent variable
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(parentScopeKey, VariableState.NO_PARENT);
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "parent", "bar", "parent"));
+    setVariables(firstScopeKey, Map.of("foo", "first"));
+    createJob(firstScopeKey);
+    createJob(secondScopeKey);
+    createJob(secondScopeKey);
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              assertThat(activatedJobs).hasSize(3);
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("foo", "first", "bar", "parent"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("foo", "parent", "bar", "parent"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(2))
+                  .hasVariables(Map.of("foo", "parent", "bar", "parent"));
+            });
+  }
+
+  @Test
+  void shouldFetchOnlyRequestedVariablesOfSharedParentScopes() {
+    // given
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    final long parentScopeKey = state.getKeyGenerator().nextKey();
+    final long firstScopeKey = state.getKeyGenerator().nextKey();
+    final long secondScopeKey = state.getKeyGenerator().nextKey();
+    state.getVariableState().createScope(parentScopeKey, VariableState.NO_PARENT);
+    state.getVariableState().createScope(firstScopeKey, parentScopeKey);
+    state.getVariableState().createScope(secondScopeKey, parentScopeKey);
+    setVariables(parentScopeKey, Map.of("foo", "parent", "bar", "parent"));
+    setVariables(firstScopeKey, Map.of("foo", "first", "baz", "first"));
+    createJob(firstScopeKey);
+    createJob(secondScopeKey);
+    record.getValue().variables().add().wrap(BufferUtil.wrapString("foo"));
+    record.getValue().variables().add().wrap(BufferUtil.wrapString("bar"));
+
+    // when
+    collector.collectJobs(record);
+
+    // then
+    final JobBatchRecord batchRecord = record.getValue();
+    JobBatchRecordValueAssert.assertThat(batchRecord)
+        .satisfies(
+            batch -> {
+              final List<JobRecordValue> activatedJobs = batch.getJobs();
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(0))
+                  .hasVariables(Map.of("foo", "first", "bar", "parent"));
+              RecordValueWithVariablesAssert.assertThat(activatedJobs.get(1))
+                  .hasVariables(Map.of("foo", "parent", "bar", "parent"));
+            });
+  }
+
+  @Test
+  void shouldNotReuseVariablesAcrossBatches() {
+    // given
+    final long scopeKey = state.getKeyGenerator().nextKey();
+    createJobWithVariables(scopeKey, Map.of("foo", "bar"));
+    collector.collectJobs(createRecord());
+
+    // when
+    setVariables(scopeKey, Map.of("foo", "baz"));
+    final TypedRecord<JobBatchRecord> record = createRecord();
+    collector.collectJobs(record);
+
+    // then
+    RecordValueWithVariablesAssert.assertThat(record.getValue().getJobs().getFirst())
+        .hasVariables(Map.of("foo", "baz"));
+  }
+
   /**
    * This is specifically a regression test for #5525. It's possible for this test to become
    * outdated if we ever change how records are serialized, variables packed, etc. But it's a
@@ -14,28 +14,21 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineBudget;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
-import io.camunda.zeebe.scheduler.clock.ActorClock;
-import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
-import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
-import io.camunda.zeebe.stream.api.scheduling.Task;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
-import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
 
 public class JobTimeoutCheckerTest {
   public static final int NUMBER_OF_ACTIVE_JOBS = 10;
@@ -43,8 +36,6 @@ public class JobTimeoutCheckerTest {
 
   private MutableProcessingState processingState;
   private MutableJobState jobState;
-  private ReadonlyStreamProcessorContext mockContext;
-  private ProcessingScheduleService mockScheduleService;
   private TaskResultBuilder mockTaskResultBuilder;
 
   @Before
@@ -56,9 +47,6 @@ public class JobTimeoutCheckerTest {
       createAndActivateJobRecord(i, newJobRecord().setDeadline(i));
     }
 
-    mockContext = mock(ReadonlyStreamProcessorContext.class);
-    mockScheduleService = mock(ProcessingScheduleService.class);
-    when(mockContext.getScheduleService()).thenReturn(mockScheduleService);
     mockTaskResultBuilder = mock(TaskResultBuilder.class);
   }
 
@@ -80,107 +68,120 @@ public class JobTimeoutCheckerTest {
   }
 
   @Test
-  public void shouldRescheduleWithPollingIntervalAfterSuccessfulExecution() {
+  public void shouldRunAgainAfterPollingIntervalAfterSuccessfulExecution() {
     // Given
     when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
-    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
 
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = Integer.MAX_VALUE;
 
     final var task =
         new JobTimeoutChecker(jobState, pollingInterval, batchLimit, InstantSource.system());
-    task.setProcessingContext(mockContext);
-    task.setShouldReschedule(true);
 
     // When
-    task.execute(mockTaskResultBuilder);
+    final var startTime = System.currentTimeMillis();
+    final var nextDueDate = task.handle(mockTaskResultBuilder, unlimitedBudget());
 
     // then
     final var inOrder = inOrder(mockTaskResultBuilder);
     for (long i = 1; i <= NUMBER_OF_ACTIVE_JOBS; i++) {
       inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
     }
-    inOrder.verify(mockTaskResultBuilder).build();
     verifyNoMoreInteractions(mockTaskResultBuilder);
 
-    verify(mockScheduleService, times(1))
-        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
-    assertThat(timestampCaptor.getValue())
-        .isLessThanOrEqualTo(ActorClock.currentTimeMillis() + pollingInterval.toMillis());
+    assertThat(nextDueDate)
+        .isBetween(
+            startTime + pollingInterval.toMillis(),
+            System.currentTimeMillis() + pollingInterval.toMillis());
   }
 
   @Test
-  public void shouldRescheduleImmediatelyIfYieldedDueToBatchLimit() {
+  public void shouldRunAgainImmediatelyIfYieldedDueToBatchLimit() {
     // Given
     when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
-    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
 
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = 3;
 
     final var task =
         new JobTimeoutChecker(jobState, pollingInterval, batchLimit, InstantSource.system());
-    task.setProcessingContext(mockContext);
-    task.setShouldReschedule(true);
 
     // When
-    task.execute(mockTaskResultBuilder);
+    final var nextDueDate = task.handle(mockTaskResultBuilder, unlimitedBudget());
 
     // then
     final var inOrder = inOrder(mockTaskResultBuilder);
     for (long i = 1; i <= batchLimit; i++) {
       inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
     }
-    inOrder.verify(mockTaskResultBuilder).build();
     verifyNoMoreInteractions(mockTaskResultBuilder);
 
-    verify(mockScheduleService, times(1))
-        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
-    assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
+    assertThat(nextDueDate).isLessThanOrEqualTo(System.currentTimeMillis());
 
     /* TEST verify next execute will start where left off */
 
     // When
-    task.execute(mockTaskResultBuilder);
+    task.handle(mockTaskResultBuilder, unlimitedBudget());
 
     // then
     for (long i = batchLimit + 1; i <= 2 * batchLimit; i++) {
       inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
     }
-    inOrder.verify(mockTaskResultBuilder).build();
     verifyNoMoreInteractions(mockTaskResultBuilder);
   }
 
   @Test
-  public void shouldRescheduleImmediatelyIfFailedToAppendTimeoutCommand() {
+  public void shouldRunAgainImmediatelyIfFailedToAppendTimeoutCommand() {
     // Given
     when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any()))
         .thenReturn(true)
         .thenReturn(false);
-    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
 
     final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
     final int batchLimit = Integer.MAX_VALUE;
 
     final var task =
         new JobTimeoutChecker(jobState, pollingInterval, batchLimit, InstantSource.system());
-    task.setProcessingContext(mockContext);
-    task.setShouldReschedule(true);
 
     // When
-    task.execute(mockTaskResultBuilder);
+    final var nextDueDate = task.handle(mockTaskResultBuilder, unlimitedBudget());
 
     // then
     final var inOrder = inOrder(mockTaskResultBuilder);
 
     inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(1L), eq(TIME_OUT), any());
     inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(2L), eq(TIME_OUT), any());
-    inOrder.verify(mockTaskResultBuilder).build();
 
     verifyNoMoreInteractions(mockTaskResultBuilder);
-    verify(mockScheduleService, times(1))
-        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
-    assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
+    assertThat(nextDueDate).isLessThanOrEqualTo(System.currentTimeMillis());
+  }
+
+  @Test
+  public void shouldContinueWhereLeftOffIfBudgetIsExhausted() {
+    // Given
+    when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+    final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
+    final int batchLimit = Integer.MAX_VALUE;
+
+    final var task =
+        new JobTimeoutChecker(jobState, pollingInterval, batchLimit, InstantSource.system());
+
+    // When
+    final var nextDueDate = task.handle(mockTaskResultBuilder, new DeadlineBudget(4));
+    task.handle(mockTaskResultBuilder, unlimitedBudget());
+
+    // then
+    final var inOrder = inOrder(mockTaskResultBuilder);
+    for (long i = 1; i <= NUMBER_OF_ACTIVE_JOBS; i++) {
+      inOrder.verify(mockTaskResultBuilder).appendCommandRecord(eq(i), eq(TIME_OUT), any());
+    }
+    verifyNoMoreInteractions(mockTaskResultBuilder);
+
+    assertThat(nextDueDate).isLessThanOrEqualTo(System.currentTimeMillis());
+  }
+
+  private static DeadlineBudget unlimitedBudget() {
+    return new DeadlineBudget(Integer.MAX_VALUE);
   }
 }
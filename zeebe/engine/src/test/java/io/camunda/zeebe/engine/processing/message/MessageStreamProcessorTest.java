@@ -21,10 +21,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.DeadlineSchedulerMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.distribution.CommandDistributionBehavior;
 import io.camunda.zeebe.engine.processing.identity.AuthorizationCheckBehavior;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.appliers.EventAppliers;
 import io.camunda.zeebe.engine.state.immutable.DistributionState;
@@ -42,7 +44,6 @@ import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
-import io.camunda.zeebe.util.FeatureFlags;
 import java.time.Duration;
 import java.time.InstantSource;
 import org.agrona.DirectBuffer;
@@ -88,6 +89,13 @@ public final class MessageStreamProcessorTest {
           final var scheduledTaskState = processingContext.getScheduledTaskStateFactory();
           final var mockAuthCheckBehavior = mock(AuthorizationCheckBehavior.class);
           when(mockAuthCheckBehavior.isAuthorized(any())).thenReturn(true);
+          final var deadlineScheduler =
+              new DeadlineScheduler(
+                  DEFAULT_ENGINE_CONFIGURATION.getDeadlinesBudgetPerRun(),
+                  false,
+                  new DeadlineSchedulerMetrics(processingContext.getPartitionId()),
+                  InstantSource.system());
+          typedRecordProcessors.withListener(deadlineScheduler);
           MessageEventProcessors.addMessageProcessors(
               mock(BpmnBehaviors.class),
               typedRecordProcessors,
@@ -96,7 +104,7 @@ public final class MessageStreamProcessorTest {
               spySubscriptionCommandSender,
               processingContext.getWriters(),
               DEFAULT_ENGINE_CONFIGURATION,
-              FeatureFlags.createDefault(),
+              deadlineScheduler,
               spyCommandDistributionBehavior,
               InstantSource.system(),
               mockAuthCheckBehavior);
@@ -0,0 +1,216 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.metrics.DeadlineSchedulerMetrics;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineBudget;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineHandler;
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineKind;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class DeadlineSchedulerTest {
+
+  private final AtomicLong now = new AtomicLong(1_000);
+  private final InstantSource clock = () -> Instant.ofEpochMilli(now.get());
+  private final TaskResultBuilder taskResultBuilder = mock(TaskResultBuilder.class);
+  private final List<DeadlineKind> handled = new ArrayList<>();
+
+  @Test
+  void shouldOnlyRunHandlersOfDueKinds() {
+    // given
+    final var scheduler = createScheduler(Integer.MAX_VALUE);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, finishingHandler(DeadlineKind.TIMER));
+    scheduler.register(
+        DeadlineKind.JOB_BACKOFF, Duration.ZERO, finishingHandler(DeadlineKind.JOB_BACKOFF));
+    scheduler.schedule(DeadlineKind.TIMER, 1_000);
+    scheduler.schedule(DeadlineKind.JOB_BACKOFF, 5_000);
+
+    // when
+    final var nextDueDate = scheduler.run(taskResultBuilder);
+
+    // then
+    assertThat(handled).containsExactly(DeadlineKind.TIMER);
+    assertThat(nextDueDate).isEqualTo(5_000);
+  }
+
+  @Test
+  void shouldReturnNextDueDateOfHandlers() {
+    // given
+    final var scheduler = createScheduler(Integer.MAX_VALUE);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, (builder, budget) -> 3_000);
+    scheduler.register(DeadlineKind.MESSAGE_TTL, Duration.ZERO, (builder, budget) -> -1);
+    scheduler.schedule(DeadlineKind.TIMER, 1_000);
+    scheduler.schedule(DeadlineKind.MESSAGE_TTL, 1_000);
+
+    // when
+    final var nextDueDate = scheduler.run(taskResultBuilder);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(3_000);
+  }
+
+  @Test
+  void shouldReturnNoDueDateIfNothingIsScheduled() {
+    // given
+    final var scheduler = createScheduler(Integer.MAX_VALUE);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, finishingHandler(DeadlineKind.TIMER));
+
+    // when
+    final var nextDueDate = scheduler.run(taskResultBuilder);
+
+    // then
+    assertThat(handled).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldKeepEarliestScheduledDueDate() {
+    // given
+    final var scheduler = createScheduler(Integer.MAX_VALUE);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, finishingHandler(DeadlineKind.TIMER));
+
+    // when
+    scheduler.schedule(DeadlineKind.TIMER, 2_000);
+    scheduler.schedule(DeadlineKind.TIMER, 4_000);
+
+    // then
+    assertThat(scheduler.run(taskResultBuilder)).isEqualTo(2_000);
+  }
+
+  @Test
+  void shouldShareBudgetBetweenKinds() {
+    // given
+    final var scheduler = createScheduler(5);
+    final var timerHandler = new BudgetConsumingHandler(DeadlineKind.TIMER, 4);
+    final var backoffHandler = new BudgetConsumingHandler(DeadlineKind.JOB_BACKOFF, 4);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, timerHandler);
+    scheduler.register(DeadlineKind.JOB_BACKOFF, Duration.ZERO, backoffHandler);
+    scheduler.schedule(DeadlineKind.TIMER, 1_000);
+    scheduler.schedule(DeadlineKind.JOB_BACKOFF, 1_000);
+
+    // when
+    final var nextDueDate = scheduler.run(taskResultBuilder);
+
+    // then
+    assertThat(timerHandler.handledDeadlines).isEqualTo(4);
+    assertThat(backoffHandler.handledDeadlines).isEqualTo(1);
+    assertThat(nextDueDate).isEqualTo(now.get());
+  }
+
+  @Test
+  void shouldContinueWithOtherKindWhenBudgetWasExhausted() {
+    // given
+    final var scheduler = createScheduler(2);
+    final var timerHandler = new BudgetConsumingHandler(DeadlineKind.TIMER, 10);
+    final var ttlHandler = new BudgetConsumingHandler(DeadlineKind.MESSAGE_TTL, 10);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, timerHandler);
+    scheduler.register(DeadlineKind.MESSAGE_TTL, Duration.ZERO, ttlHandler);
+    scheduler.schedule(DeadlineKind.TIMER, 1_000);
+    scheduler.schedule(DeadlineKind.MESSAGE_TTL, 1_000);
+
+    // when
+    scheduler.run(taskResultBuilder);
+    scheduler.run(taskResultBuilder);
+
+    // then - the kind which didn't get any budget in the first run goes first in the next run
+    assertThat(handled).containsExactly(DeadlineKind.TIMER, DeadlineKind.MESSAGE_TTL);
+    assertThat(timerHandler.handledDeadlines).isEqualTo(2);
+    assertThat(ttlHandler.handledDeadlines).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRunHandlersAfterInitialDelayOnRecovery() {
+    // given
+    final var scheduler = createScheduler(Integer.MAX_VALUE);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, finishingHandler(DeadlineKind.TIMER));
+    scheduler.register(
+        DeadlineKind.JOB_TIMEOUT,
+        Duration.ofSeconds(1),
+        finishingHandler(DeadlineKind.JOB_TIMEOUT));
+
+    // when
+    scheduler.onRecovered(mockContext());
+    final var nextDueDate = scheduler.run(taskResultBuilder);
+    now.addAndGet(1_000);
+    scheduler.run(taskResultBuilder);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(2_000);
+    assertThat(handled).containsExactly(DeadlineKind.TIMER, DeadlineKind.JOB_TIMEOUT);
+  }
+
+  @Test
+  void shouldRejectSecondHandlerOfSameKind() {
+    // given
+    final var scheduler = createScheduler(Integer.MAX_VALUE);
+    scheduler.register(DeadlineKind.TIMER, Duration.ZERO, finishingHandler(DeadlineKind.TIMER));
+
+    // then
+    assertThatThrownBy(
+            () ->
+                scheduler.register(
+                    DeadlineKind.TIMER, Duration.ZERO, finishingHandler(DeadlineKind.TIMER)))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private DeadlineScheduler createScheduler(final int budgetPerRun) {
+    return new DeadlineScheduler(budgetPerRun, false, new DeadlineSchedulerMetrics(1), clock);
+  }
+
+  private DeadlineHandler finishingHandler(final DeadlineKind kind) {
+    return (builder, budget) -> {
+      handled.add(kind);
+      return -1;
+    };
+  }
+
+  private static ReadonlyStreamProcessorContext mockContext() {
+    final var context = mock(ReadonlyStreamProcessorContext.class);
+    when(context.getScheduleService()).thenReturn(mock(ProcessingScheduleService.class));
+    return context;
+  }
+
+  /** Handles up to the given number of deadlines, as far as the budget allows. */
+  private final class BudgetConsumingHandler implements DeadlineHandler {
+
+    private final DeadlineKind kind;
+    private final int dueDeadlines;
+    private int handledDeadlines;
+
+    private BudgetConsumingHandler(final DeadlineKind kind, final int dueDeadlines) {
+      this.kind = kind;
+      this.dueDeadlines = dueDeadlines;
+    }
+
+    @Override
+    public long handle(final TaskResultBuilder taskResultBuilder, final DeadlineBudget budget) {
+      handled.add(kind);
+      while (handledDeadlines < dueDeadlines) {
+        if (!budget.tryAcquire()) {
+          return now.get();
+        }
+        handledDeadlines++;
+      }
+      return -1;
+    }
+  }
+}
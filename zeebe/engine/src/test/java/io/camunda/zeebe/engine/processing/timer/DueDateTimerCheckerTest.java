@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.processing.scheduled.DeadlineScheduler.DeadlineBudget;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerTimersSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.YieldingDecorator;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
@@ -64,7 +65,7 @@ class DueDateTimerCheckerTest {
       final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
 
       // when
-      sut.apply(mockTaskResultBuilder);
+      sut.handle(mockTaskResultBuilder, new DeadlineBudget(Integer.MAX_VALUE));
 
       // then
       verify(mockTaskResultBuilder, times(4))
@@ -106,12 +107,41 @@ class DueDateTimerCheckerTest {
       final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
 
       // when
-      sut.apply(mockTaskResultBuilder);
+      sut.handle(mockTaskResultBuilder, new DeadlineBudget(Integer.MAX_VALUE));
 
       // then
       verify(mockTaskResultBuilder, times(2))
           .appendCommandRecord(eq(timerKey), eq(TimerIntent.TRIGGER), any());
     }
+
+    @Test
+    void shouldAbortIterationWhenBudgetIsExhausted() {
+      // given
+      final var mockTaskResultBuilder = mock(TaskResultBuilder.class);
+      when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+      final var mockTimer = mock(TimerInstance.class, Mockito.RETURNS_DEEP_STUBS);
+      final var timerKey = 42L;
+      when(mockTimer.getKey()).thenReturn(timerKey);
+      when(mockTimer.getTenantId()).thenReturn(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+      final var testActorClock = new TestActorClock();
+
+      final var testTimerInstanceState =
+          new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
+              mockTimer, testActorClock);
+
+      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, false);
+      final var budget = new DeadlineBudget(3);
+
+      // when
+      sut.handle(mockTaskResultBuilder, budget);
+
+      // then
+      verify(mockTaskResultBuilder, times(3))
+          .appendCommandRecord(eq(timerKey), eq(TimerIntent.TRIGGER), any());
+      assertThat(budget.isExhausted()).isTrue();
+    }
   }
 
   @Nested
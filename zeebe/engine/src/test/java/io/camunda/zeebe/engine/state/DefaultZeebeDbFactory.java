@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.inmemory.InMemoryDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
@@ -25,4 +26,9 @@ public final class DefaultZeebeDbFactory {
         consistencyChecks,
         new AccessMetricsConfiguration(Kind.NONE, 1));
   }
+
+  public static ZeebeDbFactory<ZbColumnFamilies> inMemoryFactory() {
+    // enable consistency checks for tests
+    return new InMemoryDbFactory<>(new ConsistencyChecksSettings(true, true));
+  }
 }
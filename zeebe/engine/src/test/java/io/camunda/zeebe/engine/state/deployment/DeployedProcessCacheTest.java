@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingProcessRecord;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.time.InstantSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class DeployedProcessCacheTest {
+  private static final String TENANT_ID = "defaultTenant";
+
+  @SuppressWarnings("unused") // injected by the extension
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private TransactionContext transactionContext;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private MutableProcessingState processingState;
+
+  @Test
+  void shouldResolveAllLookupsToTheSameCachedProcess() {
+    // given
+    final var processState = createProcessState(new EngineConfiguration());
+    final var processRecord = creatingProcessRecord(processingState, "process", 1);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.storeProcessDefinitionKeyByProcessIdAndDeploymentKey(processRecord);
+
+    // when
+    final var byKey = processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID))
+        .isSameAs(byKey);
+    assertThat(processState.getLatestProcessVersionByProcessId(wrapString("process"), TENANT_ID))
+        .isSameAs(byKey);
+    assertThat(
+            processState.getProcessByProcessIdAndDeploymentKey(
+                wrapString("process"), processRecord.getDeploymentKey(), TENANT_ID))
+        .isSameAs(byKey);
+  }
+
+  @Test
+  void shouldReturnProcessExceedingTheByteBudget() {
+    // given
+    final var processState =
+        createProcessState(new EngineConfiguration().setProcessCacheMaxBytes(1));
+    final var processRecord = creatingProcessRecord(processingState, "process", 1);
+    processState.putProcess(processRecord.getKey(), processRecord);
+
+    // when
+    final var first =
+        processState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID);
+    final var second =
+        processState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID);
+
+    // then - the process is never cached, but still resolved from the state
+    assertThat(first)
+        .isNotNull()
+        .extracting(DeployedProcess::getKey)
+        .isEqualTo(processRecord.getKey());
+    assertThat(second).isNotNull().isNotSameAs(first);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedProcessFromAllLookups() {
+    // given
+    final var processState = createProcessState(new EngineConfiguration());
+    final var processRecord = creatingProcessRecord(processingState, "process", 1);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    final var cached = processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    final long budget = DeployedProcessCache.estimateSize(cached) + 1;
+
+    final var boundedState =
+        createProcessState(new EngineConfiguration().setProcessCacheMaxBytes(budget));
+    final var other = creatingProcessRecord(processingState, "other", 1);
+    processState.putProcess(other.getKey(), other);
+    final var first =
+        boundedState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID);
+
+    // when
+    boundedState.getProcessByKeyAndTenant(other.getKey(), TENANT_ID);
+
+    // then
+    assertThat(boundedState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID))
+        .isNotNull()
+        .isNotSameAs(first);
+  }
+
+  @Test
+  void shouldRemoveDeletedProcessFromAllLookups() {
+    // given
+    final var processState = createProcessState(new EngineConfiguration());
+    final var processRecord = creatingProcessRecord(processingState, "process", 1);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // when
+    processState.deleteProcess(processRecord);
+
+    // then
+    assertThat(processState.getProcessByProcessIdAndVersion(wrapString("process"), 1, TENANT_ID))
+        .isNull();
+    assertThat(processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID)).isNull();
+  }
+
+  private DbProcessState createProcessState(final EngineConfiguration config) {
+    return new DbProcessState(
+        zeebeDb, transactionContext, config, InstantSource.system(), Protocol.DEPLOYMENT_PARTITION);
+  }
+}
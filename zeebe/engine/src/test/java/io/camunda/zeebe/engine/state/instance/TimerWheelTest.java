@@ -0,0 +1,260 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.metrics.TimerWheelMetrics;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class TimerWheelTest {
+
+  private static final long WINDOW_MILLIS = TimerWheel.WINDOW_TICKS * TimerWheel.TICK_MILLIS;
+
+  private final TimerWheel wheel = new TimerWheel(new TimerWheelMetrics(1));
+
+  @SuppressWarnings("unused") // injected by the extension
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private TransactionContext transactionContext;
+
+  @Test
+  void shouldVisitDueTimersInOrderOfDueDate() {
+    // given
+    wheel.add(3_000, 3, 3);
+    wheel.add(1_000, 1, 1);
+    wheel.add(2_000, 2, 2);
+    wheel.add(1_000, -1, 4);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate = wheel.processDueTimers(2_000, collectTo(visited));
+
+    // then - like in the column family, negative keys are ordered after positive keys
+    assertThat(visited).containsExactly(1L, 4L, 2L);
+    assertThat(nextDueDate).isEqualTo(3_000);
+  }
+
+  @Test
+  void shouldVisitTimersAgainUntilTheyAreRemoved() {
+    // given
+    wheel.add(1_000, 1, 1);
+    wheel.add(2_000, 2, 2);
+    wheel.processDueTimers(2_000, timer -> true);
+
+    // when
+    wheel.remove(1_000, 1, 1);
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate = wheel.processDueTimers(2_500, collectTo(visited));
+
+    // then
+    assertThat(visited).containsExactly(2L);
+    assertThat(nextDueDate).isEqualTo(-1);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldStopAtTimerWhichIsNotConsumed() {
+    // given
+    wheel.add(1_000, 1, 1);
+    wheel.add(2_000, 2, 2);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate =
+        wheel.processDueTimers(
+            2_000,
+            timer -> {
+              visited.add(timer.timerKey());
+              return false;
+            });
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(1_000);
+  }
+
+  @Test
+  void shouldCascadeTimersOfLaterWindows() {
+    // given
+    final long now = 1_700_000_000_000L;
+    final long inTwoWindows = now + 2 * WINDOW_MILLIS;
+    final long inAYear = now + 365 * 24 * 3600 * 1000L;
+    wheel.add(now, 1, 1);
+    wheel.add(inTwoWindows, 2, 2);
+    wheel.add(inAYear, 3, 3);
+
+    // when
+    final List<Long> visitedNow = new ArrayList<>();
+    final long nextDueDate = wheel.processDueTimers(now, collectTo(visitedNow));
+    wheel.remove(now, 1, 1);
+
+    final List<Long> visitedLater = new ArrayList<>();
+    final long dueDateAfterLater = wheel.processDueTimers(inTwoWindows, collectTo(visitedLater));
+    wheel.remove(inTwoWindows, 2, 2);
+
+    final List<Long> visitedInAYear = new ArrayList<>();
+    final long lastDueDate = wheel.processDueTimers(inAYear + 1, collectTo(visitedInAYear));
+
+    // then
+    assertThat(visitedNow).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(inTwoWindows);
+    assertThat(visitedLater).containsExactly(2L);
+    assertThat(dueDateAfterLater).isEqualTo(inAYear);
+    assertThat(visitedInAYear).containsExactly(3L);
+    assertThat(lastDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldVisitTimersAddedInThePast() {
+    // given
+    final long now = 1_700_000_000_000L;
+    wheel.processDueTimers(now, timer -> true);
+
+    // when
+    wheel.add(now - WINDOW_MILLIS, 1, 1);
+    wheel.add(now + 50, 2, 2);
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate = wheel.processDueTimers(now, collectTo(visited));
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(now + 50);
+  }
+
+  @Test
+  void shouldNotVisitTimersWhichAreNotDueWhenClockGoesBackwards() {
+    // given
+    final long now = 1_700_000_000_000L;
+    wheel.add(now, 1, 1);
+    wheel.processDueTimers(now, timer -> true);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate = wheel.processDueTimers(now - 1, collectTo(visited));
+
+    // then
+    assertThat(visited).isEmpty();
+    assertThat(nextDueDate).isEqualTo(now);
+  }
+
+  @Test
+  void shouldNotBlockChangesWhileVisitingTimers() {
+    // given
+    wheel.add(1_000, 1, 1);
+    wheel.add(2_000, 2, 2);
+
+    // when - the timers are changed by another thread while the first timer is visited
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate =
+        wheel.processDueTimers(
+            2_000,
+            timer -> {
+              if (timer.timerKey() == 1) {
+                CompletableFuture.runAsync(
+                        () -> {
+                          wheel.remove(1_000, 1, 1);
+                          wheel.add(3_000, 3, 3);
+                        })
+                    .orTimeout(5, TimeUnit.SECONDS)
+                    .join();
+              }
+              return visited.add(timer.timerKey());
+            });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+    assertThat(nextDueDate).isEqualTo(3_000);
+    assertThat(wheel.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRebuildTimerWheelFromState() {
+    // given
+    final var timerState = new DbTimerInstanceState(zeebeDb, transactionContext, wheel);
+    timerState.store(createTimer(1, 1_000));
+    timerState.store(createTimer(2, 2_000));
+
+    // when
+    timerState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    final long nextDueDate =
+        timerState.processTimersWithDueDateBefore(1_000, t -> visited.add(t.getKey()));
+    assertThat(wheel.isLoaded()).isTrue();
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(2_000);
+  }
+
+  @Test
+  void shouldApplyCommittedChanges() {
+    // given
+    final var timerState = new DbTimerInstanceState(zeebeDb, transactionContext, wheel);
+    timerState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+    final var removedTimer = createTimer(1, 1_000);
+    timerState.store(removedTimer);
+
+    // when
+    timerState.store(createTimer(2, 2_000));
+    timerState.remove(removedTimer);
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    timerState.processTimersWithDueDateBefore(2_000, t -> visited.add(t.getKey()));
+    assertThat(visited).containsExactly(2L);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotApplyRolledBackChanges() throws Exception {
+    // given
+    final var timerState = new DbTimerInstanceState(zeebeDb, transactionContext, wheel);
+    timerState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+    final var timer = createTimer(1, 1_000);
+    timerState.store(timer);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    timerState.remove(timer);
+    timerState.store(createTimer(2, 1_000));
+    transaction.rollback();
+
+    // then
+    final List<Long> visited = new ArrayList<>();
+    timerState.processTimersWithDueDateBefore(1_000, t -> visited.add(t.getKey()));
+    assertThat(visited).containsExactly(1L);
+    assertThat(wheel.size()).isEqualTo(1);
+  }
+
+  private static TimerWheel.TimerEntryVisitor collectTo(final List<Long> timerKeys) {
+    return timer -> timerKeys.add(timer.timerKey());
+  }
+
+  private static TimerInstance createTimer(final long key, final long dueDate) {
+    final var timer = new TimerInstance();
+    // timers of start events don't belong to an element instance, which skips the foreign key check
+    timer.setElementInstanceKey(-1L);
+    timer.setKey(key);
+    timer.setDueDate(dueDate);
+    return timer;
+  }
+}
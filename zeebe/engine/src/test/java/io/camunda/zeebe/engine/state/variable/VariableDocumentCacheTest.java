@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class VariableDocumentCacheTest {
+  private static final long PROCESS_KEY = 123;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private MutableProcessingState state;
+
+  @SuppressWarnings("unused") // injected by the extension
+  private TransactionContext transactionContext;
+
+  private MutableVariableState variableState;
+  private long parent;
+  private long child;
+
+  @BeforeEach
+  void beforeEach() {
+    variableState = state.getVariableState();
+    parent = state.getKeyGenerator().nextKey();
+    child = state.getKeyGenerator().nextKey();
+    variableState.createScope(parent, VariableState.NO_PARENT);
+    variableState.createScope(child, parent);
+  }
+
+  @Test
+  void shouldReturnSameDocumentOnRepeatedReads() {
+    // given
+    setVariableLocal(parent, "a", asMsgPack("1"));
+    setVariableLocal(child, "b", asMsgPack("2"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    final DirectBuffer document = variableState.getVariablesAsDocument(child);
+
+    // then
+    assertEquality(document, "{'a': 1, 'b': 2}");
+  }
+
+  @Test
+  void shouldInvalidateDocumentWhenParentVariableChanges() {
+    // given
+    setVariableLocal(parent, "a", asMsgPack("1"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    setVariableLocal(parent, "a", asMsgPack("2"));
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 2}");
+  }
+
+  @Test
+  void shouldInvalidateDocumentWhenScopeIsLinkedToParent() {
+    // given
+    final long orphan = state.getKeyGenerator().nextKey();
+    setVariableLocal(parent, "a", asMsgPack("1"));
+    setVariableLocal(orphan, "b", asMsgPack("2"));
+    variableState.getVariablesAsDocument(orphan);
+
+    // when
+    variableState.createScope(orphan, parent);
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(orphan), "{'a': 1, 'b': 2}");
+  }
+
+  @Test
+  void shouldInvalidateDocumentWhenParentScopeIsRemoved() {
+    // given
+    setVariableLocal(parent, "a", asMsgPack("1"));
+    setVariableLocal(child, "b", asMsgPack("2"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    variableState.removeAllVariables(parent);
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'b': 2}");
+  }
+
+  @Test
+  void shouldNotReturnRolledBackVariables() throws Exception {
+    // given
+    setVariableLocal(parent, "a", asMsgPack("1"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    setVariableLocal(parent, "a", asMsgPack("2"));
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 2}");
+    transaction.rollback();
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 1}");
+  }
+
+  private void setVariableLocal(final long scopeKey, final String name, final DirectBuffer value) {
+    variableState.setVariableLocal(
+        state.getKeyGenerator().nextKey(), scopeKey, PROCESS_KEY, wrapString(name), value);
+  }
+}
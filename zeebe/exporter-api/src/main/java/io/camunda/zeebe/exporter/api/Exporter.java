@@ -18,6 +18,7 @@ package io.camunda.zeebe.exporter.api;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
 
 /**
  * Minimal interface to be implemented by concrete exporters.
@@ -73,4 +74,27 @@ public interface Exporter {
    * @param record the record to export
    */
   void export(Record<?> record);
+
+  /**
+   * Called instead of {@link #export(Record)} if the broker is configured to deliver records in
+   * batches. The records are passed in the order of their positions, and only the ones which are
+   * accepted by the exporter's {@link Context.RecordFilter}.
+   *
+   * <p>Unlike the record passed to {@link #export(Record)}, the records of a batch are copies,
+   * which stay valid after this method returned. The list itself may be reused by the caller
+   * though.
+   *
+   * <p>Should this method throw an unexpected {@link RuntimeException}, it will be called again
+   * with the whole batch, including the records which were exported before the exception was
+   * thrown.
+   *
+   * <p>The default implementation exports the records one by one.
+   *
+   * @param records the records to export, never empty
+   */
+  default void exportBatch(final List<Record<?>> records) {
+    for (final Record<?> record : records) {
+      export(record);
+    }
+  }
 }
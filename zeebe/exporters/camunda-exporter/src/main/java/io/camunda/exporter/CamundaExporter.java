@@ -29,6 +29,7 @@ import io.camunda.exporter.config.ExporterConfiguration;
 import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.exporter.schema.SchemaManager;
+import io.camunda.exporter.store.AsyncBatchFlusher;
 import io.camunda.exporter.store.BatchRequest;
 import io.camunda.exporter.store.ExporterBatchWriter;
 import io.camunda.exporter.tasks.BackgroundTaskManager;
@@ -40,8 +41,10 @@ import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +61,8 @@ public class CamundaExporter implements Exporter {
   private CamundaExporterMetrics metrics;
   private Logger logger;
   private BackgroundTaskManager taskManager;
+  private AsyncBatchFlusher flusher;
+  private String threadNamePrefix;
 
   public CamundaExporter() {
     this(new DefaultExporterResourceProvider());
@@ -87,6 +92,11 @@ public class CamundaExporter implements Exporter {
             provider,
             metrics,
             logger);
+    threadNamePrefix =
+        "exporter-"
+            + context.getConfiguration().getId().toLowerCase()
+            + "-p"
+            + context.getPartitionId();
     LOG.debug("Exporter configured with {}", configuration);
   }
 
@@ -104,6 +114,9 @@ public class CamundaExporter implements Exporter {
     schemaManager.startup();
 
     writer = createBatchWriter();
+    if (configuration.getBulk().getMaxInFlight() > 0) {
+      flusher = createAsyncFlusher();
+    }
 
     scheduleDelayedFlush();
 
@@ -117,7 +130,18 @@ public class CamundaExporter implements Exporter {
 
   @Override
   public void close() {
-    if (writer != null) {
+    if (flusher != null) {
+      try {
+        flusher.retryFailedFlush();
+        flushAsync();
+      } catch (final Exception e) {
+        LOG.warn("Failed to flush records before closing exporter.", e);
+      }
+      if (!flusher.awaitFlushed()) {
+        LOG.warn("Failed to flush records in the background before closing exporter.");
+      }
+      CloseHelper.close(error -> LOG.warn("Failed to close background flush", error), flusher);
+    } else if (writer != null) {
       try {
         flush();
         updateLastExportedPosition();
@@ -134,12 +158,19 @@ public class CamundaExporter implements Exporter {
       }
     }
 
+    CloseHelper.close(error -> LOG.warn("Failed to close export handlers", error), writer);
     CloseHelper.close(error -> LOG.warn("Failed to close background tasks", error), taskManager);
     LOG.info("Exporter closed");
   }
 
   @Override
   public void export(final Record<?> record) {
+    if (flusher != null) {
+      // a failed background flush is reported before the record is added to the next batch, so
+      // that the record is exported again, rather than being flushed in an incomplete entity
+      flusher.retryFailedFlush();
+    }
+
     if (writer.getBatchSize() == 0) {
       metrics.startFlushLatencyMeasurement();
     }
@@ -148,6 +179,11 @@ public class CamundaExporter implements Exporter {
     lastPosition = record.getPosition();
 
     if (shouldFlush()) {
+      if (flusher != null) {
+        flushAsync();
+        return;
+      }
+
       try (final var ignored = metrics.measureFlushDuration()) {
         flush();
         metrics.stopFlushLatencyMeasurement();
@@ -168,9 +204,29 @@ public class CamundaExporter implements Exporter {
   private ExporterBatchWriter createBatchWriter() {
     final var builder = ExporterBatchWriter.Builder.begin();
     provider.getExportHandlers().forEach(builder::withHandler);
+    builder.withHandlerThreads(
+        configuration.getBulk().getHandlerThreads(),
+        Thread.ofPlatform()
+            .name(threadNamePrefix + "-handler-", 0)
+            .uncaughtExceptionHandler(FatalErrorHandler.uncaughtExceptionHandler(logger))
+            .factory());
     return builder.build();
   }
 
+  private AsyncBatchFlusher createAsyncFlusher() {
+    final var threadFactory =
+        Thread.ofPlatform()
+            .name(threadNamePrefix + "-flush")
+            .uncaughtExceptionHandler(FatalErrorHandler.uncaughtExceptionHandler(logger))
+            .factory();
+    return new AsyncBatchFlusher(
+        configuration.getBulk().getMaxInFlight(),
+        clientAdapter::createBatchRequest,
+        controller::updateLastExportedRecordPosition,
+        metrics,
+        Executors.newSingleThreadExecutor(threadFactory));
+  }
+
   private void scheduleDelayedFlush() {
     controller.scheduleCancellableTask(
         Duration.ofSeconds(configuration.getBulk().getDelay()), this::flushAndReschedule);
@@ -178,8 +234,13 @@ public class CamundaExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (flusher != null) {
+        flusher.retryFailedFlush();
+        flushAsync();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       LOG.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -197,6 +258,16 @@ public class CamundaExporter implements Exporter {
     }
   }
 
+  /**
+   * Submits the current batch to be flushed in the background. The exported position is updated
+   * by the flusher, once the batch and all batches before it were flushed.
+   */
+  private void flushAsync() {
+    metrics.recordBulkSize(writer.getBatchSize());
+    metrics.stopFlushLatencyMeasurement();
+    flusher.submit(writer.takeBatch(), lastPosition);
+  }
+
   private void updateLastExportedPosition() {
     controller.updateLastExportedRecordPosition(lastPosition);
   }
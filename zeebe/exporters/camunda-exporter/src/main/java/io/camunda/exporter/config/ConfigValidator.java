@@ -92,6 +92,19 @@ public final class ConfigValidator {
               waitPeriodBeforeArchiving, PATTERN_DATE_INTERVAL_FORMAT));
     }
 
+    final int bulkMaxInFlight = configuration.getBulk().getMaxInFlight();
+    if (bulkMaxInFlight < 0) {
+      throw new ExporterException(
+          "CamundaExporter bulk.maxInFlight must be >= 0. Current value: " + bulkMaxInFlight);
+    }
+
+    final int bulkHandlerThreads = configuration.getBulk().getHandlerThreads();
+    if (bulkHandlerThreads < 0) {
+      throw new ExporterException(
+          "CamundaExporter bulk.handlerThreads must be >= 0. Current value: "
+              + bulkHandlerThreads);
+    }
+
     final int rolloverBatchSize = configuration.getArchiver().getRolloverBatchSize();
     if (rolloverBatchSize < 1) {
       throw new ExporterException(
@@ -237,6 +237,12 @@ public class ExporterConfiguration {
     private int delay = 5;
     // bulk size before flush
     private int size = 1_000;
+    // number of bulks which may be flushed in the background while the next one is filled; with 0
+    // bulks are flushed synchronously
+    private int maxInFlight = 0;
+    // number of threads which update the entities of a bulk from the exported records; with 0 the
+    // entities are updated on the exporter thread
+    private int handlerThreads = 0;
 
     public int getDelay() {
       return delay;
@@ -254,9 +260,34 @@ public class ExporterConfiguration {
       this.size = size;
     }
 
+    public int getMaxInFlight() {
+      return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+      this.maxInFlight = maxInFlight;
+    }
+
+    public int getHandlerThreads() {
+      return handlerThreads;
+    }
+
+    public void setHandlerThreads(final int handlerThreads) {
+      this.handlerThreads = handlerThreads;
+    }
+
     @Override
     public String toString() {
-      return "BulkConfiguration{" + "delay=" + delay + ", size=" + size + '}';
+      return "BulkConfiguration{"
+          + "delay="
+          + delay
+          + ", size="
+          + size
+          + ", maxInFlight="
+          + maxInFlight
+          + ", handlerThreads="
+          + handlerThreads
+          + '}';
     }
   }
 
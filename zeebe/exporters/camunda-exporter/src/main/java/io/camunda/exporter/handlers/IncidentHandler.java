@@ -28,14 +28,12 @@ import java.time.ZoneOffset;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class IncidentHandler implements ExportHandler<IncidentEntity, IncidentRecordValue> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(IncidentHandler.class);
-  private final Map<String, Record<IncidentRecordValue>> recordsMap = new HashMap<>();
   private final String indexName;
   private final boolean concurrencyMode;
   private final ExporterEntityCache<Long, CachedProcessEntity> processCache;
@@ -112,18 +110,13 @@ public class IncidentHandler implements ExportHandler<IncidentEntity, IncidentRe
 
     entity.setTreePath(buildTreePath(record));
 
-    recordsMap.put(entity.getId(), record);
+    // kept on the entity rather than in the handler, as handlers may run on multiple threads
+    entity.setMigrated(record.getIntent() == IncidentIntent.MIGRATED);
   }
 
   @Override
   public void flush(final IncidentEntity entity, final BatchRequest batchRequest) {
-    final String id = entity.getId();
-    final Record<IncidentRecordValue> record = recordsMap.get(id);
-    final String intentStr = (record == null) ? null : record.getIntent().name();
-    if (intentStr == null) {
-      LOGGER.warn("Intent is null for incident: id {}", id);
-    }
-    final Map<String, Object> updateFields = getUpdateFieldsMapByIntent(intentStr, entity);
+    final Map<String, Object> updateFields = getUpdateFields(entity);
     updateFields.put(POSITION, entity.getPosition());
     if (concurrencyMode) {
       batchRequest.upsertWithScript(
@@ -183,10 +176,9 @@ public class IncidentHandler implements ExportHandler<IncidentEntity, IncidentRe
     return treePath.toString();
   }
 
-  private static Map<String, Object> getUpdateFieldsMapByIntent(
-      final String intent, final IncidentEntity incidentEntity) {
+  private static Map<String, Object> getUpdateFields(final IncidentEntity incidentEntity) {
     final Map<String, Object> updateFields = new HashMap<>();
-    if (Objects.equals(intent, IncidentIntent.MIGRATED.name())) {
+    if (incidentEntity.isMigrated()) {
       updateFields.put(BPMN_PROCESS_ID, incidentEntity.getBpmnProcessId());
       updateFields.put(PROCESS_DEFINITION_KEY, incidentEntity.getProcessDefinitionKey());
       updateFields.put(FLOW_NODE_ID, incidentEntity.getFlowNodeId());
@@ -22,7 +22,10 @@ public class CamundaExporterMetrics {
 
   private final MeterRegistry meterRegistry;
   private final AtomicInteger bulkMemorySize = new AtomicInteger(0);
+  private final AtomicInteger flushesInFlight = new AtomicInteger(0);
   private final Timer flushLatency;
+  private final Counter overlappingFlushes;
+  private final Timer flushBackpressure;
   private final Counter processInstancesArchived;
   private final Counter batchOperationsArchived;
   private final Timer archiverSearchTimer;
@@ -39,6 +42,19 @@ public class CamundaExporterMetrics {
                 "Time of how long a export buffer is open and collects new records before flushing, meaning latency until the next flush is done.")
             .publishPercentileHistogram()
             .register(meterRegistry);
+    Gauge.builder(meterName("flush.in.flight"), flushesInFlight, AtomicInteger::get)
+        .description("Number of bulks which are flushed in the background or wait to be flushed")
+        .register(meterRegistry);
+    overlappingFlushes =
+        Counter.builder(meterName("flush.overlapping"))
+            .description(
+                "Number of bulks which were submitted while a previous bulk was being flushed")
+            .register(meterRegistry);
+    flushBackpressure =
+        Timer.builder(meterName("flush.backpressure"))
+            .description(
+                "Time the exporter was blocked because the maximum number of bulks was in flight")
+            .register(meterRegistry);
     processInstancesArchived = meterRegistry.counter(meterName("archived.process.instances"));
     batchOperationsArchived = meterRegistry.counter(meterName("archived.batch.operations"));
     archiverSearchTimer = meterRegistry.timer(meterName("archiver.query"));
@@ -80,6 +96,18 @@ public class CamundaExporterMetrics {
         .increment();
   }
 
+  public void setFlushesInFlight(final int count) {
+    flushesInFlight.set(count);
+  }
+
+  public void recordOverlappingFlush() {
+    overlappingFlushes.increment();
+  }
+
+  public void measureFlushBackpressure(final Timer.Sample sample) {
+    sample.stop(flushBackpressure);
+  }
+
   public void startFlushLatencyMeasurement() {
     flushLatencyMeasurement = Timer.start(meterRegistry);
   }
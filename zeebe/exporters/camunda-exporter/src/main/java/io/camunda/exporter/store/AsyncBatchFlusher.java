@@ -0,0 +1,248 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Flushes the batches of the {@link ExporterBatchWriter} in the background, so that the exporter
+ * can fill the next batch while the previous one is flushed.
+ *
+ * <p>Batches are flushed one after another, in the order in which they were submitted, and the
+ * position of a batch is only acknowledged once the batch was flushed. The number of batches which
+ * are in flight, i.e. submitted but not flushed yet, is bounded: once the bound is reached,
+ * submitting blocks until the oldest batch was flushed, which applies back pressure to the
+ * exporter.
+ *
+ * <p>A batch which failed to flush is not retried in the background, and no later batch is flushed
+ * before it. Instead, the failure is reported to the exporter by {@link #retryFailedFlush()}, which
+ * then resumes flushing with the failed batch. The requests of a batch are always prepared on the
+ * exporter's thread, so that the export handlers are never called concurrently. Apart from the
+ * background flushing itself, all methods must be called from the exporter's thread.
+ */
+public final class AsyncBatchFlusher implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncBatchFlusher.class);
+
+  // guarded by this
+  private final Deque<PendingBatch> pendingBatches = new ArrayDeque<>();
+  private final int maxInFlight;
+  private final Supplier<BatchRequest> batchRequestFactory;
+  private final LongConsumer positionAcknowledger;
+  private final CamundaExporterMetrics metrics;
+  private final ExecutorService executor;
+
+  // guarded by this
+  private boolean flushing;
+  private Exception failure;
+
+  /**
+   * @param maxInFlight the maximum number of batches which are submitted but not flushed yet
+   * @param batchRequestFactory creates a new request for every attempt to flush a batch
+   * @param positionAcknowledger called with the position of every batch once it was flushed
+   * @param executor the single thread executor on which batches are flushed; it's owned, and
+   *     eventually shut down, by the flusher
+   */
+  public AsyncBatchFlusher(
+      final int maxInFlight,
+      final Supplier<BatchRequest> batchRequestFactory,
+      final LongConsumer positionAcknowledger,
+      final CamundaExporterMetrics metrics,
+      final ExecutorService executor) {
+    this.maxInFlight = maxInFlight;
+    this.batchRequestFactory = batchRequestFactory;
+    this.positionAcknowledger = positionAcknowledger;
+    this.metrics = metrics;
+    this.executor = executor;
+  }
+
+  /**
+   * Submits the batch to be flushed in the background, after all batches which were submitted
+   * before. Blocks while the maximum number of batches is in flight.
+   *
+   * <p>Never fails: if the batch can't be prepared, the failure is reported by the next call to
+   * {@link #retryFailedFlush()}, like a failure to flush it.
+   *
+   * @param position the position which is acknowledged once the batch was flushed
+   */
+  public void submit(final Batch batch, final long position) {
+    awaitCapacity();
+
+    final var pendingBatch = new PendingBatch(batch, position);
+    Exception prepareFailure = null;
+    try {
+      pendingBatch.prepare(batchRequestFactory.get());
+    } catch (final Exception e) {
+      prepareFailure = e;
+    }
+
+    synchronized (this) {
+      if (!pendingBatches.isEmpty()) {
+        metrics.recordOverlappingFlush();
+      }
+      pendingBatches.addLast(pendingBatch);
+      metrics.setFlushesInFlight(pendingBatches.size());
+
+      if (prepareFailure != null && failure == null) {
+        failure = prepareFailure;
+      }
+      startFlushing();
+    }
+  }
+
+  /**
+   * Does nothing, unless a batch failed to flush. In that case, the failed batch is prepared with a
+   * new request, the background flushing is resumed, and the failure is reported.
+   *
+   * @throws ExporterException if a batch failed to flush since the last call
+   */
+  public void retryFailedFlush() {
+    final Exception error;
+    synchronized (this) {
+      if (failure == null) {
+        return;
+      }
+      error = failure;
+
+      // nothing is flushed in the background while failed, so the batches can be prepared here
+      for (final var pendingBatch : pendingBatches) {
+        if (!pendingBatch.isPrepared()) {
+          try {
+            pendingBatch.prepare(batchRequestFactory.get());
+          } catch (final Exception e) {
+            throw new ExporterException(e.getMessage(), e);
+          }
+        }
+      }
+
+      failure = null;
+      startFlushing();
+    }
+
+    throw new ExporterException(error.getMessage(), error);
+  }
+
+  /**
+   * Blocks until all submitted batches were flushed, or a batch failed to flush.
+   *
+   * @return {@code true} if all submitted batches were flushed
+   */
+  public synchronized boolean awaitFlushed() {
+    try {
+      while (!pendingBatches.isEmpty() && failure == null) {
+        wait();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return pendingBatches.isEmpty();
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private synchronized void awaitCapacity() {
+    if (pendingBatches.size() < maxInFlight || failure != null) {
+      return;
+    }
+
+    final var sample = Timer.start();
+    try {
+      // a failed batch is not flushed until it's retried, so there is no point in waiting then
+      while (pendingBatches.size() >= maxInFlight && failure == null) {
+        wait();
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      metrics.measureFlushBackpressure(sample);
+    }
+  }
+
+  // must be called while holding the lock
+  private void startFlushing() {
+    if (!flushing && failure == null && !pendingBatches.isEmpty()) {
+      flushing = true;
+      executor.execute(this::flushPendingBatches);
+    }
+  }
+
+  private void flushPendingBatches() {
+    while (true) {
+      final PendingBatch pendingBatch;
+      synchronized (this) {
+        pendingBatch = pendingBatches.peekFirst();
+        if (pendingBatch == null || failure != null) {
+          flushing = false;
+          return;
+        }
+      }
+
+      try (final var ignored = metrics.measureFlushDuration()) {
+        pendingBatch.execute();
+      } catch (final Exception e) {
+        LOG.debug("Failed to flush batch up to position {}", pendingBatch.position, e);
+        metrics.recordFailedFlush();
+        synchronized (this) {
+          failure = e;
+          flushing = false;
+          notifyAll();
+        }
+        return;
+      }
+
+      synchronized (this) {
+        pendingBatches.pollFirst();
+        metrics.setFlushesInFlight(pendingBatches.size());
+        notifyAll();
+      }
+      positionAcknowledger.accept(pendingBatch.position);
+    }
+  }
+
+  private static final class PendingBatch {
+    private final Batch batch;
+    private final long position;
+    // the request is created anew for every attempt, as a request can only be executed once
+    private BatchRequest request;
+
+    private PendingBatch(final Batch batch, final long position) {
+      this.batch = batch;
+      this.position = position;
+    }
+
+    private boolean isPrepared() {
+      return request != null;
+    }
+
+    private void prepare(final BatchRequest request) throws PersistenceException {
+      batch.addTo(request);
+      this.request = request;
+    }
+
+    private void execute() throws PersistenceException {
+      final var preparedRequest = request;
+      request = null;
+      if (batch.size() > 0) {
+        preparedRequest.execute();
+      }
+    }
+  }
+}
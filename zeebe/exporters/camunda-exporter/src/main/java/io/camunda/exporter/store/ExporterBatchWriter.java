@@ -15,41 +15,91 @@ import io.camunda.zeebe.protocol.record.RecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-
-/** Caches exporter entities of different types and provide the method to flush them in a batch. */
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caches exporter entities of different types and provide the method to flush them in a batch.
+ *
+ * <p>By default, the handlers run on the thread which adds the records. Optionally, the updates of
+ * the entities are sharded by entity id across a pool of workers, see {@link HandlerWorkerPool}.
+ * In that case, every shard caches its own entities, and the size of the batch may lag behind the
+ * records which were added until the batch is flushed or taken. Process and form records are
+ * handled completely before the next record is added, as their handlers fill caches which the
+ * handlers of other entities read.
+ */
 @SuppressWarnings({"rawtypes", "unchecked"})
-public class ExporterBatchWriter {
+public class ExporterBatchWriter implements AutoCloseable {
+  // e.g. the process cache, which provides the process name of the list view process instances
+  private static final Set<ValueType> CACHE_VALUE_TYPES =
+      EnumSet.of(ValueType.PROCESS, ValueType.FORM);
+
   private final Map<ValueType, List<ExportHandler>> handlers = new HashMap<>();
-  private final Map<EntityIdAndEntityType, EntityAndHandlers> cachedEntities = new HashMap<>();
+  private final AtomicInteger cachedEntitiesCount = new AtomicInteger();
+  // null if the handlers run on the calling thread
+  private HandlerWorkerPool workers;
+  // one cache per shard of the workers
+  private List<Map<EntityIdAndEntityType, EntityAndHandlers>> cachedEntities = newCache(1);
 
   public void addRecord(final Record<?> record) {
     final ValueType valueType = record.getValueType();
+    final List<ExportHandler> recordHandlers =
+        handlers.getOrDefault(valueType, Collections.emptyList());
+
+    if (workers == null) {
+      final var entities = cachedEntities.getFirst();
+      recordHandlers.forEach(
+          handler -> {
+            if (handler.handlesRecord(record)) {
+              final List<String> entityIds = handler.generateIds(record);
+              entityIds.forEach(id -> updateAndCacheEntity(entities, record, handler, id));
+            }
+          });
+      return;
+    }
 
-    handlers
-        .getOrDefault(valueType, Collections.emptyList())
-        .forEach(
-            handler -> {
-              if (handler.handlesRecord(record)) {
-                final List<String> entityIds = handler.generateIds(record);
-                entityIds.forEach(id -> updateAndCacheEntity(record, handler, id));
-              }
-            });
+    workers.throwOnFailure();
+    Record<?> recordCopy = null;
+    for (final var handler : recordHandlers) {
+      if (handler.handlesRecord(record)) {
+        if (recordCopy == null) {
+          // the record is only valid until this method returns, but it's handled afterwards
+          recordCopy = record.copyOf();
+        }
+        final Record<?> handledRecord = recordCopy;
+        for (final String id : (List<String>) handler.generateIds(record)) {
+          final int shard = workers.shardOf(id);
+          final var entities = cachedEntities.get(shard);
+          workers.execute(shard, () -> updateAndCacheEntity(entities, handledRecord, handler, id));
+        }
+      }
+    }
+
+    if (recordCopy != null && CACHE_VALUE_TYPES.contains(valueType)) {
+      // the handlers of the following records may run on other shards, and would miss the cache
+      workers.awaitCompletion();
+    }
   }
 
   private void updateAndCacheEntity(
-      final Record<?> record, final ExportHandler handler, final String id) {
+      final Map<EntityIdAndEntityType, EntityAndHandlers> entities,
+      final Record<?> record,
+      final ExportHandler handler,
+      final String id) {
     final var cacheKey = new EntityIdAndEntityType(id, handler.getEntityType());
 
     final EntityAndHandlers entityAndHandlers =
-        cachedEntities.computeIfAbsent(
+        entities.computeIfAbsent(
             cacheKey,
             (k) -> {
               final ExporterEntity entity = handler.createNewEntity(id);
+              cachedEntitiesCount.incrementAndGet();
               return new EntityAndHandlers(entity, new LinkedHashSet<>());
             });
 
@@ -61,30 +111,56 @@ public class ExporterBatchWriter {
   }
 
   public void flush(final BatchRequest batchRequest) throws PersistenceException {
-    // some handlers modify the same entity (e.g. list view flow node instances are
-    // updated from process instance and incident records)
-    //
-    // the handler that modified the entity last will also flush it
-    if (cachedEntities.isEmpty()) {
+    awaitHandlers();
+    if (cachedEntitiesCount.get() == 0) {
       return;
     }
 
-    for (final var entityAndHandler : cachedEntities.values()) {
-      final ExporterEntity entity = entityAndHandler.entity();
-      for (final var handler : entityAndHandler.handlers()) {
-        handler.flush(entity, batchRequest);
-      }
-    }
+    addToBatchRequest(cachedEntities, batchRequest);
     batchRequest.execute();
     reset();
   }
 
+  /**
+   * Hands over all cached entities as a {@link Batch}, which can be flushed independently of this
+   * writer, and starts caching entities for a new batch.
+   */
+  public Batch takeBatch() {
+    awaitHandlers();
+    final var batch = new Batch(cachedEntities, cachedEntitiesCount.getAndSet(0));
+    cachedEntities = newCache(cachedEntities.size());
+    return batch;
+  }
+
   public void reset() {
-    cachedEntities.clear();
+    awaitHandlers();
+    cachedEntities.forEach(Map::clear);
+    cachedEntitiesCount.set(0);
   }
 
   public int getBatchSize() {
-    return cachedEntities.size();
+    return cachedEntitiesCount.get();
+  }
+
+  @Override
+  public void close() {
+    if (workers != null) {
+      workers.close();
+    }
+  }
+
+  private void awaitHandlers() {
+    if (workers != null) {
+      workers.awaitCompletion();
+    }
+  }
+
+  private static List<Map<EntityIdAndEntityType, EntityAndHandlers>> newCache(final int shards) {
+    final List<Map<EntityIdAndEntityType, EntityAndHandlers>> cache = new ArrayList<>(shards);
+    for (int i = 0; i < shards; i++) {
+      cache.add(new HashMap<>());
+    }
+    return cache;
   }
 
   public static class Builder {
@@ -106,11 +182,65 @@ public class ExporterBatchWriter {
       return this;
     }
 
+    /**
+     * Runs the handlers on the given number of worker threads, instead of the thread which adds the
+     * records. With 0 threads, the handlers run on the thread which adds the records.
+     */
+    public Builder withHandlerThreads(final int threads, final ThreadFactory threadFactory) {
+      if (threads > 0) {
+        writer.workers = new HandlerWorkerPool(threads, threadFactory);
+        writer.cachedEntities = newCache(threads);
+      }
+
+      return this;
+    }
+
     public ExporterBatchWriter build() {
       return writer;
     }
   }
 
+  private static void addToBatchRequest(
+      final List<Map<EntityIdAndEntityType, EntityAndHandlers>> entities,
+      final BatchRequest batchRequest) throws PersistenceException {
+    // some handlers modify the same entity (e.g. list view flow node instances are
+    // updated from process instance and incident records)
+    //
+    // the handler that modified the entity last will also flush it
+    for (final var shardEntities : entities) {
+      for (final var entityAndHandler : shardEntities.values()) {
+        final ExporterEntity entity = entityAndHandler.entity();
+        for (final var handler : entityAndHandler.handlers()) {
+          handler.flush(entity, batchRequest);
+        }
+      }
+    }
+  }
+
+  /** The entities which were cached by the writer until the batch was taken. */
+  public static final class Batch {
+    private final List<Map<EntityIdAndEntityType, EntityAndHandlers>> entities;
+    private final int size;
+
+    private Batch(
+        final List<Map<EntityIdAndEntityType, EntityAndHandlers>> entities, final int size) {
+      this.entities = entities;
+      this.size = size;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    /**
+     * Adds the entities of this batch to the given request, without executing it. Can be called
+     * again with a new request, e.g. if executing the previous one failed.
+     */
+    public void addTo(final BatchRequest batchRequest) throws PersistenceException {
+      addToBatchRequest(entities, batchRequest);
+    }
+  }
+
   private record EntityIdAndEntityType(String entityId, Class<?> entityType) {}
 
   private record EntityAndHandlers(ExporterEntity entity, Set<ExportHandler> handlers) {}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.zeebe.exporter.api.ExporterException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs the updates of the export handlers on a fixed number of worker threads.
+ *
+ * <p>Updates are sharded by the id of the entity they update, and every shard is run by a single
+ * worker, in the order in which its updates were submitted. All updates of an entity are therefore
+ * applied in the order of the records, while updates of different entities run in parallel.
+ *
+ * <p>Once an update failed, all further updates are skipped and the failure is reported by every
+ * call to {@link #awaitCompletion()} and {@link #throwOnFailure()}. Retrying the record doesn't
+ * help here, as the records after it may have been handled already. Instead, no batch is completed
+ * anymore, so that no position after the failed record is acknowledged until the exporter is
+ * reopened.
+ */
+final class HandlerWorkerPool implements AutoCloseable {
+  private final ExecutorService[] workers;
+  private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+  HandlerWorkerPool(final int threads, final ThreadFactory threadFactory) {
+    workers = new ExecutorService[threads];
+    for (int i = 0; i < threads; i++) {
+      workers[i] = Executors.newSingleThreadExecutor(threadFactory);
+    }
+  }
+
+  int shards() {
+    return workers.length;
+  }
+
+  int shardOf(final String entityId) {
+    return Math.floorMod(entityId.hashCode(), workers.length);
+  }
+
+  void execute(final int shard, final Runnable update) {
+    workers[shard].execute(
+        () -> {
+          if (failure.get() != null) {
+            return;
+          }
+
+          try {
+            update.run();
+          } catch (final RuntimeException e) {
+            failure.compareAndSet(null, e);
+          }
+        });
+  }
+
+  /** Blocks until all submitted updates were applied. */
+  void awaitCompletion() {
+    final var completions = new CompletableFuture<?>[workers.length];
+    for (int i = 0; i < workers.length; i++) {
+      completions[i] = CompletableFuture.runAsync(() -> {}, workers[i]);
+    }
+    CompletableFuture.allOf(completions).join();
+    throwOnFailure();
+  }
+
+  /**
+   * @throws ExporterException if any update failed
+   */
+  void throwOnFailure() {
+    final var error = failure.get();
+    if (error != null) {
+      throw new ExporterException("Failed to handle record: " + error.getMessage(), error);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (final var worker : workers) {
+      worker.shutdownNow();
+    }
+  }
+}
@@ -140,4 +140,27 @@ public class ConfigValidatorTest {
         .isInstanceOf(ExporterException.class)
         .hasMessageContaining("CamundaExporter processCache.maxCacheSize must be >= 1.");
   }
+
+  @Test
+  void shouldForbidNegativeBulkMaxInFlight() {
+    // given
+    config.getBulk().setMaxInFlight(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining("CamundaExporter bulk.maxInFlight must be >= 0. Current value: -1");
+  }
+
+  @Test
+  void shouldForbidNegativeBulkHandlerThreads() {
+    // given
+    config.getBulk().setHandlerThreads(-1);
+
+    // when - then
+    assertThatCode(() -> ConfigValidator.validate(config))
+        .isInstanceOf(ExporterException.class)
+        .hasMessageContaining(
+            "CamundaExporter bulk.handlerThreads must be >= 0. Current value: -1");
+  }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import static io.camunda.zeebe.protocol.record.ValueType.NULL_VAL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.exporter.entities.TestExporterEntity;
+import io.camunda.exporter.exceptions.PersistenceException;
+import io.camunda.exporter.handlers.ExportHandler;
+import io.camunda.exporter.metrics.CamundaExporterMetrics;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
+import io.camunda.protocol.TestRecord;
+import io.camunda.protocol.TestValue;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class AsyncBatchFlusherTest {
+  private final List<Long> acknowledgedPositions = new CopyOnWriteArrayList<>();
+  private final List<BatchRequest> requests = new CopyOnWriteArrayList<>();
+  private final CountDownLatch flushLatch = new CountDownLatch(1);
+  private ExporterBatchWriter batchWriter;
+  private AsyncBatchFlusher flusher;
+
+  @BeforeEach
+  void setUp() {
+    final ExportHandler<TestExporterEntity, TestValue> handler = mock(ExportHandler.class);
+    when(handler.getHandledValueType()).thenReturn(NULL_VAL);
+    when(handler.getEntityType()).thenReturn(TestExporterEntity.class);
+    when(handler.handlesRecord(any())).thenReturn(true);
+    when(handler.generateIds(any()))
+        .thenAnswer(i -> List.of(String.valueOf(((TestRecord) i.getArgument(0)).position())));
+    when(handler.createNewEntity(anyString()))
+        .thenAnswer(i -> new TestExporterEntity().setId(i.getArgument(0)));
+    batchWriter = ExporterBatchWriter.Builder.begin().withHandler(handler).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    flushLatch.countDown();
+    if (flusher != null) {
+      flusher.close();
+    }
+  }
+
+  @Test
+  void shouldAcknowledgePositionsInOrderOfSubmission() {
+    // given
+    flusher = createFlusher(2);
+
+    // when
+    flusher.submit(batchOf(1), 1);
+    flusher.submit(batchOf(2), 2);
+
+    // then
+    assertThat(flusher.awaitFlushed()).isTrue();
+    assertThat(acknowledgedPositions).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldNotAcknowledgePositionBeforeBatchWasFlushed() throws PersistenceException {
+    // given
+    flusher = createFlusher(2, this::blockingRequest);
+
+    // when
+    flusher.submit(batchOf(1), 1);
+
+    // then
+    assertThat(acknowledgedPositions).isEmpty();
+
+    flushLatch.countDown();
+    assertThat(flusher.awaitFlushed()).isTrue();
+    assertThat(acknowledgedPositions).containsExactly(1L);
+  }
+
+  @Test
+  void shouldRetryFailedBatchWithNewRequest() throws PersistenceException {
+    // given
+    final var failingRequest = mock(BatchRequest.class);
+    doThrow(new PersistenceException("expected")).when(failingRequest).execute();
+    flusher =
+        createFlusher(2, () -> requests.isEmpty() ? failingRequest : mock(BatchRequest.class));
+    flusher.submit(batchOf(1), 1);
+    flusher.submit(batchOf(2), 2);
+    assertThat(flusher.awaitFlushed()).isFalse();
+
+    // when - then
+    assertThatThrownBy(flusher::retryFailedFlush)
+        .isInstanceOf(ExporterException.class)
+        .hasMessage("expected");
+    assertThat(flusher.awaitFlushed()).isTrue();
+    assertThat(acknowledgedPositions).containsExactly(1L, 2L);
+    assertThat(requests).hasSize(3);
+  }
+
+  @Test
+  void shouldNotReportFailureIfNothingFailed() {
+    // given
+    flusher = createFlusher(1);
+    flusher.submit(batchOf(1), 1);
+    flusher.awaitFlushed();
+
+    // when - then
+    flusher.retryFailedFlush();
+  }
+
+  @Test
+  void shouldBlockSubmissionWhileMaxInFlightIsReached() throws PersistenceException {
+    // given
+    flusher = createFlusher(1, this::blockingRequest);
+    flusher.submit(batchOf(1), 1);
+    final var secondBatch = batchOf(2);
+
+    // when
+    final var submitted = CompletableFuture.runAsync(() -> flusher.submit(secondBatch, 2));
+
+    // then
+    Awaitility.await()
+        .during(Duration.ofMillis(200))
+        .untilAsserted(() -> assertThat(submitted).isNotDone());
+
+    flushLatch.countDown();
+    Awaitility.await().untilAsserted(() -> assertThat(submitted).isDone());
+    assertThat(flusher.awaitFlushed()).isTrue();
+    assertThat(acknowledgedPositions).containsExactly(1L, 2L);
+  }
+
+  private AsyncBatchFlusher createFlusher(final int maxInFlight) {
+    return createFlusher(maxInFlight, () -> mock(BatchRequest.class));
+  }
+
+  private AsyncBatchFlusher createFlusher(
+      final int maxInFlight, final RequestFactory requestFactory) {
+    return new AsyncBatchFlusher(
+        maxInFlight,
+        () -> {
+          try {
+            final var request = requestFactory.create();
+            requests.add(request);
+            return request;
+          } catch (final PersistenceException e) {
+            throw new IllegalStateException(e);
+          }
+        },
+        acknowledgedPositions::add,
+        new CamundaExporterMetrics(new SimpleMeterRegistry()),
+        Executors.newSingleThreadExecutor());
+  }
+
+  private BatchRequest blockingRequest() throws PersistenceException {
+    final var request = mock(BatchRequest.class);
+    doAnswer(
+            i -> {
+              flushLatch.await();
+              return null;
+            })
+        .when(request)
+        .execute();
+    return request;
+  }
+
+  private Batch batchOf(final long position) {
+    batchWriter.addRecord(new TestRecord(position, NULL_VAL));
+    return batchWriter.takeBatch();
+  }
+
+  @FunctionalInterface
+  private interface RequestFactory {
+    BatchRequest create() throws PersistenceException;
+  }
+}
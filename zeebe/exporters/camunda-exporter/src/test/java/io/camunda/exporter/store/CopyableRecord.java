@@ -0,0 +1,108 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.util.Map;
+
+/**
+ * The generated records are immutable, but don't support {@link Record#copyOf()}, which the
+ * handler threads require.
+ */
+record CopyableRecord<T extends RecordValue>(Record<T> record) implements Record<T> {
+
+  @Override
+  public long getPosition() {
+    return record.getPosition();
+  }
+
+  @Override
+  public long getSourceRecordPosition() {
+    return record.getSourceRecordPosition();
+  }
+
+  @Override
+  public long getKey() {
+    return record.getKey();
+  }
+
+  @Override
+  public long getTimestamp() {
+    return record.getTimestamp();
+  }
+
+  @Override
+  public Intent getIntent() {
+    return record.getIntent();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return record.getPartitionId();
+  }
+
+  @Override
+  public RecordType getRecordType() {
+    return record.getRecordType();
+  }
+
+  @Override
+  public RejectionType getRejectionType() {
+    return record.getRejectionType();
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return record.getRejectionReason();
+  }
+
+  @Override
+  public String getBrokerVersion() {
+    return record.getBrokerVersion();
+  }
+
+  @Override
+  public Map<String, Object> getAuthorizations() {
+    return record.getAuthorizations();
+  }
+
+  @Override
+  public int getRecordVersion() {
+    return record.getRecordVersion();
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return record.getValueType();
+  }
+
+  @Override
+  public T getValue() {
+    return record.getValue();
+  }
+
+  @Override
+  public long getOperationReference() {
+    return record.getOperationReference();
+  }
+
+  @Override
+  public Record<T> copyOf() {
+    return this;
+  }
+
+  @Override
+  public String toJson() {
+    return record.toJson();
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.store;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import io.camunda.exporter.DefaultExporterResourceProvider;
+import io.camunda.exporter.cache.ExporterEntityCacheProvider;
+import io.camunda.exporter.cache.form.CachedFormEntity;
+import io.camunda.exporter.cache.process.CachedProcessEntity;
+import io.camunda.exporter.config.ExporterConfiguration;
+import io.camunda.exporter.store.ExporterBatchWriter.Batch;
+import io.camunda.exporter.utils.XMLUtil;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many records per second the export handlers turn into entities, for a mix of
+ * records which resembles the one of a process heavy workload: mostly process instance records,
+ * followed by variable, job and incident records.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ExporterBatchWriterPerformanceTest {
+  private static final int BATCH_SIZE = 1_000;
+  // out of every 20 records
+  private static final Map<ValueType, Integer> RECORD_MIX =
+      Map.of(
+          ValueType.PROCESS_INSTANCE, 12,
+          ValueType.VARIABLE, 4,
+          ValueType.JOB, 3,
+          ValueType.INCIDENT, 1);
+
+  @Param({"0", "4"})
+  public int handlerThreads;
+
+  private final List<Record<?>> records = new ArrayList<>();
+  private ExporterBatchWriter writer;
+
+  @Setup
+  public void setup() {
+    final var provider = new DefaultExporterResourceProvider();
+    provider.init(
+        new ExporterConfiguration(), new EmptyEntityCacheProvider(), new SimpleMeterRegistry());
+
+    final var builder = ExporterBatchWriter.Builder.begin();
+    provider.getExportHandlers().forEach(builder::withHandler);
+    writer =
+        builder
+            .withHandlerThreads(
+                handlerThreads, Thread.ofPlatform().name("handler-", 0).daemon().factory())
+            .build();
+
+    final var factory = new ProtocolFactory(1L);
+    while (records.size() < BATCH_SIZE) {
+      RECORD_MIX.forEach(
+          (valueType, count) -> {
+            for (int i = 0; i < count; i++) {
+              final Record<RecordValue> record =
+                  factory.generateRecord(valueType, r -> r.withRecordType(RecordType.EVENT));
+              records.add(new CopyableRecord<>(record));
+            }
+          });
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    writer.close();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public Batch measureHandlers() {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      writer.addRecord(records.get(i));
+    }
+    return writer.takeBatch();
+  }
+
+  /** Loads nothing, as if no process or form was exported yet. */
+  private static final class EmptyEntityCacheProvider implements ExporterEntityCacheProvider {
+
+    @Override
+    public CacheLoader<Long, CachedProcessEntity> getProcessCacheLoader(
+        final String processIndexName, final XMLUtil xmlUtil) {
+      return key -> null;
+    }
+
+    @Override
+    public CacheLoader<String, CachedFormEntity> getFormCacheLoader(final String formIndexName) {
+      return key -> null;
+    }
+  }
+}
@@ -7,26 +7,62 @@
  */
 package io.camunda.exporter.store;
 
+import static io.camunda.webapps.schema.descriptors.operate.template.IncidentTemplate.BPMN_PROCESS_ID;
 import static io.camunda.zeebe.protocol.record.ValueType.JOB;
 import static io.camunda.zeebe.protocol.record.ValueType.NULL_VAL;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.exporter.cache.TestProcessCache;
 import io.camunda.exporter.entities.TestExporterEntity;
 import io.camunda.exporter.exceptions.PersistenceException;
 import io.camunda.exporter.handlers.ExportHandler;
+import io.camunda.exporter.handlers.IncidentHandler;
+import io.camunda.exporter.handlers.ListViewProcessInstanceFromProcessInstanceHandler;
+import io.camunda.exporter.handlers.ProcessHandler;
+import io.camunda.exporter.utils.XMLUtil;
 import io.camunda.protocol.TestRecord;
 import io.camunda.protocol.TestValue;
+import io.camunda.webapps.schema.entities.operate.IncidentEntity;
+import io.camunda.webapps.schema.entities.operate.listview.ProcessInstanceForListViewEntity;
+import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ImmutableIncidentRecordValue;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.IncidentRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.deployment.ImmutableProcess;
+import io.camunda.zeebe.protocol.record.value.deployment.Process;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class ExporterBatchWriterTest {
   private ExporterBatchWriter batchWriter;
@@ -134,4 +170,205 @@ class ExporterBatchWriterTest {
     verify(batchRequest).execute();
     assertThat(batchWriter.getBatchSize()).isEqualTo(0);
   }
+
+  @Test
+  void shouldTakeCachedEntitiesAsBatch() throws PersistenceException {
+    // given
+    final TestRecord record = new TestRecord(0, NULL_VAL);
+    final String id = "1";
+    final TestExporterEntity entity = new TestExporterEntity().setId(id);
+    when(handler.handlesRecord(eq(record))).thenReturn(true);
+    when(handler.generateIds(eq(record))).thenReturn(List.of(id));
+    when(handler.createNewEntity(eq(id))).thenReturn(entity);
+    batchWriter.addRecord(record);
+
+    // when
+    final var batch = batchWriter.takeBatch();
+    final BatchRequest batchRequest = mock(BatchRequest.class);
+    batch.addTo(batchRequest);
+
+    // then
+    assertThat(batch.size()).isEqualTo(1);
+    assertThat(batchWriter.getBatchSize()).isEqualTo(0);
+    verify(handler).flush(entity, batchRequest);
+    verify(batchRequest, never()).execute();
+  }
+
+  @Nested
+  final class WithHandlerThreads {
+    private final Map<String, List<Long>> updatedPositions = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+      batchWriter =
+          ExporterBatchWriter.Builder.begin()
+              .withHandler(handler)
+              .withHandlerThreads(4, Executors.defaultThreadFactory())
+              .build();
+      when(handler.handlesRecord(any())).thenReturn(true);
+      // records are spread over 10 entities
+      when(handler.generateIds(any()))
+          .thenAnswer(i -> List.of(String.valueOf(i.<TestRecord>getArgument(0).position() % 10)));
+      when(handler.createNewEntity(anyString()))
+          .thenAnswer(i -> new TestExporterEntity().setId(i.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+      batchWriter.close();
+    }
+
+    @Test
+    void shouldUpdateEachEntityInOrderOfRecords() {
+      // given
+      doAnswer(
+              i -> {
+                final var record = (TestRecord) i.getArgument(0);
+                final var entity = (TestExporterEntity) i.getArgument(1);
+                updatedPositions
+                    .computeIfAbsent(entity.getId(), id -> new ArrayList<>())
+                    .add(record.position());
+                return null;
+              })
+          .when(handler)
+          .updateEntity(any(), any());
+
+      // when
+      for (int position = 0; position < 100; position++) {
+        batchWriter.addRecord(new TestRecord(position, NULL_VAL));
+      }
+      final var batch = batchWriter.takeBatch();
+
+      // then
+      assertThat(batch.size()).isEqualTo(10);
+      assertThat(updatedPositions).hasSize(10);
+      assertThat(updatedPositions.values())
+          .allSatisfy(positions -> assertThat(positions).hasSize(10).isSorted());
+    }
+
+    @Test
+    void shouldExportIncidentsOnMultipleThreads() throws PersistenceException {
+      // given - incidents which are handled concurrently by the same handler
+      final var incidentWriter =
+          ExporterBatchWriter.Builder.begin()
+              .withHandler(new IncidentHandler("incident", false, new TestProcessCache()))
+              .withHandlerThreads(4, Executors.defaultThreadFactory())
+              .build();
+      final var factory = new ProtocolFactory();
+      for (long key = 1; key <= 1_000; key++) {
+        final long incidentKey = key;
+        final var intent = key % 2 == 0 ? IncidentIntent.MIGRATED : IncidentIntent.CREATED;
+        final IncidentRecordValue value =
+            ImmutableIncidentRecordValue.builder()
+                .from(factory.generateObject(IncidentRecordValue.class))
+                .withElementInstancePath(List.of())
+                .build();
+        final Record<IncidentRecordValue> record =
+            factory.generateRecord(
+                ValueType.INCIDENT,
+                r -> r.withIntent(intent).withKey(incidentKey).withValue(value));
+        incidentWriter.addRecord(new CopyableRecord<>(record));
+      }
+
+      // when
+      final BatchRequest batchRequest = mock(BatchRequest.class);
+      try {
+        incidentWriter.flush(batchRequest);
+      } finally {
+        incidentWriter.close();
+      }
+
+      // then - every incident is flushed with the update fields of its own intent
+      final ArgumentCaptor<IncidentEntity> entities = ArgumentCaptor.forClass(IncidentEntity.class);
+      final ArgumentCaptor<Map<String, Object>> updateFields = ArgumentCaptor.forClass(Map.class);
+      verify(batchRequest, times(1_000))
+          .upsert(eq("incident"), anyString(), entities.capture(), updateFields.capture());
+      for (int i = 0; i < 1_000; i++) {
+        final boolean migrated = entities.getAllValues().get(i).getKey() % 2 == 0;
+        assertThat(updateFields.getAllValues().get(i).containsKey(BPMN_PROCESS_ID))
+            .isEqualTo(migrated);
+      }
+    }
+
+    @Test
+    void shouldHandleInstancesAfterTheProcessOfTheSameBatch()
+        throws IOException, PersistenceException {
+      // given - a process cache which is only filled by the process handler
+      final var processCache = new TestProcessCache();
+      final var listViewWriter =
+          ExporterBatchWriter.Builder.begin()
+              .withHandler(new ProcessHandler("process", new XMLUtil(), processCache))
+              .withHandler(
+                  new ListViewProcessInstanceFromProcessInstanceHandler(
+                      "list-view", false, processCache))
+              .withHandlerThreads(4, Executors.defaultThreadFactory())
+              .build();
+      final var resource = getClass().getClassLoader().getResource("process/test-process.bpmn");
+      final var bpmn = Files.readAllBytes(Path.of(resource.getPath()));
+      final var factory = new ProtocolFactory();
+
+      // when - every process is deployed and started in the same batch
+      for (long key = 1; key <= 100; key++) {
+        final long processDefinitionKey = key;
+        final long processInstanceKey = 1_000 + key;
+        final Process process =
+            ImmutableProcess.builder()
+                .from(factory.generateObject(ImmutableProcess.class))
+                .withProcessDefinitionKey(processDefinitionKey)
+                .withBpmnProcessId("testProcessId")
+                .withResource(bpmn)
+                .build();
+        final ProcessInstanceRecordValue processInstance =
+            ImmutableProcessInstanceRecordValue.builder()
+                .from(factory.generateObject(ProcessInstanceRecordValue.class))
+                .withBpmnElementType(BpmnElementType.PROCESS)
+                .withProcessDefinitionKey(processDefinitionKey)
+                .withProcessInstanceKey(processInstanceKey)
+                .withBpmnProcessId("testProcessId")
+                .build();
+        listViewWriter.addRecord(
+            new CopyableRecord<>(
+                factory.generateRecord(
+                    ValueType.PROCESS,
+                    r -> r.withIntent(ProcessIntent.CREATED).withValue(process))));
+        listViewWriter.addRecord(
+            new CopyableRecord<>(
+                factory.generateRecord(
+                    ValueType.PROCESS_INSTANCE,
+                    r ->
+                        r.withIntent(ProcessInstanceIntent.ELEMENT_ACTIVATING)
+                            .withValue(processInstance))));
+      }
+      final BatchRequest batchRequest = mock(BatchRequest.class);
+      try {
+        listViewWriter.flush(batchRequest);
+      } finally {
+        listViewWriter.close();
+      }
+
+      // then - no instance fell back to the process id, as its process was cached already
+      final ArgumentCaptor<ProcessInstanceForListViewEntity> entities =
+          ArgumentCaptor.forClass(ProcessInstanceForListViewEntity.class);
+      verify(batchRequest, times(100))
+          .upsert(eq("list-view"), anyString(), entities.capture(), any());
+      assertThat(entities.getAllValues())
+          .extracting(ProcessInstanceForListViewEntity::getProcessName)
+          .containsOnly("testProcessName");
+    }
+
+    @Test
+    void shouldReportFailedUpdate() {
+      // given
+      doThrow(new IllegalStateException("expected")).when(handler).updateEntity(any(), any());
+      batchWriter.addRecord(new TestRecord(0, NULL_VAL));
+
+      // when - then
+      assertThatThrownBy(batchWriter::takeBatch)
+          .isInstanceOf(ExporterException.class)
+          .hasRootCauseMessage("expected");
+      assertThatThrownBy(() -> batchWriter.addRecord(new TestRecord(1, NULL_VAL)))
+          .isInstanceOf(ExporterException.class)
+          .hasRootCauseMessage("expected");
+    }
+  }
 }
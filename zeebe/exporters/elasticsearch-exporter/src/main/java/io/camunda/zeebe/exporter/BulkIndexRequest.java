@@ -7,34 +7,35 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
  * avoid having to serialize it again on retry.
+ *
+ * <p>The sources of all operations are streamed into a single buffer, which is reused after the
+ * request is cleared, so indexing a record doesn't allocate a new array for its source.
  */
 final class BulkIndexRequest implements ContentProducer {
 
   private static final ObjectMapper MAPPER =
-      new ObjectMapper()
-          .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
+      new ObjectMapper().enable(Feature.ALLOW_SINGLE_QUOTES);
 
-  // The property of the ES record template to store the sequence of the record.
-  private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
-
-  private final List<BulkOperation> operations = new ArrayList<>();
+  private final List<IndexedOperation> operations = new ArrayList<>();
+  private final SourceBuffer sources = new SourceBuffer();
 
+  private JsonGenerator generator;
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
 
@@ -58,32 +59,40 @@ final class BulkIndexRequest implements ContentProducer {
       return false;
     }
 
-    final byte[] source;
+    final int sourceOffset = sources.size();
     try {
-      source = serializeRecord(record, recordSequence);
-
+      final var generator = generator();
+      RecordSerializer.serialize(record, recordSequence.sequence(), generator);
+      generator.flush();
     } catch (final IOException e) {
+      discardSourceFrom(sourceOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
+    } catch (final RuntimeException e) {
+      discardSourceFrom(sourceOffset);
+      throw e;
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final int sourceLength = sources.size() - sourceOffset;
+    memoryUsageBytes += sourceLength;
     lastIndexedMetadata = action;
-    operations.add(command);
+    operations.add(new IndexedOperation(action, sourceOffset, sourceLength));
     return true;
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
-      throws IOException {
-    return MAPPER
-        .writer()
-        // Enhance the serialized record by its sequence number. The sequence number is not a part
-        // of the record itself but a special property for Elasticsearch. It can be used to limit
-        // the number of records when reading from the index, for example, by using a range query.
-        // Read https://github.com/camunda/camunda/issues/10568 for details.
-        .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+  private JsonGenerator generator() throws IOException {
+    if (generator == null) {
+      generator = MAPPER.createGenerator(sources, JsonEncoding.UTF8);
+      // every source is a separate document, which is written without a separator
+      generator.setRootValueSeparator(null);
+    }
+    return generator;
+  }
+
+  /** Discards a partially written source, along with the state of the generator that wrote it. */
+  private void discardSourceFrom(final int sourceOffset) {
+    generator = null;
+    sources.truncate(sourceOffset);
   }
 
   /** Returns the number of operations indexed so far. */
@@ -104,6 +113,7 @@ final class BulkIndexRequest implements ContentProducer {
   /** Clears the buffer entirely. */
   void clear() {
     operations.clear();
+    sources.truncate(0);
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -113,9 +123,11 @@ final class BulkIndexRequest implements ContentProducer {
     return lastIndexedMetadata;
   }
 
-  /** Returns the currently indexed operations as an unmodifiable shallow copy. */
+  /** Returns a copy of the currently indexed operations. */
   List<BulkOperation> bulkOperations() {
-    return Collections.unmodifiableList(operations);
+    return operations.stream()
+        .map(operation -> new BulkOperation(operation.metadata(), sources.copyOf(operation)))
+        .toList();
   }
 
   /**
@@ -127,13 +139,54 @@ final class BulkIndexRequest implements ContentProducer {
     for (final var operation : operations) {
       MAPPER.writeValue(outStream, operation.metadata());
       outStream.write('\n');
-      outStream.write(operation.source());
+      outStream.write(sources.array(), operation.sourceOffset(), operation.sourceLength());
       outStream.write('\n');
     }
   }
 
   record BulkOperation(BulkIndexAction metadata, byte[] source) {}
 
-  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
-  private static final class RecordSequenceMixin {}
+  private record IndexedOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
+
+  /** A growable byte buffer, which gives access to its array to write it without copying it. */
+  private static final class SourceBuffer extends OutputStream {
+    private byte[] array = new byte[8 * 1024];
+    private int size;
+
+    @Override
+    public void write(final int b) {
+      ensureCapacity(size + 1);
+      array[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+      ensureCapacity(size + length);
+      System.arraycopy(bytes, offset, array, size, length);
+      size += length;
+    }
+
+    private int size() {
+      return size;
+    }
+
+    private byte[] array() {
+      return array;
+    }
+
+    private void truncate(final int newSize) {
+      size = newSize;
+    }
+
+    private byte[] copyOf(final IndexedOperation operation) {
+      return Arrays.copyOfRange(
+          array, operation.sourceOffset(), operation.sourceOffset() + operation.sourceLength());
+    }
+
+    private void ensureCapacity(final int capacity) {
+      if (capacity > array.length) {
+        array = Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+      }
+    }
+  }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue.JobResultCorrectionsValue;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue.JobResultValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Serializes records as the source of their documents, including the record sequence.
+ *
+ * <p>Process instance, job and variable records make up most of the exported records. They are
+ * written property by property to the given generator, which avoids the reflection of Jackson's
+ * object mapping. The result is the same document as produced by the object mapping. All other
+ * records are serialized by the object mapper, onto the same generator.
+ */
+final class RecordSerializer {
+
+  // The property of the ES record template to store the sequence of the record.
+  static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+
+  // used for the records of other value types, and for the generic values of all records, like
+  // variables; the generator is flushed by the caller once the whole record was written
+  private static final ObjectWriter WRITER =
+      new ObjectMapper()
+          .addMixIn(Record.class, RecordSequenceMixin.class)
+          .writer()
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+  private RecordSerializer() {}
+
+  static void serialize(final Record<?> record, final long sequence, final JsonGenerator generator)
+      throws IOException {
+    switch (record.getValueType()) {
+      case PROCESS_INSTANCE, JOB, VARIABLE -> writeRecord(record, sequence, generator);
+      default ->
+          WRITER
+              // Enhance the serialized record by its sequence number. The sequence number is not a
+              // part of the record itself but a special property for Elasticsearch. It can be used
+              // to limit the number of records when reading from the index, for example, by using
+              // a range query. Read https://github.com/camunda/camunda/issues/10568 for details.
+              .withAttribute(RECORD_SEQUENCE_PROPERTY, sequence)
+              .writeValue(generator, record);
+    }
+  }
+
+  private static void writeRecord(
+      final Record<?> record, final long sequence, final JsonGenerator out) throws IOException {
+    out.writeStartObject();
+    out.writeNumberField("position", record.getPosition());
+    out.writeNumberField("sourceRecordPosition", record.getSourceRecordPosition());
+    out.writeNumberField("key", record.getKey());
+    out.writeNumberField("timestamp", record.getTimestamp());
+    out.writeStringField("intent", nameOf(record.getIntent()));
+    out.writeNumberField("partitionId", record.getPartitionId());
+    out.writeStringField("recordType", nameOf(record.getRecordType()));
+    out.writeStringField("rejectionType", nameOf(record.getRejectionType()));
+    out.writeStringField("rejectionReason", record.getRejectionReason());
+    out.writeStringField("brokerVersion", record.getBrokerVersion());
+    writeObjectField(out, "authorizations", record.getAuthorizations());
+    out.writeNumberField("recordVersion", record.getRecordVersion());
+    out.writeStringField("valueType", nameOf(record.getValueType()));
+
+    out.writeFieldName("value");
+    final var value = record.getValue();
+    if (value instanceof final ProcessInstanceRecordValue processInstance) {
+      writeProcessInstance(out, processInstance);
+    } else if (value instanceof final JobRecordValue job) {
+      writeJob(out, job);
+    } else if (value instanceof final VariableRecordValue variable) {
+      writeVariable(out, variable);
+    } else {
+      WRITER.writeValue(out, value);
+    }
+
+    out.writeNumberField("operationReference", record.getOperationReference());
+    out.writeNumberField(RECORD_SEQUENCE_PROPERTY, sequence);
+    out.writeEndObject();
+  }
+
+  private static void writeProcessInstance(
+      final JsonGenerator out, final ProcessInstanceRecordValue value) throws IOException {
+    out.writeStartObject();
+    out.writeStringField("bpmnProcessId", value.getBpmnProcessId());
+    out.writeNumberField("version", value.getVersion());
+    out.writeNumberField("processDefinitionKey", value.getProcessDefinitionKey());
+    out.writeNumberField("processInstanceKey", value.getProcessInstanceKey());
+    out.writeStringField("elementId", value.getElementId());
+    out.writeNumberField("flowScopeKey", value.getFlowScopeKey());
+    out.writeStringField("bpmnElementType", nameOf(value.getBpmnElementType()));
+    out.writeNumberField("parentProcessInstanceKey", value.getParentProcessInstanceKey());
+    out.writeNumberField("parentElementInstanceKey", value.getParentElementInstanceKey());
+    out.writeStringField("bpmnEventType", nameOf(value.getBpmnEventType()));
+    out.writeStringField("tenantId", value.getTenantId());
+    out.writeEndObject();
+  }
+
+  private static void writeJob(final JsonGenerator out, final JobRecordValue value)
+      throws IOException {
+    out.writeStartObject();
+    out.writeStringField("type", value.getType());
+    writeObjectField(out, "customHeaders", value.getCustomHeaders());
+    out.writeStringField("worker", value.getWorker());
+    out.writeNumberField("retries", value.getRetries());
+    out.writeNumberField("retryBackoff", value.getRetryBackoff());
+    out.writeNumberField("recurringTime", value.getRecurringTime());
+    out.writeNumberField("deadline", value.getDeadline());
+    out.writeNumberField("timeout", value.getTimeout());
+    out.writeStringField("errorMessage", value.getErrorMessage());
+    out.writeStringField("errorCode", value.getErrorCode());
+    out.writeStringField("elementId", value.getElementId());
+    out.writeNumberField("elementInstanceKey", value.getElementInstanceKey());
+    out.writeStringField("bpmnProcessId", value.getBpmnProcessId());
+    out.writeNumberField("processDefinitionVersion", value.getProcessDefinitionVersion());
+    out.writeNumberField("processDefinitionKey", value.getProcessDefinitionKey());
+    out.writeStringField("jobKind", nameOf(value.getJobKind()));
+    out.writeStringField("jobListenerEventType", nameOf(value.getJobListenerEventType()));
+    writeStringArrayField(out, "changedAttributes", value.getChangedAttributes());
+    out.writeFieldName("result");
+    writeJobResult(out, value.getResult());
+    writeObjectField(out, "variables", value.getVariables());
+    out.writeNumberField("processInstanceKey", value.getProcessInstanceKey());
+    out.writeStringField("tenantId", value.getTenantId());
+    out.writeEndObject();
+  }
+
+  private static void writeJobResult(final JsonGenerator out, final JobResultValue result)
+      throws IOException {
+    if (result == null) {
+      out.writeNull();
+      return;
+    }
+
+    out.writeStartObject();
+    out.writeBooleanField("denied", result.isDenied());
+    writeStringArrayField(out, "correctedAttributes", result.getCorrectedAttributes());
+    out.writeFieldName("corrections");
+    final JobResultCorrectionsValue corrections = result.getCorrections();
+    if (corrections == null) {
+      out.writeNull();
+    } else {
+      out.writeStartObject();
+      out.writeStringField("assignee", corrections.getAssignee());
+      out.writeStringField("dueDate", corrections.getDueDate());
+      out.writeStringField("followUpDate", corrections.getFollowUpDate());
+      writeStringArrayField(out, "candidateGroups", corrections.getCandidateGroups());
+      writeStringArrayField(out, "candidateUsers", corrections.getCandidateUsers());
+      out.writeNumberField("priority", corrections.getPriority());
+      out.writeEndObject();
+    }
+    out.writeEndObject();
+  }
+
+  private static void writeVariable(final JsonGenerator out, final VariableRecordValue value)
+      throws IOException {
+    out.writeStartObject();
+    out.writeStringField("name", value.getName());
+    out.writeStringField("value", value.getValue());
+    out.writeNumberField("scopeKey", value.getScopeKey());
+    out.writeNumberField("processInstanceKey", value.getProcessInstanceKey());
+    out.writeNumberField("processDefinitionKey", value.getProcessDefinitionKey());
+    out.writeStringField("bpmnProcessId", value.getBpmnProcessId());
+    out.writeStringField("tenantId", value.getTenantId());
+    out.writeEndObject();
+  }
+
+  private static void writeObjectField(
+      final JsonGenerator out, final String fieldName, final Map<String, ?> value)
+      throws IOException {
+    out.writeFieldName(fieldName);
+    WRITER.writeValue(out, value);
+  }
+
+  private static void writeStringArrayField(
+      final JsonGenerator out, final String fieldName, final Collection<String> values)
+      throws IOException {
+    out.writeFieldName(fieldName);
+    if (values == null) {
+      out.writeNull();
+      return;
+    }
+
+    out.writeStartArray();
+    for (final var value : values) {
+      out.writeString(value);
+    }
+    out.writeEndArray();
+  }
+
+  private static String nameOf(final Enum<?> value) {
+    return value == null ? null : value.name();
+  }
+
+  private static String nameOf(final Intent intent) {
+    return intent == null ? null : intent.name();
+  }
+
+  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
+  private static final class RecordSequenceMixin {}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonAppend;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares indexing records into a {@link BulkIndexRequest}, which streams them into its reusable
+ * buffer, with serializing them through Jackson's object mapping into a new array per record.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RecordSerializerPerformanceTest {
+  private static final ObjectWriter OBJECT_MAPPING_WRITER =
+      new ObjectMapper().addMixIn(Record.class, RecordSequenceMixin.class).writer();
+  private static final BulkIndexAction ACTION = new BulkIndexAction("index", "id", "routing");
+  private static final long SEQUENCE = 1L;
+
+  @Param({"PROCESS_INSTANCE", "JOB", "VARIABLE"})
+  public ValueType valueType;
+
+  private final BulkIndexRequest request = new BulkIndexRequest();
+  private Record<?> record;
+
+  @Setup
+  public void setup() {
+    record = new ProtocolFactory(1L).generateRecord(valueType);
+  }
+
+  @Benchmark
+  public int measureStreaming() {
+    request.clear();
+    request.index(ACTION, record, new RecordSequence(record.getPartitionId(), SEQUENCE));
+    return request.memoryUsageBytes();
+  }
+
+  @Benchmark
+  public byte[] measureObjectMapping() throws IOException {
+    return OBJECT_MAPPING_WRITER
+        .withAttribute(RecordSerializer.RECORD_SEQUENCE_PROPERTY, SEQUENCE)
+        .writeValueAsBytes(record);
+  }
+
+  @JMHTest("measureStreaming")
+  void shouldStreamJobRecordsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - a conservative lower bound, low enough for the slower CI runners, which still
+    // catches falling back to object mapping every record into a new array
+    final var referenceScore = 100_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("valueType", "JOB")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JsonAppend(attrs = {@JsonAppend.Attr(value = RecordSerializer.RECORD_SEQUENCE_PROPERTY)})
+  private static final class RecordSequenceMixin {}
+}
@@ -16,6 +16,7 @@ import io.camunda.zeebe.exporter.opensearch.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.jackson.ZeebeProtocolModule;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
@@ -31,6 +32,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 @Execution(ExecutionMode.CONCURRENT)
 final class BulkIndexRequestTest {
@@ -223,6 +226,51 @@ final class BulkIndexRequestTest {
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
     }
 
+    @ParameterizedTest
+    @EnumSource(
+        value = ValueType.class,
+        names = {"PROCESS_INSTANCE", "JOB", "VARIABLE", "INCIDENT"})
+    void shouldSerializeRecordLikeObjectMapping(final ValueType valueType) throws IOException {
+      // given
+      final var record = recordFactory.generateRecord(valueType);
+      final var recordSequence = new RecordSequence(PARTITION_ID, 10);
+
+      // when
+      request.index(new BulkIndexAction("index", "id", "routing"), record, recordSequence);
+
+      // then
+      final var expectedSource =
+          MAPPER.readValue(MAPPER.writeValueAsBytes(record), MAP_TYPE_REFERENCE);
+      expectedSource.put("sequence", recordSequence.sequence());
+      assertThat(request.bulkOperations())
+          .hasSize(1)
+          .map(operation -> MAPPER.readValue(operation.source(), MAP_TYPE_REFERENCE))
+          .containsExactly(expectedSource);
+    }
+
+    @Test
+    void shouldReuseBufferAfterClear() {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      request.index(
+          new BulkIndexAction("index", "id", "routing"),
+          records.get(0),
+          new RecordSequence(PARTITION_ID, 1));
+      request.clear();
+
+      // when
+      request.index(
+          new BulkIndexAction("index2", "id2", "routing2"),
+          records.get(1),
+          new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      assertThat(request.bulkOperations())
+          .hasSize(1)
+          .map(this::deserializeSource)
+          .containsExactly(records.get(1));
+    }
+
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
         return MAPPER.readValue(operation.source(), new TypeReference<>() {});
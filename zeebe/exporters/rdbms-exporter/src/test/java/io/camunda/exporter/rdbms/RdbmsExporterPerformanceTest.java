@@ -0,0 +1,169 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.exporter.rdbms;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.camunda.db.rdbms.RdbmsService;
+import io.camunda.db.rdbms.sql.ExporterPositionMapper;
+import io.camunda.db.rdbms.write.RdbmsWriterFactory;
+import io.camunda.db.rdbms.write.queue.ExecutionQueue;
+import io.camunda.zeebe.exporter.test.ExporterTestContext;
+import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.protocol.record.ImmutableRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ImmutableProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exports a large batch of process instance records, which are all queued before a single flush.
+ * The database is mocked away, so this mostly measures queueing and merging the statements.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RdbmsExporterPerformanceTest {
+  private static final int PROCESS_INSTANCE_COUNT = 10_000;
+
+  private final List<Record<ProcessInstanceRecordValue>> records = new ArrayList<>();
+  private RdbmsExporter exporter;
+
+  @Setup
+  public void setup() {
+    // stub only, as recording the invocations would take up more time and memory than the export
+    final var session = mock(SqlSession.class, withSettings().stubOnly());
+    final var sessionFactory = mock(SqlSessionFactory.class, withSettings().stubOnly());
+    when(sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED))
+        .thenReturn(session);
+    final var rdbmsService =
+        new RdbmsService(
+            new RdbmsWriterFactory(
+                sessionFactory,
+                mock(ExporterPositionMapper.class, withSettings().stubOnly()),
+                Integer.MAX_VALUE,
+                ExecutionQueue.DEFAULT_MAX_ROWS_PER_INSERT),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null);
+
+    exporter = new RdbmsExporter(rdbmsService);
+    exporter.configure(new ExporterTestContext());
+    exporter.open(new ExporterTestController());
+
+    long key = 1;
+    for (int i = 0; i < PROCESS_INSTANCE_COUNT; i++) {
+      final long processInstanceKey = key++;
+      final long taskKey = key++;
+      records.add(
+          createRecord(
+              processInstanceKey,
+              processInstanceKey,
+              BpmnElementType.PROCESS,
+              ProcessInstanceIntent.ELEMENT_ACTIVATING));
+      records.add(
+          createRecord(
+              taskKey,
+              processInstanceKey,
+              BpmnElementType.SERVICE_TASK,
+              ProcessInstanceIntent.ELEMENT_ACTIVATING));
+    }
+
+    // complete the instances only after all were started, like a large batch of instances with
+    // long-running tasks, so every completion has to be merged into a full queue
+    for (int i = 0; i < PROCESS_INSTANCE_COUNT; i++) {
+      final long processInstanceKey = 1 + 2L * i;
+      final long taskKey = processInstanceKey + 1;
+      records.add(
+          createRecord(
+              taskKey,
+              processInstanceKey,
+              BpmnElementType.SERVICE_TASK,
+              ProcessInstanceIntent.ELEMENT_COMPLETED));
+      records.add(
+          createRecord(
+              processInstanceKey,
+              processInstanceKey,
+              BpmnElementType.PROCESS,
+              ProcessInstanceIntent.ELEMENT_COMPLETED));
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    exporter.close();
+  }
+
+  @Benchmark
+  public int measureBatchExport() {
+    for (final var record : records) {
+      exporter.export(record);
+    }
+
+    exporter.flushExecutionQueue();
+    return records.size();
+  }
+
+  private static Record<ProcessInstanceRecordValue> createRecord(
+      final long key,
+      final long processInstanceKey,
+      final BpmnElementType elementType,
+      final ProcessInstanceIntent intent) {
+    return ImmutableRecord.<ProcessInstanceRecordValue>builder()
+        .withKey(key)
+        .withPosition(key)
+        .withTimestamp(System.currentTimeMillis())
+        .withRecordType(RecordType.EVENT)
+        .withValueType(ValueType.PROCESS_INSTANCE)
+        .withIntent(intent)
+        .withValue(
+            ImmutableProcessInstanceRecordValue.builder()
+                .withBpmnProcessId("process")
+                .withProcessDefinitionKey(1L)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementId(elementType == BpmnElementType.PROCESS ? "process" : "task")
+                .withBpmnElementType(elementType)
+                .withVersion(1)
+                .withTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
+                .build())
+        .build();
+  }
+}
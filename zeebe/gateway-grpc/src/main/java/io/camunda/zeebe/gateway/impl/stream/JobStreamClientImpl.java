@@ -9,6 +9,7 @@ package io.camunda.zeebe.gateway.impl.stream;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.gateway.impl.configuration.JobStreamCfg;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -37,10 +38,20 @@ public final class JobStreamClientImpl implements JobStreamClient {
   public JobStreamClientImpl(
       final ActorSchedulingService schedulingService,
       final ClusterCommunicationService clusterCommunicationService) {
+    this(schedulingService, clusterCommunicationService, new JobStreamCfg());
+  }
+
+  public JobStreamClientImpl(
+      final ActorSchedulingService schedulingService,
+      final ClusterCommunicationService clusterCommunicationService,
+      final JobStreamCfg config) {
     this.schedulingService = schedulingService;
     streamService =
         new TransportFactory(schedulingService)
-            .createRemoteStreamClient(clusterCommunicationService, new JobClientStreamMetrics());
+            .createRemoteStreamClient(
+                clusterCommunicationService,
+                new JobClientStreamMetrics(),
+                config.getClientCapacity());
   }
 
   @Override
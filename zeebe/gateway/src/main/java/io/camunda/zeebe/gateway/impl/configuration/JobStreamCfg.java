@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.util.Objects;
+
+public final class JobStreamCfg {
+
+  private int clientCapacity = ConfigurationDefaults.DEFAULT_JOB_STREAM_CLIENT_CAPACITY;
+
+  /**
+   * @return how many jobs a broker may push at once to each job stream client, until earlier
+   *     pushes are acknowledged; 0 means unlimited
+   */
+  public int getClientCapacity() {
+    return clientCapacity;
+  }
+
+  public JobStreamCfg setClientCapacity(final int clientCapacity) {
+    this.clientCapacity = clientCapacity;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(clientCapacity);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final JobStreamCfg that = (JobStreamCfg) o;
+    return clientCapacity == that.clientCapacity;
+  }
+
+  @Override
+  public String toString() {
+    return "JobStreamCfg{" + "clientCapacity=" + clientCapacity + '}';
+  }
+}
@@ -55,6 +55,7 @@ public final class GatewayCfgTest {
         .setPrivateKeyPath(new File("privateKeyPath"));
     CUSTOM_CFG.getThreads().setManagementThreads(100);
     CUSTOM_CFG.getLongPolling().setEnabled(false);
+    CUSTOM_CFG.getJobStream().setClientCapacity(16);
     CUSTOM_CFG.getMultiTenancy().setEnabled(true);
     CUSTOM_CFG.getInterceptors().add(new InterceptorCfg());
     CUSTOM_CFG.getInterceptors().get(0).setId("example");
@@ -167,6 +168,7 @@ public final class GatewayCfgTest {
             .getPath());
     setEnv("zeebe.gateway.network.minKeepAliveInterval", Duration.ofSeconds(30).toString());
     setEnv("zeebe.gateway.longPolling.enabled", String.valueOf(true));
+    setEnv("zeebe.gateway.jobStream.clientCapacity", String.valueOf(8));
     setEnv("zeebe.gateway.multiTenancy.enabled", String.valueOf(false));
     setEnv("zeebe.gateway.interceptors.0.id", "overwritten");
     setEnv("zeebe.gateway.interceptors.0.className", "Overwritten");
@@ -206,6 +208,7 @@ public final class GatewayCfgTest {
             new File(
                 getClass().getClassLoader().getResource("security/test-chain.cert.pem").getPath()));
     expected.getLongPolling().setEnabled(true);
+    expected.getJobStream().setClientCapacity(8);
     expected.getMultiTenancy().setEnabled(false);
 
     expected.getInterceptors().add(new InterceptorCfg());
@@ -104,6 +104,24 @@ public interface JournalReader extends Iterator<JournalRecord>, AutoCloseable {
    */
   long seekToAsqn(long asqn, long indexUpperBound);
 
+  /**
+   * Reads the next records up to and including the given index as one batch, without copying
+   * them. Records are added to the batch until it reaches the given size in bytes; the record
+   * which exceeds that size is still part of the batch, such that the batch contains at least one
+   * record if {@link #hasNext()} is true and the next index is not greater than {@code lastIndex}.
+   *
+   * <p>A batch never spans more than one segment, so it may end before reaching either limit;
+   * callers should keep reading batches as long as {@link #hasNext()} returns true.
+   *
+   * <p>Reading a batch is equivalent to calling {@link #next()} for each of its records, but only
+   * synchronizes with concurrent modifications of the journal once per batch.
+   *
+   * @param lastIndex the index of the last record to read, inclusive
+   * @param maxBytes the size in bytes after which no more records are added to the batch
+   * @return the next records, or an empty batch if there are none
+   */
+  JournalRecordBatch nextBatch(long lastIndex, int maxBytes);
+
   @Override
   void close();
 }
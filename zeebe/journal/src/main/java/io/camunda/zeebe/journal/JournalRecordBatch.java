@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal;
+
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * A batch of consecutive records read at once via {@link JournalReader#nextBatch(long, int)}.
+ * Neither the batch nor its records copy any data: they are views over the underlying storage,
+ * and are only valid as long as the records are not compacted or truncated.
+ */
+public interface JournalRecordBatch {
+
+  /**
+   * Returns a read-only view over all the records of the batch, as they are laid out in the
+   * underlying storage, i.e. including their framing and metadata.
+   *
+   * @return a view over the serialized records of this batch
+   */
+  DirectBuffer buffer();
+
+  /**
+   * @return the records in this batch, in order of their indexes
+   */
+  List<JournalRecord> records();
+
+  /**
+   * @return true if the batch contains no records, false otherwise
+   */
+  default boolean isEmpty() {
+    return records().isEmpty();
+  }
+}
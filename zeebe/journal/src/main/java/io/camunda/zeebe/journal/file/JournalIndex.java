@@ -31,6 +31,16 @@ interface JournalIndex {
    */
   void index(JournalRecord record, int position);
 
+  /**
+   * Indexes the given mapping directly, e.g. when restoring it from a {@link SegmentIndexFile}. The
+   * same density rules apply as for {@link #index(JournalRecord, int)}.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the record within its segment
+   */
+  void index(long index, long asqn, int position);
+
   /**
    * Looks up the position of the given index.
    *
@@ -89,4 +99,26 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Visits all indexed entries with an index between the given bounds (both inclusive), in
+   * ascending order of their index.
+   *
+   * @param fromIndex the lower bound of the visited indexes
+   * @param toIndex the upper bound of the visited indexes
+   * @param consumer called for each indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryConsumer consumer);
+
+  @FunctionalInterface
+  interface IndexedEntryConsumer {
+
+    /**
+     * @param index the index of the entry
+     * @param asqn the asqn of the entry, or {@link SegmentedJournal#ASQN_IGNORE} if none was
+     *     indexed
+     * @param position the position of the entry within its segment
+     */
+    void accept(long index, long asqn, int position);
+  }
 }
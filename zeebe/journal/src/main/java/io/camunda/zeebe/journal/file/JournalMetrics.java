@@ -79,6 +79,22 @@ final class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Counter SEGMENT_RECYCLED =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_recycled")
+          .help("Number of compacted segment files which were recycled instead of deleted")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter SEGMENT_POOL_MISSES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("segment_pool_misses")
+          .help("Number of segment roll-overs which had to wait for a segment to be allocated")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private static final Counter APPEND_DATA_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -119,6 +135,8 @@ final class JournalMetrics {
   private final Gauge.Child segmentCount;
   private final Gauge.Child journalOpenTime;
   private final Histogram.Child segmentAllocationTime;
+  private final Counter.Child segmentRecycled;
+  private final Counter.Child segmentPoolMisses;
   private final Histogram.Child appendLatency;
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
@@ -132,6 +150,8 @@ final class JournalMetrics {
     segmentCount = SEGMENT_COUNT.labels(partitionId);
     journalOpenTime = JOURNAL_OPEN_DURATION.labels(partitionId);
     segmentAllocationTime = SEGMENT_ALLOCATION_TIME.labels(partitionId);
+    segmentRecycled = SEGMENT_RECYCLED.labels(partitionId);
+    segmentPoolMisses = SEGMENT_POOL_MISSES.labels(partitionId);
     appendLatency = APPEND_LATENCY.labels(partitionId);
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
@@ -170,6 +190,14 @@ final class JournalMetrics {
     return segmentAllocationTime.startTimer();
   }
 
+  void incSegmentRecycled() {
+    segmentRecycled.inc();
+  }
+
+  void incSegmentPoolMisses() {
+    segmentPoolMisses.inc();
+  }
+
   void observeAppend(final long appendedBytes) {
     appendRate.inc();
     appendDataRate.inc(appendedBytes / 1024f);
@@ -0,0 +1,290 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse {@link JournalIndex} which keeps its mappings in sorted primitive arrays instead of
+ * boxed skip list nodes. Lookups are binary searches over the arrays.
+ *
+ * <p>Entries are almost always indexed in ascending order by the writer, which makes the common
+ * case an append at the end of the arrays. Readers may however index entries of segments which
+ * were not indexed before (see {@link SegmentReader#seek(long)}), so out of order inserts are
+ * supported as well, at the cost of shifting the tail of the arrays.
+ *
+ * <p>Mutations are guarded by the write lock of a {@link StampedLock}; lookups use optimistic reads
+ * and only fall back to the read lock if a concurrent mutation was detected.
+ */
+final class PrimitiveSparseJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // index <-> asqn, sorted by index; since asqns are monotonic with their indexes, this is also
+  // sorted by asqn
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+
+  PrimitiveSparseJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final JournalRecord indexedEntry, final int position) {
+    index(indexedEntry.index(), indexedEntry.asqn(), position);
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    long stamp = lock.tryOptimisticRead();
+    IndexInfo info = unsafeLookup(index);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        info = unsafeLookup(index);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return info;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    long stamp = lock.tryOptimisticRead();
+    long index = unsafeLookupAsqn(asqn, indexUpperBound);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        index = unsafeLookupAsqn(asqn, indexUpperBound);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return index == SegmentedJournal.ASQN_IGNORE ? null : index;
+  }
+
+  @Override
+  public void deleteAfter(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      size = floor(indexes, size, index) + 1;
+      asqnSize = floor(asqnIndexes, asqnSize, index) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      final int firstKept = ceiling(indexes, size, index);
+      if (firstKept > 0) {
+        System.arraycopy(indexes, firstKept, indexes, 0, size - firstKept);
+        System.arraycopy(positions, firstKept, positions, 0, size - firstKept);
+        size -= firstKept;
+      }
+
+      // keep the asqn of the last indexed entry before the given index, such that asqn lookups
+      // still find a starting point close to the compaction bound
+      final int firstKeptAsqn = floor(asqnIndexes, asqnSize, index);
+      if (firstKeptAsqn > 0) {
+        System.arraycopy(asqnIndexes, firstKeptAsqn, asqnIndexes, 0, asqnSize - firstKeptAsqn);
+        System.arraycopy(asqns, firstKeptAsqn, asqns, 0, asqnSize - firstKeptAsqn);
+        asqnSize -= firstKeptAsqn;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      size = 0;
+      asqnSize = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    final long stamp = lock.readLock();
+    try {
+      int asqnSlot = ceiling(asqnIndexes, asqnSize, fromIndex);
+      for (int slot = ceiling(indexes, size, fromIndex);
+          slot < size && indexes[slot] <= toIndex;
+          slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnSize && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final long asqn =
+            asqnSlot < asqnSize && asqnIndexes[asqnSlot] == index
+                ? asqns[asqnSlot]
+                : SegmentedJournal.ASQN_IGNORE;
+        consumer.accept(index, asqn, positions[slot]);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  private IndexInfo unsafeLookup(final long index) {
+    // read the fields once, as they may be swapped concurrently during an optimistic read
+    final long[] currentIndexes = indexes;
+    final int[] currentPositions = positions;
+    final int currentSize =
+        Math.min(size, Math.min(currentIndexes.length, currentPositions.length));
+
+    final int floor = floor(currentIndexes, currentSize, index);
+    return floor >= 0 ? new IndexInfo(currentIndexes[floor], currentPositions[floor]) : null;
+  }
+
+  private long unsafeLookupAsqn(final long asqn, final long indexUpperBound) {
+    // read the fields once, as they may be swapped concurrently during an optimistic read
+    final long[] currentIndexes = asqnIndexes;
+    final long[] currentAsqns = asqns;
+    final int currentSize =
+        Math.min(asqnSize, Math.min(currentIndexes.length, currentAsqns.length));
+
+    final int floor = floor(currentAsqns, currentSize, asqn);
+    if (floor < 0) {
+      return SegmentedJournal.ASQN_IGNORE;
+    }
+
+    if (currentIndexes[floor] <= indexUpperBound) {
+      return currentIndexes[floor];
+    }
+
+    final int boundedFloor = floor(currentIndexes, currentSize, indexUpperBound);
+    return boundedFloor >= 0 ? currentIndexes[boundedFloor] : SegmentedJournal.ASQN_IGNORE;
+  }
+
+  private void putPosition(final long index, final int position) {
+    int slot = size;
+    if (size == 0 || indexes[size - 1] < index) {
+      ensurePositionsCapacity(size + 1);
+    } else {
+      slot = Arrays.binarySearch(indexes, 0, size, index);
+      if (slot >= 0) {
+        positions[slot] = position;
+        return;
+      }
+
+      slot = -(slot + 1);
+      ensurePositionsCapacity(size + 1);
+      System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+      System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    }
+
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    int slot = asqnSize;
+    if (asqnSize == 0 || asqnIndexes[asqnSize - 1] < index) {
+      ensureAsqnsCapacity(asqnSize + 1);
+    } else {
+      slot = Arrays.binarySearch(asqnIndexes, 0, asqnSize, index);
+      if (slot >= 0) {
+        asqns[slot] = asqn;
+        return;
+      }
+
+      slot = -(slot + 1);
+      ensureAsqnsCapacity(asqnSize + 1);
+      System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+      System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+    }
+
+    asqnIndexes[slot] = index;
+    asqns[slot] = asqn;
+    asqnSize++;
+  }
+
+  private void ensurePositionsCapacity(final int capacity) {
+    if (capacity > indexes.length) {
+      final int newCapacity = indexes.length << 1;
+      indexes = Arrays.copyOf(indexes, newCapacity);
+      positions = Arrays.copyOf(positions, newCapacity);
+    }
+  }
+
+  private void ensureAsqnsCapacity(final int capacity) {
+    if (capacity > asqnIndexes.length) {
+      final int newCapacity = asqnIndexes.length << 1;
+      asqnIndexes = Arrays.copyOf(asqnIndexes, newCapacity);
+      asqns = Arrays.copyOf(asqns, newCapacity);
+    }
+  }
+
+  /** Returns the slot of the greatest value lower than or equal to the key, or -1 if none. */
+  private static int floor(final long[] values, final int size, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1) - 1;
+  }
+
+  /** Returns the slot of the lowest value greater than or equal to the key, or size if none. */
+  private static int ceiling(final long[] values, final int size, final long key) {
+    final int slot = Arrays.binarySearch(values, 0, size, key);
+    return slot >= 0 ? slot : -(slot + 1);
+  }
+}
@@ -30,6 +30,9 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,11 +55,16 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
   private final JournalMetrics metrics;
+  private final SegmentIndexFile indexFile;
 
   // This needs to be volatile in case the flushing is asynchronous
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  // Readers load the index file on their first seek; there is no harm in loading it more than once
+  private volatile boolean indexFileLoaded = false;
+  // The index file is written asynchronously, off the append path, when the segment is sealed
+  private volatile CompletableFuture<Void> indexFileWrite = CompletableFuture.completedFuture(null);
 
   Segment(
       final SegmentFile file,
@@ -72,6 +80,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    indexFile = new SegmentIndexFile(file.indexFile());
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -230,19 +239,129 @@ final class Segment implements AutoCloseable, FlushableSegment {
   @Override
   public void close() {
     open = false;
+    awaitIndexFileWrite();
     readers.forEach(SegmentReader::close);
     IoUtil.unmap(buffer);
   }
 
+  /**
+   * Persists the index entries of this segment to its {@link SegmentIndexFile}. Must only be called
+   * once the segment is sealed, i.e. once no more entries will be appended to it. The entries are
+   * copied right away, but the file is written on the given executor to keep it off the append
+   * path.
+   *
+   * <p>Nothing is persisted if the segment's entries were not all indexed, e.g. if it was only
+   * partially indexed after a restart, as loading such a file would not spare scanning it.
+   */
+  void persistIndex(final Executor executor) {
+    if (writer.getLastIndex() < index() || !writer.hasIndexedAllEntries()) {
+      return;
+    }
+
+    final var content = indexFile.serialize(summary(), index);
+    final var segmentId = id();
+    indexFileWrite =
+        CompletableFuture.runAsync(() -> indexFile.write(segmentId, content), executor);
+    indexFileLoaded = true;
+  }
+
+  /**
+   * Loads the segment's {@link SegmentIndexFile} into the journal index, if it was not loaded yet
+   * and is still valid for this segment.
+   */
+  void loadIndexFile() {
+    if (indexFileLoaded) {
+      return;
+    }
+
+    if (indexFile.load(summary(), index)) {
+      LOG.trace("Loaded index of segment {} from {}", this, indexFile.path());
+    }
+    indexFileLoaded = true;
+  }
+
+  /**
+   * Deletes the segment's {@link SegmentIndexFile}, e.g. because the segment is about to be
+   * modified.
+   */
+  void deleteIndexFile() {
+    indexFileLoaded = true;
+    awaitIndexFileWrite();
+    indexFile.delete();
+  }
+
+  private void awaitIndexFileWrite() {
+    try {
+      indexFileWrite.join();
+    } catch (final CompletionException e) {
+      LOG.debug("Failed to write index file of segment {}", this, e);
+    }
+  }
+
+  private SegmentIndexFile.SegmentSummary summary() {
+    return new SegmentIndexFile.SegmentSummary(
+        id(),
+        index(),
+        writer.getLastIndex(),
+        writer.getLastEntryPosition(),
+        writer.getLastEntryChecksum());
+  }
+
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndexFile();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
     }
   }
 
+  /**
+   * Recycles the segment's file as the file of a new segment with the given ID, instead of deleting
+   * it. This is only possible if no readers are left, as the mapped buffer is handed over as is. If
+   * the segment cannot be recycled, it is deleted as usual.
+   *
+   * <p>The file is first moved to its new path, which must sort after all other segments, and only
+   * then is its descriptor invalidated. If we crash in between, the moved file is detected as
+   * corrupted on restart; since it's after the last flushed index, it is then simply deleted.
+   *
+   * @param target the file of the new segment
+   * @param segmentId the ID of the new segment
+   * @return the recycled segment, or null if it was deleted instead
+   */
+  UninitializedSegment recycle(final SegmentFile target, final long segmentId) {
+    open = false;
+    deleteIndexFile();
+    if (!readers.isEmpty() || buffer.capacity() != descriptor.maxSegmentSize()) {
+      delete();
+      return null;
+    }
+
+    try {
+      FileUtil.moveDurably(file.file().toPath(), target.file().toPath());
+    } catch (final IOException e) {
+      LOG.warn("Failed to recycle segment {} to {}, deleting it instead", this, target.file(), e);
+      delete();
+      return null;
+    }
+
+    // clearing the descriptor and the first entry's frame makes the file look like a freshly
+    // allocated one; the writer always invalidates the frame after the last entry it appends, so
+    // the stale entries beyond it will never be read
+    final int clearedLength =
+        Math.max(descriptor.encodingLength(), SegmentDescriptorSerializer.currentEncodingLength())
+            + FrameUtil.getLength();
+    for (int i = 0; i < clearedLength; i++) {
+      buffer.put(i, (byte) 0);
+    }
+    buffer.force(0, clearedLength);
+    buffer.clear();
+
+    return new UninitializedSegment(
+        target, segmentId, descriptor.maxSegmentSize(), buffer, index);
+  }
+
   private void safeDelete() {
     if (!readers.isEmpty()) {
       throw new JournalException(
@@ -33,6 +33,7 @@ public final class SegmentFile {
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
   private static final String DELETE_EXTENSION = "deleted";
+  private static final String INDEX_EXTENSION = "idx";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
   private Path fileMarkedForDeletion;
@@ -125,6 +126,40 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the path of the {@link SegmentIndexFile} of this segment, which has the same name as
+   * the segment file but a different extension.
+   */
+  Path indexFile() {
+    return indexFileOf(file.toPath());
+  }
+
+  static Path indexFileOf(final Path segmentFile) {
+    final String fileName = segmentFile.getFileName().toString();
+    final String baseName = fileName.substring(0, fileName.lastIndexOf(EXTENSION_SEPARATOR));
+    return segmentFile.resolveSibling(baseName + EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
+
+  /**
+   * Returns the segment file which the given index file (or a temporary version of it) belongs to,
+   * or null if the given file name is not an index file of the given journal.
+   */
+  static Path getSegmentFileOfIndexFile(final String journalName, final Path indexFile) {
+    checkNotNull(journalName, "journalName cannot be null");
+    String fileName = indexFile.getFileName().toString();
+    if (!fileName.startsWith(journalName)) {
+      return null;
+    }
+
+    final int extensionStart = fileName.lastIndexOf(EXTENSION_SEPARATOR + INDEX_EXTENSION);
+    if (extensionStart == -1) {
+      return null;
+    }
+
+    fileName = fileName.substring(0, extensionStart) + EXTENSION_SEPARATOR + EXTENSION;
+    return isSegmentFile(journalName, fileName) ? indexFile.resolveSibling(fileName) : null;
+  }
+
   Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
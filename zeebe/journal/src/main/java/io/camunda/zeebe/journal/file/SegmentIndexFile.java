@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A sidecar file to a sealed segment, which contains the {@link JournalIndex} entries of that
+ * segment. Loading it after a restart avoids having to scan the segment to rebuild its index when
+ * a reader first seeks into it.
+ *
+ * <p>The file is only a cache: it is written without flushing, and is validated on load against
+ * its checksum as well as the segment's descriptor and last entry. If it is missing, invalid or
+ * stale, it is ignored (and deleted), and the segment is indexed by scanning as before.
+ *
+ * <p>Layout (little endian):
+ *
+ * <pre>
+ * version (int) | segment id (long) | first index (long) | last index (long)
+ * | last entry position (int) | last entry checksum (long) | entry count (int)
+ * | entry count * [index (long) | asqn (long) | position (int)]
+ * | CRC32C of all preceding bytes (long)
+ * </pre>
+ */
+final class SegmentIndexFile {
+  private static final Logger LOGGER = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int VERSION = 1;
+  private static final int HEADER_LENGTH =
+      Integer.BYTES + 3 * Long.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+  private static final int ENTRY_LENGTH = 2 * Long.BYTES + Integer.BYTES;
+  private static final String TMP_SUFFIX = ".tmp";
+
+  private final Path path;
+
+  SegmentIndexFile(final Path path) {
+    this.path = path;
+  }
+
+  Path path() {
+    return path;
+  }
+
+  /**
+   * Serializes all entries of the given index which belong to the given sealed segment. This only
+   * copies the entries, so it can be done on the writer's thread before the index is modified
+   * again, while the file itself is written later via {@link #write(long, ByteBuffer)}.
+   */
+  ByteBuffer serialize(final SegmentSummary segment, final JournalIndex index) {
+    final var entries = new EntriesCollector();
+    index.forEach(segment.firstIndex(), segment.lastIndex(), entries);
+
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entries.count * ENTRY_LENGTH + Long.BYTES)
+            .order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(segment.id())
+        .putLong(segment.firstIndex())
+        .putLong(segment.lastIndex())
+        .putInt(segment.lastPosition())
+        .putLong(segment.lastChecksum())
+        .putInt(entries.count);
+    for (int i = 0; i < entries.count; i++) {
+      buffer.putLong(entries.indexes[i]).putLong(entries.asqns[i]).putInt(entries.positions[i]);
+    }
+    buffer.putLong(checksum(buffer.array(), buffer.position()));
+    return buffer.flip();
+  }
+
+  /**
+   * Writes the given content, as returned by {@link #serialize(SegmentSummary, JournalIndex)}.
+   * Failures are logged and otherwise ignored, as the file is only an optimization.
+   */
+  void write(final long segmentId, final ByteBuffer buffer) {
+    final var tmpPath = path.resolveSibling(path.getFileName() + TMP_SUFFIX);
+    try {
+      try (final var channel =
+          FileChannel.open(
+              tmpPath,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+      }
+
+      Files.move(
+          tmpPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to write index file {} of segment {}; it will be indexed on demand instead",
+          path,
+          segmentId,
+          e);
+      delete();
+    }
+  }
+
+  /**
+   * Loads the entries of this file into the given index, if the file exists and matches the given
+   * segment.
+   *
+   * @return true if the entries were loaded, false otherwise
+   */
+  boolean load(final SegmentSummary segment, final JournalIndex index) {
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(path);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOGGER.debug("Failed to read index file {}, ignoring it", path, e);
+      return false;
+    }
+
+    final var buffer = ByteBuffer.wrap(content).order(ENDIANNESS);
+    if (!isValid(buffer, segment)) {
+      LOGGER.debug("Index file {} does not match segment {}, deleting it", path, segment.id());
+      delete();
+      return false;
+    }
+
+    final int count = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    buffer.position(HEADER_LENGTH);
+    for (int i = 0; i < count; i++) {
+      index.index(buffer.getLong(), buffer.getLong(), buffer.getInt());
+    }
+
+    return true;
+  }
+
+  void delete() {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOGGER.warn("Failed to delete index file {}; it may be stale", path, e);
+    }
+  }
+
+  private boolean isValid(final ByteBuffer buffer, final SegmentSummary segment) {
+    final int length = buffer.capacity();
+    if (length < HEADER_LENGTH + Long.BYTES || buffer.getInt(0) != VERSION) {
+      return false;
+    }
+
+    final int count = buffer.getInt(HEADER_LENGTH - Integer.BYTES);
+    if (count < 0 || length != HEADER_LENGTH + count * ENTRY_LENGTH + Long.BYTES) {
+      return false;
+    }
+
+    final long expectedChecksum = buffer.getLong(length - Long.BYTES);
+    if (checksum(buffer.array(), length - Long.BYTES) != expectedChecksum) {
+      return false;
+    }
+
+    buffer.position(Integer.BYTES);
+    return buffer.getLong() == segment.id()
+        && buffer.getLong() == segment.firstIndex()
+        && buffer.getLong() == segment.lastIndex()
+        && buffer.getInt() == segment.lastPosition()
+        && buffer.getLong() == segment.lastChecksum();
+  }
+
+  private static long checksum(final byte[] bytes, final int length) {
+    final var crc = new CRC32C();
+    crc.update(bytes, 0, length);
+    return crc.getValue();
+  }
+
+  /**
+   * Identifies the content of a sealed segment. An index file is only valid for the segment it was
+   * written for if all of these match; in particular, the last entry's position and checksum will
+   * change if the segment was truncated and rewritten since.
+   */
+  record SegmentSummary(
+      long id, long firstIndex, long lastIndex, int lastPosition, long lastChecksum) {}
+
+  private static final class EntriesCollector implements JournalIndex.IndexedEntryConsumer {
+    private long[] indexes = new long[64];
+    private long[] asqns = new long[64];
+    private int[] positions = new int[64];
+    private int count;
+
+    @Override
+    public void accept(final long index, final long asqn, final int position) {
+      if (count == indexes.length) {
+        indexes = Arrays.copyOf(indexes, count << 1);
+        asqns = Arrays.copyOf(asqns, count << 1);
+        positions = Arrays.copyOf(positions, count << 1);
+      }
+
+      indexes[count] = index;
+      asqns[count] = asqn;
+      positions[count] = position;
+      count++;
+    }
+  }
+}
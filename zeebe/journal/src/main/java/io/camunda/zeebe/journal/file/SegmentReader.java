@@ -18,11 +18,15 @@ package io.camunda.zeebe.journal.file;
 
 import com.google.common.base.Preconditions;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.JournalRecordBatch;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /** Log segment reader. */
 final class SegmentReader implements Iterator<JournalRecord> {
@@ -70,6 +74,23 @@ final class SegmentReader implements Iterator<JournalRecord> {
     return currentEntry;
   }
 
+  /**
+   * Reads the next records of this segment, up to and including the given index, as one batch.
+   * See {@link io.camunda.zeebe.journal.JournalReader#nextBatch(long, int)}.
+   */
+  JournalRecordBatch nextBatch(final long lastIndex, final int maxBytes) {
+    final int startPosition = buffer.position();
+    final List<JournalRecord> records = new ArrayList<>();
+    while (getNextIndex() <= lastIndex
+        && buffer.position() - startPosition < maxBytes
+        && hasNext()) {
+      records.add(next());
+    }
+
+    return new SegmentRecordBatch(
+        new UnsafeBuffer(buffer, startPosition, buffer.position() - startPosition), records);
+  }
+
   void reset() {
     buffer.position(descriptorLength);
     currentIndex = segment.index() - 1;
@@ -82,6 +103,8 @@ final class SegmentReader implements Iterator<JournalRecord> {
 
     reset();
 
+    // after a restart, sealed segments may have a persisted index which spares us scanning them
+    segment.loadIndexFile();
     final var position = this.index.lookup(index - 1);
     if (position != null && position.index() >= firstIndex && position.index() <= lastIndex) {
       buffer.position(position.position());
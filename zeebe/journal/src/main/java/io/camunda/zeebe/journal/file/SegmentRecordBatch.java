@@ -0,0 +1,23 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.JournalRecordBatch;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/** A batch of records read from a single segment, as a view over the segment's buffer. */
+record SegmentRecordBatch(DirectBuffer buffer, List<JournalRecord> records)
+    implements JournalRecordBatch {
+
+  static final SegmentRecordBatch EMPTY =
+      new SegmentRecordBatch(new UnsafeBuffer(0, 0), Collections.emptyList());
+}
@@ -59,6 +59,9 @@ final class SegmentWriter {
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
+  // false if the writer jumped to the last entry on start up, skipping the index of all entries
+  // before it; readers may still index them on demand, but we cannot tell which ones they did
+  private boolean indexedAllEntries = true;
 
   SegmentWriter(
       final MappedByteBuffer buffer,
@@ -92,6 +95,15 @@ final class SegmentWriter {
     }
   }
 
+  /**
+   * Returns true if all entries of the segment were indexed by this writer, i.e. if it appended or
+   * scanned all of them. This is not the case after a restart, when jumping directly to the last
+   * entry of the segment.
+   */
+  boolean hasIndexedAllEntries() {
+    return indexedAllEntries;
+  }
+
   long getLastIndex() {
     return lastEntry != null ? lastEntry.index() : segment.index() - 1;
   }
@@ -100,6 +112,10 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  long getLastEntryChecksum() {
+    return lastEntry != null ? lastEntry.checksum() : 0;
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -302,6 +318,7 @@ final class SegmentWriter {
   }
 
   private void jumpToLastEntry(final int lastPosition, final long lastIndex) {
+    indexedAllEntries = false;
     try {
       buffer.position(lastPosition);
       buffer.mark();
@@ -348,6 +365,7 @@ final class SegmentWriter {
 
   private void reset(final long index, final boolean detectCorruption) {
     long nextIndex = firstIndex;
+    indexedAllEntries = true;
 
     buffer.position(descriptorLength);
     buffer.mark();
@@ -396,6 +414,7 @@ final class SegmentWriter {
     if (index < segment.index()) {
       buffer.position(descriptorLength);
       invalidateNextEntry(descriptorLength);
+      indexedAllEntries = true;
     } else {
       if (lastEntryPosition > 0) {
         // There can be race condition between truncating the segment, updating the descriptor, and
@@ -32,6 +32,10 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = false;
+  private static final int DEFAULT_PREPARED_SEGMENTS = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENTS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +47,10 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
+  private int preparedSegments = DEFAULT_PREPARED_SEGMENTS;
+  private boolean recycleSegments = DEFAULT_RECYCLE_SEGMENTS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -127,6 +135,59 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays (see {@link
+   * PrimitiveSparseJournalIndex}) instead of concurrent skip lists. This avoids boxing every
+   * indexed entry, which reduces the heap footprint and GC pressure for large journals.
+   *
+   * @param primitiveJournalIndex true to use the primitive index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the index of a segment is persisted to a sidecar file once the segment is full.
+   * After a restart, the index is then loaded from that file the first time a reader seeks into
+   * the segment, instead of scanning the segment's entries.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistedSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
+  /**
+   * Sets how many segments are prepared ahead of time, i.e. allocated and mapped in the background
+   * such that rolling over to the next segment does not have to wait for it.
+   *
+   * @param preparedSegments the number of segments to prepare ahead of time
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPreparedSegments(final int preparedSegments) {
+    checkArgument(preparedSegments > 0, "preparedSegments must be positive");
+    this.preparedSegments = preparedSegments;
+    return this;
+  }
+
+  /**
+   * Sets whether compacted segments are recycled as prepared segments (see {@link
+   * #withPreparedSegments(int)}) instead of being deleted, as long as fewer segments than
+   * configured are prepared. Their files are then renamed and reused instead of allocating new
+   * ones.
+   *
+   * @param recycleSegments true to recycle compacted segments, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSegmentRecycling(final boolean recycleSegments) {
+    this.recycleSegments = recycleSegments;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -163,7 +224,10 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        primitiveJournalIndex
+            ? new PrimitiveSparseJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
@@ -176,7 +240,10 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            persistSegmentIndex,
+            preparedSegments,
+            recycleSegments);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -20,6 +20,7 @@ import static io.camunda.zeebe.journal.file.SegmentedJournal.ASQN_IGNORE;
 
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.JournalRecordBatch;
 import java.util.NoSuchElementException;
 
 class SegmentedJournalReader implements JournalReader {
@@ -65,6 +66,20 @@ class SegmentedJournalReader implements JournalReader {
     }
   }
 
+  @Override
+  public JournalRecordBatch nextBatch(final long lastIndex, final int maxBytes) {
+    final var stamp = journal.acquireReadlock();
+    try {
+      if (!unsafeHasNext()) {
+        return SegmentRecordBatch.EMPTY;
+      }
+
+      return currentReader.nextBatch(lastIndex, maxBytes);
+    } finally {
+      journal.releaseReadlock(stamp);
+    }
+  }
+
   private JournalRecord unsafeNext() throws NoSuchElementException {
     if (!unsafeHasNext()) {
       throw new NoSuchElementException();
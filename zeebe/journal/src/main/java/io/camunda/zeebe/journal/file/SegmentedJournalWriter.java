@@ -111,6 +111,9 @@ final class SegmentedJournalWriter {
       currentWriter = currentSegment.writer();
     }
 
+    // The segment may have been sealed before, in which case its persisted index does not match it
+    // anymore once we append to it again.
+    currentSegment.deleteIndexFile();
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
     // the old truncated entry.
     currentSegment.resetLastEntryInDescriptor();
@@ -19,11 +19,13 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -32,10 +34,23 @@ import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Create new segments. Load existing segments from the disk. Keep track of all segments. */
+/**
+ * Create new segments. Load existing segments from the disk. Keep track of all segments.
+ *
+ * <p>To keep segment creation off the append path, a pool of segments is prepared ahead of time:
+ * their files are allocated and mapped asynchronously, and only their descriptor is written when
+ * the writer rolls over. If recycling is enabled, compacted segments are renamed and put into that
+ * pool instead of being deleted, sparing both the file deletion and the allocation of a new one.
+ * Prepared segments always have greater IDs than any segment in use, and are handed out in order
+ * of their IDs, such that the segments remain ordered by ID on disk.
+ */
 final class SegmentsManager implements AutoCloseable {
 
   private static final long FIRST_SEGMENT_ID = 1;
@@ -44,9 +59,13 @@ final class SegmentsManager implements AutoCloseable {
 
   private static final Logger LOG = LoggerFactory.getLogger(SegmentsManager.class);
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
+  private static final Duration INDEX_FILE_THREAD_KEEP_ALIVE = Duration.ofSeconds(60);
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  // guarded by itself, as segments may be recycled concurrently to the writer rolling over
+  private final Deque<CompletableFuture<UninitializedSegment>> preparedSegments =
+      new ArrayDeque<>();
+  private long lastPreparedSegmentId;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +74,12 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final boolean persistSegmentIndex;
+  private final int preparedSegmentsCount;
+  private final boolean recycleSegments;
+  // writes the index files of sealed segments off the append path; a single thread is enough, as
+  // segments are sealed one after the other
+  private final ThreadPoolExecutor indexFileExecutor;
 
   private volatile Segment currentSegment;
 
@@ -65,7 +90,10 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final boolean persistSegmentIndex,
+      final int preparedSegmentsCount,
+      final boolean recycleSegments) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +101,18 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.persistSegmentIndex = persistSegmentIndex;
+    this.preparedSegmentsCount = preparedSegmentsCount;
+    this.recycleSegments = recycleSegments;
+    indexFileExecutor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            INDEX_FILE_THREAD_KEEP_ALIVE.toMillis(),
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("zb-journal-index-" + name + "-", 0).daemon().factory());
+    indexFileExecutor.allowCoreThreadTimeOut(true);
   }
 
   @Override
@@ -85,16 +125,20 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
-      try {
-        nextSegment.join();
-      } catch (final Exception e) {
-        LOG.warn(
-            "Next segment preparation failed during close, ignoring and proceeding to close", e);
+    synchronized (preparedSegments) {
+      for (final var preparedSegment : preparedSegments) {
+        try {
+          IoUtil.unmap(preparedSegment.join().buffer());
+        } catch (final Exception e) {
+          LOG.warn(
+              "Next segment preparation failed during close, ignoring and proceeding to close", e);
+        }
       }
-      nextSegment = null;
+      preparedSegments.clear();
     }
 
+    // segments wait for their pending index file writes when closed, so nothing is left to do
+    indexFileExecutor.shutdown();
     currentSegment = null;
   }
 
@@ -119,6 +163,10 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    if (persistSegmentIndex) {
+      // the current segment is sealed from here on
+      currentSegment.persistIndex(indexFileExecutor);
+    }
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -129,19 +177,28 @@ final class SegmentsManager implements AutoCloseable {
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
+    final CompletableFuture<UninitializedSegment> nextSegment;
+    synchronized (preparedSegments) {
+      nextSegment = preparedSegments.poll();
+    }
+
     if (nextSegment != null) {
+      if (!nextSegment.isDone()) {
+        journalMetrics.incSegmentPoolMisses();
+      }
+
       try {
         currentSegment =
             nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
     } else {
+      journalMetrics.incSegmentPoolMisses();
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -196,8 +253,10 @@ final class SegmentsManager implements AutoCloseable {
         compactSegments.get(compactSegments.lastKey()).index(),
         compactSegments.size());
     for (final Segment segment : compactSegments.values()) {
-      LOG.trace("{} - Deleting segment: {}", name, segment);
-      segment.delete();
+      if (!recycleSegment(segment)) {
+        LOG.trace("{} - Deleting segment: {}", name, segment);
+        segment.delete();
+      }
       journalMetrics.decSegmentCount();
     }
 
@@ -314,16 +373,76 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    deleteOrphanedIndexFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  private void prepareNextSegments() {
+    synchronized (preparedSegments) {
+      while (preparedSegments.size() < preparedSegmentsCount) {
+        final var descriptor =
+            SegmentDescriptor.builder()
+                .withId(nextPreparedSegmentId())
+                .withIndex(INITIAL_INDEX)
+                .withMaxSegmentSize(maxSegmentSize)
+                .build();
+        preparedSegments.add(
+            CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor)));
+      }
+    }
+  }
+
+  /**
+   * Tries to recycle the given compacted segment into the pool of prepared segments, if recycling
+   * is enabled and the pool is not full yet. Since the pool is topped up on every roll-over, it may
+   * hold up to twice the configured amount of prepared segments, so that compacted segments can
+   * replace allocations on the next roll-overs.
+   *
+   * <p>The slot in the pool is reserved up front, so prepared segments are still handed out in
+   * order of their IDs, but the segment itself is only moved afterwards, without holding the lock
+   * of the pool, as this would otherwise block the writer when rolling over. If the segment cannot
+   * be recycled, a new segment is prepared in its place instead.
+   *
+   * @return true if the segment was recycled, false if it still needs to be deleted
+   */
+  private boolean recycleSegment(final Segment segment) {
+    if (!recycleSegments || segment.descriptor().maxSegmentSize() != maxSegmentSize) {
+      return false;
+    }
+
+    final var preparedSegment = new CompletableFuture<UninitializedSegment>();
+    final long segmentId;
+    synchronized (preparedSegments) {
+      if (preparedSegments.size() >= 2 * preparedSegmentsCount) {
+        return false;
+      }
+
+      segmentId = nextPreparedSegmentId();
+      preparedSegments.add(preparedSegment);
+    }
+
+    final var target = new SegmentFile(SegmentFile.createSegmentFile(name, directory, segmentId));
+    LOG.trace("{} - Recycling segment {} as segment {}", name, segment, segmentId);
+    final var recycledSegment = segment.recycle(target, segmentId);
+    if (recycledSegment != null) {
+      preparedSegment.complete(recycledSegment);
+      journalMetrics.incSegmentRecycled();
+    } else {
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(segmentId)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+      preparedSegment.completeAsync(() -> createUninitializedSegment(descriptor));
+    }
+
+    // the segment was either recycled or deleted
+    return true;
+  }
+
+  private long nextPreparedSegmentId() {
+    lastPreparedSegmentId = Math.max(lastPreparedSegmentId, currentSegment.id()) + 1;
+    return lastPreparedSegmentId;
   }
 
   SortedMap<Long, Segment> getTailSegments(final long index) {
@@ -484,6 +603,26 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  /**
+   * Deletes index files whose segment does not exist anymore (e.g. because the node was stopped
+   * between deleting both), as well as temporary index files which were never completed.
+   */
+  private void deleteOrphanedIndexFiles() {
+    try (final DirectoryStream<Path> indexFiles =
+        Files.newDirectoryStream(
+            directory.toPath(),
+            path -> SegmentFile.getSegmentFileOfIndexFile(name, path) != null)) {
+      for (final Path indexFile : indexFiles) {
+        final var segmentFile = SegmentFile.getSegmentFileOfIndexFile(name, indexFile);
+        if (!indexFile.equals(SegmentFile.indexFileOf(segmentFile)) || !Files.exists(segmentFile)) {
+          deleteDeferredFile(indexFile);
+        }
+      }
+    } catch (final IOException e) {
+      LOG.warn("Could not delete orphaned segment index files in {}", directory.toPath(), e);
+    }
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -36,10 +36,13 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public void index(final JournalRecord indexedEntry, final int position) {
-    final long index = indexedEntry.index();
+    index(indexedEntry.index(), indexedEntry.asqn(), position);
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
     if (index % density == 0) {
       indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
         asqnToIndex.put(asqn, index);
         indexToAsqn.put(index, asqn);
@@ -111,4 +114,18 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  @Override
+  public void forEach(
+      final long fromIndex, final long toIndex, final IndexedEntryConsumer consumer) {
+    if (fromIndex > toIndex) {
+      return;
+    }
+
+    for (final var entry : indexToPosition.subMap(fromIndex, true, toIndex, true).entrySet()) {
+      final long index = entry.getKey();
+      final long asqn = indexToAsqn.getOrDefault(index, SegmentedJournal.ASQN_IGNORE);
+      consumer.accept(index, asqn, entry.getValue());
+    }
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the skip list based {@link SparseJournalIndex} with the array based {@link
+ * PrimitiveSparseJournalIndex}. The index is pre-filled with {@link #INDEXED_ENTRIES} entries
+ * (i.e. a journal of {@code INDEXED_ENTRIES * DENSITY} records) before each iteration.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int DENSITY = 100;
+  private static final int INDEXED_ENTRIES = 1_000_000;
+  private static final long LAST_INDEX = (long) INDEXED_ENTRIES * DENSITY;
+
+  @Param({"skipList", "primitive"})
+  public String indexType;
+
+  private JournalIndex index;
+  private long nextIndex;
+
+  @Setup(Level.Iteration)
+  public void setup() {
+    index =
+        "primitive".equals(indexType)
+            ? new PrimitiveSparseJournalIndex(DENSITY)
+            : new SparseJournalIndex(DENSITY);
+
+    for (long i = DENSITY; i <= LAST_INDEX; i += DENSITY) {
+      index.index(new TestJournalRecord(i, i, 0, null, null), (int) (i % Integer.MAX_VALUE));
+    }
+
+    nextIndex = LAST_INDEX + 1;
+  }
+
+  @Benchmark
+  public IndexInfo measureLookup() {
+    return index.lookup(ThreadLocalRandom.current().nextLong(1, LAST_INDEX));
+  }
+
+  @Benchmark
+  public Long measureAsqnLookup() {
+    final long upperBound = ThreadLocalRandom.current().nextLong(1, LAST_INDEX);
+    return index.lookupAsqn(upperBound + DENSITY, upperBound);
+  }
+
+  @Benchmark
+  public void measureAppend() {
+    final long appended = nextIndex++;
+    index.index(new TestJournalRecord(appended, appended, 0, null, null), 0);
+  }
+
+  @Benchmark
+  public void measureAppendAndTruncate() {
+    final long appended = nextIndex;
+    index.index(new TestJournalRecord(appended, appended, 0, null, null), 0);
+    // emulates a leader change truncating the uncommitted tail of the log
+    index.deleteAfter(appended - DENSITY);
+    nextIndex = appended + DENSITY;
+  }
+
+  @JMHTest("measureLookup")
+  void shouldLookupWithPrimitiveIndexWithinDeviation(final JMHTestCase testCase) {
+    // given - a lower bound well below local scores, as the CI runners are slower; a lookup is
+    // a binary search, so only a large regression (e.g. falling back to a scan) falls below it
+    final var referenceScore = 2_000_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("indexType", "primitive")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
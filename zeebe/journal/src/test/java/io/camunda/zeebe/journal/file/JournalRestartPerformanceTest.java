@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how many times per second a large journal can be reopened and an entry in its middle
+ * sought, with and without persisted segment indexes. The size of the generated journal can be
+ * configured via the {@code JOURNAL_RESTART_PERFORMANCE_TEST_SIZE_GB} environment variable.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class JournalRestartPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalRestartPerformanceTest.class);
+  private static final long ONE_GB = 1024L * 1024 * 1024;
+  private static final double SIZE_GB =
+      Double.parseDouble(
+          System.getenv().getOrDefault("JOURNAL_RESTART_PERFORMANCE_TEST_SIZE_GB", "2"));
+  private static final int ENTRY_SIZE = 1024;
+  private static final int SEGMENT_SIZE = 128 * 1024 * 1024;
+
+  @Param({"false", "true"})
+  public boolean persistSegmentIndex;
+
+  private Path directory;
+  private long middleAsqn;
+
+  @Setup
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("journal-restart");
+    final var entry = new DirectBufferWriter().wrap(new UnsafeBuffer(new byte[ENTRY_SIZE]));
+    final long entryCount = Math.round(SIZE_GB * ONE_GB) / ENTRY_SIZE;
+
+    LOG.info("Generating a journal of {} entries, please hold the line...", entryCount);
+    try (final var journal = openJournal()) {
+      for (long asqn = 1; asqn <= entryCount; asqn++) {
+        journal.append(asqn, entry);
+      }
+      journal.flush();
+    }
+
+    middleAsqn = entryCount / 2;
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  public long measureRestartAndSeek() {
+    try (final var journal = openJournal();
+        final var reader = journal.openReader()) {
+      return reader.seekToAsqn(middleAsqn);
+    }
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder()
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(SEGMENT_SIZE)
+        .withMetaStore(new MockJournalMetastore())
+        .withPersistedSegmentIndex(persistSegmentIndex)
+        .build();
+  }
+}
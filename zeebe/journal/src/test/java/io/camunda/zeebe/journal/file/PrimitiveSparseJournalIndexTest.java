@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class PrimitiveSparseJournalIndexTest {
+
+  @Test
+  void shouldFindIndexWhenReachedDensity() {
+    // given
+    final JournalIndex index = new PrimitiveSparseJournalIndex(5);
+
+    // when
+    for (int i = 1; i <= 12; i++) {
+      index.index(asJournalRecord(i, i * 10), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(4)).isNull();
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(5, 10));
+    assertThat(index.lookup(12)).isEqualTo(new IndexInfo(10, 20));
+    assertThat(index.lookupAsqn(45)).isNull();
+    assertThat(index.lookupAsqn(75)).isEqualTo(5);
+    assertThat(index.lookupAsqn(Long.MAX_VALUE)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given
+    final JournalIndex index = new PrimitiveSparseJournalIndex(2);
+    index.index(asJournalRecord(8, 80), 16);
+
+    // when
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(4, 40), 8);
+
+    // then
+    assertThat(index.lookup(3)).isEqualTo(new IndexInfo(2, 4));
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(4, 8));
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(6, 12));
+    assertThat(index.lookup(9)).isEqualTo(new IndexInfo(8, 16));
+    assertThat(index.lookupAsqn(50)).isEqualTo(4);
+    assertThat(index.lookupAsqn(70, 5)).isEqualTo(4);
+  }
+
+  @Test
+  void shouldOverwriteAlreadyIndexedEntry() {
+    // given
+    final JournalIndex index = new PrimitiveSparseJournalIndex(2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, 40), 8);
+
+    // when
+    index.index(asJournalRecord(2, 20), 6);
+
+    // then
+    assertThat(index.lookup(3)).isEqualTo(new IndexInfo(2, 6));
+    assertThat(index.lookup(4)).isEqualTo(new IndexInfo(4, 8));
+  }
+
+  @Test
+  void shouldNotIndexIgnoredAsqn() {
+    // given
+    final JournalIndex index = new PrimitiveSparseJournalIndex(2);
+
+    // when
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(4, SegmentedJournal.ASQN_IGNORE), 8);
+
+    // then
+    assertThat(index.lookup(5)).isEqualTo(new IndexInfo(4, 8));
+    assertThat(index.lookupAsqn(Long.MAX_VALUE)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new PrimitiveSparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i), i);
+    }
+
+    // then
+    assertThat(index.lookup(10_000)).isEqualTo(new IndexInfo(10_000, 10_000));
+    assertThat(index.lookup(1)).isEqualTo(new IndexInfo(1, 1));
+    assertThat(index.lookupAsqn(5_000)).isEqualTo(5_000);
+  }
+
+  @Test
+  void shouldBehaveLikeSkipListIndex() {
+    // given
+    final JournalIndex expected = new SparseJournalIndex(3);
+    final JournalIndex actual = new PrimitiveSparseJournalIndex(3);
+    for (int i = 1; i <= 100; i++) {
+      final long asqn = i % 7 == 0 ? SegmentedJournal.ASQN_IGNORE : i * 10L;
+      expected.index(asJournalRecord(i, asqn), i * 2);
+      actual.index(asJournalRecord(i, asqn), i * 2);
+    }
+
+    // when
+    expected.deleteAfter(80);
+    actual.deleteAfter(80);
+    expected.deleteUntil(20);
+    actual.deleteUntil(20);
+
+    // then
+    for (int i = 0; i <= 110; i++) {
+      assertThat(actual.lookup(i)).as("lookup of index %d", i).isEqualTo(expected.lookup(i));
+      assertThat(actual.hasIndexed(i)).as("indexed %d", i).isEqualTo(expected.hasIndexed(i));
+      assertThat(actual.lookupAsqn(i * 10L))
+          .as("lookup of asqn %d", i * 10)
+          .isEqualTo(expected.lookupAsqn(i * 10L));
+    }
+  }
+}
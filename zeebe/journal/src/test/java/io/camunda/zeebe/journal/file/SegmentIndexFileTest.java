@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.agrona.CloseHelper;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+  private final TestJournalFactory journalFactory = new TestJournalFactory(2);
+
+  private @TempDir Path directory;
+  private SegmentedJournal journal;
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(journal);
+  }
+
+  @Test
+  void shouldWriteIndexFileWhenSegmentIsFull() {
+    // given
+    journal = openJournal(journalFactory);
+
+    // when
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // then - the file is written asynchronously, off the append path
+    Awaitility.await("until the index file of the sealed segment is written")
+        .untilAsserted(() -> assertThat(indexFile(1)).exists());
+    assertThat(indexFile(2)).doesNotExist();
+  }
+
+  @Test
+  void shouldNotWriteIndexFileForPartiallyIndexedSegment() throws IOException {
+    // given - a sealed segment which is the last one again after a restart, so its writer jumps to
+    // its last entry without indexing the ones before
+    journal = openJournal(journalFactory);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+    Files.delete(segmentFile(2));
+    Files.delete(indexFile(1));
+    journal = openJournal(new TestJournalFactory(2));
+
+    // when - sealing it again
+    journal.append(3, journalFactory.entry());
+    journal.close();
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldLoadIndexFileOnFirstSeekAfterRestart() {
+    // given
+    journal = openJournal(journalFactory);
+    for (int i = 1; i <= 5; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    journal.close();
+
+    // when
+    final var restartedFactory = new TestJournalFactory(2);
+    journal = openJournal(restartedFactory);
+    // only the last entry of each segment is indexed on load
+    final var indexBeforeSeek = restartedFactory.index().lookup(1);
+    try (final var reader = journal.openReader()) {
+      reader.seek(1);
+    }
+
+    // then
+    assertThat(indexBeforeSeek).isNull();
+    assertThat(restartedFactory.index().lookup(1))
+        .isEqualTo(journalFactory.index().lookup(1))
+        .isNotNull();
+    assertThat(restartedFactory.index().lookupAsqn(1)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDeleteIndexFileWhenTruncatingSealedSegment() {
+    // given
+    journal = openJournal(journalFactory);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteAfter(1);
+
+    // then
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldIgnoreCorruptedIndexFile() throws IOException {
+    // given
+    journal = openJournal(journalFactory);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    journal.close();
+    Files.write(indexFile(1), new byte[] {1, 2, 3, 4});
+
+    // when
+    final var restartedFactory = new TestJournalFactory(2);
+    journal = openJournal(restartedFactory);
+    try (final var reader = journal.openReader()) {
+      reader.seek(2);
+
+      // then
+      assertThat(reader.next().index()).isEqualTo(2);
+    }
+    assertThat(indexFile(1)).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteOrphanedIndexFilesOnOpen() throws IOException {
+    // given
+    journal = openJournal(journalFactory);
+    journal.close();
+    Files.createDirectories(indexFile(5).getParent());
+    Files.write(indexFile(5), new byte[] {1, 2, 3, 4});
+
+    // when
+    journal = openJournal(new TestJournalFactory(2));
+
+    // then
+    assertThat(indexFile(5)).doesNotExist();
+  }
+
+  private Path indexFile(final long segmentId) {
+    return SegmentFile.indexFileOf(segmentFile(segmentId));
+  }
+
+  private Path segmentFile(final long segmentId) {
+    return SegmentFile.createSegmentFile("journal", directory.resolve("data").toFile(), segmentId)
+        .toPath();
+  }
+
+  private SegmentedJournal openJournal(final TestJournalFactory factory) {
+    return factory.journal(
+        factory.segmentsManager(directory, factory.segmentLoader(), factory.metaStore(), true));
+  }
+}
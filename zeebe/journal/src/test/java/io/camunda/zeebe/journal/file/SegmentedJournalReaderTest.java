@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal.file;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
@@ -171,6 +172,48 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldReadBatchUntilEndOfSegment() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT * 2; i++) {
+      journal.append(i, recordDataWriter);
+    }
+    final int entrySize = FrameUtil.getLength() + getSerializedSize(data);
+
+    // when
+    final var firstBatch = reader.nextBatch(Long.MAX_VALUE, Integer.MAX_VALUE);
+    final var secondBatch = reader.nextBatch(Long.MAX_VALUE, Integer.MAX_VALUE);
+    final var thirdBatch = reader.nextBatch(Long.MAX_VALUE, Integer.MAX_VALUE);
+
+    // then
+    assertThat(firstBatch.records())
+        .extracting(JournalRecord::index)
+        .containsExactly(1L, 2L, 3L, 4L);
+    assertThat(firstBatch.buffer().capacity()).isEqualTo(entrySize * ENTRIES_PER_SEGMENT);
+    assertThat(secondBatch.records())
+        .extracting(JournalRecord::index)
+        .containsExactly(5L, 6L, 7L, 8L);
+    assertThat(thirdBatch.isEmpty()).isTrue();
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  void shouldLimitBatchByIndexAndSize() {
+    // given
+    for (int i = 1; i <= ENTRIES_PER_SEGMENT; i++) {
+      journal.append(i, recordDataWriter);
+    }
+
+    // when
+    final var limitedByIndex = reader.nextBatch(2, Integer.MAX_VALUE);
+    final var limitedBySize = reader.nextBatch(Long.MAX_VALUE, 1);
+
+    // then
+    assertThat(limitedByIndex.records()).extracting(JournalRecord::index).containsExactly(1L, 2L);
+    assertThat(limitedBySize.records()).extracting(JournalRecord::index).containsExactly(3L);
+    assertThat(reader.next().index()).isEqualTo(4);
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
@@ -257,6 +257,86 @@ class SegmentsManagerTest {
     assertThatNoException().isThrownBy(() -> segments.open());
   }
 
+  @Test
+  void shouldRecycleCompactedSegments() {
+    // given
+    segments = recyclingSegmentsManager();
+    final var journal = journalFactory.journal(segments);
+    for (int i = 1; i <= 4; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+    final var compactedFile = Objects.requireNonNull(segments.getFirstSegment()).file().file();
+
+    // when
+    journal.deleteUntil(3);
+    for (int i = 5; i <= 8; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    // then
+    final File logDirectory = directory.resolve("data").toFile();
+    assertThat(compactedFile).doesNotExist();
+    assertThat(logDirectory)
+        .isDirectoryNotContaining(
+            file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()));
+    try (final var reader = journal.openReader()) {
+      reader.seek(3);
+      for (long index = 3; index <= 8; index++) {
+        assertThat(reader.next().index()).isEqualTo(index);
+      }
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldPrepareNewSegmentIfCompactedSegmentCannotBeRecycled() {
+    // given - a reader still referencing the first segment prevents recycling it
+    segments = recyclingSegmentsManager();
+    final var journal = journalFactory.journal(segments);
+    for (int i = 1; i <= 4; i++) {
+      journal.append(i, journalFactory.entry());
+    }
+
+    try (final var ignored = journal.openReader()) {
+      // when
+      journal.deleteUntil(3);
+      for (int i = 5; i <= 8; i++) {
+        journal.append(i, journalFactory.entry());
+      }
+    }
+
+    // then
+    try (final var reader = journal.openReader()) {
+      reader.seek(3);
+      for (long index = 3; index <= 8; index++) {
+        assertThat(reader.next().index()).isEqualTo(index);
+      }
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
+  @Test
+  void shouldDeleteUnusedRecycledSegmentsOnRestart() throws Exception {
+    // given
+    segments = recyclingSegmentsManager();
+    try (final var journal = journalFactory.journal(segments)) {
+      for (int i = 1; i <= 4; i++) {
+        journal.append(i, journalFactory.entry());
+      }
+      journal.flush();
+      journal.deleteUntil(3);
+    }
+
+    // when
+    segments = recyclingSegmentsManager();
+    try (final var journal = journalFactory.journal(segments)) {
+
+      // then
+      assertThat(journal.getFirstIndex()).isEqualTo(3);
+      assertThat(journal.getLastIndex()).isEqualTo(4);
+    }
+  }
+
   @RegressionTest("https://github.com/camunda/camunda/issues/12754")
   void shouldDeleteSegmentsInReverseOrderOnReset() {
     // given
@@ -293,6 +373,11 @@ class SegmentsManagerTest {
     }
   }
 
+  private SegmentsManager recyclingSegmentsManager() {
+    return journalFactory.segmentsManager(
+        directory, journalFactory.segmentLoader(), journalFactory.metaStore(), false, 2, true);
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
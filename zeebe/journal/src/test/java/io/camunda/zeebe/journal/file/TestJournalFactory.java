@@ -94,6 +94,10 @@ final class TestJournalFactory {
     return metaStore;
   }
 
+  JournalIndex index() {
+    return index;
+  }
+
   SegmentsManager segmentsManager(final Path directory) {
     return segmentsManager(directory, segmentLoader());
   }
@@ -104,6 +108,24 @@ final class TestJournalFactory {
 
   SegmentsManager segmentsManager(
       final Path directory, final SegmentLoader loader, final JournalMetaStore metaStore) {
+    return segmentsManager(directory, loader, metaStore, false);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final boolean persistSegmentIndex) {
+    return segmentsManager(directory, loader, metaStore, persistSegmentIndex, 1, false);
+  }
+
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final JournalMetaStore metaStore,
+      final boolean persistSegmentIndex,
+      final int preparedSegments,
+      final boolean recycleSegments) {
     return new SegmentsManager(
         index,
         maxSegmentSize(),
@@ -111,7 +133,10 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        persistSegmentIndex,
+        preparedSegments,
+        recycleSegments);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
@@ -488,7 +488,7 @@ public class ClusteringRule extends ExternalResource {
     final var brokerClient = brokerClientConfiguration.brokerClient();
 
     final var jobStreamClient =
-        new JobStreamComponent().jobStreamClient(actorScheduler, atomixCluster);
+        new JobStreamComponent().jobStreamClient(actorScheduler, atomixCluster, config);
     jobStreamClient.start().join();
 
     // before we can add the job stream client as a topology listener, we need to wait for the
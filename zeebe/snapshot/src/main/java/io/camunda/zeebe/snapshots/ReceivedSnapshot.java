@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Set;
+import java.util.SortedMap;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,14 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Takes over the files of the latest persisted snapshot which are part of this snapshot as well,
+   * such that they don't need to be received. A file is taken over if it has the same name and
+   * checksum in both snapshots. Chunks of files which were taken over are ignored afterwards.
+   *
+   * @param fileChecksums the checksums of all files of this snapshot, by file name
+   * @return the names of the files which were taken over
+   */
+  ActorFuture<Set<String>> reuseFiles(SortedMap<String, Long> fileChecksums);
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -41,4 +42,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Skips the given files, e.g. because the receiver has them already. Their chunks are not read
+   * anymore, but are still part of the total count of chunks. A file which was partially read
+   * already is not skipped.
+   *
+   * @param fileNames the names of the files to skip
+   */
+  void skipFiles(final Collection<String> fileNames);
 }
@@ -18,10 +18,17 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.zip.Checksum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,7 +46,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
-  private SfvChecksumImpl checksumCollection;
+  // checksums of the files which were linked from the latest snapshot, and thus must not be
+  // written to
+  private final Map<String, Long> reusedFiles = new HashMap<>();
+  // updated with every applied chunk, such that the files don't have to be read again on persist
+  private final Map<String, ReceivedFileChecksum> receivedChecksums = new HashMap<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -87,24 +98,23 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
 
-    final var tmpSnapshotDirectory = directory;
-    try {
-      FileUtil.ensureDirectoryExists(tmpSnapshotDirectory);
-    } catch (final IOException e) {
-      throw new SnapshotWriteException(
-          String.format("Failed to ensure that directory %s exists.", tmpSnapshotDirectory), e);
+    if (reusedFiles.containsKey(chunkName)) {
+      // the file is shared with the latest snapshot, which must not be modified
+      LOGGER.debug(
+          "Ignore snapshot snapshotChunk {}, because the file was reused from the latest snapshot.",
+          chunkName);
+      return;
     }
 
-    final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
+    ensureDirectoryExists();
+    final var snapshotFile = directory.resolve(chunkName);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
-    }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    receivedChecksums
+        .computeIfAbsent(chunkName, ignored -> new ReceivedFileChecksum())
+        .update(snapshotChunk);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,6 +125,85 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Set<String>> reuseFiles(final SortedMap<String, Long> fileChecksums) {
+    return actor.call(() -> reuseFilesInternal(fileChecksums));
+  }
+
+  private Set<String> reuseFilesInternal(final SortedMap<String, Long> fileChecksums)
+      throws SnapshotWriteException {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot().orElse(null);
+    if (latestSnapshot == null || fileChecksums.isEmpty()) {
+      return Set.of();
+    }
+
+    ensureDirectoryExists();
+    final var latestChecksums = latestSnapshot.getChecksums().getChecksums();
+    // the last file is always received, such that its last chunk still completes the snapshot
+    final var lastFile = fileChecksums.lastKey();
+    final var linkedFiles = new HashSet<String>();
+    for (final var file : fileChecksums.entrySet()) {
+      final var fileName = file.getKey();
+      final var target = directory.resolve(fileName);
+      if (fileName.equals(lastFile)
+          || fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)
+          || !file.getValue().equals(latestChecksums.get(fileName))
+          || Files.exists(target)) {
+        continue;
+      }
+
+      final var source = latestSnapshot.getPath().resolve(fileName);
+      try {
+        final var size = Files.size(source);
+        Files.createLink(target, source);
+        snapshotStore.getSnapshotMetrics().observeSkippedFile(size);
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOGGER.debug(
+            "Failed to reuse file {} of snapshot {}, will receive it instead",
+            fileName,
+            latestSnapshot.getId(),
+            e);
+        continue;
+      }
+
+      reusedFiles.put(fileName, file.getValue());
+      linkedFiles.add(fileName);
+    }
+
+    LOGGER.debug(
+        "Reused {} of {} files of snapshot {} from snapshot {}",
+        linkedFiles.size(),
+        fileChecksums.size(),
+        snapshotId,
+        latestSnapshot.getId());
+    return linkedFiles;
+  }
+
+  private void ensureDirectoryExists() throws SnapshotWriteException {
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+  }
+
+  /**
+   * Returns the checksums of all files which are already known, either because they were reused,
+   * or because all their chunks were applied in order. Only the remaining files have to be read to
+   * calculate the checksum of the snapshot.
+   */
+  private Map<String, Long> knownFileChecksums() {
+    final var checksums = new HashMap<>(reusedFiles);
+    receivedChecksums.forEach(
+        (fileName, checksum) -> {
+          if (checksum.isComplete()) {
+            checksums.put(fileName, checksum.getValue());
+          }
+        });
+    return checksums;
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -272,8 +361,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
                 snapshotId.getExportedPosition(),
                 Long.MAX_VALUE);
       }
+      final var checksums =
+          SnapshotChecksum.calculateWithProvidedChecksums(
+              directory, ignored -> knownFileChecksums(), snapshotStore.getChecksumExecutor());
       final PersistedSnapshot value =
-          snapshotStore.persistNewSnapshot(snapshotId, checksumCollection, metadata);
+          snapshotStore.persistNewSnapshot(snapshotId, checksums, metadata);
       future.complete(value);
     } catch (final Exception e) {
       future.completeExceptionally(e);
@@ -291,4 +383,34 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  /**
+   * The CRC32C of a received file, which is updated with each chunk as long as the chunks are
+   * applied in order. If a chunk is applied out of order, e.g. when it's sent again, the checksum is
+   * not used and the file is read again instead.
+   */
+  private static final class ReceivedFileChecksum {
+    private final Checksum checksum = SnapshotChunkUtil.newChecksum();
+    private long receivedBytes;
+    private long totalFileSize = -1;
+    private boolean inOrder = true;
+
+    private void update(final SnapshotChunk chunk) {
+      totalFileSize = chunk.getTotalFileSize();
+      if (inOrder && chunk.getFileBlockPosition() == receivedBytes) {
+        checksum.update(chunk.getContent());
+        receivedBytes += chunk.getContent().length;
+      } else {
+        inOrder = false;
+      }
+    }
+
+    private boolean isComplete() {
+      return inOrder && receivedBytes == totalFileSize;
+    }
+
+    private long getValue() {
+      return checksum.getValue();
+    }
+  }
 }
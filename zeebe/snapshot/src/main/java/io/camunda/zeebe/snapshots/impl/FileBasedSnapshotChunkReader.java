@@ -9,19 +9,27 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.NavigableSet;
 import java.util.TreeSet;
+import org.agrona.CloseHelper;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>A file which is split into multiple chunks is kept open until its last chunk was read, and
+ * every chunk is read at its position in the file, so reading a large file doesn't open it again
+ * and again.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
@@ -32,6 +40,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  private String openFileName;
+  private RandomAccessFile openFile;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
@@ -69,10 +79,12 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     }
 
     final var chunkId = new SnapshotChunkId(id);
+    final var fileName = chunkId.fileName();
 
-    offset = chunkId.offset();
+    // the file may have been skipped since the ID was handed out, then continue with the next one
+    offset = chunks.contains(fileName) ? chunkId.offset() : 0;
 
-    chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
+    chunksView = new TreeSet<>(chunks.tailSet(fileName, true));
   }
 
   @Override
@@ -89,10 +101,22 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void skipFiles(final Collection<String> fileNames) {
+    final var currentFile = offset > 0 && !chunksView.isEmpty() ? chunksView.first() : null;
+    for (final var fileName : fileNames) {
+      if (currentFile == null || CharSequence.compare(currentFile, fileName) != 0) {
+        chunks.remove(fileName);
+        chunksView.remove(fileName);
+      }
+    }
+  }
+
   @Override
   public void close() {
     chunks.clear();
     chunksView.clear();
+    closeFile();
   }
 
   @Override
@@ -103,26 +127,55 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
-    final var filePath = directory.resolve(fileName).toString();
 
-    try (final var file = new RandomAccessFile(filePath, "r")) {
+    try {
+      final var file = openFile(fileName);
       final var fileLength = file.length();
       final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
       final byte[] buffer = new byte[(int) bytesToRead];
-      file.seek(offset);
-      file.readFully(buffer);
+      readFully(file.getChannel(), ByteBuffer.wrap(buffer), offset);
 
       final var fileBlockPosition = offset;
       offset += bytesToRead;
       if (offset == fileLength) {
         offset = 0;
         chunksView.pollFirst();
+        closeFile();
       }
 
       return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
           snapshotID, totalCount, fileName, buffer, fileBlockPosition, fileLength);
     } catch (final IOException e) {
+      closeFile();
       throw new UncheckedIOException(e);
     }
   }
+
+  private RandomAccessFile openFile(final String fileName) throws IOException {
+    if (!fileName.equals(openFileName)) {
+      closeFile();
+      openFile = new RandomAccessFile(directory.resolve(fileName).toString(), "r");
+      openFileName = fileName;
+    }
+
+    return openFile;
+  }
+
+  private void closeFile() {
+    CloseHelper.quietClose(openFile);
+    openFile = null;
+    openFileName = null;
+  }
+
+  private static void readFully(
+      final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      final var read = channel.read(buffer, position + buffer.position());
+      if (read < 0) {
+        throw new EOFException(
+            "Expected to read %d more bytes at position %d, but reached the end of the file"
+                .formatted(buffer.remaining(), position + buffer.position()));
+      }
+    }
+  }
 }
@@ -37,10 +37,29 @@ public final class FileBasedSnapshotStore extends Actor
       final int partitionId,
       final Path root,
       final CRC32CChecksumProvider checksumProvider) {
+    this(
+        brokerId,
+        partitionId,
+        root,
+        checksumProvider,
+        FileBasedSnapshotStoreImpl.DEFAULT_CHECKSUM_THREADS);
+  }
+
+  /**
+   * @param checksumThreads the maximum number of snapshot files which are read concurrently to
+   *     calculate the checksum of a snapshot
+   */
+  public FileBasedSnapshotStore(
+      final int brokerId,
+      final int partitionId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final int checksumThreads) {
     actorName = buildActorName("SnapshotStore", partitionId);
     this.partitionId = partitionId;
     snapshotStore =
-        new FileBasedSnapshotStoreImpl(brokerId, partitionId, root, checksumProvider, this);
+        new FileBasedSnapshotStoreImpl(
+            brokerId, partitionId, root, checksumProvider, checksumThreads, this);
   }
 
   @Override
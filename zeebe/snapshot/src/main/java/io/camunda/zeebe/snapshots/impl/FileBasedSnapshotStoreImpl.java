@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashSet;
@@ -37,6 +38,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
@@ -46,6 +51,8 @@ public final class FileBasedSnapshotStoreImpl {
   public static final String SNAPSHOTS_DIRECTORY = "snapshots";
   public static final String PENDING_DIRECTORY = "pending";
 
+  public static final int DEFAULT_CHECKSUM_THREADS = 4;
+
   static final int VERSION = 1;
 
   // When sorted with other files in the snapshot, the metadata file must be ordered at the end.
@@ -60,6 +67,7 @@ public final class FileBasedSnapshotStoreImpl {
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedSnapshotStoreImpl.class);
   private static final String CHECKSUM_SUFFIX = ".checksum";
   private static final String TMP_CHECKSUM_SUFFIX = ".tmp";
+  private static final Duration CHECKSUM_THREAD_KEEP_ALIVE = Duration.ofSeconds(60);
   private final int brokerId;
   // the root snapshotsDirectory where all snapshots should be stored
   private final Path snapshotsDirectory;
@@ -76,6 +84,8 @@ public final class FileBasedSnapshotStoreImpl {
   private final Set<PersistableSnapshot> pendingSnapshots = new HashSet<>();
   private final Set<FileBasedSnapshot> availableSnapshots = new HashSet<>();
   private final CRC32CChecksumProvider checksumProvider;
+  // reads the snapshot files to calculate their checksums; bounded, as the reads are blocking
+  private final ThreadPoolExecutor checksumExecutor;
   private final ConcurrencyControl actor;
 
   public FileBasedSnapshotStoreImpl(
@@ -84,6 +94,22 @@ public final class FileBasedSnapshotStoreImpl {
       final Path root,
       final CRC32CChecksumProvider checksumProvider,
       final ConcurrencyControl actor) {
+    this(brokerId, partitionId, root, checksumProvider, DEFAULT_CHECKSUM_THREADS, actor);
+  }
+
+  public FileBasedSnapshotStoreImpl(
+      final int brokerId,
+      final int partitionId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final int checksumThreads,
+      final ConcurrencyControl actor) {
+    if (checksumThreads <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the number of checksum threads to be positive, but was %d"
+              .formatted(checksumThreads));
+    }
+
     this.brokerId = brokerId;
     snapshotsDirectory = root.resolve(SNAPSHOTS_DIRECTORY);
     pendingDirectory = root.resolve(PENDING_DIRECTORY);
@@ -101,6 +127,18 @@ public final class FileBasedSnapshotStoreImpl {
 
     listeners = new CopyOnWriteArraySet<>();
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
+    checksumExecutor =
+        new ThreadPoolExecutor(
+            checksumThreads,
+            checksumThreads,
+            CHECKSUM_THREAD_KEEP_ALIVE.toMillis(),
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform()
+                .name("zb-snapshot-checksum-" + partitionId + "-", 0)
+                .daemon()
+                .factory());
+    checksumExecutor.allowCoreThreadTimeOut(true);
   }
 
   public void start() {
@@ -114,6 +152,7 @@ public final class FileBasedSnapshotStoreImpl {
 
   public void close() {
     listeners.clear();
+    checksumExecutor.shutdownNow();
   }
 
   private FileBasedSnapshot loadLatestSnapshot(final Path snapshotDirectory) {
@@ -190,7 +229,8 @@ public final class FileBasedSnapshotStoreImpl {
     try {
       final var expectedChecksum = SnapshotChecksum.read(checksumPath);
       final var actualChecksum =
-          SnapshotChecksum.calculateWithProvidedChecksums(path, checksumProvider);
+          SnapshotChecksum.calculateWithProvidedChecksums(
+              path, checksumProvider, checksumExecutor);
       if (!actualChecksum.sameChecksums(expectedChecksum)) {
         LOGGER.warn(
             "Expected snapshot {} to have checksums {}, but the actual checksums are {}; the snapshot is most likely corrupted. The startup will fail if there is no other valid snapshot and the log has been compacted.",
@@ -601,6 +641,10 @@ public final class FileBasedSnapshotStoreImpl {
     return snapshotMetrics;
   }
 
+  Executor getChecksumExecutor() {
+    return checksumExecutor;
+  }
+
   void onSnapshotDeleted(final FileBasedSnapshot snapshot) {
     availableSnapshots.remove(snapshot);
   }
@@ -85,7 +85,9 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
+          checksum =
+              SnapshotChecksum.calculateWithProvidedChecksums(
+                  directory, checksumProvider, snapshotStore.getChecksumExecutor());
 
           snapshot = null;
           isValid = true;
@@ -44,6 +44,8 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
   private static final String FILE_CRC_SEPARATOR_REGEX = " {3}";
   private static final Pattern FILE_CRC_PATTERN =
       Pattern.compile("(.*)" + FILE_CRC_SEPARATOR_REGEX + "([0-9a-fA-F]{1,16})");
+  // larger than a single block, to keep the number of reads low for multi-GB files
+  private static final int READ_BUFFER_SIZE = 16 * IoUtil.BLOCK_SIZE;
   private final SortedMap<String, Long> checksums = new TreeMap<>();
   private String snapshotDirectoryComment;
 
@@ -94,9 +96,12 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
     final String fileName = filePath.getFileName().toString();
+    checksums.put(fileName, calculateFileChecksum(filePath));
+  }
 
+  static long calculateFileChecksum(final Path filePath) throws IOException {
     final Checksum checksum = new CRC32C();
-    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
       readBuffer.clear();
       while (channel.read(readBuffer) > 0) {
@@ -105,7 +110,7 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
         readBuffer.clear();
       }
     }
-    checksums.put(fileName, checksum.getValue());
+    return checksum.getValue();
   }
 
   @Override
@@ -18,7 +18,11 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 final class SnapshotChecksum {
 
@@ -38,33 +42,73 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of());
+    return calculate(snapshotDirectory, Runnable::run);
+  }
+
+  public static MutableChecksumsSFV calculate(
+      final Path snapshotDirectory, final Executor executor) throws IOException {
+    return createChecksumForSnapshot(snapshotDirectory, snapshotPath -> Map.of(), executor);
   }
 
   public static MutableChecksumsSFV calculateWithProvidedChecksums(
       final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
-    return createChecksumForSnapshot(snapshotDirectory, provider);
+    return calculateWithProvidedChecksums(snapshotDirectory, provider, Runnable::run);
+  }
+
+  public static MutableChecksumsSFV calculateWithProvidedChecksums(
+      final Path snapshotDirectory, final CRC32CChecksumProvider provider, final Executor executor)
+      throws IOException {
+    return createChecksumForSnapshot(snapshotDirectory, provider, executor);
   }
 
+  /**
+   * Files are read concurrently on the given executor, as for large states a sequential
+   * calculation adds many seconds to every snapshot. The checksums are collected in the order of
+   * the files, so the result does not depend on which file finishes first.
+   */
   private static MutableChecksumsSFV createChecksumForSnapshot(
-      final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
+      final Path snapshotDirectory, final CRC32CChecksumProvider provider, final Executor executor)
+      throws IOException {
 
+    final List<Path> files;
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
-      final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
-      fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
-
-      // While persisting transient snapshot, the checksum of metadata file is added at the end.
-      // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
-      // the file name, the sorted file list will have a differnt order and thus result in a
-      // different checksum.
-      final var metadataFile =
-          snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
-      if (metadataFile.toFile().exists()) {
-        sfvChecksum.updateFromFile(metadataFile);
+      files = fileStream.toList();
+    }
+
+    final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
+    final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
+    final List<CompletableFuture<Long>> fileChecksums =
+        files.stream()
+            .map(
+                file ->
+                    CompletableFuture.supplyAsync(
+                        () -> fileChecksum(fullFileChecksums, file), executor))
+            .toList();
+    for (int i = 0; i < files.size(); i++) {
+      sfvChecksum.updateFromChecksum(files.get(i), join(fileChecksums.get(i)));
+    }
+
+    // While persisting transient snapshot, the checksum of metadata file is added at the end.
+    // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
+    // the file name, the sorted file list will have a differnt order and thus result in a
+    // different checksum.
+    final var metadataFile =
+        snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    if (metadataFile.toFile().exists()) {
+      sfvChecksum.updateFromFile(metadataFile);
+    }
+    return sfvChecksum;
+  }
+
+  private static long join(final CompletableFuture<Long> fileChecksum) throws IOException {
+    try {
+      return fileChecksum.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final UncheckedIOException ioException) {
+        throw ioException.getCause();
       }
-      return sfvChecksum;
+      throw e;
     }
   }
 
@@ -87,19 +131,16 @@ final class SnapshotChecksum {
     }
   }
 
-  private static void updateChecksum(
-      final MutableChecksumsSFV checksum,
-      final Map<String, Long> fullFileChecksums,
-      final Path file) {
-    final String fileName = file.getFileName().toString();
-    if (fullFileChecksums.containsKey(fileName)) {
-      checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
-    } else {
-      try {
-        checksum.updateFromFile(file);
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+  private static long fileChecksum(final Map<String, Long> fullFileChecksums, final Path file) {
+    final Long providedChecksum = fullFileChecksums.get(file.getFileName().toString());
+    if (providedChecksum != null) {
+      return providedChecksum;
+    }
+
+    try {
+      return SfvChecksumImpl.calculateFileChecksum(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
     }
   }
 }
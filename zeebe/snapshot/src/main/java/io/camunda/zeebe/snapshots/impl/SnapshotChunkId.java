@@ -15,7 +15,7 @@ import java.nio.charset.StandardCharsets;
 public record SnapshotChunkId(ByteBuffer id) {
   private static final Charset ID_CHARSET = StandardCharsets.US_ASCII;
 
-  SnapshotChunkId(final String fileName, final long offset) {
+  public SnapshotChunkId(final String fileName, final long offset) {
     this(
         ByteBuffer.wrap((fileName + "__" + offset).getBytes(ID_CHARSET))
             .order(Protocol.ENDIANNESS));
@@ -61,6 +61,20 @@ public final class SnapshotMetrics {
           .name("snapshot_file_size_megabytes")
           .buckets(.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500)
           .register();
+  private static final Counter SNAPSHOT_REPLICATION_SKIPPED_FILES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_replication_skipped_files")
+          .help("Number of received snapshot files which were reused from the previous snapshot")
+          .register();
+  private static final Counter SNAPSHOT_REPLICATION_SKIPPED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_replication_skipped_bytes")
+          .help("Size of received snapshot files which were reused from the previous snapshot")
+          .register();
 
   private final Histogram.Child snapshotPersistDuration;
   private final Histogram.Child snapshotFileSize;
@@ -68,6 +82,8 @@ public final class SnapshotMetrics {
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
   private final Child snapshotCount;
+  private final Child snapshotReplicationSkippedFiles;
+  private final Child snapshotReplicationSkippedBytes;
 
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
@@ -76,6 +92,8 @@ public final class SnapshotMetrics {
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
+    snapshotReplicationSkippedFiles = SNAPSHOT_REPLICATION_SKIPPED_FILES.labels(partitionId);
+    snapshotReplicationSkippedBytes = SNAPSHOT_REPLICATION_SKIPPED_BYTES.labels(partitionId);
   }
 
   void incrementSnapshotCount() {
@@ -94,6 +112,11 @@ public final class SnapshotMetrics {
     snapshotFileSize.observe(sizeInBytes / 1_000_000f);
   }
 
+  void observeSkippedFile(final long sizeInBytes) {
+    snapshotReplicationSkippedFiles.inc();
+    snapshotReplicationSkippedBytes.inc(sizeInBytes);
+  }
+
   Timer startTimer() {
     return snapshotDuration.startTimer();
   }
@@ -392,6 +392,73 @@ public class ReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    receiveSnapshot(takePersistedSnapshot()).persist().join();
+    final var latestSnapshot = receiverSnapshotStore.getLatestSnapshot().orElseThrow();
+    final var persistedSnapshot = takePersistedSnapshot(2L, SNAPSHOT_FILE_CONTENTS);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      final var reusedFiles =
+          receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+      snapshotChunkReader.skipFiles(reusedFiles);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+
+      // then - the first file was received already, and the metadata is always sent
+      assertThat(reusedFiles).containsExactly("file2");
+    }
+
+    assertThat(
+            Files.isSameFile(
+                receivedSnapshot.getPath().resolve("file2"),
+                latestSnapshot.getPath().resolve("file2")))
+        .as("the file was linked from the latest snapshot")
+        .isTrue();
+    final var receivedPersisted = receivedSnapshot.persist().join();
+    assertThat(receivedPersisted.getChecksums().sameChecksums(persistedSnapshot.getChecksums()))
+        .as("the received snapshot has the same checksum as the sent snapshot")
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot()).persist().join();
+    final var persistedSnapshot =
+        takePersistedSnapshot(2L, Map.of("file1", "file1 contents", "file2", "new contents"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+
+    // then
+    assertThat(reusedFiles).containsExactly("file1");
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithoutLatestSnapshot() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot();
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final var reusedFiles =
+        receivedSnapshot.reuseFiles(persistedSnapshot.getChecksums().getChecksums()).join();
+
+    // then
+    assertThat(reusedFiles).isEmpty();
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -406,16 +473,22 @@ public class ReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot() {
-    final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(1L, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    return takePersistedSnapshot(1L, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
+    final var transientSnapshot =
+        senderSnapshotStore.newTransientSnapshot(index, 0L, index, 0).get();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.persist().join();
   }
 
-  private void writeSnapshot(final Path path) {
+  private void writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
@@ -164,6 +164,61 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file1", "file2", "file3");
   }
 
+  @Test
+  public void shouldSkipFiles() throws IOException {
+    // given
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunks.add(snapshotChunkReader.next());
+
+      // when
+      snapshotChunkReader.skipFiles(List.of("file2"));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3");
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalCount)
+        .containsOnly(SNAPSHOT_CHUNK.size());
+  }
+
+  @Test
+  public void shouldSeekToNextFileIfFileWasSkipped() throws IOException {
+    // given
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.next();
+      final var nextId = snapshotChunkReader.nextId();
+      snapshotChunkReader.skipFiles(List.of("file2"));
+
+      // when
+      snapshotChunkReader.seek(nextId);
+
+      // then
+      assertThat(snapshotChunkReader.nextId()).isEqualTo(asByteBuffer("file3__0"));
+      assertThat(snapshotChunkReader.next().getChunkName()).isEqualTo("file3");
+    }
+  }
+
+  @Test
+  public void shouldNotSkipPartiallyReadFile() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(2);
+    snapshotChunkReader.next();
+
+    // when
+    snapshotChunkReader.skipFiles(List.of("file1"));
+
+    // then
+    final var nextChunk = snapshotChunkReader.next();
+    assertThat(nextChunk.getChunkName()).isEqualTo("file1");
+    assertThat(nextChunk.getFileBlockPosition()).isEqualTo(2);
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
@@ -332,6 +387,26 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldSeekBackWithinPartiallyReadFile() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(3);
+    snapshotChunkReader.seek(asByteBuffer("file3__0"));
+    snapshotChunkReader.next();
+    snapshotChunkReader.next();
+
+    // when
+    snapshotChunkReader.seek(asByteBuffer("file3__3"));
+    final var chunk = snapshotChunkReader.next();
+
+    // then
+    assertThat(chunk.getFileBlockPosition()).isEqualTo(3);
+    assertThat(new String(chunk.getContent(), StandardCharsets.UTF_8)).isEqualTo("ten");
+    assertThat(new String(snapshotChunkReader.next().getContent(), StandardCharsets.UTF_8))
+        .isEqualTo("t");
+    assertThat(snapshotChunkReader.hasNext()).isFalse();
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -69,6 +69,16 @@ public class FileBasedSnapshotStoreTest {
     assertThat(store.getLatestSnapshot()).isEmpty();
   }
 
+  @Test
+  public void shouldRejectNonPositiveChecksumThreads() {
+    // given
+    final var root = temporaryFolder.getRoot().toPath();
+
+    // when - then
+    assertThatThrownBy(() -> new FileBasedSnapshotStore(0, 1, root, snapshotPath -> Map.of(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   @Test
   public void shouldDeleteStore() {
     // given
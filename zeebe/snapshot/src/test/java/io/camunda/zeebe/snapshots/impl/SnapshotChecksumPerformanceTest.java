@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how many times per minute the checksums of a snapshot are calculated, comparing the
+ * parallel calculation of {@link SnapshotChecksum}, with as many threads as a snapshot store uses
+ * by default, with reading one file after the other.
+ *
+ * <p>The size of the snapshot can be set with the environment variable {@code
+ * SNAPSHOT_CHECKSUM_PERFORMANCE_TEST_SIZE_MB}, e.g. to measure multi-gigabyte snapshots.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+@State(Scope.Benchmark)
+public class SnapshotChecksumPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(SnapshotChecksumPerformanceTest.class);
+  private static final int SIZE_MB =
+      Integer.parseInt(
+          System.getenv().getOrDefault("SNAPSHOT_CHECKSUM_PERFORMANCE_TEST_SIZE_MB", "256"));
+  private static final int ONE_MB = 1024 * 1024;
+  private static final int FILE_SIZE_MB = 64;
+
+  private Path snapshotDirectory;
+  private ExecutorService checksumExecutor;
+
+  @Setup
+  public void setup() throws IOException {
+    snapshotDirectory = Files.createTempDirectory("snapshot-checksum");
+    checksumExecutor =
+        Executors.newFixedThreadPool(FileBasedSnapshotStoreImpl.DEFAULT_CHECKSUM_THREADS);
+
+    LOG.info("Creating a snapshot of {}MB; please hold the line...", SIZE_MB);
+    final var content = new byte[ONE_MB];
+    for (int file = 0; file * FILE_SIZE_MB < SIZE_MB; file++) {
+      final var fileSizeMb = Math.min(FILE_SIZE_MB, SIZE_MB - file * FILE_SIZE_MB);
+      final var path = snapshotDirectory.resolve("%06d.sst".formatted(file));
+      try (final var channel =
+          FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+        for (int i = 0; i < fileSizeMb; i++) {
+          ThreadLocalRandom.current().nextBytes(content);
+          channel.write(ByteBuffer.wrap(content));
+        }
+      }
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    checksumExecutor.shutdownNow();
+    FileUtil.deleteFolder(snapshotDirectory);
+  }
+
+  @Benchmark
+  public ImmutableChecksumsSFV measureParallelChecksum() throws IOException {
+    return SnapshotChecksum.calculate(snapshotDirectory, checksumExecutor);
+  }
+
+  @Benchmark
+  public ImmutableChecksumsSFV measureSequentialChecksum() throws IOException {
+    final var checksum = new SfvChecksumImpl();
+    try (final var files = Files.list(snapshotDirectory).sorted()) {
+      for (final var file : files.toList()) {
+        checksum.updateFromFile(file);
+      }
+    }
+    return checksum;
+  }
+}
@@ -21,6 +21,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.concurrent.Executors;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 import org.agrona.IoUtil;
@@ -189,6 +191,35 @@ public final class SnapshotChecksumTest {
     assertThat(actual.getChecksums().get("file")).isEqualTo(expected);
   }
 
+  @Test
+  void shouldCalculateChecksumOfEachFileWhenReadInParallel() throws IOException {
+    // given
+    final var snapshot = createTempDir("many");
+    final var expected = new HashMap<String, Long>();
+    for (int i = 0; i < 100; i++) {
+      final var fileName = "%03d.sst".formatted(i);
+      final var data = fileName.repeat(i * IoUtil.BLOCK_SIZE / 10 + 1);
+      Files.writeString(snapshot.resolve(fileName), data, StandardOpenOption.CREATE_NEW);
+
+      final Checksum checksum = new CRC32C();
+      checksum.update(Files.readAllBytes(snapshot.resolve(fileName)));
+      expected.put(fileName, checksum.getValue());
+    }
+
+    // when
+    final var executor = Executors.newFixedThreadPool(4);
+    final ImmutableChecksumsSFV actual;
+    try {
+      actual = SnapshotChecksum.calculate(snapshot, executor);
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // then - the result is the same as when the files are read one after another
+    assertThat(actual.getChecksums()).containsExactlyInAnyOrderEntriesOf(expected);
+    assertThat(actual.sameChecksums(SnapshotChecksum.calculate(snapshot))).isTrue();
+  }
+
   @Test
   void shouldAddChecksumOfMetadataAtTheEnd() throws IOException {
     // given
@@ -64,9 +64,14 @@ public final class TransportFactory {
         registry);
   }
 
+  /**
+   * @param clientCapacity how many payloads may be pushed at once to each client stream, until
+   *     earlier pushes are acknowledged; 0 means the clients don't limit it
+   */
   public <M extends BufferWriter> ClientStreamService<M> createRemoteStreamClient(
       final ClusterCommunicationService clusterCommunicationService,
-      final ClientStreamMetrics metrics) {
-    return new ClientStreamServiceImpl<>(clusterCommunicationService, metrics);
+      final ClientStreamMetrics metrics,
+      final int clientCapacity) {
+    return new ClientStreamServiceImpl<>(clusterCommunicationService, metrics, clientCapacity);
   }
 }
@@ -20,7 +20,7 @@ import java.util.Optional;
  * Manages an instance of {@link ClientStreamer}. Intended to be the main entry point when setting
  * up the client side for remote streams, primarily via {@link
  * io.camunda.zeebe.transport.TransportFactory#createRemoteStreamClient(ClusterCommunicationService,
- * ClientStreamMetrics)}.
+ * ClientStreamMetrics, int)}.
  *
  * @param <M> the type of the streaming metadata
  */
@@ -30,6 +30,12 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked when a payload is not pushed, because none of the consumers of the stream has any
+   * credits left; the payload is then left to be polled instead
+   */
+  default void creditsExhausted() {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
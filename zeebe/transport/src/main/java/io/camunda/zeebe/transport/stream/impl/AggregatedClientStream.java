@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Collection;
 import java.util.HashSet;
@@ -18,11 +19,16 @@ import org.agrona.collections.Int2ObjectHashMap;
 
 /** Represents a stream which aggregates multiple logically equivalent client streams. * */
 final class AggregatedClientStream<M extends BufferWriter> {
+  /** Client capacity of streams which don't limit how many payloads are pushed at once */
+  static final int UNLIMITED_CLIENT_CAPACITY = 0;
 
   private final UUID streamId;
   private final LogicalId<M> logicalId;
   private final Set<MemberId> liveConnections = new HashSet<>();
   private final ClientStreamMetrics metrics;
+  // how many payloads a server may push at once for each client stream; a server stops pushing to
+  // this stream once it's at capacity, until earlier pushes are acknowledged
+  private final int clientCapacity;
   private final Int2ObjectHashMap<ClientStreamImpl<M>> clientStreams = new Int2ObjectHashMap<>();
 
   private boolean isOpened;
@@ -34,9 +40,18 @@ final class AggregatedClientStream<M extends BufferWriter> {
 
   AggregatedClientStream(
       final UUID streamId, final LogicalId<M> logicalId, final ClientStreamMetrics metrics) {
+    this(streamId, logicalId, metrics, UNLIMITED_CLIENT_CAPACITY);
+  }
+
+  AggregatedClientStream(
+      final UUID streamId,
+      final LogicalId<M> logicalId,
+      final ClientStreamMetrics metrics,
+      final int clientCapacity) {
     this.streamId = streamId;
     this.logicalId = logicalId;
     this.metrics = metrics;
+    this.clientCapacity = clientCapacity;
   }
 
   void addClient(final ClientStreamImpl<M> clientStream) {
@@ -48,6 +63,18 @@ final class AggregatedClientStream<M extends BufferWriter> {
     return streamId;
   }
 
+  /**
+   * Returns how many payloads a server may push at once to this stream, or {@link
+   * AddStreamRequest#UNLIMITED_CAPACITY} if the clients don't limit it.
+   */
+  int capacity() {
+    if (clientCapacity == UNLIMITED_CLIENT_CAPACITY) {
+      return AddStreamRequest.UNLIMITED_CAPACITY;
+    }
+
+    return clientStreams.size() * clientCapacity;
+  }
+
   Collection<ClientStreamImpl<M>> list() {
     return clientStreams.values();
   }
@@ -96,6 +123,10 @@ final class AggregatedClientStream<M extends BufferWriter> {
     isOpened = false;
   }
 
+  boolean isOpened() {
+    return isOpened;
+  }
+
   void removeClient(final ClientStreamIdImpl streamId) {
     clientStreams.remove(streamId.localId());
     metrics.observeAggregatedClientCount(clientStreams.size());
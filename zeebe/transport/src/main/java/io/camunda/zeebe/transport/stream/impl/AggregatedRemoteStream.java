@@ -11,6 +11,7 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -47,13 +48,91 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
   }
 
   /**
-   * A stream consumer uniquely identified by the id, with its properties and streamType.
+   * A stream consumer uniquely identified by the id, with its properties and streamType. Consumers
+   * are equal if their id and logical id are, regardless of their credits.
    *
-   * @param id unique id
-   * @param logicalId logical id
    * @param <M> type of the properties
    */
-  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId) {}
+  static final class StreamConsumer<M> {
+    private final StreamId id;
+    private final LogicalId<M> logicalId;
+    private final StreamCredits credits;
+    private final boolean acceptsBatches;
+
+    /**
+     * @param id unique id
+     * @param logicalId logical id
+     */
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId) {
+      this(id, logicalId, StreamCredits.UNLIMITED, false);
+    }
+
+    /**
+     * @param id unique id
+     * @param logicalId logical id
+     * @param capacity how many payloads can be pushed to the consumer at once
+     * @param acceptsBatches whether multiple payloads can be pushed to the consumer at once
+     */
+    StreamConsumer(
+        final StreamId id,
+        final LogicalId<M> logicalId,
+        final int capacity,
+        final boolean acceptsBatches) {
+      this.id = id;
+      this.logicalId = logicalId;
+      this.acceptsBatches = acceptsBatches;
+      credits = new StreamCredits(capacity);
+    }
+
+    StreamId id() {
+      return id;
+    }
+
+    LogicalId<M> logicalId() {
+      return logicalId;
+    }
+
+    StreamCredits credits() {
+      return credits;
+    }
+
+    boolean acceptsBatches() {
+      return acceptsBatches;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, logicalId);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      final StreamConsumer<?> that = (StreamConsumer<?>) o;
+      return id.equals(that.id) && logicalId.equals(that.logicalId);
+    }
+
+    @Override
+    public String toString() {
+      return "StreamConsumer{"
+          + "id="
+          + id
+          + ", logicalId="
+          + logicalId
+          + ", credits="
+          + credits
+          + ", acceptsBatches="
+          + acceptsBatches
+          + '}';
+    }
+  }
 
   /**
    * Uniquely identifies a stream
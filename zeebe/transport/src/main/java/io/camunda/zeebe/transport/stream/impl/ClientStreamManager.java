@@ -17,6 +17,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.UUID;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,20 +66,29 @@ final class ClientStreamManager<M extends BufferWriter> {
     // add first in memory to handle case of new broker while we're adding
     final var clientStream = registry.addClient(streamType, metadata, clientStreamConsumer);
     LOG.debug("Added new client stream [{}]", clientStream.streamId());
-    clientStream.serverStream().open(requestManager, servers);
+    final var serverStream = clientStream.serverStream();
+    if (serverStream.isOpened()) {
+      requestManager.updateCapacity(serverStream, servers);
+    } else {
+      serverStream.open(requestManager, servers);
+    }
 
     return clientStream.streamId();
   }
 
   void remove(final ClientStreamId streamId) {
     LOG.debug("Removing client stream [{}]", streamId);
+    final var clientStream = registry.getClient(streamId);
     final var serverStream = registry.removeClient(streamId);
-    serverStream.ifPresent(
+    serverStream.ifPresentOrElse(
         stream -> {
           LOG.debug("Removing aggregated stream [{}]", stream.streamId());
           stream.close();
           requestManager.remove(stream, servers);
-        });
+        },
+        () ->
+            clientStream.ifPresent(
+                client -> requestManager.updateCapacity(client.serverStream(), servers)));
   }
 
   void close() {
@@ -88,9 +98,15 @@ final class ClientStreamManager<M extends BufferWriter> {
 
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest, final ActorFuture<Void> responseFuture) {
-    final var streamId = pushStreamRequest.streamId();
-    final var payload = pushStreamRequest.payload();
+    onPayloadReceived(pushStreamRequest.streamId(), pushStreamRequest.payload(), responseFuture);
+  }
 
+  /**
+   * Forwards a single payload pushed on the given stream, which may have been received on its own
+   * or as part of a batch, to one of the stream's clients.
+   */
+  public void onPayloadReceived(
+      final UUID streamId, final DirectBuffer payload, final ActorFuture<Void> responseFuture) {
     responseFuture.onComplete(
         (ok, error) -> {
           if (error != null) {
@@ -46,6 +46,10 @@ final class ClientStreamRegistration<M extends BufferWriter> {
     return stream.logicalId();
   }
 
+  int capacity() {
+    return stream.capacity();
+  }
+
   MemberId serverId() {
     return serverId;
   }
@@ -27,13 +27,19 @@ final class ClientStreamRegistry<M extends BufferWriter> {
   private final Map<LogicalId<M>, UUID> serverStreamIds = new HashMap<>();
 
   private final ClientStreamMetrics metrics;
+  private final int clientCapacity;
 
   ClientStreamRegistry() {
     this(ClientStreamMetrics.noop());
   }
 
   ClientStreamRegistry(final ClientStreamMetrics metrics) {
+    this(metrics, AggregatedClientStream.UNLIMITED_CLIENT_CAPACITY);
+  }
+
+  ClientStreamRegistry(final ClientStreamMetrics metrics, final int clientCapacity) {
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
+    this.clientCapacity = clientCapacity;
   }
 
   Optional<AggregatedClientStream<M>> get(final UUID serverStreamId) {
@@ -55,7 +61,10 @@ final class ClientStreamRegistry<M extends BufferWriter> {
     final var serverStreamId = serverStreamIds.computeIfAbsent(logicalId, k -> UUID.randomUUID());
     final var serverStream =
         serverStreams.computeIfAbsent(
-            serverStreamId, k -> new AggregatedClientStream<>(serverStreamId, logicalId));
+            serverStreamId,
+            k ->
+                new AggregatedClientStream<>(
+                    serverStreamId, logicalId, ClientStreamMetrics.noop(), clientCapacity));
     final var streamId = new ClientStreamIdImpl(serverStreamId, serverStream.nextLocalId());
     final var clientStream =
         new ClientStreamImpl<>(
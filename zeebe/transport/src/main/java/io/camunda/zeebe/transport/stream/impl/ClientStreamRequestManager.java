@@ -138,6 +138,34 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
     }
   }
 
+  /**
+   * Advertises the current capacity of the given stream to all given servers, by sending them the
+   * add request again. Servers on which the stream is still being added receive the new capacity
+   * once the pending request is completed. Servers on which the stream isn't added are skipped.
+   *
+   * @param stream the stream whose capacity changed
+   * @param serverIds the list of servers to update
+   */
+  void updateCapacity(
+      final AggregatedClientStream<M> stream, final Collection<MemberId> serverIds) {
+    if (stream.capacity() == AddStreamRequest.UNLIMITED_CAPACITY) {
+      // doesn't change with the clients of the stream
+      return;
+    }
+
+    for (final var serverId : serverIds) {
+      final var streamsPerHost = registrations.get(serverId);
+      if (streamsPerHost == null) {
+        continue;
+      }
+
+      final var registration = streamsPerHost.get(stream.streamId());
+      if (registration != null) {
+        updateCapacity(registration);
+      }
+    }
+  }
+
   /**
    * Sends a single remove all request to each given server, and closes all pending registrations.
    *
@@ -174,12 +202,7 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
       return;
     }
 
-    final var request =
-        new AddStreamRequest()
-            .streamId(registration.streamId())
-            .streamType(registration.logicalId().streamType())
-            .metadata(registration.logicalId().metadata());
-
+    final var capacity = registration.capacity();
     final var pendingRequest = registration.pendingRequest();
     if (pendingRequest != null) {
       // error - should not have a pending request if we're registering!
@@ -188,8 +211,65 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
               .formatted(registration.streamId(), registration.serverId()));
     }
 
-    final var payload = BufferUtil.bufferAsArray(request);
-    sendAddRequest(registration, payload);
+    sendAddRequest(registration, addRequest(registration, capacity), capacity);
+  }
+
+  private void updateCapacity(final ClientStreamRegistration<M> registration) {
+    // if the stream is still being added, the capacity is updated once it was added
+    if (registration.state() != State.ADDED) {
+      return;
+    }
+
+    // track the request as pending, such that a removal is only sent after it
+    final var pendingRequest =
+        communicationService.send(
+            StreamTopics.ADD.topic(),
+            addRequest(registration, registration.capacity()),
+            Function.identity(),
+            Function.identity(),
+            registration.serverId(),
+            REQUEST_TIMEOUT);
+    registration.setPendingRequest(pendingRequest);
+    pendingRequest.whenCompleteAsync(
+        (response, error) -> handleUpdateCapacityResponse(registration, response, error),
+        executor::run);
+  }
+
+  private void handleUpdateCapacityResponse(
+      final ClientStreamRegistration<M> registration,
+      final byte[] responseBuffer,
+      final Throwable error) {
+    final Throwable failure;
+    if (error == null) {
+      final var response = responseDecoder.decode(responseBuffer, new AddStreamResponse());
+      if (response.isRight()) {
+        return;
+      }
+
+      failure = response.getLeft().asException();
+    } else {
+      failure = error;
+    }
+
+    // retry with the then current capacity, unless the stream is being removed in the meantime
+    LOGGER.debug(
+        "Failed to update capacity of stream {} on {}; will retry in {}",
+        registration.streamId(),
+        registration.serverId(),
+        RETRY_DELAY,
+        failure);
+    executor.schedule(RETRY_DELAY, () -> updateCapacity(registration));
+  }
+
+  private byte[] addRequest(final ClientStreamRegistration<M> registration, final int capacity) {
+    final var request =
+        new AddStreamRequest()
+            .streamId(registration.streamId())
+            .streamType(registration.logicalId().streamType())
+            .metadata(registration.logicalId().metadata())
+            .capacity(capacity)
+            .acceptsBatches(true);
+    return BufferUtil.bufferAsArray(request);
   }
 
   private void remove(final ClientStreamRegistration<M> registration) {
@@ -240,7 +320,7 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
   }
 
   private void sendAddRequest(
-      final ClientStreamRegistration<M> registration, final byte[] request) {
+      final ClientStreamRegistration<M> registration, final byte[] request, final int capacity) {
     if (registration.state() != State.ADDING) {
       return;
     }
@@ -255,13 +335,14 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
             REQUEST_TIMEOUT);
     registration.setPendingRequest(pendingRequest);
     pendingRequest.whenCompleteAsync(
-        (response, error) -> handleAddResponse(registration, request, response, error),
+        (response, error) -> handleAddResponse(registration, request, capacity, response, error),
         executor::run);
   }
 
   private void handleAddResponse(
       final ClientStreamRegistration<M> registration,
       final byte[] request,
+      final int capacity,
       final byte[] responseBuffer,
       final Throwable error) {
     final var state = registration.state();
@@ -276,6 +357,9 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
       response = responseDecoder.decode(responseBuffer, new AddStreamResponse());
       if (response.isRight()) {
         registration.transitionToAdded();
+        if (registration.capacity() != capacity) {
+          updateCapacity(registration);
+        }
         return;
       }
 
@@ -295,7 +379,7 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         registration.serverId(),
         RETRY_DELAY,
         failure);
-    executor.schedule(RETRY_DELAY, () -> sendAddRequest(registration, request));
+    executor.schedule(RETRY_DELAY, () -> sendAddRequest(registration, request, capacity));
   }
 
   private void sendRemoveRequest(
@@ -40,10 +40,21 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
   private final ClientStreamRegistry<M> registry;
   private final ClientStreamApiHandler apiHandler;
 
+  /**
+   * @param clientCapacity how many payloads may be pushed at once to each client stream, until
+   *     earlier pushes are acknowledged; 0 means the clients don't limit it
+   */
   public ClientStreamServiceImpl(
-      final ClusterCommunicationService communicationService, final ClientStreamMetrics metrics) {
+      final ClusterCommunicationService communicationService,
+      final ClientStreamMetrics metrics,
+      final int clientCapacity) {
+    if (clientCapacity < 0) {
+      throw new IllegalArgumentException(
+          "Expected a client capacity >= 0, but it was %d".formatted(clientCapacity));
+    }
+
     this.communicationService = communicationService;
-    registry = new ClientStreamRegistry<>(metrics);
+    registry = new ClientStreamRegistry<>(metrics, clientCapacity);
 
     // ClientStreamRequestManager must use same actor as this because it is mutating shared
     // ClientStream objects.
@@ -61,6 +72,12 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         apiHandler::handlePushRequest,
         BufferUtil::bufferAsArray,
         actor::run);
+    communicationService.replyToAsync(
+        StreamTopics.PUSH_BATCH.topic(),
+        MessageUtil::parsePushBatchRequest,
+        apiHandler::handlePushBatchRequest,
+        BufferUtil::bufferAsArray,
+        actor::run);
 
     communicationService.replyTo(
         StreamTopics.RESTART_STREAMS.topic(),
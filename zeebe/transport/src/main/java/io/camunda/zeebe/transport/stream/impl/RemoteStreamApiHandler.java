@@ -82,8 +82,26 @@ public final class RemoteStreamApiHandler<M> implements CloseableSilently {
       return failedResponse(sender, errorMessage);
     }
 
-    registry.add(new UnsafeBuffer(request.streamType()), request.streamId(), sender, properties);
-    LOG.debug("Opened stream {} from {}", request.streamId(), sender);
+    final int capacity;
+    if (request.capacity() == AddStreamRequest.UNLIMITED_CAPACITY) {
+      // older clients don't advertise any capacity
+      capacity = StreamCredits.UNLIMITED;
+    } else if (request.capacity() < 0) {
+      final String errorMessage =
+          "Expected a capacity >= 0, but it was %d".formatted(request.capacity());
+      return failedResponse(sender, errorMessage);
+    } else {
+      capacity = request.capacity();
+    }
+
+    registry.add(
+        new UnsafeBuffer(request.streamType()),
+        request.streamId(),
+        sender,
+        properties,
+        capacity,
+        request.acceptsBatches());
+    LOG.debug("Opened stream {} from {} with capacity {}", request.streamId(), sender, capacity);
     return addResponseOK;
   }
 
@@ -9,30 +9,52 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Pushes payloads to the consumers of an {@link AggregatedRemoteStream}. Every push takes one of
+ * the {@link StreamCredits} of its consumer, which are given back once the push is completed. The
+ * consumer is picked at random, weighted by its credits left, such that consumers which are slow to
+ * acknowledge pushes receive fewer payloads. If no consumer has any credits left, the payload is
+ * handed to the error handler, as if all consumers had failed.
+ *
+ * <p>Payloads for consumers which accept batches may be pushed together with other payloads for
+ * the same consumer; see {@link RemoteStreamPusher#pushBatchedAsync}.
+ */
 public final class RemoteStreamImpl<M, P extends BufferWriter> implements RemoteStream<M, P> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(RemoteStreamImpl.class);
   private final AggregatedRemoteStream<M> stream;
   private final RemoteStreamPusher<P> streamer;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final RemoteStreamMetrics metrics;
 
   public RemoteStreamImpl(
       final AggregatedRemoteStream<M> stream,
       final RemoteStreamPusher<P> streamer,
       final RemoteStreamErrorHandler<P> errorHandler) {
+    this(stream, streamer, errorHandler, RemoteStreamMetrics.noop());
+  }
+
+  public RemoteStreamImpl(
+      final AggregatedRemoteStream<M> stream,
+      final RemoteStreamPusher<P> streamer,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final RemoteStreamMetrics metrics) {
     this.stream = stream;
     this.streamer = streamer;
     this.errorHandler = errorHandler;
+    this.metrics = metrics;
   }
 
   @Override
@@ -42,8 +64,9 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
 
   @Override
   public void push(final P payload) {
-    final var initialConsumer = pickInitialConsumer();
-    if (initialConsumer == null) {
+    // the consumers can be modified concurrently, so pick from a snapshot
+    final var consumers = List.copyOf(stream.streamConsumers());
+    if (consumers.isEmpty()) {
       errorHandler.handleError(
           new StreamExhaustedException(
               "Failed to push to stream %s, all consumers were removed since it was picked"
@@ -52,29 +75,64 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       return;
     }
 
+    final var initialConsumer = pickInitialConsumer(consumers);
+    if (initialConsumer == null) {
+      metrics.creditsExhausted();
+      errorHandler.handleError(
+          new StreamExhaustedException(
+              "Failed to push to stream %s, none of its %d consumers has any credits left"
+                  .formatted(stream.logicalId(), consumers.size())),
+          payload);
+      return;
+    }
+
     final var retryHandler = new RetryHandler(errorHandler, initialConsumer);
-    streamer.pushAsync(payload, retryHandler, initialConsumer.id());
+    pushTo(initialConsumer, payload, retryHandler);
   }
 
-  private StreamConsumer<M> pickInitialConsumer() {
-    final var consumers = stream.streamConsumers();
-    var size = consumers.size();
-
-    // since we can get concurrent modifications of the stream consumers list, we have to handle the
-    // case where the size changes while we're picking a consumer, so we loop as long as we fail to
-    // pick a consumer or the list is empty
-    while (size > 0) {
-      final var index = ThreadLocalRandom.current().nextInt(size);
-      try {
-        return consumers.get(index);
-      } catch (final IndexOutOfBoundsException e) {
-        LOGGER.trace(
-            "Stream consumer list concurrently modified while picking consumer; retrying", e);
-        size = consumers.size();
-      }
+  private void pushTo(
+      final StreamConsumer<M> consumer,
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler) {
+    final Runnable releaseCredit = consumer.credits()::release;
+    if (consumer.acceptsBatches()) {
+      streamer.pushBatchedAsync(payload, errorHandler, consumer.id(), releaseCredit);
+    } else {
+      streamer.pushAsync(payload, errorHandler, consumer.id(), releaseCredit);
     }
+  }
 
-    return null;
+  /**
+   * Picks a random consumer, weighted by the credits it has left, and takes one of its credits.
+   * Since credits are taken concurrently, picking is retried until a credit was taken, or no
+   * consumer has any credits left.
+   *
+   * @return the picked consumer, or null if none has any credits left
+   */
+  private StreamConsumer<M> pickInitialConsumer(final List<StreamConsumer<M>> consumers) {
+    while (true) {
+      long totalCredits = 0;
+      for (final var consumer : consumers) {
+        totalCredits += consumer.credits().available();
+      }
+
+      if (totalCredits <= 0) {
+        return null;
+      }
+
+      var credit = ThreadLocalRandom.current().nextLong(totalCredits);
+      for (final var consumer : consumers) {
+        credit -= consumer.credits().available();
+        if (credit < 0) {
+          if (consumer.credits().tryAcquire()) {
+            return consumer;
+          }
+
+          LOGGER.trace("Credits of stream consumer {} taken concurrently; retrying", consumer);
+          break;
+        }
+      }
+    }
   }
 
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
@@ -111,9 +169,15 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
       }
 
       final var client = iterator.next();
+      if (!client.credits().tryAcquire()) {
+        LOGGER.trace("Skip retrying with stream {}, which has no credits left", client.id());
+        retry(throwable, payload, iterator);
+        return;
+      }
+
       LOGGER.trace(
           "Failed to push payload (size = {}), retrying with next stream", payload.getLength());
-      streamer.pushAsync(payload, (error, data) -> retry(error, data, iterator), client.id());
+      pushTo(client, payload, (error, data) -> retry(error, data, iterator));
     }
 
     private void onConsumersExhausted(final Throwable throwable, final P payload) {
@@ -8,20 +8,29 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
+import io.camunda.zeebe.util.VisibleForTesting;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,10 +38,19 @@ import org.slf4j.LoggerFactory;
  * A naive implementation to push jobs out, which performs no retries of any kind, but reports
  * errors on failure.
  *
+ * <p>Payloads can be pushed either on their own, or batched with other payloads for the same
+ * stream, in which case they are sent with a single request. A batch is pushed a short window
+ * after its first payload was queued, or as soon as it's full, whichever comes first. This trades a
+ * little latency for far fewer requests and acknowledgements when many payloads are pushed in a
+ * burst.
+ *
  * @param <P> the payload type to be pushed out
  */
 final class RemoteStreamPusher<P extends BufferWriter> {
   private static final Logger LOG = LoggerFactory.getLogger(RemoteStreamPusher.class);
+  private static final Duration BATCH_WINDOW = Duration.ofMillis(1);
+  @VisibleForTesting static final int MAX_BATCH_SIZE = 32;
+  private static final int MAX_BATCH_LENGTH = 512 * 1024;
 
   private final StreamResponseDecoder responseDecoder = new StreamResponseDecoder();
   private final ThrottledLogger pushErrorLogger = new ThrottledLogger(LOG, Duration.ofSeconds(5));
@@ -40,10 +58,13 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
   private final RemoteStreamMetrics metrics;
   private final Transport transport;
-  private final Executor executor;
+  private final ConcurrencyControl executor;
+  private final Map<StreamId, Batch<P>> pendingBatches = new HashMap<>();
 
   RemoteStreamPusher(
-      final Transport transport, final Executor executor, final RemoteStreamMetrics metrics) {
+      final Transport transport,
+      final ConcurrencyControl executor,
+      final RemoteStreamMetrics metrics) {
     this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
     this.transport = Objects.requireNonNull(transport, "must provide a network transport");
     this.executor = Objects.requireNonNull(executor, "must provide an asynchronous executor");
@@ -51,17 +72,162 @@ final class RemoteStreamPusher<P extends BufferWriter> {
 
   public void pushAsync(
       final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+    pushAsync(payload, errorHandler, streamId, () -> {});
+  }
+
+  /**
+   * Pushes the payload asynchronously to the given stream.
+   *
+   * @param payload the payload to push
+   * @param errorHandler called if the push failed
+   * @param streamId the stream to push to
+   * @param onCompleted called once the push is completed, successfully or not, and before the error
+   *     handler is called
+   */
+  public void pushAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final Runnable onCompleted) {
     Objects.requireNonNull(errorHandler, "must specify a error handler");
 
     try {
       Objects.requireNonNull(payload, "must specify a payload");
       executor.execute(
-          () -> push(payload, instrumentingErrorHandler(errorHandler, streamId), streamId));
+          () ->
+              push(
+                  payload,
+                  instrumentingErrorHandler(errorHandler, streamId),
+                  streamId,
+                  onCompleted));
     } catch (final Exception e) {
+      onCompleted.run();
       errorHandler.handleError(e, payload);
     }
   }
 
+  /**
+   * Queues the payload to be pushed to the given stream together with any other payloads queued for
+   * the same stream. Every payload is still handled on its own: the error handler is only called if
+   * this payload could not be pushed, and onCompleted is called once the batch is completed.
+   *
+   * <p>NOTE: the receiver of the stream must accept batches, i.e. handle {@link
+   * StreamTopics#PUSH_BATCH}.
+   *
+   * @param payload the payload to push
+   * @param errorHandler called if the push failed
+   * @param streamId the stream to push to
+   * @param onCompleted called once the push is completed, successfully or not, and before the error
+   *     handler is called
+   */
+  public void pushBatchedAsync(
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final Runnable onCompleted) {
+    Objects.requireNonNull(errorHandler, "must specify a error handler");
+
+    try {
+      Objects.requireNonNull(payload, "must specify a payload");
+      final var batchedPayload =
+          new BatchedPayload<>(
+              payload, instrumentingErrorHandler(errorHandler, streamId), onCompleted);
+      executor.run(() -> addToBatch(streamId, batchedPayload));
+    } catch (final Exception e) {
+      onCompleted.run();
+      errorHandler.handleError(e, payload);
+    }
+  }
+
+  /** Pushes all pending batches right away, without waiting for their window to elapse. */
+  void flushBatches() {
+    for (final var pending : List.copyOf(pendingBatches.entrySet())) {
+      flush(pending.getKey(), pending.getValue());
+    }
+  }
+
+  private void addToBatch(final StreamId streamId, final BatchedPayload<P> payload) {
+    final var batch = pendingBatches.computeIfAbsent(streamId, ignored -> new Batch<>());
+    batch.add(payload);
+
+    if (batch.isFull()) {
+      flush(streamId, batch);
+    } else if (batch.payloads.size() == 1) {
+      batch.timer = executor.schedule(BATCH_WINDOW, () -> flush(streamId, batch));
+    }
+  }
+
+  private void flush(final StreamId streamId, final Batch<P> batch) {
+    // the batch may have been flushed already, e.g. when it became full before its window elapsed
+    if (!pendingBatches.remove(streamId, batch)) {
+      return;
+    }
+
+    if (batch.timer != null) {
+      batch.timer.cancel();
+    }
+
+    pushBatch(streamId, batch.payloads);
+  }
+
+  private void pushBatch(final StreamId streamId, final List<BatchedPayload<P>> payloads) {
+    if (payloads.size() == 1) {
+      final var single = payloads.getFirst();
+      push(single.payload(), single.errorHandler(), streamId, single.onCompleted());
+      return;
+    }
+
+    final var request = new PushStreamBatchRequest().streamId(streamId.streamId());
+    payloads.forEach(batched -> request.addPayload(batched.payload()));
+    try {
+      transport
+          .sendBatch(request, streamId.receiver())
+          .whenCompleteAsync(
+              (response, error) -> onBatchPush(payloads, response, error), executor);
+      LOG.trace("Pushed batch of {} payloads to stream {}", payloads.size(), streamId);
+    } catch (final Exception e) {
+      payloads.forEach(batched -> batched.onCompleted().run());
+      payloads.forEach(batched -> batched.errorHandler().handleError(e, batched.payload()));
+    }
+  }
+
+  private void onBatchPush(
+      final List<BatchedPayload<P>> payloads, final byte[] responseBuffer, final Throwable error) {
+    payloads.forEach(batched -> batched.onCompleted().run());
+    if (error != null) {
+      payloads.forEach(batched -> batched.errorHandler().handleError(error, batched.payload()));
+      return;
+    }
+
+    responseDecoder
+        .decode(responseBuffer, new PushStreamBatchResponse())
+        .mapLeft(ErrorResponse::asException)
+        .ifRightOrLeft(
+            response -> onBatchPushed(payloads, response),
+            failure ->
+                payloads.forEach(
+                    batched -> batched.errorHandler().handleError(failure, batched.payload())));
+  }
+
+  private void onBatchPushed(
+      final List<BatchedPayload<P>> payloads, final PushStreamBatchResponse response) {
+    final var errors = new ErrorResponse[payloads.size()];
+    for (final var failure : response.failures()) {
+      if (failure.index() >= 0 && failure.index() < errors.length) {
+        errors[failure.index()] = failure.error();
+      }
+    }
+
+    for (int i = 0; i < errors.length; i++) {
+      final var batched = payloads.get(i);
+      if (errors[i] == null) {
+        metrics.pushSucceeded();
+      } else {
+        batched.errorHandler().handleError(errors[i].asException(), batched.payload());
+      }
+    }
+  }
+
   private RemoteStreamErrorHandler<P> instrumentingErrorHandler(
       final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
     return (error, payload) -> {
@@ -104,15 +270,23 @@ final class RemoteStreamPusher<P extends BufferWriter> {
   }
 
   private void push(
-      final P payload, final RemoteStreamErrorHandler<P> errorHandler, final StreamId streamId) {
+      final P payload,
+      final RemoteStreamErrorHandler<P> errorHandler,
+      final StreamId streamId,
+      final Runnable onCompleted) {
     final var request = new PushStreamRequest().streamId(streamId.streamId()).payload(payload);
     try {
       transport
           .send(request, streamId.receiver())
           .whenCompleteAsync(
-              (response, error) -> onPush(payload, errorHandler, response, error), executor);
+              (response, error) -> {
+                onCompleted.run();
+                onPush(payload, errorHandler, response, error);
+              },
+              executor);
       LOG.trace("Pushed {} to stream {}", payload, streamId);
     } catch (final Exception e) {
+      onCompleted.run();
       errorHandler.handleError(e, payload);
     }
   }
@@ -153,5 +327,35 @@ final class RemoteStreamPusher<P extends BufferWriter> {
      */
     CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver)
         throws Exception;
+
+    /**
+     * Sends the given batch out to the given receiver. May throw errors, e.g. serialization errors.
+     *
+     * @param request the batch to send
+     * @param receiver the expected target
+     * @return a future which is completed when the batch has been acknowledged by the receiver, or
+     *     an error occurred
+     * @throws Exception if an error occurs before the request is sent out, i.e. serialization error
+     */
+    CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception;
+  }
+
+  private record BatchedPayload<P>(
+      P payload, RemoteStreamErrorHandler<P> errorHandler, Runnable onCompleted) {}
+
+  private static final class Batch<P extends BufferWriter> {
+    private final List<BatchedPayload<P>> payloads = new ArrayList<>();
+    private int length;
+    private ScheduledTimer timer;
+
+    private void add(final BatchedPayload<P> payload) {
+      payloads.add(payload);
+      length += payload.payload().getLength();
+    }
+
+    private boolean isFull() {
+      return payloads.size() >= MAX_BATCH_SIZE || length >= MAX_BATCH_LENGTH;
+    }
   }
 }
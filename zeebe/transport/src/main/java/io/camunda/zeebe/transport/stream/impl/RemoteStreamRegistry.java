@@ -63,9 +63,33 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
       final UUID streamId,
       final MemberId receiver,
       final M properties) {
+    add(streamType, streamId, receiver, properties, StreamCredits.UNLIMITED, false);
+  }
+
+  /**
+   * Adds a stream receiver that can receive data from the stream with the given streamType. If the
+   * stream was already added, only its capacity is updated.
+   *
+   * @param streamType type of the stream
+   * @param streamId id of the stream. The pair (receiver, streamId) must uniquely identify the
+   *     stream.
+   * @param receiver The id of the node that receives data from the stream
+   * @param properties properties used by the producer to generate data to be pushed to the stream
+   * @param capacity how many payloads can be pushed to the stream at once
+   * @param acceptsBatches whether multiple payloads can be pushed to the stream with one request
+   */
+  public void add(
+      final UnsafeBuffer streamType,
+      final UUID streamId,
+      final MemberId receiver,
+      final M properties,
+      final int capacity,
+      final boolean acceptsBatches) {
 
     final StreamId uniqueId = new StreamId(streamId, receiver);
-    if (idToConsumer.containsKey(uniqueId)) {
+    final var existingConsumer = idToConsumer.get(uniqueId);
+    if (existingConsumer != null) {
+      existingConsumer.credits().capacity(capacity);
       return;
     }
 
@@ -83,7 +107,7 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
           return aggregatedStream;
         });
 
-    final var streamConsumer = new StreamConsumer<>(uniqueId, logicalId);
+    final var streamConsumer = new StreamConsumer<>(uniqueId, logicalId, capacity, acceptsBatches);
     logicalIdToConsumers.get(logicalId).addConsumer(streamConsumer);
 
     idToConsumer.put(uniqueId, streamConsumer);
@@ -14,6 +14,7 @@ import io.camunda.zeebe.transport.stream.api.RemoteStream;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamer;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -46,6 +47,7 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final RemoteStreamMetrics metrics;
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
@@ -55,8 +57,9 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
+    this.metrics = Objects.requireNonNull(metrics, "must specify remote stream metrics");
 
-    remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
+    remoteStreamPusher = new RemoteStreamPusher<>(new ClusterTransport(), actor, metrics);
   }
 
   @Override
@@ -72,30 +75,63 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     }
 
     return pickStream(consumers)
-        .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
+        .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler, metrics));
   }
 
+  /**
+   * Picks a random stream which has a consumer with credits left. If all consumers are out of
+   * credits, no stream is returned, such that the data is not pushed but left to be polled.
+   */
   private Optional<AggregatedRemoteStream<M>> pickStream(
       final Set<AggregatedRemoteStream<M>> consumers) {
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    boolean hasConsumers = false;
     for (final var target : targets) {
-      if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+      for (final var consumer : target.streamConsumers()) {
+        hasConsumers = true;
+        if (consumer.credits().available() > 0) {
+          return Optional.of(target);
+        }
       }
     }
 
+    if (hasConsumers) {
+      metrics.creditsExhausted();
+    }
+
     return Optional.empty();
   }
 
-  private CompletableFuture<byte[]> send(final PushStreamRequest request, final MemberId receiver) {
+  @Override
+  protected void onActorClosing() {
+    remoteStreamPusher.flushBatches();
+  }
+
+  private CompletableFuture<byte[]> send(
+      final StreamTopics topic, final BufferWriter request, final MemberId receiver) {
     return transport.send(
-        StreamTopics.PUSH.topic(),
+        topic.topic(),
         request,
         BufferUtil::bufferAsArray,
         Function.identity(),
         receiver,
         REQUEST_TIMEOUT);
   }
+
+  private final class ClusterTransport implements RemoteStreamPusher.Transport {
+
+    @Override
+    public CompletableFuture<byte[]> send(
+        final PushStreamRequest request, final MemberId receiver) {
+      return RemoteStreamerImpl.this.send(StreamTopics.PUSH, request, receiver);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      return RemoteStreamerImpl.this.send(StreamTopics.PUSH_BATCH, request, receiver);
+    }
+  }
 }
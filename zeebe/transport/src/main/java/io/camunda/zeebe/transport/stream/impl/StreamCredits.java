@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks how many more payloads can be pushed to a stream consumer. The consumer advertises its
+ * capacity, i.e. how many payloads it accepts at once. A credit is taken for every push, and given
+ * back once the push was acknowledged or failed.
+ *
+ * <p>This class is thread-safe, as payloads are pushed from multiple threads at once.
+ */
+final class StreamCredits {
+  static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile int capacity;
+
+  StreamCredits(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  void capacity(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  /** Returns how many credits are left; may be outdated as soon as it's returned. */
+  int available() {
+    return Math.max(0, capacity - inFlight.get());
+  }
+
+  /**
+   * Takes a credit for a push, if there is one left.
+   *
+   * @return true if a credit was taken, false if the consumer is at capacity
+   */
+  boolean tryAcquire() {
+    int current;
+    do {
+      current = inFlight.get();
+      if (current >= capacity) {
+        return false;
+      }
+    } while (!inFlight.compareAndSet(current, current + 1));
+
+    return true;
+  }
+
+  /** Gives back the credit of a push which was acknowledged or failed. */
+  void release() {
+    inFlight.decrementAndGet();
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCredits{" + "capacity=" + capacity + ", inFlight=" + inFlight.get() + '}';
+  }
+}
@@ -18,6 +18,9 @@ import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class AddStreamRequest implements BufferReader, BufferWriter {
+  /** Capacity of streams whose client doesn't limit how many payloads are pushed at once */
+  public static final int UNLIMITED_CAPACITY = AddStreamRequestDecoder.capacityNullValue();
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
@@ -27,6 +30,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
   private final DirectBuffer streamType = new UnsafeBuffer();
 
   private UUID streamId;
+  private int capacity = UNLIMITED_CAPACITY;
+  private boolean acceptsBatches;
   private final DirectBuffer metadataReader = new UnsafeBuffer();
   private BufferWriter metadataWriter = new DirectBufferWriter().wrap(metadataReader);
 
@@ -37,6 +42,8 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     messageDecoder.wrapMetadata(metadataReader);
     metadataWriter = new DirectBufferWriter().wrap(metadataReader);
     streamId = new UUID(messageDecoder.id().high(), messageDecoder.id().low());
+    capacity = messageDecoder.capacity();
+    acceptsBatches = messageDecoder.acceptsBatches() == BooleanType.TRUE;
   }
 
   @Override
@@ -67,6 +74,10 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
           .high(streamId.getMostSignificantBits())
           .low(streamId.getLeastSignificantBits());
     }
+
+    messageEncoder
+        .capacity(capacity)
+        .acceptsBatches(acceptsBatches ? BooleanType.TRUE : BooleanType.FALSE);
   }
 
   public DirectBuffer streamType() {
@@ -103,9 +114,34 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     return this;
   }
 
+  /**
+   * @return how many payloads may be pushed to the stream at once, or {@link #UNLIMITED_CAPACITY}
+   */
+  public int capacity() {
+    return capacity;
+  }
+
+  public AddStreamRequest capacity(final int capacity) {
+    this.capacity = capacity;
+    return this;
+  }
+
+  /**
+   * @return true if multiple payloads may be pushed to the stream with a single {@link
+   *     PushStreamBatchRequest}; always false for clients which predate batches
+   */
+  public boolean acceptsBatches() {
+    return acceptsBatches;
+  }
+
+  public AddStreamRequest acceptsBatches(final boolean acceptsBatches) {
+    this.acceptsBatches = acceptsBatches;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(streamType, metadataReader, streamId);
+    return Objects.hash(streamType, metadataReader, streamId, capacity, acceptsBatches);
   }
 
   @Override
@@ -121,7 +157,9 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
     final AddStreamRequest that = (AddStreamRequest) o;
     return streamType.equals(that.streamType)
         && metadataReader.equals(that.metadataReader)
-        && Objects.equals(streamId, that.streamId);
+        && Objects.equals(streamId, that.streamId)
+        && capacity == that.capacity
+        && acceptsBatches == that.acceptsBatches;
   }
 
   @Override
@@ -133,6 +171,10 @@ public final class AddStreamRequest implements BufferReader, BufferWriter {
         + metadataReader
         + ", streamId="
         + streamId
+        + ", capacity="
+        + capacity
+        + ", acceptsBatches="
+        + acceptsBatches
         + '}';
   }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl.messages;
+
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseDecoder.FailuresDecoder;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponseEncoder.FailuresEncoder;
+import io.camunda.zeebe.util.SbeUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Result of a {@link PushStreamBatchRequest}. Only the payloads which could not be pushed are
+ * listed, each with the error it would have been answered with if it had been pushed on its own;
+ * all other payloads were pushed successfully.
+ */
+public final class PushStreamBatchResponse implements StreamResponse {
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final PushStreamBatchResponseEncoder messageEncoder =
+      new PushStreamBatchResponseEncoder();
+  private final PushStreamBatchResponseDecoder messageDecoder =
+      new PushStreamBatchResponseDecoder();
+
+  private final List<Failure> failures = new ArrayList<>();
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    messageDecoder.wrapAndApplyHeader(buffer, offset, headerDecoder);
+
+    failures.clear();
+    for (final FailuresDecoder decoder : messageDecoder.failures()) {
+      final var index = decoder.index();
+      final var errorBuffer = new UnsafeBuffer();
+      decoder.wrapError(errorBuffer);
+
+      final var error = new ErrorResponse();
+      error.wrap(errorBuffer, 0, errorBuffer.capacity());
+      failures.add(new Failure(index, error));
+    }
+  }
+
+  @Override
+  public int getLength() {
+    int failuresLength = 0;
+    for (final var failure : failures) {
+      failuresLength +=
+          FailuresEncoder.sbeBlockLength()
+              + FailuresEncoder.errorHeaderLength()
+              + failure.error().getLength();
+    }
+
+    return headerEncoder.encodedLength()
+        + messageEncoder.sbeBlockLength()
+        + FailuresEncoder.sbeHeaderSize()
+        + failuresLength;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    messageEncoder.wrapAndApplyHeader(buffer, offset, headerEncoder);
+
+    final var failuresEncoder = messageEncoder.failuresCount(failures.size());
+    for (final var failure : failures) {
+      failuresEncoder.next().index(failure.index());
+      SbeUtil.writeNested(
+          failure.error(),
+          FailuresEncoder.errorHeaderLength(),
+          messageEncoder,
+          PushStreamBatchResponseEncoder.BYTE_ORDER);
+    }
+  }
+
+  @Override
+  public int templateId() {
+    return messageDecoder.sbeTemplateId();
+  }
+
+  public PushStreamBatchResponse addFailure(final int index, final ErrorResponse error) {
+    failures.add(new Failure(index, Objects.requireNonNull(error, "must specify an error")));
+    return this;
+  }
+
+  /** Returns the payloads which failed, in no particular order. */
+  public List<Failure> failures() {
+    return failures;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(failures);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+
+    final PushStreamBatchResponse that = (PushStreamBatchResponse) o;
+    return failures.equals(that.failures);
+  }
+
+  @Override
+  public String toString() {
+    return "PushStreamBatchResponse{" + "failures=" + failures + '}';
+  }
+
+  /**
+   * @param index the index of the failed payload in the request
+   * @param error the reason why the payload could not be pushed
+   */
+  public record Failure(int index, ErrorResponse error) {}
+}
@@ -8,9 +8,12 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamBlockedException;
@@ -19,11 +22,20 @@ import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException.ErrorDetail;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse.Failure;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.time.Duration;
+import java.util.UUID;
 import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
@@ -77,6 +89,68 @@ final class ClientStreamApiHandlerTest {
         .containsExactly(testCase.code());
   }
 
+  @Test
+  void shouldReplyWithFailedPayloadsOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var streamId = UUID.randomUUID();
+    final var request =
+        MessageUtil.parsePushBatchRequest(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchRequest()
+                    .streamId(streamId)
+                    .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+                    .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")))
+                    .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("baz")))));
+    final var payloadPushed = ArgumentCaptor.forClass(CompletableActorFuture.class);
+    //noinspection unchecked
+    doNothing()
+        .when(clientStreamManager)
+        .onPayloadReceived(eq(streamId), any(DirectBuffer.class), payloadPushed.capture());
+
+    // when
+    final var response = apiHandler.handlePushBatchRequest(request);
+    final var pushes = payloadPushed.getAllValues();
+    pushes.get(0).complete(null);
+    pushes.get(1).completeExceptionally(new ClientStreamBlockedException("failed"));
+    assertThat(response).isNotDone();
+    pushes.get(2).complete(null);
+
+    // then
+    assertThat(response)
+        .succeedsWithin(Duration.ZERO)
+        .asInstanceOf(InstanceOfAssertFactories.type(PushStreamBatchResponse.class))
+        .extracting(
+            PushStreamBatchResponse::failures, InstanceOfAssertFactories.list(Failure.class))
+        .singleElement()
+        .returns(1, Failure::index)
+        .returns(ErrorCode.BLOCKED, failure -> failure.error().code());
+  }
+
+  @Test
+  void shouldForwardEachPayloadOfBatch() {
+    // given
+    final var apiHandler = new ClientStreamApiHandler(clientStreamManager, Runnable::run);
+    final var streamId = UUID.randomUUID();
+    final var request =
+        MessageUtil.parsePushBatchRequest(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchRequest()
+                    .streamId(streamId)
+                    .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+                    .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")))));
+    final var payloads = ArgumentCaptor.forClass(DirectBuffer.class);
+
+    // when
+    apiHandler.handlePushBatchRequest(request);
+
+    // then
+    verify(clientStreamManager, times(2))
+        .onPayloadReceived(eq(streamId), payloads.capture(), any());
+    assertThat(payloads.getAllValues())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+  }
+
   private static Stream<ExceptionErrorCase> provideExceptionToErrorMap() {
     return Stream.of(
         new ExceptionErrorCase(new StreamExhaustedException("failed"), ErrorCode.EXHAUSTED),
@@ -10,7 +10,9 @@ package io.camunda.zeebe.transport.stream.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
@@ -20,14 +22,18 @@ import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
 import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
+import io.camunda.zeebe.transport.stream.impl.messages.AddStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.AddStreamResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -38,14 +44,17 @@ import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 class ClientStreamManagerTest {
+  private static final int CLIENT_CAPACITY = 32;
 
   private static final ClientStreamConsumer NOOP_CONSUMER =
       p -> CompletableActorFuture.completed(null);
   private final DirectBuffer streamType = BufferUtil.wrapString("foo");
   private final TestMetadata metadata = new TestMetadata(1);
-  private final ClientStreamRegistry<TestMetadata> registry = new ClientStreamRegistry<>();
+  private final ClientStreamRegistry<TestMetadata> registry =
+      new ClientStreamRegistry<>(ClientStreamMetrics.noop(), CLIENT_CAPACITY);
   private final ClusterCommunicationService mockTransport = mock(ClusterCommunicationService.class);
   private final TestClientStreamMetrics metrics = new TestClientStreamMetrics();
   private final ClientStreamManager<TestMetadata> clientStreamManager =
@@ -214,6 +223,61 @@ class ClientStreamManagerTest {
     assertThat(registry.get(serverStreamId)).isPresent();
   }
 
+  @Test
+  void shouldAdvertiseCapacityOfAllAggregatedClients() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+
+    // when
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+
+    // then
+    assertThat(sentAddRequests(server))
+        .extracting(AddStreamRequest::capacity)
+        .containsExactly(CLIENT_CAPACITY, 2 * CLIENT_CAPACITY);
+  }
+
+  @Test
+  void shouldUpdateCapacityWhenClientIsRemoved() {
+    // given
+    final MemberId server = MemberId.from("1");
+    clientStreamManager.onServerJoined(server);
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+    final var streamId = clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+
+    // when
+    clientStreamManager.remove(streamId);
+
+    // then
+    assertThat(sentAddRequests(server))
+        .extracting(AddStreamRequest::capacity)
+        .last()
+        .isEqualTo(CLIENT_CAPACITY);
+  }
+
+  @Test
+  void shouldNotLimitCapacityByDefault() {
+    // given
+    final var unlimitedManager =
+        new ClientStreamManager<>(
+            new ClientStreamRegistry<TestMetadata>(),
+            new ClientStreamRequestManager<>(mockTransport, new TestConcurrencyControl()),
+            metrics);
+    final MemberId server = MemberId.from("1");
+    unlimitedManager.onServerJoined(server);
+    unlimitedManager.add(streamType, metadata, NOOP_CONSUMER);
+
+    // when
+    unlimitedManager.add(streamType, metadata, NOOP_CONSUMER);
+
+    // then - the capacity doesn't change with the clients, so it isn't advertised again
+    assertThat(sentAddRequests(server))
+        .extracting(AddStreamRequest::capacity)
+        .containsExactly(AddStreamRequest.UNLIMITED_CAPACITY);
+  }
+
   @Test
   void shouldPushPayloadToClient() {
     // given
@@ -324,6 +388,13 @@ class ClientStreamManagerTest {
     assertThat(metrics.getServerCount()).isZero();
   }
 
+  private List<AddStreamRequest> sentAddRequests(final MemberId server) {
+    final ArgumentCaptor<byte[]> requests = ArgumentCaptor.forClass(byte[].class);
+    verify(mockTransport, atLeastOnce())
+        .send(eq(StreamTopics.ADD.topic()), requests.capture(), any(), any(), eq(server), any());
+    return requests.getAllValues().stream().map(MessageUtil::parseAddRequest).toList();
+  }
+
   private UUID getServerStreamId(final ClientStreamId clientStreamId) {
     return registry.getClient(clientStreamId).orElseThrow().serverStream().streamId();
   }
@@ -155,6 +155,54 @@ final class RemoteStreamApiHandlerTest {
         .containsExactly(streamId, sender);
   }
 
+  @Test
+  void shouldUpdateCapacityOfAddedStream() {
+    // given
+    final var streamType = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = UUID.randomUUID();
+    final var sender = MemberId.anonymous();
+    final var request =
+        new AddStreamRequest()
+            .streamId(streamId)
+            .streamType(streamType)
+            .metadata(SERIALIZED_METADATA)
+            .capacity(10);
+    server.add(sender, request);
+
+    // when
+    server.add(sender, request.capacity(20));
+
+    // then
+    assertThat(registry.get(streamType))
+        .flatExtracting(AggregatedRemoteStream::streamConsumers)
+        .singleElement()
+        .extracting(consumer -> consumer.credits().capacity())
+        .isEqualTo(20);
+  }
+
+  @Test
+  void shouldNotAddWithNegativeCapacity() {
+    // given
+    final var streamType = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(streamType)
+            .metadata(SERIALIZED_METADATA)
+            .capacity(-1);
+
+    // when
+    final var response = server.add(MemberId.anonymous(), request);
+
+    // then
+    assertThat(response)
+        .isInstanceOf(ErrorResponse.class)
+        .asInstanceOf(InstanceOfAssertFactories.type(ErrorResponse.class))
+        .extracting(ErrorResponse::code)
+        .isEqualTo(ErrorCode.INVALID);
+    assertThat(registry.get(streamType)).isEmpty();
+  }
+
   @Test
   void shouldRemoveStream() {
     // given
@@ -10,12 +10,14 @@ package io.camunda.zeebe.transport.stream.impl;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.StreamExhaustedException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamConsumer;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -23,7 +25,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
 import org.agrona.collections.MutableReference;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,7 +38,7 @@ class RemoteStreamImplTest {
   private final AggregatedRemoteStream<TestSerializableData> aggregatedStream =
       new AggregatedRemoteStream<>(new LogicalId<>(streamType, properties), new ArrayList<>());
   private final FailingTransport transport = new FailingTransport();
-  private final Executor executor = Runnable::run;
+  private final TestConcurrencyControl executor = new TestConcurrencyControl();
   private final RemoteStreamPusher<TestSerializableData> pusher =
       new RemoteStreamPusher<>(transport, executor, RemoteStreamMetrics.noop());
   private RemoteStreamErrorHandler<TestSerializableData> errorHandler = (e, d) -> {};
@@ -98,6 +99,50 @@ class RemoteStreamImplTest {
     assertThat(transport.attemptedStreams).isEmpty();
   }
 
+  @Test
+  void shouldNotPushToConsumersWithoutCredits() {
+    // given
+    final var consumers = aggregatedStream.streamConsumers();
+    consumers.get(0).credits().capacity(0);
+    consumers.get(1).credits().capacity(0);
+    transport.succeedAfterAttempts(0);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).containsExactly(consumers.get(2).id().streamId());
+  }
+
+  @Test
+  void shouldFailIfNoConsumerHasCreditsLeft() {
+    // given
+    final MutableReference<Throwable> errorRef = new MutableReference<>();
+    aggregatedStream.streamConsumers().forEach(consumer -> consumer.credits().capacity(0));
+    errorHandler = (e, d) -> errorRef.set(e);
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(errorRef.get()).isInstanceOf(StreamExhaustedException.class);
+    assertThat(transport.attemptedStreams).isEmpty();
+  }
+
+  @Test
+  void shouldGiveBackCreditsOnceCompleted() {
+    // given
+    aggregatedStream.streamConsumers().forEach(consumer -> consumer.credits().capacity(1));
+
+    // when
+    remoteStream.push(payload);
+
+    // then
+    assertThat(transport.attemptedStreams).hasSize(3);
+    assertThat(aggregatedStream.streamConsumers())
+        .allSatisfy(consumer -> assertThat(consumer.credits().available()).isOne());
+  }
+
   private static final class FailingTransport implements Transport {
 
     private final List<UUID> attemptedStreams = new ArrayList<>();
@@ -119,5 +164,11 @@ class RemoteStreamImplTest {
       }
       return CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
     }
+
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) {
+      throw new UnsupportedOperationException("None of the consumers accepts batches");
+    }
   }
 }
@@ -11,23 +11,30 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamErrorHandler;
 import io.camunda.zeebe.transport.stream.api.StreamResponseException;
 import io.camunda.zeebe.transport.stream.impl.AggregatedRemoteStream.StreamId;
 import io.camunda.zeebe.transport.stream.impl.RemoteStreamPusher.Transport;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchRequest;
+import io.camunda.zeebe.transport.stream.impl.messages.PushStreamBatchResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamResponse;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.MutableDirectBuffer;
+import org.assertj.core.api.InstanceOfAssertFactories;
 import org.assertj.core.condition.VerboseCondition;
+import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -36,7 +43,7 @@ import org.junit.jupiter.params.provider.EnumSource.Mode;
 final class RemoteStreamPusherTest {
   private final StreamId streamId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
   private final TestTransport transport = new TestTransport();
-  private final Executor executor = Runnable::run;
+  private final ControlledConcurrencyControl executor = new ControlledConcurrencyControl();
   private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
   private final RemoteStreamPusher<Payload> pusher =
       new RemoteStreamPusher<>(transport, executor, metrics);
@@ -149,6 +156,180 @@ final class RemoteStreamPusherTest {
     assertThat(metrics.getFailedPushTry(detailCode)).isOne();
   }
 
+  @Test
+  void shouldPushBatchedPayloadsWithSingleRequest() {
+    // given
+    final var payloads = List.of(new Payload(1), new Payload(2), new Payload(3));
+    final var errorHandler = new TestErrorHandler();
+    final var completed = new AtomicInteger();
+    payloads.forEach(
+        payload ->
+            pusher.pushBatchedAsync(payload, errorHandler, streamId, completed::incrementAndGet));
+
+    // when
+    executor.runScheduled();
+
+    // then
+    assertThat(transport.message).isNull();
+    assertThat(transport.batches)
+        .singleElement()
+        .satisfies(
+            batch -> {
+              assertThat(batch.request.streamId()).isEqualTo(streamId.streamId());
+              assertThat(batch.request.payloadWriters()).containsExactlyElementsOf(payloads);
+              assertThat(batch.receiver).isEqualTo(streamId.receiver());
+            });
+    assertThat(errorHandler.errors).isEmpty();
+    assertThat(completed).hasValue(3);
+    assertThat(metrics.getPushSucceeded()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotPushBatchBeforeWindowElapsed() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+
+    // when
+    pusher.pushBatchedAsync(new Payload(1), errorHandler, streamId, () -> {});
+    pusher.pushBatchedAsync(new Payload(2), errorHandler, streamId, () -> {});
+
+    // then
+    assertThat(transport.batches).isEmpty();
+  }
+
+  @Test
+  void shouldPushBatchOnceFull() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+
+    // when
+    for (int i = 0; i < RemoteStreamPusher.MAX_BATCH_SIZE; i++) {
+      pusher.pushBatchedAsync(new Payload(i), errorHandler, streamId, () -> {});
+    }
+
+    // then
+    assertThat(transport.batches)
+        .singleElement()
+        .satisfies(
+            batch ->
+                assertThat(batch.request.payloadWriters())
+                    .hasSize(RemoteStreamPusher.MAX_BATCH_SIZE));
+
+    // the window of the full batch elapsing must not push anything else
+    executor.runScheduled();
+    assertThat(transport.batches).hasSize(1);
+  }
+
+  @Test
+  void shouldBatchPayloadsPerStream() {
+    // given
+    final var otherStreamId = new StreamId(UUID.randomUUID(), MemberId.anonymous());
+    final var errorHandler = new TestErrorHandler();
+    pusher.pushBatchedAsync(new Payload(1), errorHandler, streamId, () -> {});
+    pusher.pushBatchedAsync(new Payload(2), errorHandler, otherStreamId, () -> {});
+    pusher.pushBatchedAsync(new Payload(3), errorHandler, streamId, () -> {});
+    pusher.pushBatchedAsync(new Payload(4), errorHandler, otherStreamId, () -> {});
+
+    // when
+    executor.runScheduled();
+
+    // then
+    assertThat(transport.batches)
+        .extracting(batch -> batch.request.streamId(), batch -> batch.request.payloadWriters())
+        .containsExactlyInAnyOrder(
+            Tuple.tuple(streamId.streamId(), List.of(new Payload(1), new Payload(3))),
+            Tuple.tuple(otherStreamId.streamId(), List.of(new Payload(2), new Payload(4))));
+  }
+
+  @Test
+  void shouldPushSingleBatchedPayloadOnItsOwn() {
+    // given
+    final var payload = new Payload(1);
+    final var errorHandler = new TestErrorHandler();
+    pusher.pushBatchedAsync(payload, errorHandler, streamId, () -> {});
+
+    // when
+    executor.runScheduled();
+
+    // then
+    assertThat(transport.batches).isEmpty();
+    assertThat(transport.message).isNotNull();
+    assertThat(transport.message.request.payloadWriter()).isEqualTo(payload);
+    assertThat(metrics.getPushSucceeded()).isOne();
+  }
+
+  @Test
+  void shouldReportOnlyFailedPayloadsOfBatch() {
+    // given
+    final var failed = new Payload(2);
+    final var errorHandler = new TestErrorHandler();
+    transport.batchResponse =
+        CompletableFuture.completedFuture(
+            BufferUtil.bufferAsArray(
+                new PushStreamBatchResponse()
+                    .addFailure(
+                        1, new ErrorResponse().code(ErrorCode.BLOCKED).message("blocked"))));
+    pusher.pushBatchedAsync(new Payload(1), errorHandler, streamId, () -> {});
+    pusher.pushBatchedAsync(failed, errorHandler, streamId, () -> {});
+    pusher.pushBatchedAsync(new Payload(3), errorHandler, streamId, () -> {});
+
+    // when
+    executor.runScheduled();
+
+    // then
+    assertThat(errorHandler.errors)
+        .singleElement()
+        .satisfies(
+            error -> {
+              assertThat(error.payload()).isEqualTo(failed);
+              assertThat(error.error())
+                  .asInstanceOf(InstanceOfAssertFactories.type(StreamResponseException.class))
+                  .returns(ErrorCode.BLOCKED, StreamResponseException::code);
+            });
+    assertThat(metrics.getPushSucceeded()).isEqualTo(2);
+    assertThat(metrics.getPushFailed()).isOne();
+  }
+
+  @Test
+  void shouldReportAsyncTransportErrorForAllPayloadsOfBatch() {
+    // given
+    final var payloads = List.of(new Payload(1), new Payload(2));
+    final var errorHandler = new TestErrorHandler();
+    final var completed = new AtomicInteger();
+    final var failure = new RuntimeException("Async failure");
+    transport.batchResponse = CompletableFuture.failedFuture(failure);
+    payloads.forEach(
+        payload ->
+            pusher.pushBatchedAsync(payload, errorHandler, streamId, completed::incrementAndGet));
+
+    // when
+    executor.runScheduled();
+
+    // then
+    assertThat(errorHandler.errors)
+        .extracting(TestErrorHandler.Error::payload, TestErrorHandler.Error::error)
+        .containsExactly(
+            Tuple.tuple(payloads.get(0), failure), Tuple.tuple(payloads.get(1), failure));
+    assertThat(completed).hasValue(2);
+    assertThat(metrics.getPushFailed()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldPushPendingBatchesOnFlush() {
+    // given
+    final var errorHandler = new TestErrorHandler();
+    pusher.pushBatchedAsync(new Payload(1), errorHandler, streamId, () -> {});
+    pusher.pushBatchedAsync(new Payload(2), errorHandler, streamId, () -> {});
+
+    // when
+    pusher.flushBatches();
+
+    // then
+    assertThat(transport.batches).hasSize(1);
+    executor.runScheduled();
+    assertThat(transport.batches).hasSize(1);
+  }
+
   private record Payload(int version) implements BufferWriter {
 
     @Override
@@ -179,6 +360,9 @@ final class RemoteStreamPusherTest {
   private static final class TestTransport implements Transport {
     private CompletableFuture<byte[]> response =
         CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamResponse()));
+    private CompletableFuture<byte[]> batchResponse =
+        CompletableFuture.completedFuture(BufferUtil.bufferAsArray(new PushStreamBatchResponse()));
+    private final List<Batch> batches = new ArrayList<>();
     private Message message;
     private Exception synchronousException;
 
@@ -193,6 +377,39 @@ final class RemoteStreamPusherTest {
       return response;
     }
 
+    @Override
+    public CompletableFuture<byte[]> sendBatch(
+        final PushStreamBatchRequest request, final MemberId receiver) throws Exception {
+      if (synchronousException != null) {
+        throw synchronousException;
+      }
+
+      batches.add(new Batch(request, receiver));
+      return batchResponse;
+    }
+
     private record Message(PushStreamRequest request, MemberId receiver) {}
+
+    private record Batch(PushStreamBatchRequest request, MemberId receiver) {}
+  }
+
+  /**
+   * Runs everything right away, like the {@link TestConcurrencyControl}, except scheduled tasks,
+   * which only run on {@link #runScheduled()}, as if their delay elapsed.
+   */
+  private static final class ControlledConcurrencyControl extends TestConcurrencyControl {
+    private final List<Runnable> scheduled = new ArrayList<>();
+
+    @Override
+    public ScheduledTimer schedule(final Duration delay, final Runnable runnable) {
+      scheduled.add(runnable);
+      return () -> scheduled.remove(runnable);
+    }
+
+    private void runScheduled() {
+      final var tasks = List.copyOf(scheduled);
+      scheduled.clear();
+      tasks.forEach(Runnable::run);
+    }
   }
 }
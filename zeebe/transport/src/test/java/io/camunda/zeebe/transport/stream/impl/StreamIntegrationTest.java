@@ -42,10 +42,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.assertj.core.api.InstanceOfAssertFactories;
@@ -57,6 +59,8 @@ import org.junit.jupiter.api.Test;
 
 /** Tests end-to-end stream management from client to server */
 final class StreamIntegrationTest {
+  private static final int CLIENT_CAPACITY = 32;
+
   private final ActorScheduler actorScheduler =
       ActorScheduler.newActorScheduler()
           .setCpuBoundActorThreadCount(2)
@@ -125,6 +129,40 @@ final class StreamIntegrationTest {
     assertThat(payloads.get()).asList().containsExactly(100, 200);
   }
 
+  @Test
+  void shouldReceiveBurstOfPayloads() throws InterruptedException {
+    // given - as many payloads as the client accepts at once, which are pushed in batches
+    final var payloadCount = CLIENT_CAPACITY;
+    final List<Integer> payloads = new CopyOnWriteArrayList<>();
+    final var latch = new CountDownLatch(payloadCount);
+    final var streamType = BufferUtil.wrapString("foo");
+    final var streamId =
+        clientStreamer
+            .add(
+                streamType,
+                metadata,
+                p -> {
+                  final TestSerializableData payload = new TestSerializableData();
+                  payload.wrap(p, 0, p.capacity());
+                  payloads.add(payload.data());
+                  latch.countDown();
+                  return CompletableActorFuture.completed(null);
+                })
+            .join();
+    awaitStreamAdded(streamType, streamId, server1, server2);
+
+    // when
+    final var serverStream = server1.streamer.streamFor(streamType).orElseThrow();
+    for (int i = 0; i < payloadCount; i++) {
+      serverStream.push(new TestSerializableData().data(i));
+    }
+
+    // then
+    assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+    assertThat(payloads)
+        .containsExactlyInAnyOrderElementsOf(IntStream.range(0, payloadCount).boxed().toList());
+  }
+
   @Test
   void shouldReturnErrorWhenClientStreamIsClosed() throws InterruptedException {
     // given
@@ -442,7 +480,7 @@ final class StreamIntegrationTest {
       final var factory = new TransportFactory(actorScheduler);
       streamService =
           factory.createRemoteStreamClient(
-              cluster.getCommunicationService(), ClientStreamMetrics.noop());
+              cluster.getCommunicationService(), ClientStreamMetrics.noop(), CLIENT_CAPACITY);
     }
 
     private void start() {
@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.atomix.cluster.AtomixCluster;
+import io.atomix.cluster.Node;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.cluster.impl.DiscoveryMembershipProtocol;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
+import io.camunda.zeebe.transport.stream.api.RemoteStream;
+import io.camunda.zeebe.transport.stream.api.RemoteStreamMetrics;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.CloseHelper;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.awaitility.Awaitility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many payloads per second a server pushes to a client over a loopback connection,
+ * from the moment they're pushed on the server's stream until they were handed to the client's
+ * consumer. Payloads are pushed as fast as the credits of the stream allow, which is what happens
+ * when a burst of jobs is activated.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class StreamPushPerformanceTest {
+  private static final int PAYLOADS = 1_000;
+  private static final int CLIENT_CAPACITY = 32;
+  private static final DirectBuffer STREAM_TYPE = BufferUtil.wrapString("benchmark");
+  private static final TestSerializableData METADATA = new TestSerializableData(1);
+
+  @Param({"1", "4"})
+  public int clientStreams;
+
+  private final AtomicLong received = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final TestSerializableData payload = new TestSerializableData(1234);
+
+  private ActorScheduler actorScheduler;
+  private AtomixCluster serverCluster;
+  private AtomixCluster clientCluster;
+  private RemoteStreamRegistry<TestSerializableData> registry;
+  private RemoteStreamerImpl<TestSerializableData, TestSerializableData> streamer;
+  private RemoteStreamTransport<TestSerializableData> serverTransport;
+  private ClientStreamServiceImpl<TestSerializableData> clientService;
+
+  @Setup
+  public void setup() {
+    actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    actorScheduler.start();
+
+    final var serverNode = newNode("server");
+    final var clientNode = newNode("client");
+    serverCluster = newCluster(serverNode, List.of(serverNode, clientNode));
+    clientCluster = newCluster(clientNode, List.of(serverNode, clientNode));
+    serverCluster.start().join();
+    clientCluster.start().join();
+
+    final var communicationService = serverCluster.getCommunicationService();
+    registry = new RemoteStreamRegistry<>(RemoteStreamMetrics.noop());
+    streamer =
+        new RemoteStreamerImpl<>(
+            communicationService,
+            registry,
+            (error, data) -> failed.incrementAndGet(),
+            RemoteStreamMetrics.noop());
+    serverTransport =
+        new RemoteStreamTransport<>(
+            communicationService,
+            new RemoteStreamApiHandler<>(
+                registry,
+                buffer -> {
+                  final var metadata = new TestSerializableData();
+                  metadata.wrap(buffer, 0, buffer.capacity());
+                  return metadata;
+                }));
+    actorScheduler.submitActor(streamer).join();
+    actorScheduler.submitActor(serverTransport).join();
+
+    clientService =
+        new ClientStreamServiceImpl<>(
+            clientCluster.getCommunicationService(), ClientStreamMetrics.noop(), CLIENT_CAPACITY);
+    clientService.start(actorScheduler).join();
+    clientService.onServerJoined(serverCluster.getMembershipService().getLocalMember().id());
+    for (int i = 0; i < clientStreams; i++) {
+      clientService
+          .add(
+              STREAM_TYPE,
+              METADATA,
+              p -> {
+                received.incrementAndGet();
+                return CompletableActorFuture.completed(null);
+              })
+          .join();
+    }
+
+    // all client streams are aggregated into a single consumer on the server
+    final var expectedCredits = clientStreams * CLIENT_CAPACITY;
+    Awaitility.await("until the server knows the capacity of all client streams")
+        .until(
+            () ->
+                registry.get(new UnsafeBuffer(STREAM_TYPE)).stream()
+                    .flatMap(stream -> stream.streamConsumers().stream())
+                    .anyMatch(consumer -> consumer.credits().available() == expectedCredits));
+  }
+
+  @TearDown
+  public void tearDown() {
+    CloseHelper.quietCloseAll(
+        () -> clientService.closeAsync().join(),
+        () -> streamer.closeAsync().join(),
+        () -> serverTransport.closeAsync().join(),
+        () -> clientCluster.stop().join(),
+        () -> serverCluster.stop().join(),
+        actorScheduler);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAYLOADS)
+  public long measurePushThroughput() {
+    final var expected = received.get() + failed.get() + PAYLOADS;
+    for (int i = 0; i < PAYLOADS; i++) {
+      nextStream().push(payload);
+    }
+
+    while (received.get() + failed.get() < expected) {
+      Thread.onSpinWait();
+    }
+
+    if (failed.get() > 0) {
+      throw new IllegalStateException("Failed to push %d payloads".formatted(failed.get()));
+    }
+
+    return received.get();
+  }
+
+  /**
+   * Waits until the stream has credits left; since this is the only thread pushing, the credits can
+   * only grow until the payload is pushed.
+   */
+  private RemoteStream<TestSerializableData, TestSerializableData> nextStream() {
+    while (true) {
+      final var stream = streamer.streamFor(STREAM_TYPE);
+      if (stream.isPresent()) {
+        return stream.get();
+      }
+
+      Thread.onSpinWait();
+    }
+  }
+
+  private static Node newNode(final String id) {
+    return Node.builder().withId(id).withPort(SocketUtil.getNextAddress().getPort()).build();
+  }
+
+  private static AtomixCluster newCluster(final Node localNode, final List<Node> nodes) {
+    return AtomixCluster.builder()
+        .withAddress(localNode.address())
+        .withMemberId(localNode.id().id())
+        .withMembershipProvider(new BootstrapDiscoveryProvider(nodes))
+        .withMembershipProtocol(new DiscoveryMembershipProtocol())
+        .build();
+  }
+}
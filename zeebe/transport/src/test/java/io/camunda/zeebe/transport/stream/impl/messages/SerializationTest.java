@@ -44,6 +44,45 @@ final class SerializationTest {
     assertThat(deserialized.metadata()).isEqualTo(BufferUtil.wrapString("bar"));
   }
 
+  @Test
+  void shouldSerializeAddStreamRequestAcceptingBatches() {
+    // given
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(BufferUtil.wrapString("foo"))
+            .metadata(BufferUtil.wrapString("bar"))
+            .acceptsBatches(true);
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new AddStreamRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.acceptsBatches()).isTrue();
+  }
+
+  @Test
+  void shouldSerializeAddStreamRequestWithCapacity() {
+    // given
+    final var request =
+        new AddStreamRequest()
+            .streamId(UUID.randomUUID())
+            .streamType(BufferUtil.wrapString("foo"))
+            .metadata(BufferUtil.wrapString("bar"))
+            .capacity(64);
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new AddStreamRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.capacity()).isEqualTo(64);
+    assertThat(deserialized).isEqualTo(request);
+  }
+
   @Test
   void shouldSerializeAddStreamRequestWithMetadataWriter() {
     // given
@@ -126,6 +165,59 @@ final class SerializationTest {
     assertThat(deserialized.payload()).isEqualTo(BufferUtil.wrapString("foo"));
   }
 
+  @Test
+  void shouldSerializePushStreamBatchRequest() {
+    // given
+    final var streamId = UUID.randomUUID();
+    final var request =
+        new PushStreamBatchRequest()
+            .streamId(streamId)
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("foo")))
+            .addPayload(new DirectBufferWriter().wrap(BufferUtil.wrapString("bar")));
+
+    // when
+    request.write(buffer, 0);
+    final var deserialized = new PushStreamBatchRequest();
+    deserialized.wrap(buffer, 0, request.getLength());
+
+    // then
+    assertThat(deserialized.streamId()).isEqualTo(streamId);
+    assertThat(deserialized.payloads())
+        .containsExactly(BufferUtil.wrapString("foo"), BufferUtil.wrapString("bar"));
+  }
+
+  @Test
+  void shouldSerializePushStreamBatchResponse() {
+    // given
+    final var response =
+        new PushStreamBatchResponse()
+            .addFailure(
+                1,
+                new ErrorResponse()
+                    .code(ErrorCode.INTERNAL)
+                    .message("failed")
+                    .addDetail(ErrorCode.BLOCKED, "Stream is blocked"))
+            .addFailure(3, new ErrorResponse().code(ErrorCode.NOT_FOUND).message("not found"));
+
+    // when
+    response.write(buffer, 0);
+    final var deserialized = new PushStreamBatchResponse();
+    deserialized.wrap(buffer, 0, response.getLength());
+
+    // then
+    assertThat(deserialized.failures())
+        .extracting(
+            PushStreamBatchResponse.Failure::index,
+            failure -> failure.error().code(),
+            failure -> failure.error().message())
+        .containsExactly(
+            Tuple.tuple(1, ErrorCode.INTERNAL, "failed"),
+            Tuple.tuple(3, ErrorCode.NOT_FOUND, "not found"));
+    assertThat(deserialized.failures().getFirst().error().details())
+        .extracting(ErrorDetail::code, ErrorDetail::message)
+        .containsExactly(Tuple.tuple(ErrorCode.BLOCKED, "Stream is blocked"));
+  }
+
   @Test
   void shouldSerializePushStreamResponse() {
     // given
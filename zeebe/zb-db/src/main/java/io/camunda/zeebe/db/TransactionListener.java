@@ -0,0 +1,27 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when the transactions of a {@link TransactionContext} end. This is useful to keep
+ * in-memory state, e.g. caches, consistent with the database when changes are rolled back.
+ *
+ * <p>Listeners are called on the thread which commits or rolls back the transaction, and must not
+ * access the database themselves.
+ */
+public interface TransactionListener {
+
+  /** Called after the current transaction was successfully committed. */
+  default void onCommit() {}
+
+  /**
+   * Called after the current transaction was rolled back. Note that a rollback may also happen
+   * after a successful commit, in which case nothing is rolled back.
+   */
+  default void onRollback() {}
+}
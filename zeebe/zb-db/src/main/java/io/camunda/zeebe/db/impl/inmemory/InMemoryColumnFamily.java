@@ -0,0 +1,342 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ContainsForeignKeys;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.KeyValuePairVisitor;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The in-memory counterpart of the RocksDB based column family. Keys are stored with the same
+ * column family prefix and serialization, so the entries are iterated in the same order, and the
+ * same consistency checks are applied.
+ */
+final class InMemoryColumnFamily<
+        ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue,
+        KeyType extends DbKey,
+        ValueType extends DbValue>
+    implements ColumnFamily<KeyType, ValueType> {
+
+  private static final byte[] EMPTY_SUFFIX = new byte[0];
+
+  private final ConsistencyChecksSettings consistencyChecksSettings;
+  private final ColumnFamilyNames columnFamily;
+  private final InMemoryTransactionContext context;
+  private final KeyType keyInstance;
+  private final ValueType valueInstance;
+  private final long columnFamilyPrefix;
+
+  private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
+  private final ExpandableArrayBuffer valueBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer keyView = new UnsafeBuffer(0, 0);
+  private final DirectBuffer valueView = new UnsafeBuffer(0, 0);
+
+  InMemoryColumnFamily(
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final ColumnFamilyNames columnFamily,
+      final InMemoryTransactionContext context,
+      final KeyType keyInstance,
+      final ValueType valueInstance) {
+    this.consistencyChecksSettings = consistencyChecksSettings;
+    this.columnFamily = columnFamily;
+    this.context = context;
+    this.keyInstance = keyInstance;
+    this.valueInstance = valueInstance;
+    columnFamilyPrefix = columnFamily.getValue();
+  }
+
+  @Override
+  public void insert(final KeyType key, final ValueType value) {
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[] keyBytes = keyBytes(key);
+          assertKeyDoesNotExist(transaction, keyBytes);
+          assertForeignKeysExist(transaction, key, value);
+          transaction.put(keyBytes, valueBytes(value));
+        });
+  }
+
+  @Override
+  public void update(final KeyType key, final ValueType value) {
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[] keyBytes = keyBytes(key);
+          assertKeyExists(transaction, keyBytes);
+          assertForeignKeysExist(transaction, key, value);
+          transaction.put(keyBytes, valueBytes(value));
+        });
+  }
+
+  @Override
+  public void upsert(final KeyType key, final ValueType value) {
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[] keyBytes = keyBytes(key);
+          assertForeignKeysExist(transaction, key, value);
+          transaction.put(keyBytes, valueBytes(value));
+        });
+  }
+
+  @Override
+  public ValueType get(final KeyType key) {
+    final byte[][] value = new byte[1][];
+    ensureInOpenTransaction(transaction -> value[0] = transaction.get(keyBytes(key)));
+    if (value[0] == null) {
+      return null;
+    }
+
+    valueView.wrap(value[0]);
+    valueInstance.wrap(valueView, 0, value[0].length);
+    return valueInstance;
+  }
+
+  @Override
+  public void forEach(final Consumer<ValueType> consumer) {
+    forEachInPrefix(
+        null,
+        null,
+        (k, v) -> {
+          consumer.accept(v);
+          return true;
+        });
+  }
+
+  @Override
+  public void forEach(final BiConsumer<KeyType, ValueType> consumer) {
+    forEachInPrefix(
+        null,
+        null,
+        (k, v) -> {
+          consumer.accept(k, v);
+          return true;
+        });
+  }
+
+  @Override
+  public void whileTrue(
+      final KeyType startAtKey, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(startAtKey, null, visitor);
+  }
+
+  @Override
+  public void whileTrue(final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(null, null, visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final BiConsumer<KeyType, ValueType> visitor) {
+    forEachInPrefix(
+        null,
+        Objects.requireNonNull(keyPrefix),
+        (k, v) -> {
+          visitor.accept(k, v);
+          return true;
+        });
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix, final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(null, Objects.requireNonNull(keyPrefix), visitor);
+  }
+
+  @Override
+  public void whileEqualPrefix(
+      final DbKey keyPrefix,
+      final KeyType startAtKey,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    forEachInPrefix(startAtKey, Objects.requireNonNull(keyPrefix), visitor);
+  }
+
+  @Override
+  public void deleteExisting(final KeyType key) {
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[] keyBytes = keyBytes(key);
+          assertKeyExists(transaction, keyBytes);
+          transaction.delete(keyBytes);
+        });
+  }
+
+  @Override
+  public void deleteIfExists(final KeyType key) {
+    ensureInOpenTransaction(transaction -> transaction.delete(keyBytes(key)));
+  }
+
+  @Override
+  public boolean exists(final KeyType key) {
+    final boolean[] exists = new boolean[1];
+    ensureInOpenTransaction(transaction -> exists[0] = transaction.get(keyBytes(key)) != null);
+    return exists[0];
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return count(null, 1) == 0;
+  }
+
+  @Override
+  public long count() {
+    return count(null, Long.MAX_VALUE);
+  }
+
+  @Override
+  public long countEqualPrefix(final DbKey prefix) {
+    return count(Objects.requireNonNull(prefix), Long.MAX_VALUE);
+  }
+
+  private long count(final DbKey prefix, final long limit) {
+    final long[] count = new long[1];
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[] prefixBytes = prefix == null ? keyBytes(EMPTY_SUFFIX) : keyBytes(prefix);
+          transaction.forEachInPrefix(prefixBytes, prefixBytes, (key, value) -> ++count[0] < limit);
+        });
+    return count[0];
+  }
+
+  private void forEachInPrefix(
+      final DbKey startAt,
+      final DbKey prefix,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    Objects.requireNonNull(visitor);
+    ensureInOpenTransaction(
+        transaction -> {
+          final byte[] prefixBytes = prefix == null ? keyBytes(EMPTY_SUFFIX) : keyBytes(prefix);
+          final byte[] startAtBytes = startAt == null ? prefixBytes : keyBytes(startAt);
+          transaction.forEachInPrefix(
+              startAtBytes, prefixBytes, (key, value) -> visit(key, value, visitor));
+        });
+  }
+
+  private boolean visit(
+      final byte[] key,
+      final byte[] value,
+      final KeyValuePairVisitor<KeyType, ValueType> visitor) {
+    // the stored arrays are never modified, so they can be wrapped without copying them
+    keyView.wrap(key, Long.BYTES, key.length - Long.BYTES);
+    keyInstance.wrap(keyView, 0, keyView.capacity());
+    valueView.wrap(value);
+    valueInstance.wrap(valueView, 0, value.length);
+    return visitor.visit(keyInstance, valueInstance);
+  }
+
+  private void assertForeignKeysExist(
+      final InMemoryTransaction transaction, final Object... keys) {
+    if (!consistencyChecksSettings.enableForeignKeyChecks()) {
+      return;
+    }
+    for (final var key : keys) {
+      if (key instanceof final ContainsForeignKeys containsForeignKey) {
+        for (final var foreignKey : containsForeignKey.containedForeignKeys()) {
+          assertForeignKeyExists(transaction, foreignKey);
+        }
+      }
+    }
+  }
+
+  private void assertForeignKeyExists(
+      final InMemoryTransaction transaction, final DbForeignKey<DbKey> foreignKey) {
+    if (foreignKey.shouldSkipCheck()) {
+      return;
+    }
+
+    final byte[] keyBytes =
+        keyBytes(((EnumValue) foreignKey.columnFamily()).getValue(), foreignKey);
+    final boolean exists =
+        switch (foreignKey.match()) {
+          case Full -> transaction.get(keyBytes) != null;
+          case Prefix -> {
+            final boolean[] found = new boolean[1];
+            transaction.forEachInPrefix(
+                keyBytes,
+                keyBytes,
+                (key, value) -> {
+                  found[0] = true;
+                  return false;
+                });
+            yield found[0];
+          }
+        };
+
+    if (!exists) {
+      final var location = foreignKey.match() == MatchType.Prefix ? " as prefix in " : " in ";
+      throw new ZeebeDbInconsistentException(
+          "Foreign key "
+              + foreignKey.inner()
+              + " does not exist"
+              + location
+              + foreignKey.columnFamily());
+    }
+  }
+
+  private void assertKeyDoesNotExist(final InMemoryTransaction transaction, final byte[] key) {
+    if (consistencyChecksSettings.enablePreconditions() && transaction.get(key) != null) {
+      throw new ZeebeDbInconsistentException(
+          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
+    }
+  }
+
+  private void assertKeyExists(final InMemoryTransaction transaction, final byte[] key) {
+    if (consistencyChecksSettings.enablePreconditions() && transaction.get(key) == null) {
+      throw new ZeebeDbInconsistentException(
+          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+    }
+  }
+
+  private void ensureInOpenTransaction(final TransactionConsumer operation) {
+    context.runInTransaction(() -> operation.run(context.currentTransaction()));
+  }
+
+  private byte[] keyBytes(final DbKey key) {
+    return keyBytes(columnFamilyPrefix, key);
+  }
+
+  private byte[] keyBytes(final long prefix, final DbKey key) {
+    keyBuffer.putLong(0, prefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    key.write(keyBuffer, Long.BYTES);
+    final byte[] bytes = new byte[Long.BYTES + key.getLength()];
+    keyBuffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  private byte[] keyBytes(final byte[] suffix) {
+    keyBuffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    keyBuffer.putBytes(Long.BYTES, suffix);
+    final byte[] bytes = new byte[Long.BYTES + suffix.length];
+    keyBuffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  private byte[] valueBytes(final DbValue value) {
+    value.write(valueBuffer, 0);
+    final byte[] bytes = new byte[value.getLength()];
+    valueBuffer.getBytes(0, bytes);
+    return bytes;
+  }
+
+  @FunctionalInterface
+  private interface TransactionConsumer {
+    void run(InMemoryTransaction transaction) throws Exception;
+  }
+}
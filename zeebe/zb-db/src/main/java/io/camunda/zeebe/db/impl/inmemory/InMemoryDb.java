@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A {@link ZeebeDb} which keeps all data in memory, in a single map sorted like the RocksDB
+ * default comparator, i.e. by the unsigned bytes of the keys. Keys are prefixed with their column
+ * family and serialized in the same way as in the RocksDB based implementation, so iteration
+ * order, transaction semantics and consistency checks are the same, without any native or disk
+ * I/O costs. This makes it useful as a baseline for the CPU costs of the engine, and to speed up
+ * tests.
+ *
+ * <p>Snapshots are written as RocksDB databases, which can be opened by the RocksDB based
+ * implementation, and vice versa. Apart from snapshots, nothing is persisted.
+ */
+public final class InMemoryDb<ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+    implements ZeebeDb<ColumnFamilyNames> {
+
+  private static final int MAX_BATCH_ENTRIES = 10_000;
+
+  private final ConcurrentNavigableMap<byte[], byte[]> data =
+      new ConcurrentSkipListMap<>(Arrays::compareUnsigned);
+  private final ConsistencyChecksSettings consistencyChecksSettings;
+
+  InMemoryDb(final ConsistencyChecksSettings consistencyChecksSettings) {
+    this.consistencyChecksSettings = consistencyChecksSettings;
+  }
+
+  @Override
+  public <KeyType extends DbKey, ValueType extends DbValue>
+      ColumnFamily<KeyType, ValueType> createColumnFamily(
+          final ColumnFamilyNames columnFamily,
+          final TransactionContext context,
+          final KeyType keyInstance,
+          final ValueType valueInstance) {
+    return new InMemoryColumnFamily<>(
+        consistencyChecksSettings,
+        columnFamily,
+        (InMemoryTransactionContext) context,
+        keyInstance,
+        valueInstance);
+  }
+
+  /** Writes all committed data into a new RocksDB database in the given directory. */
+  @Override
+  public void createSnapshot(final File snapshotDir) {
+    try (final var options = new Options().setCreateIfMissing(true).setErrorIfExists(true);
+        final var db = RocksDB.open(options, snapshotDir.getAbsolutePath());
+        final var writeOptions = new WriteOptions().setDisableWAL(true);
+        final var flushOptions = new FlushOptions().setWaitForFlush(true);
+        final var batch = new WriteBatch()) {
+      for (final var entry : data.entrySet()) {
+        batch.put(entry.getKey(), entry.getValue());
+        if (batch.count() >= MAX_BATCH_ENTRIES) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+      }
+      db.write(writeOptions, batch);
+      // the WAL is disabled, so everything has to be flushed before closing
+      db.flush(flushOptions);
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(
+          String.format("Failed to take snapshot in path %s.", snapshotDir), e);
+    }
+  }
+
+  @Override
+  public Optional<String> getProperty(final String propertyName) {
+    return Optional.empty();
+  }
+
+  @Override
+  public TransactionContext createContext() {
+    return new InMemoryTransactionContext(new InMemoryTransaction(this));
+  }
+
+  @Override
+  public boolean isEmpty(final ColumnFamilyNames column, final TransactionContext context) {
+    return createColumnFamily(column, context, new DbLong(), DbNil.INSTANCE).isEmpty();
+  }
+
+  @Override
+  public void close() {
+    data.clear();
+  }
+
+  ConcurrentNavigableMap<byte[], byte[]> data() {
+    return data;
+  }
+
+  /**
+   * Applies the writes of a committed transaction. Commits are serialized, but they are not atomic
+   * for concurrent readers of other transactions.
+   */
+  synchronized void apply(final Map<byte[], byte[]> writes) {
+    for (final var write : writes.entrySet()) {
+      if (write.getValue() == InMemoryTransaction.DELETED) {
+        data.remove(write.getKey());
+      } else {
+        data.put(write.getKey(), write.getValue());
+      }
+    }
+  }
+
+  /**
+   * Loads all entries of all column families of the RocksDB database in the given directory, e.g.
+   * of a snapshot which was written by this or by the RocksDB based implementation.
+   */
+  void load(final File path) {
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final List<ColumnFamilyDescriptor> descriptors = new ArrayList<>();
+    try (final var options = new Options();
+        final var dbOptions = new DBOptions();
+        final var columnFamilyOptions = new ColumnFamilyOptions()) {
+      for (final byte[] name : RocksDB.listColumnFamilies(options, path.getAbsolutePath())) {
+        descriptors.add(new ColumnFamilyDescriptor(name, columnFamilyOptions));
+      }
+
+      try (final var db =
+          RocksDB.openReadOnly(dbOptions, path.getAbsolutePath(), descriptors, handles)) {
+        try {
+          for (final var handle : handles) {
+            load(db, handle);
+          }
+        } finally {
+          // the handles have to be closed before the database
+          handles.forEach(ColumnFamilyHandle::close);
+        }
+      }
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException(String.format("Failed to load database from %s.", path), e);
+    }
+  }
+
+  private void load(final RocksDB db, final ColumnFamilyHandle handle) throws RocksDBException {
+    try (final var iterator = db.newIterator(handle)) {
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        data.put(iterator.key(), iterator.value());
+      }
+      iterator.status();
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+
+/**
+ * Creates {@link InMemoryDb} instances. If the given directory contains a RocksDB database, e.g.
+ * a snapshot which was copied into it, its data is loaded into the new instance.
+ */
+public final class InMemoryDbFactory<
+        ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+    implements ZeebeDbFactory<ColumnFamilyNames> {
+
+  // RocksDB creates this file in every database directory, it points to the current manifest
+  private static final String CURRENT_FILE = "CURRENT";
+
+  private final ConsistencyChecksSettings consistencyChecksSettings;
+
+  public InMemoryDbFactory(final ConsistencyChecksSettings consistencyChecksSettings) {
+    this.consistencyChecksSettings = consistencyChecksSettings;
+  }
+
+  @Override
+  public ZeebeDb<ColumnFamilyNames> createDb(final File pathName) {
+    final var db = new InMemoryDb<ColumnFamilyNames>(consistencyChecksSettings);
+    if (new File(pathName, CURRENT_FILE).exists()) {
+      db.load(pathName);
+    }
+    return db;
+  }
+
+  @Override
+  public ZeebeDb<ColumnFamilyNames> openSnapshotOnlyDb(final File path) {
+    return createDb(path);
+  }
+}
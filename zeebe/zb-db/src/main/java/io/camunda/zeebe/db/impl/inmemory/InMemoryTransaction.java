@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
+
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A transaction on an {@link InMemoryDb}. All writes are collected in a sorted write set, which
+ * overlays the committed data for all reads and iterations of the transaction, and which is applied
+ * to the committed data on commit.
+ *
+ * <p>Like the RocksDB transactions, it reads the latest committed data of other transactions, i.e.
+ * it does not read from a snapshot.
+ */
+final class InMemoryTransaction implements ZeebeDbTransaction {
+
+  /** Marks a key which was deleted in this transaction. Compared by identity only. */
+  static final byte[] DELETED = new byte[0];
+
+  private final InMemoryDb<?> db;
+  // a concurrent map, as the write set is modified while it is iterated over, e.g. when deleting
+  // the visited entries; its iterators are weakly consistent, just like the RocksDB iterators
+  private final NavigableMap<byte[], byte[]> writes =
+      new ConcurrentSkipListMap<>(Arrays::compareUnsigned);
+  private final List<TransactionListener> listeners = new ArrayList<>();
+
+  private boolean inCurrentTransaction;
+
+  InMemoryTransaction(final InMemoryDb<?> db) {
+    this.db = db;
+  }
+
+  /**
+   * @return the value of the given key, or null if it does not exist
+   */
+  byte[] get(final byte[] key) {
+    final byte[] value = writes.get(key);
+    if (value != null) {
+      return value == DELETED ? null : value;
+    }
+    return db.data().get(key);
+  }
+
+  void put(final byte[] key, final byte[] value) {
+    writes.put(key, value);
+  }
+
+  void delete(final byte[] key) {
+    writes.put(key, DELETED);
+  }
+
+  /**
+   * Visits all entries in key order, starting at the first key which is equal to or greater than
+   * {@code startAt}, until the first key which does not start with the given prefix, or until the
+   * visitor returns false.
+   */
+  void forEachInPrefix(final byte[] startAt, final byte[] prefix, final EntryVisitor visitor) {
+    final Iterator<Entry<byte[], byte[]>> writesIterator =
+        writes.tailMap(startAt, true).entrySet().iterator();
+    final Iterator<Entry<byte[], byte[]>> committedIterator =
+        db.data().tailMap(startAt, true).entrySet().iterator();
+
+    Entry<byte[], byte[]> written = next(writesIterator);
+    Entry<byte[], byte[]> committed = next(committedIterator);
+    while (written != null || committed != null) {
+      final int order = compare(written, committed);
+      final Entry<byte[], byte[]> current;
+      if (order <= 0) {
+        // the write set shadows the committed entry of the same key
+        current = written;
+        written = next(writesIterator);
+        if (order == 0) {
+          committed = next(committedIterator);
+        }
+      } else {
+        current = committed;
+        committed = next(committedIterator);
+      }
+
+      final byte[] key = current.getKey();
+      if (!startsWith(prefix, 0, prefix.length, key, 0, key.length)) {
+        return;
+      }
+
+      final byte[] value = current.getValue();
+      if (value != DELETED && !visitor.visit(key, value)) {
+        return;
+      }
+    }
+  }
+
+  void resetTransaction() {
+    writes.clear();
+    inCurrentTransaction = true;
+  }
+
+  boolean isInCurrentTransaction() {
+    return inCurrentTransaction;
+  }
+
+  @Override
+  public void run(final TransactionOperation operations) throws Exception {
+    operations.run();
+  }
+
+  @Override
+  public void commit() {
+    inCurrentTransaction = false;
+    db.apply(writes);
+    writes.clear();
+    listeners.forEach(TransactionListener::onCommit);
+  }
+
+  @Override
+  public void rollback() {
+    inCurrentTransaction = false;
+    writes.clear();
+    listeners.forEach(TransactionListener::onRollback);
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
+  private static int compare(
+      final Entry<byte[], byte[]> written, final Entry<byte[], byte[]> committed) {
+    if (written == null) {
+      return 1;
+    }
+    if (committed == null) {
+      return -1;
+    }
+    return Arrays.compareUnsigned(written.getKey(), committed.getKey());
+  }
+
+  private static Entry<byte[], byte[]> next(final Iterator<Entry<byte[], byte[]>> iterator) {
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  @FunctionalInterface
+  interface EntryVisitor {
+
+    /**
+     * @return true if the iteration should continue, false otherwise
+     */
+    boolean visit(byte[] key, byte[] value);
+  }
+}
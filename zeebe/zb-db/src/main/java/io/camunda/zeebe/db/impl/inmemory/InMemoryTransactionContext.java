@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+
+final class InMemoryTransactionContext implements TransactionContext {
+
+  private final InMemoryTransaction transaction;
+
+  InMemoryTransactionContext(final InMemoryTransaction transaction) {
+    this.transaction = transaction;
+  }
+
+  @Override
+  public void runInTransaction(final TransactionOperation operations) {
+    try {
+      if (transaction.isInCurrentTransaction()) {
+        operations.run();
+      } else {
+        runInNewTransaction(operations);
+      }
+    } catch (final RuntimeException e) {
+      throw e;
+    } catch (final Exception ex) {
+      throw new RuntimeException(
+          "Unexpected error occurred during zeebe db transaction operation.", ex);
+    }
+  }
+
+  @Override
+  public ZeebeDbTransaction getCurrentTransaction() {
+    return currentTransaction();
+  }
+
+  @Override
+  public void addTransactionListener(final TransactionListener listener) {
+    transaction.addListener(listener);
+  }
+
+  InMemoryTransaction currentTransaction() {
+    if (!transaction.isInCurrentTransaction()) {
+      transaction.resetTransaction();
+    }
+    return transaction;
+  }
+
+  private void runInNewTransaction(final TransactionOperation operations) throws Exception {
+    try {
+      transaction.resetTransaction();
+      operations.run();
+      transaction.commit();
+    } finally {
+      transaction.rollback();
+    }
+  }
+}
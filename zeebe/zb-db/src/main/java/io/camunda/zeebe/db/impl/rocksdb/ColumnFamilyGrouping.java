@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.protocol.EnumValue;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Assigns the logical column families to the {@link PhysicalColumnFamily physical column families}
+ * they are stored in. Logical column families are identified by their {@link EnumValue#getValue()
+ * value}, which is also the prefix of all their keys, so that data of unknown column families can
+ * still be assigned. Anything which is not explicitly assigned is stored in the {@link
+ * PhysicalColumnFamily#DEFAULT default} column family.
+ */
+public final class ColumnFamilyGrouping {
+
+  private static final ColumnFamilyGrouping NONE = new ColumnFamilyGrouping(Map.of());
+
+  private final Map<Long, PhysicalColumnFamily> physicalColumnFamilies;
+
+  private ColumnFamilyGrouping(final Map<Long, PhysicalColumnFamily> physicalColumnFamilies) {
+    this.physicalColumnFamilies = physicalColumnFamilies;
+  }
+
+  /**
+   * @return a grouping which stores all logical column families in the default column family
+   */
+  public static ColumnFamilyGrouping none() {
+    return NONE;
+  }
+
+  /**
+   * Creates a grouping for all column families of the given enum type.
+   *
+   * @param columnFamilyType the enum of the logical column families
+   * @param grouping returns the physical column family of a logical column family
+   */
+  public static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+      ColumnFamilyGrouping of(
+          final Class<ColumnFamilyType> columnFamilyType,
+          final Function<ColumnFamilyType, PhysicalColumnFamily> grouping) {
+    final Map<Long, PhysicalColumnFamily> physicalColumnFamilies = new HashMap<>();
+    for (final ColumnFamilyType columnFamily : columnFamilyType.getEnumConstants()) {
+      final var physicalColumnFamily = grouping.apply(columnFamily);
+      if (physicalColumnFamily != PhysicalColumnFamily.DEFAULT) {
+        physicalColumnFamilies.put((long) columnFamily.getValue(), physicalColumnFamily);
+      }
+    }
+
+    return new ColumnFamilyGrouping(Collections.unmodifiableMap(physicalColumnFamilies));
+  }
+
+  /**
+   * @param columnFamilyPrefix the value of a logical column family, i.e. the prefix of its keys
+   * @return the physical column family in which the logical column family is stored
+   */
+  public PhysicalColumnFamily physicalColumnFamily(final long columnFamilyPrefix) {
+    return physicalColumnFamilies.getOrDefault(columnFamilyPrefix, PhysicalColumnFamily.DEFAULT);
+  }
+
+  /**
+   * @return the physical column families which are used by this grouping, always including the
+   *     default column family
+   */
+  public Set<PhysicalColumnFamily> physicalColumnFamilies() {
+    final var used = EnumSet.of(PhysicalColumnFamily.DEFAULT);
+    used.addAll(physicalColumnFamilies.values());
+    return used;
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+import org.rocksdb.RocksDB;
+
+/**
+ * The RocksDB column families into which the logical column families are grouped, when column
+ * family grouping is enabled (see {@link RocksDbConfiguration#isColumnFamilyGroupingEnabled()}).
+ * Each physical column family has its own memtables, SST files and options, which are tuned for
+ * the access pattern of the data it holds. Keys keep their logical column family prefix in every
+ * physical column family.
+ */
+public enum PhysicalColumnFamily {
+  /** Holds all logical column families which are not assigned to another group. */
+  DEFAULT(RocksDB.DEFAULT_COLUMN_FAMILY, 0.4),
+
+  /**
+   * Holds small, short-lived entries which are written, read and deleted frequently, e.g. jobs,
+   * element instances or due dates. Most of the data never makes it past the first levels, so it
+   * is kept uncompressed and gets a larger share of the memtable memory.
+   */
+  HOT("hot".getBytes(StandardCharsets.UTF_8), 0.45),
+
+  /**
+   * Holds entries which are mostly appended and rarely read or changed after, e.g. deployed
+   * resources. The data is compressed as soon as it leaves the first level and only gets a small
+   * share of the memtable memory.
+   */
+  COLD("cold".getBytes(StandardCharsets.UTF_8), 0.15);
+
+  private final byte[] name;
+  private final double memtableMemoryShare;
+
+  PhysicalColumnFamily(final byte[] name, final double memtableMemoryShare) {
+    this.name = name;
+    this.memtableMemoryShare = memtableMemoryShare;
+  }
+
+  public byte[] getName() {
+    return name.clone();
+  }
+
+  /**
+   * @return the relative share of the memtable memory budget of this column family, compared to
+   *     the other physical column families in use
+   */
+  double memtableMemoryShare() {
+    return memtableMemoryShare;
+  }
+
+  public static Optional<PhysicalColumnFamily> ofName(final byte[] name) {
+    return Arrays.stream(values()).filter(family -> Arrays.equals(family.name, name)).findFirst();
+  }
+}
@@ -43,6 +43,15 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * Grouping the logical column families into separate RocksDB column families (see {@link
+   * PhysicalColumnFamily}) allows tuning each group for its access pattern. It is disabled by
+   * default, in which case all logical column families share the default RocksDB column family.
+   * Existing data is moved to the right physical column family when opening the database, in both
+   * directions.
+   */
+  public static final boolean DEFAULT_COLUMN_FAMILY_GROUPING_ENABLED = false;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +60,7 @@ public final class RocksDbConfiguration {
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean columnFamilyGroupingEnabled = DEFAULT_COLUMN_FAMILY_GROUPING_ENABLED;
 
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
@@ -155,4 +165,14 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isColumnFamilyGroupingEnabled() {
+    return columnFamilyGroupingEnabled;
+  }
+
+  public RocksDbConfiguration setColumnFamilyGroupingEnabled(
+      final boolean columnFamilyGroupingEnabled) {
+    this.columnFamilyGroupingEnabled = columnFamilyGroupingEnabled;
+    return this;
+  }
 }
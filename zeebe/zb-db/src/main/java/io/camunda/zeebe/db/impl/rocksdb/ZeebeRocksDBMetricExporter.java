@@ -72,6 +72,22 @@ public final class ZeebeRocksDBMetricExporter<
     new RocksDBMetric("rocksdb.num-running-compactions", WRITE_METRICS_PREFIX, WRITE_METRICS_HELP),
   };
 
+  private static final String STATISTICS_PROPERTY = "rocksdb.options-statistics";
+  private static final String ITERATOR_METRICS_HELP =
+      "Statistics of RocksDB iterators per partition, only available if RocksDB statistics are enabled";
+  private static final String ITERATOR_METRICS_PREFIX = "rocksdb_iterator";
+  private static final RocksDBTicker[] ITERATOR_METRICS = {
+    // internal keys skipped while iterating, e.g. deleted entries which are not compacted yet
+    new RocksDBTicker(
+        "rocksdb.number.iter.skip",
+        ITERATOR_METRICS_PREFIX + "_skipped_keys",
+        ITERATOR_METRICS_HELP),
+    new RocksDBTicker(
+        "rocksdb.number.db.seek", ITERATOR_METRICS_PREFIX + "_seeks", ITERATOR_METRICS_HELP),
+    new RocksDBTicker(
+        "rocksdb.number.db.next", ITERATOR_METRICS_PREFIX + "_nexts", ITERATOR_METRICS_HELP),
+  };
+
   private final String partition;
   private final Supplier<ZeebeDb<ColumnFamilyType>> databaseSupplier;
 
@@ -87,6 +103,7 @@ public final class ZeebeRocksDBMetricExporter<
     exportMetrics(LIVE_METRICS);
     exportMetrics(SST_METRICS);
     exportMetrics(WRITE_METRICS);
+    exportTickers(ITERATOR_METRICS);
 
     final long elapsedTime = System.currentTimeMillis() - startTime;
     LOG.trace("Exporting RocksDBMetrics took + {} ms", elapsedTime);
@@ -109,6 +126,62 @@ public final class ZeebeRocksDBMetricExporter<
     }
   }
 
+  private void exportTickers(final RocksDBTicker[] tickers) {
+    final var database = databaseSupplier.get();
+    if (database == null) {
+      return;
+    }
+    try {
+      database
+          .getProperty(STATISTICS_PROPERTY)
+          .ifPresent(
+              statistics -> {
+                for (final RocksDBTicker ticker : tickers) {
+                  ticker.exportValue(partition, statistics);
+                }
+              });
+    } catch (final Exception exception) {
+      LOG.debug("Error occurred on exporting metric {}", STATISTICS_PROPERTY, exception);
+    }
+  }
+
+  /**
+   * A counter of the RocksDB statistics, which is read from the statistics dump. The dump contains
+   * one line per counter, e.g. {@code rocksdb.number.iter.skip COUNT : 42}.
+   */
+  private static final class RocksDBTicker {
+
+    private final String tickerPrefix;
+    private final Gauge gauge;
+
+    private RocksDBTicker(final String tickerName, final String gaugeName, final String help) {
+      tickerPrefix = Objects.requireNonNull(tickerName) + " COUNT : ";
+      gauge =
+          Gauge.build()
+              .namespace(ZEEBE_NAMESPACE)
+              .name(gaugeName)
+              .help(help)
+              .labelNames(PARTITION)
+              .register();
+    }
+
+    private void exportValue(final String partitionID, final String statistics) {
+      final int start = statistics.indexOf(tickerPrefix);
+      if (start < 0) {
+        return;
+      }
+
+      final int valueStart = start + tickerPrefix.length();
+      int valueEnd = statistics.indexOf('\n', valueStart);
+      if (valueEnd < 0) {
+        valueEnd = statistics.length();
+      }
+      gauge
+          .labels(partitionID)
+          .set(Double.parseDouble(statistics.substring(valueStart, valueEnd).trim()));
+    }
+  }
+
   private static final class RocksDBMetric {
 
     private final String propertyName;
@@ -18,9 +18,12 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
@@ -32,7 +35,6 @@ import org.rocksdb.DBOptions;
 import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.IndexType;
 import org.rocksdb.LRUCache;
-import org.rocksdb.Options;
 import org.rocksdb.RateLimiter;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -52,14 +54,35 @@ public final class ZeebeRocksDbFactory<
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
+  private final ColumnFamilyGrouping grouping;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration) {
+    this(
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        metricsConfiguration,
+        ColumnFamilyGrouping.none());
+  }
+
+  /**
+   * @param grouping the grouping of the logical column families into physical column families,
+   *     which is only applied if {@link RocksDbConfiguration#isColumnFamilyGroupingEnabled()}
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final ColumnFamilyGrouping grouping) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
+    this.grouping =
+        rocksDbConfiguration.isColumnFamilyGroupingEnabled()
+            ? Objects.requireNonNull(grouping)
+            : ColumnFamilyGrouping.none();
   }
 
   @Override
@@ -68,6 +91,7 @@ public final class ZeebeRocksDbFactory<
     try {
       return ZeebeTransactionDb.openTransactionalDb(
           prepareOptions(closeables),
+          grouping,
           pathName.getAbsolutePath(),
           closeables,
           rocksDbConfiguration,
@@ -83,17 +107,16 @@ public final class ZeebeRocksDbFactory<
   public ZeebeDb<ColumnFamilyType> openSnapshotOnlyDb(final File pathName) {
     final List<AutoCloseable> managedResources = Collections.synchronizedList(new ArrayList<>());
     final var options = prepareOptions(managedResources);
-    final var snapshotOnlyOptions =
-        new Options(options.dbOptions(), options.cfOptions())
-            // only open existing databases
-            .setCreateIfMissing(false)
-            // this can slow down open significantly if there are many SST files
-            .setSkipCheckingSstFileSizesOnDbOpen(true);
-    managedResources.add(snapshotOnlyOptions);
+    options
+        .dbOptions()
+        // only open existing databases
+        .setCreateIfMissing(false)
+        .setCreateMissingColumnFamilies(false)
+        // this can slow down open significantly if there are many SST files
+        .setSkipCheckingSstFileSizesOnDbOpen(true);
 
     try {
-      return SnapshotOnlyDb.openDb(
-          snapshotOnlyOptions, pathName.getAbsolutePath(), managedResources);
+      return SnapshotOnlyDb.openDb(options, pathName.getAbsolutePath(), managedResources);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(managedResources);
       throw new IllegalStateException(
@@ -103,8 +126,9 @@ public final class ZeebeRocksDbFactory<
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
-    managedResources.add(columnFamilyOptions);
+    final var columnFamilyOptions =
+        createColumnFamilyOptions(managedResources, grouping.physicalColumnFamilies());
+    managedResources.addAll(columnFamilyOptions.values());
     final var dbOptions = createDefaultDbOptions(managedResources);
     managedResources.add(dbOptions);
     return new RocksDbOptions(dbOptions, columnFamilyOptions);
@@ -123,8 +147,11 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
-            .setCreateMissingColumnFamilies(false)
+            // the physical column families are created on demand when grouping is enabled
+            .setCreateMissingColumnFamilies(true)
+            // with the WAL disabled, only atomic flushes keep multiple column families consistent
+            // with each other, e.g. when taking a checkpoint
+            .setAtomicFlush(rocksDbConfiguration.isColumnFamilyGroupingEnabled())
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
             .setAvoidFlushDuringRecovery(true)
@@ -159,17 +186,47 @@ public final class ZeebeRocksDbFactory<
   }
 
   /**
-   * @return Options which are used on all column families
+   * @return Options which are used on the default column family
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(closeables, Set.of(PhysicalColumnFamily.DEFAULT))
+        .get(PhysicalColumnFamily.DEFAULT);
+  }
+
+  /**
+   * @return the options of each of the given physical column families, which share the same block
+   *     cache and the memtable memory budget
+   */
+  Map<PhysicalColumnFamily, ColumnFamilyOptions> createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Set<PhysicalColumnFamily> columnFamilies) {
+    final Map<PhysicalColumnFamily, ColumnFamilyOptions> options =
+        new EnumMap<>(PhysicalColumnFamily.class);
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
     if (hasUserOptions) {
-      return createFromUserOptions(userProvidedColumnFamilyOptions);
+      for (final var columnFamily : columnFamilies) {
+        options.put(columnFamily, createFromUserOptions(userProvidedColumnFamilyOptions));
+      }
+      return options;
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    final var blockCacheMemory = rocksDbConfiguration.getMemoryLimit() / 3;
+    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var totalMemtableMemoryShare =
+        columnFamilies.stream().mapToDouble(PhysicalColumnFamily::memtableMemoryShare).sum();
+    for (final var columnFamily : columnFamilies) {
+      options.put(
+          columnFamily,
+          createDefaultColumnFamilyOptions(
+              tableConfig,
+              blockCacheMemory,
+              columnFamily.memtableMemoryShare() / totalMemtableMemoryShare,
+              columnFamily));
+    }
+    return options;
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -189,13 +246,13 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final TableFormatConfig tableConfig,
+      final long blockCacheMemory,
+      final double memtableMemoryShare,
+      final PhysicalColumnFamily physicalColumnFamily) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -208,19 +265,19 @@ public final class ZeebeRocksDbFactory<
     // create
     // a filter for each memtable, allowing us to skip the prefixes if possible
     final var memtablePrefixFilterMemory = 0.15;
+    // when grouping column families, each physical column family gets a share of the budget
     final var memtableMemory =
         Math.round(
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
-                * (1 - memtablePrefixFilterMemory));
-
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+                * (1 - memtablePrefixFilterMemory)
+                * memtableMemoryShare);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
           new SstPartitionerFixedPrefixFactory(Long.BYTES));
     }
 
-    return columnFamilyOptions
+    columnFamilyOptions
         // to extract our column family type (used as prefix) and seek faster
         .useFixedLengthPrefixExtractor(Long.BYTES)
         .setMemtablePrefixBloomSizeRatio(memtablePrefixFilterMemory)
@@ -267,6 +324,31 @@ public final class ZeebeRocksDbFactory<
         .setTargetFileSizeMultiplier(2)
         // misc
         .setTableFormatConfig(tableConfig);
+
+    return switch (physicalColumnFamily) {
+      case DEFAULT -> columnFamilyOptions;
+      // short-lived data rarely reaches the lower levels, and is read too often to pay for
+      // decompression
+      case HOT ->
+          columnFamilyOptions.setCompressionPerLevel(
+              List.of(
+                  CompressionType.NO_COMPRESSION,
+                  CompressionType.NO_COMPRESSION,
+                  CompressionType.NO_COMPRESSION,
+                  CompressionType.NO_COMPRESSION));
+      // append-mostly data is compressed as soon as it leaves L0, and the bottommost level with a
+      // stronger algorithm; lookups mostly hit, so no filters are needed for the last level
+      case COLD ->
+          columnFamilyOptions
+              .setCompressionPerLevel(
+                  List.of(
+                      CompressionType.NO_COMPRESSION,
+                      CompressionType.LZ4_COMPRESSION,
+                      CompressionType.LZ4_COMPRESSION,
+                      CompressionType.LZ4_COMPRESSION))
+              .setBottommostCompressionType(CompressionType.ZSTD_COMPRESSION)
+              .setOptimizeFiltersForHits(true);
+    };
   }
 
   private TableFormatConfig createTableFormatConfig(
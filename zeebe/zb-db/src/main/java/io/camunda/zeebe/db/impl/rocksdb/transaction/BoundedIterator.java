@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.function.Function;
+import org.agrona.BitUtil;
+import org.rocksdb.DirectSlice;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksIterator;
+
+/**
+ * A RocksDB iterator which is restricted to the keys of a single prefix, and which is reused for
+ * all prefix iterations of a column family within a transaction.
+ *
+ * <p>The range is passed to RocksDB as iterate lower and upper bound, so RocksDB stops as soon as
+ * it leaves the prefix instead of skipping over deleted entries (tombstones) until it finds the
+ * next live key after the prefix, only for us to discard it. The bounds are backed by direct
+ * buffers which are updated in place for every iteration, so the iterator can be re-positioned
+ * with a seek instead of being created again. The iterator sees the data as it was when it was
+ * created, plus all writes of the current transaction.
+ *
+ * <p>The iterator is only valid within the transaction it was created in, and is closed by the
+ * transaction when it is committed or rolled back; see {@link ZeebeTransaction}.
+ */
+final class BoundedIterator implements AutoCloseable {
+
+  // allocated on first use, as many column families are never iterated over
+  private static final ByteBuffer NO_BOUND = ByteBuffer.allocateDirect(0);
+  private static final int UNSIGNED_BYTE_MAX = 0xFF;
+
+  private final ReadOptions prefixReadOptions;
+
+  private ByteBuffer lowerBound = NO_BOUND;
+  private ByteBuffer upperBound = NO_BOUND;
+
+  private ReadOptions readOptions;
+  private DirectSlice lowerBoundSlice;
+  private DirectSlice upperBoundSlice;
+  private RocksIterator iterator;
+
+  BoundedIterator(final ReadOptions prefixReadOptions) {
+    this.prefixReadOptions = prefixReadOptions;
+  }
+
+  /**
+   * Positions the iterator at the first key which is equal to or greater than {@code seekTarget},
+   * limited to the keys which start with the given prefix. Opens a new iterator via the given
+   * factory, if there is none yet in the current transaction.
+   *
+   * @param transaction the current transaction, which closes the iterator when it ends
+   * @param seekTarget the key to seek to, including the column family prefix
+   * @param seekTargetLength the length of the seek target
+   * @param prefix the prefix all iterated keys share, including the column family prefix
+   * @param prefixLength the length of the prefix
+   * @param iteratorFactory creates a new RocksDB iterator with the given read options
+   * @return the positioned iterator, which must not be closed by the caller
+   */
+  RocksIterator seek(
+      final ZeebeTransaction transaction,
+      final byte[] seekTarget,
+      final int seekTargetLength,
+      final byte[] prefix,
+      final int prefixLength,
+      final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    final int upperBoundLength = upperBoundLength(prefix, prefixLength);
+    if (lowerBound.capacity() < seekTargetLength || upperBound.capacity() < upperBoundLength) {
+      // the bounds are referenced by an open iterator, so we can only replace them with it
+      close();
+      lowerBound = allocate(lowerBound, seekTargetLength);
+      upperBound = allocate(upperBound, upperBoundLength);
+    }
+
+    lowerBound.clear().put(seekTarget, 0, seekTargetLength).flip();
+    upperBound.clear().put(prefix, 0, upperBoundLength);
+    incrementUpperBound(upperBoundLength);
+
+    if (iterator == null) {
+      open(transaction, seekTargetLength, upperBoundLength, iteratorFactory);
+    } else {
+      lowerBoundSlice.setLength(seekTargetLength);
+      upperBoundSlice.setLength(upperBoundLength);
+    }
+
+    iterator.seek(lowerBound);
+    return iterator;
+  }
+
+  @Override
+  public void close() {
+    if (iterator != null) {
+      iterator.close();
+      readOptions.close();
+      lowerBoundSlice.close();
+      upperBoundSlice.close();
+      iterator = null;
+    }
+  }
+
+  private void open(
+      final ZeebeTransaction transaction,
+      final int lowerBoundLength,
+      final int upperBoundLength,
+      final Function<ReadOptions, RocksIterator> iteratorFactory) {
+    lowerBoundSlice = new DirectSlice(lowerBound, lowerBoundLength);
+    upperBoundSlice = new DirectSlice(upperBound, upperBoundLength);
+    readOptions =
+        new ReadOptions(prefixReadOptions)
+            .setIterateLowerBound(lowerBoundSlice)
+            .setIterateUpperBound(upperBoundSlice);
+    iterator = iteratorFactory.apply(readOptions);
+    transaction.registerIterator(this);
+  }
+
+  /**
+   * The upper bound is the smallest key which is greater than all keys with the given prefix: the
+   * prefix with its last byte incremented, after dropping all trailing bytes which would overflow.
+   * As every key starts with a column family prefix, whose first byte is always zero, there is
+   * always such a key.
+   */
+  private static int upperBoundLength(final byte[] prefix, final int prefixLength) {
+    for (int i = prefixLength - 1; i >= 0; i--) {
+      if ((prefix[i] & UNSIGNED_BYTE_MAX) != UNSIGNED_BYTE_MAX) {
+        return i + 1;
+      }
+    }
+
+    throw new IllegalStateException(
+        "Expected prefix to contain at least one byte which is not 0xFF, but all %d bytes are"
+            .formatted(prefixLength));
+  }
+
+  private void incrementUpperBound(final int upperBoundLength) {
+    final int lastIndex = upperBoundLength - 1;
+    upperBound.put(lastIndex, (byte) (upperBound.get(lastIndex) + 1));
+    upperBound.flip();
+  }
+
+  private static ByteBuffer allocate(final ByteBuffer current, final int minCapacity) {
+    if (current.capacity() >= minCapacity) {
+      return current;
+    }
+    return ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(minCapacity));
+  }
+}
@@ -14,6 +14,7 @@ import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
 import java.util.function.ObjIntConsumer;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -21,6 +22,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 public class ColumnFamilyContext {
 
   private static final byte[] ZERO_SIZE_ARRAY = new byte[0];
+  private static final int INITIAL_DIRECT_BUFFER_CAPACITY = 4 * 1024;
 
   // we can also simply use one buffer
   private final ExpandableArrayBuffer keyBuffer = new ExpandableArrayBuffer();
@@ -29,6 +31,11 @@ public class ColumnFamilyContext {
   private final DirectBuffer keyViewBuffer = new UnsafeBuffer(0, 0);
   private final DirectBuffer valueViewBuffer = new UnsafeBuffer(0, 0);
 
+  // off-heap copies of the key and the value for point lookups, which RocksDB reads from and writes
+  // into directly, without allocating a new array per lookup
+  private ByteBuffer directKeyBuffer = ByteBuffer.allocateDirect(INITIAL_DIRECT_BUFFER_CAPACITY);
+  private ByteBuffer directValueBuffer = ByteBuffer.allocateDirect(INITIAL_DIRECT_BUFFER_CAPACITY);
+
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
@@ -89,6 +96,18 @@ public class ColumnFamilyContext {
     }
   }
 
+  /**
+   * Wraps the value view around the first {@code valueLength} bytes of the direct value buffer, as
+   * filled by a previous lookup. A negative length marks a missing value.
+   */
+  public void wrapDirectValueView(final int valueLength) {
+    if (valueLength >= 0) {
+      valueViewBuffer.wrap(directValueBuffer, 0, valueLength);
+    } else {
+      valueViewBuffer.wrap(ZERO_SIZE_ARRAY);
+    }
+  }
+
   public DirectBuffer getValueView() {
     return isValueViewEmpty() ? null : valueViewBuffer;
   }
@@ -115,12 +134,39 @@ public class ColumnFamilyContext {
     }
   }
 
-  ByteBuffer keyWithColumnFamily(DbKey key) {
-    final var bytes = ByteBuffer.allocate(Long.BYTES + key.getLength());
-    final var buffer = new UnsafeBuffer(bytes);
+  /**
+   * @return a direct buffer containing the key which was last written via {@link #writeKey(DbKey)},
+   *     positioned to be read by RocksDB
+   */
+  ByteBuffer getDirectKeyBuffer() {
+    if (directKeyBuffer.capacity() < keyLength) {
+      directKeyBuffer = ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(keyLength));
+    }
+
+    directKeyBuffer.clear();
+    keyBuffer.getBytes(0, directKeyBuffer, 0, keyLength);
+    return directKeyBuffer.limit(keyLength);
+  }
+
+  /**
+   * @return a direct buffer into which RocksDB can copy a looked up value
+   */
+  ByteBuffer getDirectValueBuffer() {
+    return directValueBuffer.clear();
+  }
+
+  /**
+   * Ensures that the direct value buffer can hold a value of the given length. Any previous content
+   * is discarded when the buffer has to grow.
+   *
+   * @return true if the buffer was too small and had to grow, false otherwise
+   */
+  boolean ensureDirectValueCapacity(final int valueLength) {
+    if (directValueBuffer.capacity() >= valueLength) {
+      return false;
+    }
 
-    buffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
-    key.write(buffer, Long.BYTES);
-    return bytes;
+    directValueBuffer = ByteBuffer.allocateDirect(BitUtil.findNextPositivePowerOfTwo(valueLength));
+    return true;
   }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyGrouping;
+import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import io.camunda.zeebe.db.impl.rocksdb.PhysicalColumnFamily;
+import java.util.Map;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.slf4j.Logger;
+
+/**
+ * Moves the data of logical column families into the physical column family they are assigned to
+ * by the {@link ColumnFamilyGrouping}. This is necessary whenever a database, e.g. from a snapshot,
+ * was written with a different grouping, for example when column family grouping is enabled or
+ * disabled.
+ *
+ * <p>Each physical column family is scanned by seeking from one logical column family prefix to
+ * the next, so only the prefixes which are present are visited, and only the data which has to
+ * move is read. Each entry is written to the target and deleted from the source in the same write
+ * batch, which makes the migration idempotent if it is interrupted.
+ */
+final class PhysicalColumnFamilyMigration {
+
+  private static final Logger LOG = Loggers.DB_LOGGER;
+  private static final int MAX_BATCH_ENTRIES = 10_000;
+
+  private final RocksDB db;
+  private final Map<PhysicalColumnFamily, ColumnFamilyHandle> handles;
+  private final ColumnFamilyGrouping grouping;
+  private final byte[] prefixBuffer = new byte[Long.BYTES];
+  private final UnsafeBuffer prefixView = new UnsafeBuffer(prefixBuffer);
+
+  PhysicalColumnFamilyMigration(
+      final RocksDB db,
+      final Map<PhysicalColumnFamily, ColumnFamilyHandle> handles,
+      final ColumnFamilyGrouping grouping) {
+    this.db = db;
+    this.handles = handles;
+    this.grouping = grouping;
+  }
+
+  void migrate() throws RocksDBException {
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final var writeOptions = new WriteOptions()) {
+      for (final var source : handles.entrySet()) {
+        migrate(source.getKey(), source.getValue(), readOptions, writeOptions);
+      }
+    }
+  }
+
+  private void migrate(
+      final PhysicalColumnFamily source,
+      final ColumnFamilyHandle sourceHandle,
+      final ReadOptions readOptions,
+      final WriteOptions writeOptions)
+      throws RocksDBException {
+    try (final RocksIterator iterator = db.newIterator(sourceHandle, readOptions)) {
+      iterator.seekToFirst();
+      while (iterator.isValid()) {
+        final long prefix = readPrefix(iterator.key());
+        final var target = grouping.physicalColumnFamily(prefix);
+        if (target == source) {
+          seekToPrefix(iterator, prefix + 1);
+          continue;
+        }
+
+        final var targetHandle = handles.get(target);
+        if (targetHandle == null) {
+          throw new IllegalStateException(
+              "Expected to move column family %d to %s, but it is not open"
+                  .formatted(prefix, target));
+        }
+
+        final var moved = move(iterator, prefix, sourceHandle, targetHandle, writeOptions);
+        LOG.info(
+            "Moved {} entries of column family {} from physical column family {} to {}",
+            moved,
+            prefix,
+            source,
+            target);
+      }
+      iterator.status();
+    }
+  }
+
+  private long move(
+      final RocksIterator iterator,
+      final long prefix,
+      final ColumnFamilyHandle sourceHandle,
+      final ColumnFamilyHandle targetHandle,
+      final WriteOptions writeOptions)
+      throws RocksDBException {
+    long moved = 0;
+    try (final var batch = new WriteBatch()) {
+      while (iterator.isValid()) {
+        final byte[] key = iterator.key();
+        if (readPrefix(key) != prefix) {
+          break;
+        }
+
+        batch.put(targetHandle, key, iterator.value());
+        batch.delete(sourceHandle, key);
+        moved++;
+        if (moved % MAX_BATCH_ENTRIES == 0) {
+          db.write(writeOptions, batch);
+          batch.clear();
+        }
+        iterator.next();
+      }
+
+      db.write(writeOptions, batch);
+    }
+    return moved;
+  }
+
+  private void seekToPrefix(final RocksIterator iterator, final long prefix) {
+    prefixView.putLong(0, prefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    iterator.seek(prefixBuffer);
+  }
+
+  private static long readPrefix(final byte[] key) {
+    return new UnsafeBuffer(key).getLong(0, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import io.camunda.zeebe.db.impl.rocksdb.PhysicalColumnFamily;
+import java.util.Map;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 
@@ -15,11 +17,33 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>Per default, Zeebe only uses the default RocksDB column family. When column family grouping
+ * is enabled, the logical column families are stored in multiple {@link PhysicalColumnFamily
+ * physical column families}, each with its own options.
  *
  * @param dbOptions The database options used to open the RocksDB database
- * @param cfOptions The column family options used to open the RocksDB database
+ * @param columnFamilyOptions The options of each physical column family which should be used; must
+ *     contain the default column family
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions, Map<PhysicalColumnFamily, ColumnFamilyOptions> columnFamilyOptions) {
+
+  public RocksDbOptions(final DBOptions dbOptions, final ColumnFamilyOptions cfOptions) {
+    this(dbOptions, Map.of(PhysicalColumnFamily.DEFAULT, cfOptions));
+  }
+
+  /**
+   * @return the options of the default column family
+   */
+  public ColumnFamilyOptions cfOptions() {
+    return columnFamilyOptions.get(PhysicalColumnFamily.DEFAULT);
+  }
+
+  /**
+   * @return the options of the given physical column family, or the options of the default column
+   *     family if it should not be used
+   */
+  public ColumnFamilyOptions cfOptions(final PhysicalColumnFamily columnFamily) {
+    return columnFamilyOptions.getOrDefault(columnFamily, cfOptions());
+  }
+}
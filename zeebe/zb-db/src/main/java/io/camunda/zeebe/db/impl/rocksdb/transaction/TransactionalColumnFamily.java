@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransaction.NOT_FOUND;
 import static io.camunda.zeebe.util.buffer.BufferUtil.startsWith;
 
 import io.camunda.zeebe.db.ColumnFamily;
@@ -19,12 +20,15 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayDeque;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +60,9 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final Queue<BoundedIterator> iterators = new ArrayDeque<>();
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -73,6 +80,11 @@ class TransactionalColumnFamily<
     this.valueInstance = valueInstance;
     this.metrics = metrics;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    handle = transactionDb.getColumnFamilyHandle(columnFamily);
+    nativeHandle = transactionDb.getColumnFamilyNativeHandle(columnFamily);
+    // one for the iteration and one for a nested iteration, see ColumnFamilyContext#withPrefixKey
+    iterators.add(new BoundedIterator(transactionDb.getPrefixReadOptions()));
+    iterators.add(new BoundedIterator(transactionDb.getPrefixReadOptions()));
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
@@ -87,7 +99,7 @@ class TransactionalColumnFamily<
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -106,7 +118,7 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -124,7 +136,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
@@ -139,13 +151,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapDirectValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -226,7 +232,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -240,7 +246,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
           });
@@ -253,13 +259,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapDirectValueView(getValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -282,12 +282,14 @@ class TransactionalColumnFamily<
 
   @Override
   public long count() {
-    return countEachInPrefix(new DbNullKey());
+    return countEqualPrefix(new DbNullKey());
   }
 
   @Override
   public long countEqualPrefix(final DbKey prefix) {
-    return countEachInPrefix(prefix);
+    final var count = new AtomicLong();
+    ensureInOpenTransaction(transaction -> count.set(countEachInPrefix(prefix)));
+    return count.get();
   }
 
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
@@ -306,13 +308,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value != null) {
+    if (getValue(transaction) != NOT_FOUND) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
     }
@@ -322,18 +318,36 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
-    if (value == null) {
+    if (getValue(transaction) == NOT_FOUND) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
     }
   }
 
+  /**
+   * Looks up the value of the key which was last written to the column family context, copying it
+   * into the context's reusable direct value buffer.
+   *
+   * @return the length of the value, or {@link ZeebeTransaction#NOT_FOUND} if the key does not
+   *     exist
+   */
+  private int getValue(final ZeebeTransaction transaction) throws Exception {
+    final int valueLength = readIntoDirectValueBuffer(transaction);
+    if (valueLength != NOT_FOUND && columnFamilyContext.ensureDirectValueCapacity(valueLength)) {
+      // the value was only partially copied, so read it again into the grown buffer
+      return readIntoDirectValueBuffer(transaction);
+    }
+    return valueLength;
+  }
+
+  private int readIntoDirectValueBuffer(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+        handle,
+        transactionDb.getDefaultReadOptions(),
+        columnFamilyContext.getDirectKeyBuffer(),
+        columnFamilyContext.getDirectValueBuffer());
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
@@ -346,7 +360,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
@@ -380,34 +394,29 @@ class TransactionalColumnFamily<
       Objects.requireNonNull(visitor);
 
       /*
-       * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-       * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-       * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-       * over all keys contained in those files, so we still need to make sure the key actually
-       * matches the prefix.
-       *
-       * <p>While iterating over subsequent keys we have to validate it.
+       * NOTE: the iterator is bounded to the prefix, so RocksDB stops as soon as the prefix is
+       * exceeded. We still check the prefix of each key, as the iteration may start before the
+       * prefix if the start key is smaller than it.
        */
       columnFamilyContext.withPrefixKey(
           prefix,
-          (prefixKey, prefixLength) -> {
-            try (final RocksIterator iterator =
-                newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-              boolean shouldVisitNext = true;
-
-              for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                  iterator.isValid() && shouldVisitNext;
-                  iterator.next()) {
-                final byte[] keyBytes = iterator.key();
-                if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                  break;
-                }
-
-                shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
-              }
-            }
-          });
+          (prefixKey, prefixLength) ->
+              withIterator(
+                  seekTarget,
+                  prefixKey,
+                  prefixLength,
+                  iterator -> {
+                    boolean shouldVisitNext = true;
+
+                    for (; iterator.isValid() && shouldVisitNext; iterator.next()) {
+                      final byte[] keyBytes = iterator.key();
+                      if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                        break;
+                      }
+
+                      shouldVisitNext = visit(keyInstance, valueInstance, visitor, iterator);
+                    }
+                  }));
     }
   }
 
@@ -426,37 +435,56 @@ class TransactionalColumnFamily<
 
     final var count = new AtomicLong(0);
 
-    /*
-     * NOTE: it doesn't seem possible in Java RocksDB to set a flexible prefix extractor on
-     * iterators at the moment, so using prefixes seem to be mostly related to skipping files that
-     * do not contain keys with the given prefix (which is useful anyway), but it will still iterate
-     * over all keys contained in those files, so we still need to make sure the key actually
-     * matches the prefix.
-     *
-     * <p>While iterating over subsequent keys we have to validate it.
-     */
     columnFamilyContext.withPrefixKey(
         prefix,
-        (prefixKey, prefixLength) -> {
-          try (final RocksIterator iterator =
-              newIterator(context, transactionDb.getPrefixReadOptions())) {
-
-            for (iterator.seek(columnFamilyContext.keyWithColumnFamily(seekTarget));
-                iterator.isValid();
-                iterator.next()) {
-              final byte[] keyBytes = iterator.key();
-              if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
-                break;
-              }
-
-              count.getAndIncrement();
-            }
-          }
-        });
+        (prefixKey, prefixLength) ->
+            withIterator(
+                seekTarget,
+                prefixKey,
+                prefixLength,
+                iterator -> {
+                  for (; iterator.isValid(); iterator.next()) {
+                    final byte[] keyBytes = iterator.key();
+                    if (!startsWith(prefixKey, 0, prefixLength, keyBytes, 0, keyBytes.length)) {
+                      break;
+                    }
+
+                    count.getAndIncrement();
+                  }
+                }));
 
     return count.get();
   }
 
+  /**
+   * Positions one of the reusable iterators of this column family at the given seek target,
+   * bounded to the given prefix, and passes it to the consumer. As with {@link
+   * ColumnFamilyContext#withPrefixKey}, only one nested iteration is
+   * supported.
+   */
+  private void withIterator(
+      final DbKey seekTarget,
+      final byte[] prefixKey,
+      final int prefixLength,
+      final Consumer<RocksIterator> iteratorConsumer) {
+    final var transaction = (ZeebeTransaction) context.getCurrentTransaction();
+    final var boundedIterator = iterators.remove();
+    try {
+      columnFamilyContext.writeKey(seekTarget);
+      final var iterator =
+          boundedIterator.seek(
+              transaction,
+              columnFamilyContext.getKeyBufferArray(),
+              columnFamilyContext.getKeyLength(),
+              prefixKey,
+              prefixLength,
+              options -> newIterator(context, options));
+      iteratorConsumer.accept(iterator);
+    } finally {
+      iterators.add(boundedIterator);
+    }
+  }
+
   private boolean visit(
       final KeyType keyInstance,
       final ValueType valueInstance,
@@ -9,20 +9,30 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.GetStatus;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Status.Code;
 import org.rocksdb.Transaction;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
+  public static final int NOT_FOUND = -1;
+
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final List<TransactionListener> listeners = new ArrayList<>();
+  private final List<BoundedIterator> openIterators = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
@@ -80,6 +90,25 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up the value of the given key and copies it into the given value buffer, without
+   * allocating an array for it. If the value is larger than the remaining space of the buffer, only
+   * a part of it is copied; callers should then retry with a large enough buffer.
+   *
+   * @param key the key to look up, between its position and limit
+   * @param value the buffer to copy the value into, starting at its position
+   * @return the full length of the value, or {@link #NOT_FOUND} if the key does not exist
+   */
+  public int get(
+      final ColumnFamilyHandle columnFamilyHandle,
+      final ReadOptions readOptions,
+      final ByteBuffer key,
+      final ByteBuffer value)
+      throws Exception {
+    final GetStatus result = transaction.get(readOptions, columnFamilyHandle, key, value);
+    return result.status.getCode() == Code.NotFound ? NOT_FOUND : result.requiredSize;
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -144,16 +173,40 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    closeIterators();
     transaction.commit();
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    closeIterators();
     transaction.rollback();
+    listeners.forEach(TransactionListener::onRollback);
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
+  /**
+   * Registers an iterator which is reused within this transaction, and which is closed before the
+   * transaction is committed or rolled back, as it is not valid afterward.
+   */
+  void registerIterator(final BoundedIterator iterator) {
+    openIterators.add(iterator);
+  }
+
+  private void closeIterators() {
+    for (final var iterator : openIterators) {
+      iterator.close();
+    }
+    openIterators.clear();
   }
 
   @Override
   public void close() {
+    closeIterators();
     transaction.close();
   }
 }
@@ -18,19 +18,29 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.rocksdb.ColumnFamilyGrouping;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
+import io.camunda.zeebe.db.impl.rocksdb.PhysicalColumnFamily;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -49,9 +59,12 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
+  private final long defaultReadOptionsNativeHandle;
   private final WriteOptions defaultWriteOptions;
   private final ColumnFamilyHandle defaultHandle;
-  private final long defaultNativeHandle;
+  private final Map<PhysicalColumnFamily, ColumnFamilyHandle> handles;
+  private final Map<PhysicalColumnFamily, Long> nativeHandles;
+  private final ColumnFamilyGrouping grouping;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
 
@@ -62,8 +75,29 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration accessMetricsConfiguration) {
-    this.defaultHandle = defaultHandle;
-    defaultNativeHandle = getNativeHandle(defaultHandle);
+    this(
+        Map.of(PhysicalColumnFamily.DEFAULT, defaultHandle),
+        ColumnFamilyGrouping.none(),
+        optimisticTransactionDB,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        accessMetricsConfiguration);
+  }
+
+  protected ZeebeTransactionDb(
+      final Map<PhysicalColumnFamily, ColumnFamilyHandle> handles,
+      final ColumnFamilyGrouping grouping,
+      final OptimisticTransactionDB optimisticTransactionDB,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration accessMetricsConfiguration) {
+    this.handles = new EnumMap<>(handles);
+    this.grouping = grouping;
+    defaultHandle = handles.get(PhysicalColumnFamily.DEFAULT);
+    nativeHandles = new EnumMap<>(PhysicalColumnFamily.class);
+    handles.forEach((family, handle) -> nativeHandles.put(family, getNativeHandle(handle)));
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
@@ -80,6 +114,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     closables.add(prefixReadOptions);
     defaultReadOptions = new ReadOptions();
     closables.add(defaultReadOptions);
+    defaultReadOptionsNativeHandle = getNativeHandle(defaultReadOptions);
     defaultWriteOptions = new WriteOptions().setDisableWAL(rocksDbConfiguration.isWalDisabled());
     closables.add(defaultWriteOptions);
   }
@@ -93,25 +128,72 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    return openTransactionalDb(
+        options,
+        ColumnFamilyGrouping.none(),
+        path,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        metrics);
+  }
+
+  /**
+   * Opens the database with all physical column families used by the given grouping, as well as
+   * all physical column families which already exist in the database. Data which is not stored in
+   * the physical column family it is assigned to is moved there, and physical column families which
+   * are not used by the grouping are dropped afterwards.
+   */
+  public static <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      ZeebeTransactionDb<ColumnFamilyNames> openTransactionalDb(
+          final RocksDbOptions options,
+          final ColumnFamilyGrouping grouping,
+          final String path,
+          final List<AutoCloseable> closables,
+          final RocksDbConfiguration rocksDbConfiguration,
+          final ConsistencyChecksSettings consistencyChecksSettings,
+          final AccessMetricsConfiguration metrics)
+          throws RocksDBException {
+    final var usedColumnFamilies = grouping.physicalColumnFamilies();
+    final var physicalColumnFamilies = EnumSet.copyOf(usedColumnFamilies);
+    physicalColumnFamilies.addAll(listPhysicalColumnFamilies(path));
+
+    final List<ColumnFamilyDescriptor> cfDescriptors = new ArrayList<>();
+    for (final var physicalColumnFamily : physicalColumnFamilies) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              physicalColumnFamily.getName(), options.cfOptions(physicalColumnFamily)));
+    }
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
+    }
+
+    final Map<PhysicalColumnFamily, ColumnFamilyHandle> handles =
+        new EnumMap<>(PhysicalColumnFamily.class);
+    for (final var cfHandle : cfHandles) {
+      closables.add(cfHandle);
+      handles.put(PhysicalColumnFamily.ofName(cfHandle.getName()).orElseThrow(), cfHandle);
     }
 
-    final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    new PhysicalColumnFamilyMigration(optimisticTransactionDB, handles, grouping).migrate();
+    for (final var physicalColumnFamily : physicalColumnFamilies) {
+      if (!usedColumnFamilies.contains(physicalColumnFamily)) {
+        final var unusedHandle = handles.remove(physicalColumnFamily);
+        optimisticTransactionDB.dropColumnFamily(unusedHandle);
+        unusedHandle.close();
+      }
+    }
 
     return new ZeebeTransactionDb<>(
-        defaultColumnFamilyHandle,
+        handles,
+        grouping,
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -119,6 +201,31 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  /**
+   * @return the physical column families which exist in the database at the given path, or none
+   *     if there is no database yet
+   */
+  public static Set<PhysicalColumnFamily> listPhysicalColumnFamilies(final String path)
+      throws RocksDBException {
+    if (!Files.exists(Path.of(path, "CURRENT"))) {
+      return Set.of();
+    }
+
+    final Set<PhysicalColumnFamily> physicalColumnFamilies = new HashSet<>();
+    try (final var options = new Options()) {
+      for (final byte[] name : RocksDB.listColumnFamilies(options, path)) {
+        physicalColumnFamilies.add(
+            PhysicalColumnFamily.ofName(name)
+                .orElseThrow(
+                    () ->
+                        new IllegalStateException(
+                            "Expected only known column families in %s, but found '%s'"
+                                .formatted(path, new String(name, StandardCharsets.UTF_8)))));
+      }
+    }
+    return physicalColumnFamilies;
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -132,16 +239,28 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
-  protected ColumnFamilyHandle getDefaultHandle() {
-    return defaultHandle;
+  /**
+   * @return the handle of the physical column family in which the given logical column family is
+   *     stored
+   */
+  protected ColumnFamilyHandle getColumnFamilyHandle(final EnumValue columnFamily) {
+    return handles.get(grouping.physicalColumnFamily(columnFamily.getValue()));
   }
 
-  protected long getReadOptionsNativeHandle() {
-    return getNativeHandle(defaultReadOptions);
+  /**
+   * @return the native handle of the physical column family in which the given logical column
+   *     family is stored
+   */
+  protected long getColumnFamilyNativeHandle(final EnumValue columnFamily) {
+    return nativeHandles.get(grouping.physicalColumnFamily(columnFamily.getValue()));
   }
 
-  protected long getDefaultNativeHandle() {
-    return defaultNativeHandle;
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
+  protected long getReadOptionsNativeHandle() {
+    return defaultReadOptionsNativeHandle;
   }
 
   @Override
@@ -182,6 +301,20 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
 
   @Override
   public Optional<String> getProperty(final String propertyName) {
+    if (handles.size() > 1) {
+      // numeric properties, e.g. sizes or number of keys, are summed up over all physical column
+      // families; anything else is only read from the default column family
+      try {
+        long sum = 0;
+        for (final var handle : handles.values()) {
+          sum += optimisticTransactionDB.getLongProperty(handle, propertyName);
+        }
+        return Optional.of(Long.toString(sum));
+      } catch (final RocksDBException rde) {
+        LOG.trace(rde.getMessage(), rde);
+      }
+    }
+
     String propertyValue = null;
     try {
       propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
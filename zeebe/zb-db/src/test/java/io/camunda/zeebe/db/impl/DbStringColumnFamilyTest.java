@@ -63,6 +63,25 @@ public final class DbStringColumnFamilyTest {
     assertThat(value.toString()).isEqualTo("baring");
   }
 
+  @Test
+  public void shouldGetValueLargerThanReadBuffer() {
+    // given
+    final var smallValue = "small";
+    final var largeValue = "a".repeat(64 * 1024);
+    upsertKeyValuePair("small", smallValue);
+    upsertKeyValuePair("large", largeValue);
+
+    // when
+    key.wrapString("large");
+    final var large = columnFamily.get(key).toString();
+    key.wrapString("small");
+    final var small = columnFamily.get(key).toString();
+
+    // then
+    assertThat(large).isEqualTo(largeValue);
+    assertThat(small).isEqualTo(smallValue);
+  }
+
   @Test
   public void shouldUseForeachValue() {
     // given
@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.inmemory.InMemoryDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import io.camunda.zeebe.protocol.EnumValue;
@@ -26,4 +27,10 @@ public final class DefaultZeebeDbFactory {
         consistencyChecks,
         new AccessMetricsConfiguration(Kind.NONE, 1));
   }
+
+  public static <ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
+      ZeebeDbFactory<ColumnFamilyType> getInMemoryFactory() {
+    // enable consistency checks for tests
+    return new InMemoryDbFactory<>(new ConsistencyChecksSettings(true, true));
+  }
 }
@@ -0,0 +1,299 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.inmemory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class InMemoryDbTest {
+
+  @TempDir private Path directory;
+
+  private ZeebeDb<TestColumnFamilies> db;
+  private TransactionContext context;
+  private final DbString name = new DbString();
+  private final DbLong number = new DbLong();
+  private final DbCompositeKey<DbString, DbLong> key = new DbCompositeKey<>(name, number);
+  private final DbLong value = new DbLong();
+  private ColumnFamily<DbCompositeKey<DbString, DbLong>, DbLong> columnFamily;
+
+  @BeforeEach
+  void setup() {
+    db =
+        DefaultZeebeDbFactory.<TestColumnFamilies>getInMemoryFactory()
+            .createDb(directory.resolve("in-memory").toFile());
+    context = db.createContext();
+    columnFamily = db.createColumnFamily(TestColumnFamilies.DATA, context, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  void shouldIterateInSameOrderAsRocksDb() throws Exception {
+    // given
+    final var random = new Random(42);
+    try (final ZeebeDb<TestColumnFamilies> rocksDb =
+        DefaultZeebeDbFactory.<TestColumnFamilies>getDefaultFactory()
+            .createDb(directory.resolve("rocksdb").toFile())) {
+      final var rocksDbColumnFamily =
+          rocksDb.createColumnFamily(
+              TestColumnFamilies.DATA, rocksDb.createContext(), key, value);
+      for (int i = 0; i < 1_000; i++) {
+        name.wrapString("name-" + random.nextInt(10));
+        number.wrapLong(random.nextLong());
+        value.wrapLong(i);
+        columnFamily.upsert(key, value);
+        rocksDbColumnFamily.upsert(key, value);
+      }
+
+      // when
+      final var inMemoryEntries = readEntries(columnFamily);
+      final var rocksDbEntries = readEntries(rocksDbColumnFamily);
+
+      // then
+      assertThat(inMemoryEntries).hasSize(1_000).containsExactlyElementsOf(rocksDbEntries);
+    }
+  }
+
+  @Test
+  void shouldOnlyIterateOverPrefix() {
+    // given
+    upsert("a", 1);
+    upsert("b", 1);
+    upsert("b", 2);
+    upsert("c", 1);
+
+    // when
+    final List<String> entries = new ArrayList<>();
+    name.wrapString("b");
+    columnFamily.whileEqualPrefix(name, (k, v) -> entries.add(toString(k)));
+
+    // then
+    assertThat(entries).containsExactly("b-1", "b-2");
+    assertThat(columnFamily.countEqualPrefix(name)).isEqualTo(2);
+    assertThat(columnFamily.count()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldReadOwnWritesBeforeCommit() {
+    // given
+    final var otherContext = db.createContext();
+    final var otherColumnFamily =
+        db.createColumnFamily(TestColumnFamilies.DATA, otherContext, key, value);
+    upsert("a", 1);
+
+    // when - keep the transaction open
+    context.getCurrentTransaction();
+    upsert("b", 1);
+    name.wrapString("a");
+    number.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(readEntries(columnFamily)).containsExactly("b-1");
+    assertThat(readEntries(otherColumnFamily)).containsExactly("a-1");
+  }
+
+  @Test
+  void shouldCommitTransaction() throws Exception {
+    // given
+    final var otherContext = db.createContext();
+    final var otherColumnFamily =
+        db.createColumnFamily(TestColumnFamilies.DATA, otherContext, key, value);
+    final var transaction = context.getCurrentTransaction();
+    upsert("a", 1);
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(readEntries(otherColumnFamily)).containsExactly("a-1");
+  }
+
+  @Test
+  void shouldRollbackTransactionOnError() {
+    // given
+    upsert("a", 1);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                context.runInTransaction(
+                    () -> {
+                      upsert("b", 1);
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(readEntries(columnFamily)).containsExactly("a-1");
+  }
+
+  @Test
+  void shouldDeleteWhileIterating() {
+    // given
+    upsert("a", 1);
+    upsert("a", 2);
+    upsert("a", 3);
+
+    // when
+    final List<String> visited = new ArrayList<>();
+    context.runInTransaction(
+        () ->
+            columnFamily.forEach(
+                (k, v) -> {
+                  visited.add(toString(k));
+                  columnFamily.deleteExisting(k);
+                }));
+
+    // then
+    assertThat(visited).containsExactly("a-1", "a-2", "a-3");
+    assertThat(columnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldCheckPreconditions() {
+    // given
+    upsert("a", 1);
+
+    // then
+    assertThatThrownBy(() -> columnFamily.insert(key, value))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+    name.wrapString("b");
+    assertThatThrownBy(() -> columnFamily.update(key, value))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+    assertThatThrownBy(() -> columnFamily.deleteExisting(key))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @Test
+  void shouldCheckForeignKeys() {
+    // given
+    final var foreignKey = new DbForeignKey<>(key, TestColumnFamilies.DATA);
+    final var referencing =
+        db.createColumnFamily(TestColumnFamilies.REFERENCES, context, foreignKey, DbNil.INSTANCE);
+    upsert("a", 1);
+
+    // when
+    name.wrapString("a");
+    number.wrapLong(1);
+    referencing.insert(foreignKey, DbNil.INSTANCE);
+
+    // then
+    number.wrapLong(2);
+    assertThatThrownBy(() -> referencing.insert(foreignKey, DbNil.INSTANCE))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @Test
+  void shouldCreateSnapshotWhichCanBeOpenedByRocksDb() throws Exception {
+    // given
+    upsert("a", 1);
+    upsert("b", 2);
+    final var snapshot = directory.resolve("snapshot").toFile();
+
+    // when
+    db.createSnapshot(snapshot);
+
+    // then
+    try (final ZeebeDb<TestColumnFamilies> rocksDb =
+        DefaultZeebeDbFactory.<TestColumnFamilies>getDefaultFactory().createDb(snapshot)) {
+      assertThat(
+              readEntries(
+                  rocksDb.createColumnFamily(
+                      TestColumnFamilies.DATA, rocksDb.createContext(), key, value)))
+          .containsExactly("a-1", "b-2");
+    }
+  }
+
+  @Test
+  void shouldLoadSnapshotOfRocksDb() throws Exception {
+    // given
+    final var snapshot = directory.resolve("snapshot").toFile();
+    try (final ZeebeDb<TestColumnFamilies> rocksDb =
+        DefaultZeebeDbFactory.<TestColumnFamilies>getDefaultFactory()
+            .createDb(directory.resolve("rocksdb").toFile())) {
+      final var rocksDbColumnFamily =
+          rocksDb.createColumnFamily(
+              TestColumnFamilies.DATA, rocksDb.createContext(), key, value);
+      name.wrapString("a");
+      number.wrapLong(1);
+      value.wrapLong(1);
+      rocksDbColumnFamily.upsert(key, value);
+      rocksDb.createSnapshot(snapshot);
+    }
+
+    // when
+    try (final ZeebeDb<TestColumnFamilies> loaded =
+        DefaultZeebeDbFactory.<TestColumnFamilies>getInMemoryFactory().createDb(snapshot)) {
+      // then
+      assertThat(
+              readEntries(
+                  loaded.createColumnFamily(
+                      TestColumnFamilies.DATA, loaded.createContext(), key, value)))
+          .containsExactly("a-1");
+    }
+  }
+
+  private void upsert(final String nameValue, final long numberValue) {
+    name.wrapString(nameValue);
+    number.wrapLong(numberValue);
+    value.wrapLong(numberValue);
+    columnFamily.upsert(key, value);
+  }
+
+  private static List<String> readEntries(
+      final ColumnFamily<DbCompositeKey<DbString, DbLong>, DbLong> columnFamily) {
+    final List<String> entries = new ArrayList<>();
+    columnFamily.forEach((k, v) -> entries.add(toString(k)));
+    return entries;
+  }
+
+  private static String toString(final DbCompositeKey<DbString, DbLong> key) {
+    return key.first().toString() + "-" + key.second().getValue();
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    DATA(1),
+    REFERENCES(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a single physical column family with grouped physical column families for a workload
+ * which mixes short-lived entries (inserted, read and deleted again) with lookups of long-lived
+ * entries, next to a large amount of long-lived data. The memory limit is kept small so that the
+ * memtables are flushed and compacted during the measurement.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ColumnFamilyGroupingPerformanceTest {
+  private static final int COLD_ENTRIES = 200_000;
+  private static final int COLD_VALUE_SIZE = 1024;
+  private static final int HOT_VALUE_SIZE = 128;
+
+  @Param({"false", "true"})
+  public boolean groupingEnabled;
+
+  private Path directory;
+  private ZeebeDb<TestColumnFamilies> zeebeDb;
+  private ColumnFamily<DbLong, DbString> hotColumnFamily;
+  private ColumnFamily<DbLong, DbString> coldColumnFamily;
+  private final DbLong key = new DbLong();
+  private final DbString value = new DbString();
+  private final DbString hotValue = new DbString();
+  private long nextHotKey;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("zeebe-db-grouping");
+    final var factory =
+        new ZeebeRocksDbFactory<TestColumnFamilies>(
+            new RocksDbConfiguration()
+                .setMemoryLimit(32 * 1024 * 1024L)
+                .setColumnFamilyGroupingEnabled(groupingEnabled),
+            new ConsistencyChecksSettings(false, false),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            ColumnFamilyGrouping.of(
+                TestColumnFamilies.class,
+                columnFamily ->
+                    columnFamily == TestColumnFamilies.HOT
+                        ? PhysicalColumnFamily.HOT
+                        : PhysicalColumnFamily.COLD));
+    zeebeDb = factory.createDb(directory.toFile());
+
+    final var context = zeebeDb.createContext();
+    hotColumnFamily = zeebeDb.createColumnFamily(TestColumnFamilies.HOT, context, key, value);
+    coldColumnFamily = zeebeDb.createColumnFamily(TestColumnFamilies.COLD, context, key, value);
+
+    value.wrapString("c".repeat(COLD_VALUE_SIZE));
+    for (long i = 0; i < COLD_ENTRIES; i++) {
+      key.wrapLong(i);
+      coldColumnFamily.insert(key, value);
+    }
+    hotValue.wrapString("h".repeat(HOT_VALUE_SIZE));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public DbString measureShortLivedEntriesWithLookups() {
+    key.wrapLong(nextHotKey++);
+    hotColumnFamily.insert(key, hotValue);
+    hotColumnFamily.get(key);
+    hotColumnFamily.deleteExisting(key);
+
+    key.wrapLong(ThreadLocalRandom.current().nextLong(COLD_ENTRIES));
+    return coldColumnFamily.get(key);
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    HOT(1),
+    COLD(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyGroupingTest {
+
+  private static final ColumnFamilyGrouping GROUPING =
+      ColumnFamilyGrouping.of(
+          TestColumnFamilies.class,
+          columnFamily ->
+              switch (columnFamily) {
+                case HOT_COLUMN_FAMILY -> PhysicalColumnFamily.HOT;
+                case COLD_COLUMN_FAMILY -> PhysicalColumnFamily.COLD;
+                case DEFAULT_COLUMN_FAMILY -> PhysicalColumnFamily.DEFAULT;
+              });
+
+  @TempDir private Path directory;
+
+  @Test
+  void shouldAssignUnknownColumnFamiliesToDefault() {
+    // then
+    assertThat(GROUPING.physicalColumnFamily(1)).isEqualTo(PhysicalColumnFamily.HOT);
+    assertThat(GROUPING.physicalColumnFamily(2)).isEqualTo(PhysicalColumnFamily.COLD);
+    assertThat(GROUPING.physicalColumnFamily(0)).isEqualTo(PhysicalColumnFamily.DEFAULT);
+    assertThat(GROUPING.physicalColumnFamily(100)).isEqualTo(PhysicalColumnFamily.DEFAULT);
+    assertThat(ColumnFamilyGrouping.none().physicalColumnFamilies())
+        .containsExactly(PhysicalColumnFamily.DEFAULT);
+  }
+
+  @Test
+  void shouldStoreGroupedColumnFamiliesInPhysicalColumnFamilies() throws Exception {
+    // given
+    try (final var db = openDb(true)) {
+      // when
+      writeEntries(db);
+
+      // then
+      assertThat(readEntries(db)).containsExactlyElementsOf(expectedEntries());
+    }
+
+    assertThat(ZeebeTransactionDb.listPhysicalColumnFamilies(runtimeDirectory()))
+        .containsExactlyInAnyOrder(
+            PhysicalColumnFamily.DEFAULT, PhysicalColumnFamily.HOT, PhysicalColumnFamily.COLD);
+  }
+
+  @Test
+  void shouldMoveExistingDataWhenGroupingIsEnabled() throws Exception {
+    // given
+    try (final var db = openDb(false)) {
+      writeEntries(db);
+    }
+
+    // when
+    try (final var db = openDb(true)) {
+      // then
+      assertThat(readEntries(db)).containsExactlyElementsOf(expectedEntries());
+    }
+  }
+
+  @Test
+  void shouldMoveExistingDataBackWhenGroupingIsDisabled() throws Exception {
+    // given
+    try (final var db = openDb(true)) {
+      writeEntries(db);
+    }
+
+    // when
+    try (final var db = openDb(false)) {
+      // then
+      assertThat(readEntries(db)).containsExactlyElementsOf(expectedEntries());
+    }
+
+    assertThat(ZeebeTransactionDb.listPhysicalColumnFamilies(runtimeDirectory()))
+        .containsExactly(PhysicalColumnFamily.DEFAULT);
+  }
+
+  @Test
+  void shouldTakeSnapshotOfGroupedDatabase() throws Exception {
+    // given
+    final var snapshotDirectory = directory.resolve("snapshot");
+    try (final var db = openDb(true)) {
+      writeEntries(db);
+      db.createSnapshot(snapshotDirectory.toFile());
+    }
+
+    // when
+    try (final var db = createFactory(true).createDb(snapshotDirectory.toFile())) {
+      // then
+      assertThat(readEntries(db)).containsExactlyElementsOf(expectedEntries());
+    }
+  }
+
+  private ZeebeDb<TestColumnFamilies> openDb(final boolean groupingEnabled) {
+    return createFactory(groupingEnabled).createDb(new File(runtimeDirectory()));
+  }
+
+  private String runtimeDirectory() {
+    return directory.resolve("runtime").toString();
+  }
+
+  private ZeebeRocksDbFactory<TestColumnFamilies> createFactory(final boolean groupingEnabled) {
+    return new ZeebeRocksDbFactory<>(
+        new RocksDbConfiguration().setColumnFamilyGroupingEnabled(groupingEnabled),
+        new ConsistencyChecksSettings(true, true),
+        new AccessMetricsConfiguration(Kind.NONE, 1),
+        GROUPING);
+  }
+
+  private void writeEntries(final ZeebeDb<TestColumnFamilies> db) {
+    final var context = db.createContext();
+    final var key = new DbLong();
+    final var value = new DbString();
+    for (final var columnFamily : TestColumnFamilies.values()) {
+      final var cf = db.createColumnFamily(columnFamily, context, key, value);
+      for (long i = 0; i < 3; i++) {
+        key.wrapLong(i);
+        value.wrapString(columnFamily.name() + "-" + i);
+        cf.insert(key, value);
+      }
+    }
+  }
+
+  private List<String> readEntries(final ZeebeDb<TestColumnFamilies> db) {
+    final var context = db.createContext();
+    final List<String> entries = new ArrayList<>();
+    for (final var columnFamily : TestColumnFamilies.values()) {
+      db.createColumnFamily(columnFamily, context, new DbLong(), new DbString())
+          .forEach(value -> entries.add(value.toString()));
+    }
+    return entries;
+  }
+
+  private List<String> expectedEntries() {
+    final List<String> entries = new ArrayList<>();
+    for (final var columnFamily : TestColumnFamilies.values()) {
+      for (long i = 0; i < 3; i++) {
+        entries.add(columnFamily.name() + "-" + i);
+      }
+    }
+    return entries;
+  }
+
+  private enum TestColumnFamilies implements EnumValue {
+    DEFAULT_COLUMN_FAMILY(0),
+    HOT_COLUMN_FAMILY(1),
+    COLD_COLUMN_FAMILY(2);
+
+    private final int value;
+
+    TestColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+  }
+}
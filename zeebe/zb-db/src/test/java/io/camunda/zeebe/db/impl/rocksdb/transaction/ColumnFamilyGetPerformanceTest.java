@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures point lookups ({@link ColumnFamily#get(io.camunda.zeebe.db.DbKey)} and {@link
+ * ColumnFamily#exists(io.camunda.zeebe.db.DbKey)}) on a pre-filled column family. The key sizes
+ * resemble the keys of the engine state, from a plain long key up to a composite key with a
+ * variable name. Run with the {@link GCProfiler} to see the allocation rate per lookup.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ColumnFamilyGetPerformanceTest {
+  private static final int ENTRIES = 100_000;
+  private static final int VALUE_SIZE = 512;
+
+  @Param({"8", "32", "128"})
+  public int keySize;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbString, DbString> columnFamily;
+  private DbString[] keys;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("zeebe-db-get");
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory()
+            .createDb(directory.toFile());
+
+    final var value = new DbString();
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), new DbString(), value);
+
+    keys = new DbString[ENTRIES];
+    value.wrapString("v".repeat(VALUE_SIZE));
+    for (int i = 0; i < ENTRIES; i++) {
+      final var key = new DbString();
+      key.wrapString(String.format("%0" + keySize + "d", i));
+      keys[i] = key;
+      columnFamily.insert(key, value);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public DbString measureGet() {
+    return columnFamily.get(keys[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+  }
+
+  @Benchmark
+  public boolean measureExists() {
+    return columnFamily.exists(keys[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+  }
+
+  @JMHTest("measureGet")
+  void shouldGetWithinDeviation(final JMHTestCase testCase) {
+    // given - a conservative lower bound for the CI runners, which are slower than local
+    // machines; it catches regressions such as allocating or copying on every get
+    final var referenceScore = 200_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.param("keySize", "32").addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
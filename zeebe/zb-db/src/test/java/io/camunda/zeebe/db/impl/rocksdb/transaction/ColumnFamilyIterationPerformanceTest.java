@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.util.FileUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures prefix iterations over a column family which contains many recently deleted keys, like
+ * the job or timer column families after a burst of completed jobs or triggered timers. The
+ * deleted keys directly follow the iterated prefix, so an unbounded iteration has to skip all of
+ * their tombstones to find out that the prefix is exhausted.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ColumnFamilyIterationPerformanceTest {
+  private static final long ITERATED_PREFIX = 1;
+  private static final long DELETED_PREFIX = 2;
+  private static final long LAST_PREFIX = 3;
+  private static final int LIVE_ENTRIES = 10;
+  private static final int BATCH_SIZE = 10_000;
+
+  @Param({"100000", "1000000"})
+  public int deletedKeys;
+
+  private Path directory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbCompositeKey<DbLong, DbLong>, DbNil> columnFamily;
+  private final DbLong prefix = new DbLong();
+  private final DbLong suffix = new DbLong();
+  private final DbCompositeKey<DbLong, DbLong> key = new DbCompositeKey<>(prefix, suffix);
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    directory = Files.createTempDirectory("zeebe-db-iteration");
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory()
+            .createDb(directory.toFile());
+    context = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, DbNil.INSTANCE);
+
+    for (long i = 0; i < LIVE_ENTRIES; i++) {
+      insert(ITERATED_PREFIX, i);
+    }
+    insert(LAST_PREFIX, 0);
+
+    for (long batch = 0; batch < deletedKeys; batch += BATCH_SIZE) {
+      final long start = batch;
+      context.runInTransaction(
+          () -> {
+            for (long i = start; i < Math.min(start + BATCH_SIZE, deletedKeys); i++) {
+              insert(DELETED_PREFIX, i);
+            }
+          });
+    }
+    for (long batch = 0; batch < deletedKeys; batch += BATCH_SIZE) {
+      final long start = batch;
+      context.runInTransaction(
+          () -> {
+            for (long i = start; i < Math.min(start + BATCH_SIZE, deletedKeys); i++) {
+              prefix.wrapLong(DELETED_PREFIX);
+              suffix.wrapLong(i);
+              columnFamily.deleteExisting(key);
+            }
+          });
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(directory);
+  }
+
+  @Benchmark
+  public long measurePrefixIterationBeforeDeletedKeys() {
+    prefix.wrapLong(ITERATED_PREFIX);
+    return columnFamily.countEqualPrefix(prefix);
+  }
+
+  @Benchmark
+  public long measureRepeatedPrefixIterationsInTransaction() {
+    final long[] count = new long[1];
+    context.runInTransaction(
+        () -> {
+          for (int i = 0; i < LIVE_ENTRIES; i++) {
+            prefix.wrapLong(ITERATED_PREFIX);
+            columnFamily.whileEqualPrefix(prefix, (k, v) -> count[0]++);
+          }
+        });
+    return count[0];
+  }
+
+  private void insert(final long prefixValue, final long suffixValue) {
+    prefix.wrapLong(prefixValue);
+    suffix.wrapLong(suffixValue);
+    columnFamily.insert(key, DbNil.INSTANCE);
+  }
+}
@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -15,6 +17,9 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
@@ -35,6 +40,7 @@ public final class ZeebeRocksDbIterationTest {
   private DbLong firstKey;
   private DbLong secondKey;
   private DbCompositeKey<DbLong, DbLong> compositeKey;
+  private TransactionContext context;
 
   @Before
   public void setup() throws Exception {
@@ -44,14 +50,12 @@ public final class ZeebeRocksDbIterationTest {
     firstKey = new DbLong();
     secondKey = new DbLong();
     compositeKey = new DbCompositeKey<>(firstKey, secondKey);
+    context = zeebeDb.createContext();
     columnFamily =
         Mockito.spy(
             (TransactionalColumnFamily)
                 zeebeDb.createColumnFamily(
-                    DefaultColumnFamily.DEFAULT,
-                    zeebeDb.createContext(),
-                    compositeKey,
-                    DbNil.INSTANCE));
+                    DefaultColumnFamily.DEFAULT, context, compositeKey, DbNil.INSTANCE));
   }
 
   @Test
@@ -85,4 +89,95 @@ public final class ZeebeRocksDbIterationTest {
     // then
     Mockito.verify(spyIterator.get(), Mockito.times((int) suffixes)).next();
   }
+
+  @Test
+  public void shouldStopIteratingAtPrefixWithMaximumBytes() {
+    // given
+    upsert(-1, 1);
+    upsert(-1, 2);
+    upsert(Long.MAX_VALUE, 1);
+    upsert(0, 1);
+
+    // when
+    final List<Long> visited = new ArrayList<>();
+    firstKey.wrapLong(-1);
+    columnFamily.whileEqualPrefix(firstKey, (key, value) -> visited.add(key.second().getValue()));
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldReuseIteratorWithinTransaction() {
+    // given
+    upsert(1, 1);
+    upsert(2, 1);
+
+    // when
+    context.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+          firstKey.wrapLong(2);
+          columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+        });
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefix(firstKey, (key, value) -> {});
+
+    // then - one iterator for the first transaction, and one for the second
+    Mockito.verify(columnFamily, Mockito.times(2))
+        .newIterator(Mockito.any(TransactionContext.class), Mockito.any(ReadOptions.class));
+  }
+
+  @Test
+  public void shouldSeeWritesOfTransactionWhenReusingIterator() {
+    // given
+    upsert(1, 1);
+    final AtomicLong countBefore = new AtomicLong();
+    final AtomicLong countAfter = new AtomicLong();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          firstKey.wrapLong(1);
+          countBefore.set(columnFamily.countEqualPrefix(firstKey));
+          upsert(1, 2);
+          firstKey.wrapLong(1);
+          columnFamily.whileEqualPrefix(firstKey, (key, value) -> countAfter.incrementAndGet());
+        });
+
+    // then
+    assertThat(countBefore).hasValue(1);
+    assertThat(countAfter).hasValue(2);
+  }
+
+  @Test
+  public void shouldNestIterationsOverDifferentPrefixes() {
+    // given
+    upsert(1, 1);
+    upsert(1, 2);
+    upsert(2, 1);
+    final List<Long> visited = new ArrayList<>();
+    final var nestedPrefix = new DbLong();
+    nestedPrefix.wrapLong(2);
+
+    // when
+    firstKey.wrapLong(1);
+    columnFamily.whileEqualPrefix(
+        firstKey,
+        (key, value) -> {
+          visited.add(key.first().getValue());
+          columnFamily.whileEqualPrefix(
+              nestedPrefix, (nestedKey, nestedValue) -> visited.add(nestedKey.first().getValue()));
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L, 1L, 2L);
+  }
+
+  private void upsert(final long first, final long second) {
+    firstKey.wrapLong(first);
+    secondKey.wrapLong(second);
+    columnFamily.upsert(compositeKey, DbNil.INSTANCE);
+  }
 }
@@ -7,11 +7,14 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
@@ -214,4 +217,67 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldNotifyListenersOnCommit() throws Exception {
+    // given
+    final var listener = new RecordingListener();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    transactionContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(listener.commits).isOne();
+    assertThat(listener.rollbacks).isZero();
+  }
+
+  @Test
+  public void shouldNotifyListenersOnRollback() throws Exception {
+    // given
+    final var listener = new RecordingListener();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    transactionContext.getCurrentTransaction().rollback();
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isOne();
+  }
+
+  @Test
+  public void shouldNotifyListenersOnFailedTransaction() {
+    // given
+    final var listener = new RecordingListener();
+    transactionContext.addTransactionListener(listener);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                transactionContext.runInTransaction(
+                    () -> {
+                      throw new IllegalStateException("expected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    // then
+    assertThat(listener.commits).isZero();
+    assertThat(listener.rollbacks).isOne();
+  }
+
+  private static final class RecordingListener implements TransactionListener {
+    private int commits;
+    private int rollbacks;
+
+    @Override
+    public void onCommit() {
+      commits++;
+    }
+
+    @Override
+    public void onRollback() {
+      rollbacks++;
+    }
+  }
 }